@@ -21,6 +21,7 @@ import com.opengamma.strata.collect.Messages;
  * The identifier is parameterized with the type of the reference data to be returned.
  * <p>
  * The standard implementation is {@link ImmutableReferenceData}.
+ * Where the reference data is updated over time, use {@link VersionedReferenceData}.
  */
 public interface ReferenceData {
 
@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A set of reference data that can be updated while it is being used.
+ * <p>
+ * This holds the current state as an immutable {@link ImmutableReferenceData} snapshot.
+ * Each update creates a new snapshot, which is published atomically with a new version number.
+ * Readers are never blocked, and always see a complete snapshot.
+ * <p>
+ * Lookups on this instance use the latest snapshot, thus two lookups may see different versions.
+ * Where a consistent view is needed, such as when pricing a portfolio, use {@link #snapshot()}.
+ * Caches that hold data derived from reference data, such as resolved trades, should be keyed
+ * on the snapshot, which changes identity whenever the data changes.
+ * The caches in Strata do this automatically when passed an instance of this class.
+ * When this instance is wrapped, for example by {@link #combinedWith(ReferenceData)}, the caches cannot
+ * see the snapshot and are bypassed, thus the snapshot should be taken before combining.
+ * <p>
+ * Each update copies the underlying map, so updates should be batched where possible,
+ * using {@link #putAll(Map)}.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class VersionedReferenceData
+    implements ReferenceData {
+
+  /**
+   * The current snapshot.
+   */
+  private final AtomicReference<Snapshot> current;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance with initial reference data.
+   * <p>
+   * The initial version is zero.
+   *
+   * @param initial  the initial reference data
+   * @return the versioned reference data
+   */
+  public static VersionedReferenceData of(ImmutableReferenceData initial) {
+    ArgChecker.notNull(initial, "initial");
+    return new VersionedReferenceData(initial);
+  }
+
+  /**
+   * Obtains an instance with no initial reference data.
+   * <p>
+   * The initial version is zero.
+   *
+   * @return the versioned reference data
+   */
+  public static VersionedReferenceData empty() {
+    return new VersionedReferenceData(ImmutableReferenceData.empty());
+  }
+
+  // restricted constructor
+  private VersionedReferenceData(ImmutableReferenceData initial) {
+    this.current = new AtomicReference<>(new Snapshot(0, initial));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the current version.
+   * <p>
+   * The version starts at zero and is incremented by each update.
+   *
+   * @return the current version
+   */
+  public long getVersion() {
+    return current.get().version;
+  }
+
+  /**
+   * Gets the current snapshot of the reference data.
+   * <p>
+   * The snapshot is immutable, and is not affected by subsequent updates.
+   * The same instance is returned until the next update.
+   *
+   * @return the current snapshot
+   */
+  public ImmutableReferenceData snapshot() {
+    return current.get().data;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds or replaces a single reference data value.
+   *
+   * @param <T>  the type of the reference data
+   * @param id  the identifier
+   * @param value  the reference data value
+   * @return the new version
+   * @throws ClassCastException if the value does not match the parameterized type associated with the identifier
+   */
+  public <T> long put(ReferenceDataId<T> id, T value) {
+    ArgChecker.notNull(id, "id");
+    return putAll(ImmutableMap.of(id, value));
+  }
+
+  /**
+   * Adds or replaces a number of reference data values.
+   * <p>
+   * All the values are published in a single new version.
+   *
+   * @param values  the reference data values
+   * @return the new version
+   * @throws ClassCastException if a value does not match the parameterized type associated with the identifier
+   */
+  public long putAll(Map<? extends ReferenceDataId<?>, ?> values) {
+    ArgChecker.notNull(values, "values");
+    // validate before updating
+    ImmutableReferenceData validated = ImmutableReferenceData.of(values);
+    return update(existing -> {
+      Map<ReferenceDataId<?>, Object> map = new HashMap<>(existing);
+      map.putAll(validated.getValues());
+      return map;
+    });
+  }
+
+  /**
+   * Removes a reference data value.
+   * <p>
+   * A new version is published even if the identifier was not present.
+   *
+   * @param id  the identifier to remove
+   * @return the new version
+   */
+  public long remove(ReferenceDataId<?> id) {
+    ArgChecker.notNull(id, "id");
+    return update(existing -> {
+      Map<ReferenceDataId<?>, Object> map = new HashMap<>(existing);
+      map.remove(id);
+      return map;
+    });
+  }
+
+  // updates the snapshot, retrying if another thread updated it first
+  private long update(UnaryOperator<Map<ReferenceDataId<?>, Object>> updateFn) {
+    while (true) {
+      Snapshot existing = current.get();
+      Map<ReferenceDataId<?>, Object> updated = updateFn.apply(existing.data.getValues());
+      Snapshot snapshot = new Snapshot(existing.version + 1, ImmutableReferenceData.of(updated));
+      if (current.compareAndSet(existing, snapshot)) {
+        return snapshot.version;
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean containsValue(ReferenceDataId<?> id) {
+    return snapshot().containsValue(id);
+  }
+
+  @Override
+  public <T> T getValue(ReferenceDataId<T> id) {
+    return snapshot().getValue(id);
+  }
+
+  @Override
+  public <T> Optional<T> findValue(ReferenceDataId<T> id) {
+    return snapshot().findValue(id);
+  }
+
+  @Override
+  public <T> T queryValueOrNull(ReferenceDataId<T> id) {
+    return snapshot().queryValueOrNull(id);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    Snapshot snapshot = current.get();
+    return "VersionedReferenceData[version=" + snapshot.version + ", size=" + snapshot.data.getValues().size() + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * An immutable snapshot, the data and its version.
+   */
+  private static final class Snapshot {
+
+    private final long version;
+    private final ImmutableReferenceData data;
+
+    private Snapshot(long version, ImmutableReferenceData data) {
+      this.version = version;
+      this.data = data;
+    }
+  }
+
+}
@@ -152,6 +152,22 @@ public interface DayCount
     return yearFraction(firstDate, secondDate, scheduleInfo);
   }
 
+  /**
+   * Gets the relative year fraction between the specified dates, expressed as epoch-days.
+   * <p>
+   * This is equivalent to {@link #relativeYearFraction(LocalDate, LocalDate)}, with each date
+   * expressed as the epoch-day returned by {@link LocalDate#toEpochDay()}.
+   * Day counts based solely on the actual number of days override this to avoid creating the dates.
+   * 
+   * @param firstEpochDay  the epoch-day of the first date
+   * @param secondEpochDay  the epoch-day of the second date, which may be before the first date
+   * @return the year fraction, may be negative
+   * @throws UnsupportedOperationException if the year fraction cannot be obtained
+   */
+  public default double relativeYearFraction(long firstEpochDay, long secondEpochDay) {
+    return relativeYearFraction(LocalDate.ofEpochDay(firstEpochDay), LocalDate.ofEpochDay(secondEpochDay));
+  }
+
   /**
    * Calculates the number of days between the specified dates using the rules of this day count.
    * <p>
@@ -8,11 +8,14 @@ package com.opengamma.strata.basics.date;
 import static com.opengamma.strata.basics.date.LocalDateUtils.plusDays;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAdjuster;
 import java.time.temporal.TemporalAdjusters;
 
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.named.Named;
 
 /**
@@ -236,6 +239,47 @@ public interface HolidayCalendar
         .count());
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Finds the n-th business day of the month.
+   * <p>
+   * Given a month, this method returns the n-th business day, where one is the first business day.
+   * 
+   * @param yearMonth  the month
+   * @param n  the one-based index of the business day within the month
+   * @return the n-th business day of the month
+   * @throws IllegalArgumentException if the month has less than n business days,
+   *   or if the calculation is outside the supported range
+   */
+  public default LocalDate nthBusinessDayOfMonth(YearMonth yearMonth, int n) {
+    ArgChecker.notNegativeOrZero(n, "n");
+    LocalDate date = shift(nextOrSame(yearMonth.atDay(1)), n - 1);
+    if (!YearMonth.from(date).equals(yearMonth)) {
+      throw new IllegalArgumentException(
+          Messages.format("Unable to find business day {} in {}, not enough business days", n, yearMonth));
+    }
+    return date;
+  }
+
+  /**
+   * Shifts each date by a specified number of business days.
+   * <p>
+   * This is equivalent to calling {@link #shift(LocalDate, int)} for each date,
+   * but allows implementations to process the dates in a single call.
+   * 
+   * @param dates  the dates to adjust
+   * @param amount  the number of business days to adjust by
+   * @return the shifted dates, in a new array
+   * @throws IllegalArgumentException if the calculation is outside the supported range
+   */
+  public default LocalDate[] shiftAll(LocalDate[] dates, int amount) {
+    LocalDate[] result = new LocalDate[dates.length];
+    for (int i = 0; i < dates.length; i++) {
+      result[i] = shift(dates[i], amount);
+    }
+    return result;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Combines this holiday calendar with another.
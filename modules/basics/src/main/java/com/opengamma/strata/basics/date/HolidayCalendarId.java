@@ -9,8 +9,10 @@ import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
 
 import org.joda.convert.FromString;
@@ -18,10 +20,14 @@ import org.joda.convert.ToString;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.opengamma.strata.basics.ImmutableReferenceData;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.ReferenceDataId;
 import com.opengamma.strata.basics.ReferenceDataNotFoundException;
 import com.opengamma.strata.basics.Resolvable;
+import com.opengamma.strata.basics.VersionedReferenceData;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.named.Named;
@@ -41,6 +47,12 @@ public final class HolidayCalendarId
   private static final long serialVersionUID = 1L;
   /** Instance cache. */
   private static final ConcurrentHashMap<String, HolidayCalendarId> CACHE = new ConcurrentHashMap<>();
+  /**
+   * Cache of combined calendars, keyed by the identity of the immutable reference data they were resolved from.
+   * Weak keys ensure the cache does not prevent the reference data from being garbage collected.
+   */
+  private static final Cache<ReferenceData, ConcurrentMap<HolidayCalendarId, HolidayCalendar>> COMBINED_CACHE =
+      CacheBuilder.newBuilder().weakKeys().build();
 
   /**
    * The identifier, expressed as a normalized unique name.
@@ -66,6 +78,8 @@ public final class HolidayCalendarId
    * It is possible to combine two or more calendars using the '+' symbol.
    * For example, 'GBLO+USNY' will combine the separate 'GBLO' and 'USNY' calendars.
    * The resulting identifier will have the individual identifiers normalized into alphabetical order.
+   * When a combined identifier is resolved, the combined calendar is built once for each instance of
+   * {@link ReferenceData}, merging the underlying calendars into a single calendar where possible.
    * 
    * @param uniqueName  the unique name
    * @return the identifier
@@ -92,20 +106,29 @@ public final class HolidayCalendarId
         .collect(toList());
     String normalizedName = Joiner.on('+').join(ids);
     BiFunction<HolidayCalendarId, ReferenceData, HolidayCalendar> resolver = (id, refData) -> {
-      HolidayCalendar cal = refData.queryValueOrNull(id);
+      // versioned reference data is resolved using its current immutable snapshot
+      ReferenceData data = refData instanceof VersionedReferenceData ?
+          ((VersionedReferenceData) refData).snapshot() :
+          refData;
+      HolidayCalendar cal = data.queryValueOrNull(id);
       if (cal != null) {
         return cal;
       }
-      cal = HolidayCalendars.NO_HOLIDAYS;
-      for (HolidayCalendarId splitId : ids) {
-        HolidayCalendar splitCal = refData.queryValueOrNull(splitId);
-        if (splitCal == null) {
-          throw new ReferenceDataNotFoundException(Messages.format(
-              "Reference data not found for '{}' of type 'HolidayCalendarId' when finding '{}'", splitId, id));
-        }
-        cal = cal.combinedWith(splitCal);
+      // only immutable reference data is known not to change, thus only it can be memoised
+      // this excludes combined reference data, which may wrap versioned or mutable reference data
+      if (!(data instanceof ImmutableReferenceData)) {
+        return combine(id, ids, data);
+      }
+      // the combined calendar is built once per immutable reference data instance
+      ConcurrentMap<HolidayCalendarId, HolidayCalendar> resolved =
+          COMBINED_CACHE.asMap().computeIfAbsent(data, r -> new ConcurrentHashMap<>());
+      cal = resolved.get(id);
+      if (cal != null) {
+        return cal;
       }
-      return cal;
+      cal = combine(id, ids, data);
+      HolidayCalendar existing = resolved.putIfAbsent(id, cal);
+      return existing != null ? existing : cal;
     };
     // cache under the normalized and non-normalized names
     HolidayCalendarId id = CACHE.computeIfAbsent(normalizedName, n -> new HolidayCalendarId(normalizedName, resolver));
@@ -113,6 +136,31 @@ public final class HolidayCalendarId
     return id;
   }
 
+  // combines the underlying calendars, flattening into a single calendar where possible
+  private static HolidayCalendar combine(HolidayCalendarId id, List<HolidayCalendarId> ids, ReferenceData refData) {
+    List<HolidayCalendar> cals = new ArrayList<>(ids.size());
+    for (HolidayCalendarId splitId : ids) {
+      HolidayCalendar splitCal = refData.queryValueOrNull(splitId);
+      if (splitCal == null) {
+        throw new ReferenceDataNotFoundException(Messages.format(
+            "Reference data not found for '{}' of type 'HolidayCalendarId' when finding '{}'", splitId, id));
+      }
+      cals.add(splitCal);
+    }
+    // merge the lookup tables of immutable calendars, avoiding a chain of calendars queried in turn
+    if (cals.stream().allMatch(ImmutableHolidayCalendar.class::isInstance)) {
+      List<ImmutableHolidayCalendar> immutableCals = cals.stream()
+          .map(ImmutableHolidayCalendar.class::cast)
+          .collect(toList());
+      return ImmutableHolidayCalendar.combined(id, immutableCals);
+    }
+    HolidayCalendar cal = HolidayCalendars.NO_HOLIDAYS;
+    for (HolidayCalendar splitCal : cals) {
+      cal = cal.combinedWith(splitCal);
+    }
+    return cal;
+  }
+
   //-------------------------------------------------------------------------
   // creates an identifier for a single calendar
   private HolidayCalendarId(String normalizedName) {
@@ -8,6 +8,9 @@ package com.opengamma.strata.basics.date;
 import java.io.Serializable;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -33,6 +36,7 @@ import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
 
 /**
  * A holiday calendar implementation based on an immutable set of holiday dates and weekends.
@@ -90,6 +94,12 @@ public final class ImmutableHolidayCalendar
    * Trailing bits are set to 0 so they act as holidays, avoiding month length logic.
    */
   private final transient int[] lookup;  // not a property
+  /**
+   * The cumulative count of business days, where each item is the number of business days
+   * in the months of the lookup table before the matching month.
+   * This has one more item than the lookup table, holding the total.
+   */
+  private final transient int[] cumulativeCounts;  // not a property
 
   //-------------------------------------------------------------------------
   /**
@@ -152,6 +162,26 @@ public final class ImmutableHolidayCalendar
     return new ImmutableHolidayCalendar(cal1.id.combinedWith(cal2.id), newHolidays, newWeekends);
   }
 
+  /**
+   * Obtains a combined holiday calendar instance from a list of calendars.
+   * <p>
+   * This combines all the input calendars into a single flat calendar with the specified identifier.
+   * It is intended for up-front occasional use rather than continuous use, as it is relatively slow.
+   * 
+   * @param id  the identifier of the combined calendar
+   * @param calendars  the calendars to combine
+   * @return the combined calendar
+   */
+  static ImmutableHolidayCalendar combined(HolidayCalendarId id, List<ImmutableHolidayCalendar> calendars) {
+    ImmutableSortedSet.Builder<LocalDate> newHolidays = ImmutableSortedSet.naturalOrder();
+    Set<DayOfWeek> newWeekends = EnumSet.noneOf(DayOfWeek.class);
+    for (ImmutableHolidayCalendar cal : calendars) {
+      newHolidays.addAll(cal.holidays);
+      newWeekends.addAll(cal.weekendDays);
+    }
+    return new ImmutableHolidayCalendar(id, newHolidays.build(), newWeekends);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance calculating the supported range.
@@ -172,11 +202,13 @@ public final class ImmutableHolidayCalendar
       // special case where no holiday dates are specified
       this.startYear = 0;
       this.lookup = new int[0];
+      this.cumulativeCounts = new int[1];
     } else {
       // normal case where holidays are specified
       this.startYear = holidays.first().getYear();
       int endYearExclusive = holidays.last().getYear() + 1;
       this.lookup = buildLookupArray(holidays, weekendDays, startYear, endYearExclusive);
+      this.cumulativeCounts = buildCumulativeCountArray(lookup);
     }
   }
 
@@ -215,6 +247,16 @@ public final class ImmutableHolidayCalendar
     return array;
   }
 
+  // create and populate the int[] of cumulative business day counts
+  // use JDK bitCount() method which is mapped to a fast intrinsic
+  private static int[] buildCumulativeCountArray(int[] lookup) {
+    int[] array = new int[lookup.length + 1];
+    for (int i = 0; i < lookup.length; i++) {
+      array[i + 1] = array[i] + Integer.bitCount(lookup[i]);
+    }
+    return array;
+  }
+
   // ensure standard constructor is invoked
   private Object readResolve() {
     return new ImmutableHolidayCalendar(id, holidays, weekendDays);
@@ -433,6 +475,108 @@ public final class ImmutableHolidayCalendar
     throw new IllegalArgumentException("Date is outside the accepted range (year 0000 to 10,000): " + date);
   }
 
+  //-------------------------------------------------------------------------
+  @Override
+  public int daysBetween(LocalDate startInclusive, LocalDate endExclusive) {
+    if (endExclusive.isBefore(startInclusive)) {
+      return HolidayCalendar.super.daysBetween(startInclusive, endExclusive);
+    }
+    try {
+      return businessDaysBefore(endExclusive) - businessDaysBefore(startInclusive);
+
+    } catch (ArrayIndexOutOfBoundsException ex) {
+      return daysBetweenOutOfRange(startInclusive, endExclusive);
+    }
+  }
+
+  // the number of business days from the start of the lookup table to the date, exclusive
+  private int businessDaysBefore(LocalDate date) {
+    // find data for month
+    int index = (date.getYear() - startYear) * 12 + date.getMonthValue() - 1;
+    int monthData = lookup[index];
+    // count the business days in the month before the zero-based day-of-month
+    // use JDK bitCount() method which is mapped to a fast intrinsic
+    int earlierDays = monthData & ((1 << (date.getDayOfMonth() - 1)) - 1);
+    return cumulativeCounts[index] + Integer.bitCount(earlierDays);
+  }
+
+  // pulled out to aid hotspot inlining
+  private int daysBetweenOutOfRange(LocalDate startInclusive, LocalDate endExclusive) {
+    return HolidayCalendar.super.daysBetween(startInclusive, endExclusive);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDate[] shiftAll(LocalDate[] dates, int amount) {
+    LocalDate[] result = new LocalDate[dates.length];
+    int total = cumulativeCounts[lookup.length];
+    for (int i = 0; i < dates.length; i++) {
+      LocalDate date = dates[i];
+      if (amount == 0) {
+        result[i] = date;
+        continue;
+      }
+      // the zero-based ordinal of the target business day from the start of the lookup table
+      // shifting forward starts from the first business day after the date, backward from the last one before it
+      int ordinal = -1;
+      try {
+        int before = businessDaysBefore(date);
+        ordinal = amount > 0 ? before + (isHoliday(date) ? 0 : 1) + amount - 1 : before + amount;
+
+      } catch (ArrayIndexOutOfBoundsException ex) {
+        // handled below
+      }
+      result[i] = ordinal >= 0 && ordinal < total ? businessDayAt(ordinal) : shift(date, amount);
+    }
+    return result;
+  }
+
+  // the business day with the specified zero-based ordinal from the start of the lookup table
+  private LocalDate businessDayAt(int ordinal) {
+    // find the last month starting at or before the ordinal
+    int low = 0;
+    int high = lookup.length - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (cumulativeCounts[mid] <= ordinal) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    // clear the lowest set bits, leaving the target business day as the lowest set bit
+    int monthData = lookup[low];
+    for (int i = cumulativeCounts[low]; i < ordinal; i++) {
+      monthData &= monthData - 1;
+    }
+    // use JDK numberOfTrailingZeros() method which is mapped to a fast intrinsic
+    return LocalDate.of(startYear + low / 12, low % 12 + 1, Integer.numberOfTrailingZeros(monthData) + 1);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDate nthBusinessDayOfMonth(YearMonth yearMonth, int n) {
+    ArgChecker.notNegativeOrZero(n, "n");
+    int monthData;
+    try {
+      // find data for month
+      monthData = lookup[(yearMonth.getYear() - startYear) * 12 + yearMonth.getMonthValue() - 1];
+
+    } catch (ArrayIndexOutOfBoundsException ex) {
+      return HolidayCalendar.super.nthBusinessDayOfMonth(yearMonth, n);
+    }
+    // clear the lowest set bit n - 1 times, leaving the n-th business day as the lowest set bit
+    for (int i = 1; i < n && monthData != 0; i++) {
+      monthData &= monthData - 1;
+    }
+    if (monthData == 0) {
+      throw new IllegalArgumentException(
+          Messages.format("Unable to find business day {} in {}, not enough business days", n, yearMonth));
+    }
+    // use JDK numberOfTrailingZeros() method which is mapped to a fast intrinsic
+    return yearMonth.atDay(Integer.numberOfTrailingZeros(monthData) + 1);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public boolean equals(Object obj) {
@@ -237,6 +237,11 @@ enum StandardDayCounts implements DayCount {
       return daysBetween(firstDate, secondDate) / 360d;
     }
 
+    @Override
+    public double relativeYearFraction(long firstEpochDay, long secondEpochDay) {
+      return (secondEpochDay - firstEpochDay) / 360d;
+    }
+
     @Override
     public int calculateDays(LocalDate firstDate, LocalDate secondDate) {
       long actualDays = daysBetween(firstDate, secondDate);
@@ -251,6 +256,11 @@ enum StandardDayCounts implements DayCount {
       return daysBetween(firstDate, secondDate) / 364d;
     }
 
+    @Override
+    public double relativeYearFraction(long firstEpochDay, long secondEpochDay) {
+      return (secondEpochDay - firstEpochDay) / 364d;
+    }
+
     @Override
     public int calculateDays(LocalDate firstDate, LocalDate secondDate) {
       long actualDays = daysBetween(firstDate, secondDate);
@@ -265,6 +275,11 @@ enum StandardDayCounts implements DayCount {
       return daysBetween(firstDate, secondDate) / 365d;
     }
 
+    @Override
+    public double relativeYearFraction(long firstEpochDay, long secondEpochDay) {
+      return (secondEpochDay - firstEpochDay) / 365d;
+    }
+
     @Override
     public int calculateDays(LocalDate firstDate, LocalDate secondDate) {
       long actualDays = daysBetween(firstDate, secondDate);
@@ -279,6 +294,11 @@ enum StandardDayCounts implements DayCount {
       return daysBetween(firstDate, secondDate) / 365.25d;
     }
 
+    @Override
+    public double relativeYearFraction(long firstEpochDay, long secondEpochDay) {
+      return (secondEpochDay - firstEpochDay) / 365.25d;
+    }
+
     @Override
     public int calculateDays(LocalDate firstDate, LocalDate secondDate) {
       long actualDays = daysBetween(firstDate, secondDate);
@@ -395,11 +395,20 @@ public final class PeriodicSchedule
    *  yields the specified start date
    * </ul>
    * 
+   * <p>
+   * Schedules are cached using {@link PeriodicScheduleCache#standard()}, thus creating the schedule
+   * for an equal definition with the same holiday calendars returns the same instance.
+   * 
    * @return the schedule
    * @param refData  the reference data, used to find the holiday calendars
    * @throws ScheduleException if the definition is invalid
    */
   public Schedule createSchedule(ReferenceData refData) {
+    return PeriodicScheduleCache.standard().createSchedule(this, refData);
+  }
+
+  // creates the schedule without using the cache
+  Schedule generateSchedule(ReferenceData refData) {
     LocalDate unadjStart = calculatedUnadjustedStartDate(refData);
     LocalDate regularStart = firstRegularStartDate != null ? firstRegularStartDate : unadjStart;
     RollConvention rollConv = calculatedRollConvention(regularStart);
@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.schedule;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.date.HolidayCalendarId;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A bounded cache of schedules created from {@link PeriodicSchedule} definitions.
+ * <p>
+ * Many trades are created from the same convention, resulting in identical schedule definitions.
+ * This cache allows the schedule to be created once and shared.
+ * <p>
+ * The cache is keyed by the schedule definition, using {@link Object#equals(Object)},
+ * and the holiday calendars resolved from the reference data, compared by identity.
+ * As such, schedules are shared between instances of reference data that contain the same calendars.
+ * <p>
+ * The standard instance is used by {@link PeriodicSchedule#createSchedule(ReferenceData)}.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class PeriodicScheduleCache {
+
+  /**
+   * The default maximum size of the standard cache.
+   */
+  private static final long STANDARD_MAXIMUM_SIZE = 10_000;
+  /**
+   * The standard instance.
+   */
+  private static final PeriodicScheduleCache STANDARD = of(STANDARD_MAXIMUM_SIZE);
+
+  /**
+   * The underlying cache.
+   */
+  private final Cache<Key, Schedule> cache;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the standard instance.
+   * <p>
+   * This instance is shared, and is used by {@link PeriodicSchedule#createSchedule(ReferenceData)}.
+   *
+   * @return the standard cache
+   */
+  public static PeriodicScheduleCache standard() {
+    return STANDARD;
+  }
+
+  /**
+   * Obtains an instance that holds up to the specified number of schedules.
+   * <p>
+   * When the limit is reached, the least recently used schedules are evicted.
+   *
+   * @param maximumSize  the maximum number of schedules to hold
+   * @return the cache
+   */
+  public static PeriodicScheduleCache of(long maximumSize) {
+    ArgChecker.notNegative(maximumSize, "maximumSize");
+    return new PeriodicScheduleCache(CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build());
+  }
+
+  // restricted constructor
+  private PeriodicScheduleCache(Cache<Key, Schedule> cache) {
+    this.cache = cache;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates the schedule from the definition, using the cache.
+   * <p>
+   * The result is the same as that of {@link PeriodicSchedule#createSchedule(ReferenceData)}.
+   *
+   * @param definition  the schedule definition
+   * @param refData  the reference data, used to find the holiday calendars
+   * @return the schedule
+   * @throws ScheduleException if the definition is invalid
+   */
+  public Schedule createSchedule(PeriodicSchedule definition, ReferenceData refData) {
+    ArgChecker.notNull(definition, "definition");
+    ArgChecker.notNull(refData, "refData");
+    Optional<Key> key = Key.of(definition, refData);
+    if (!key.isPresent()) {
+      // a calendar is missing, create the schedule directly to obtain the standard exception
+      return definition.generateSchedule(refData);
+    }
+    try {
+      return cache.get(key.get(), () -> definition.generateSchedule(refData));
+
+    } catch (ExecutionException | UncheckedExecutionException | ExecutionError ex) {
+      // rethrow the original exception, such as ScheduleException
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      if (ex.getCause() instanceof Error) {
+        throw (Error) ex.getCause();
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the statistics of the cache.
+   * <p>
+   * This includes the number of hits and misses.
+   *
+   * @return the statistics
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /**
+   * Gets the approximate number of schedules in the cache.
+   *
+   * @return the number of schedules
+   */
+  public long size() {
+    return cache.size();
+  }
+
+  /**
+   * Removes all schedules from the cache.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "PeriodicScheduleCache[size=" + cache.size() + ", " + cache.stats() + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The cache key, the schedule definition and the resolved holiday calendars.
+   */
+  private static final class Key {
+
+    private final PeriodicSchedule definition;
+    private final HolidayCalendar[] calendars;
+    private final int hashCode;
+
+    // finds the calendars, returning empty if any are missing
+    private static Optional<Key> of(PeriodicSchedule definition, ReferenceData refData) {
+      HolidayCalendar[] calendars = new HolidayCalendar[4];
+      if (!resolve(definition.getBusinessDayAdjustment(), refData, calendars, 0) ||
+          !resolve(definition.getStartDateBusinessDayAdjustment().orElse(null), refData, calendars, 1) ||
+          !resolve(definition.getEndDateBusinessDayAdjustment().orElse(null), refData, calendars, 2) ||
+          !resolve(definition.getOverrideStartDate().map(AdjustableDate::getAdjustment).orElse(null),
+              refData, calendars, 3)) {
+        return Optional.empty();
+      }
+      return Optional.of(new Key(definition, calendars));
+    }
+
+    // resolves the calendar of the adjustment, returning false if missing
+    private static boolean resolve(
+        BusinessDayAdjustment adjustment,
+        ReferenceData refData,
+        HolidayCalendar[] calendars,
+        int index) {
+
+      if (adjustment == null) {
+        return true;
+      }
+      HolidayCalendarId calendarId = adjustment.getCalendar();
+      HolidayCalendar calendar = calendarId.queryValueOrNull(refData);
+      calendars[index] = calendar;
+      return calendar != null;
+    }
+
+    private Key(PeriodicSchedule definition, HolidayCalendar[] calendars) {
+      this.definition = definition;
+      this.calendars = calendars;
+      this.hashCode = definition.hashCode() * 31 + Arrays.stream(calendars).mapToInt(System::identityHashCode).sum();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      if (hashCode != other.hashCode || !definition.equals(other.definition)) {
+        return false;
+      }
+      for (int i = 0; i < calendars.length; i++) {
+        if (calendars[i] != other.calendars[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.date.HolidayCalendarId;
+import com.opengamma.strata.basics.date.ImmutableHolidayCalendar;
+
+/**
+ * Test {@link VersionedReferenceData}.
+ */
+@Test
+public class VersionedReferenceDataTest {
+
+  private static final TestingReferenceDataId ID1 = new TestingReferenceDataId("1");
+  private static final TestingReferenceDataId ID2 = new TestingReferenceDataId("2");
+  private static final TestingReferenceDataId ID3 = new TestingReferenceDataId("3");
+  private static final Double VAL1 = 123d;
+  private static final Double VAL2 = 234d;
+  private static final Double VAL3 = 999d;
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    ImmutableReferenceData initial = ImmutableReferenceData.of(ID1, VAL1);
+    VersionedReferenceData test = VersionedReferenceData.of(initial);
+    assertEquals(test.getVersion(), 0);
+    assertSame(test.snapshot(), initial);
+    assertEquals(test.containsValue(ID1), true);
+    assertEquals(test.containsValue(ID2), false);
+    assertEquals(test.getValue(ID1), VAL1);
+    assertEquals(test.findValue(ID1), Optional.of(VAL1));
+    assertEquals(test.findValue(ID2), Optional.empty());
+    assertEquals(test.queryValueOrNull(ID2), null);
+    assertThrows(() -> test.getValue(ID2), ReferenceDataNotFoundException.class);
+    assertEquals(test.toString(), "VersionedReferenceData[version=0, size=1]");
+  }
+
+  public void test_update() {
+    VersionedReferenceData test = VersionedReferenceData.empty();
+    ImmutableReferenceData snapshot0 = test.snapshot();
+    assertEquals(test.put(ID1, VAL1), 1);
+    ImmutableReferenceData snapshot1 = test.snapshot();
+    assertEquals(test.getValue(ID1), VAL1);
+    assertEquals(test.putAll(ImmutableMap.of(ID2, VAL2, ID3, VAL3)), 2);
+    assertEquals(test.getValue(ID3), VAL3);
+    assertEquals(test.put(ID1, VAL2), 3);
+    assertEquals(test.getValue(ID1), VAL2);
+    assertEquals(test.remove(ID2), 4);
+    assertEquals(test.containsValue(ID2), false);
+    assertEquals(test.getVersion(), 4);
+
+    // snapshots are unaffected by later updates
+    assertEquals(snapshot0.getValues().size(), 0);
+    assertEquals(snapshot1.getValues(), ImmutableMap.of(ID1, VAL1));
+    assertNotSame(test.snapshot(), snapshot1);
+    assertSame(test.snapshot(), test.snapshot());
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void test_put_invalid() {
+    VersionedReferenceData test = VersionedReferenceData.empty();
+    ReferenceDataId rawId = ID1;
+    assertThrows(() -> test.put(rawId, "Bad"), ClassCastException.class);
+    assertEquals(test.getVersion(), 0);
+  }
+
+  public void test_put_concurrent() {
+    VersionedReferenceData test = VersionedReferenceData.empty();
+    IntStream.range(0, 200).parallel().forEach(i -> test.put(new TestingReferenceDataId("" + i), (double) i));
+    assertEquals(test.getVersion(), 200);
+    assertEquals(test.snapshot().getValues().size(), 200);
+    assertEquals(test.getValue(new TestingReferenceDataId("123")), 123d);
+  }
+
+  public void test_combinedCalendar() {
+    HolidayCalendarId id1 = HolidayCalendarId.of("VersionedReferenceDataTest1");
+    HolidayCalendarId id2 = HolidayCalendarId.of("VersionedReferenceDataTest2");
+    HolidayCalendar cal1 = ImmutableHolidayCalendar.of(id1, ImmutableList.of(date(2017, 6, 5)), SATURDAY, SUNDAY);
+    HolidayCalendar cal2a = ImmutableHolidayCalendar.of(id2, ImmutableList.of(date(2017, 6, 6)), SATURDAY, SUNDAY);
+    HolidayCalendar cal2b = ImmutableHolidayCalendar.of(id2, ImmutableList.of(date(2017, 6, 7)), SATURDAY, SUNDAY);
+    VersionedReferenceData test =
+        VersionedReferenceData.of(ImmutableReferenceData.of(ImmutableMap.of(id1, cal1, id2, cal2a)));
+    HolidayCalendarId combinedId = id1.combinedWith(id2);
+    assertEquals(combinedId.resolve(test).isHoliday(date(2017, 6, 6)), true);
+    assertEquals(combinedId.resolve(test).isHoliday(date(2017, 6, 7)), false);
+
+    // the combined calendar reflects the update
+    test.put(id2, cal2b);
+    assertEquals(combinedId.resolve(test).isHoliday(date(2017, 6, 6)), false);
+    assertEquals(combinedId.resolve(test).isHoliday(date(2017, 6, 7)), true);
+  }
+
+}
@@ -368,6 +368,19 @@ public class DayCountTest {
     assertEquals(dayCount.relativeYearFraction(date2, date1), -expected, TOLERANCE_ZERO);
   }
 
+  @Test(dataProvider = "yearFraction")
+  public void test_relativeYearFraction_epochDay(
+      DayCount dayCount, int y1, int m1, int d1, int y2, int m2, int d2, Double value) {
+    LocalDate date1 = LocalDate.of(y1, m1, d1);
+    LocalDate date2 = LocalDate.of(y2, m2, d2);
+    assertEquals(
+        dayCount.relativeYearFraction(date1.toEpochDay(), date2.toEpochDay()),
+        dayCount.relativeYearFraction(date1, date2), 0d);
+    assertEquals(
+        dayCount.relativeYearFraction(date2.toEpochDay(), date1.toEpochDay()),
+        dayCount.relativeYearFraction(date2, date1), 0d);
+  }
+
   //-------------------------------------------------------------------------
   @DataProvider(name = "days")
   static Object[][] data_days() {
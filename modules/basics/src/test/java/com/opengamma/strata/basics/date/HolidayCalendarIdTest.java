@@ -9,17 +9,27 @@ import static com.opengamma.strata.basics.date.HolidayCalendarIds.NO_HOLIDAYS;
 import static com.opengamma.strata.collect.TestHelper.assertSerialization;
 import static com.opengamma.strata.collect.TestHelper.assertThrows;
 import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertSame;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ImmutableReferenceData;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.ReferenceDataId;
 import com.opengamma.strata.basics.ReferenceDataNotFoundException;
+import com.opengamma.strata.basics.VersionedReferenceData;
 
 /**
  * Test {@link HolidayCalendarId}.
@@ -86,6 +96,84 @@ public class HolidayCalendarIdTest {
     assertEquals(refData.getValue(combined), combinedCal);
   }
 
+  public void test_resolve_combined_flattened() {
+    HolidayCalendarId gb = HolidayCalendarId.of("GB");
+    HolidayCalendar gbCal = ImmutableHolidayCalendar.of(
+        gb, ImmutableList.of(date(2016, 8, 29), date(2016, 12, 26)), SATURDAY, SUNDAY);
+    HolidayCalendarId eu = HolidayCalendarId.of("EU");
+    HolidayCalendar euCal = ImmutableHolidayCalendar.of(
+        eu, ImmutableList.of(date(2016, 5, 1), date(2016, 12, 26), date(2017, 1, 2)), SATURDAY, SUNDAY);
+    HolidayCalendarId combined = gb.combinedWith(eu);
+    ReferenceData refData = ImmutableReferenceData.of(ImmutableMap.of(gb, gbCal, eu, euCal));
+    HolidayCalendar test = combined.resolve(refData);
+    assertEquals(test.getClass(), ImmutableHolidayCalendar.class);
+    assertEquals(test.getId(), combined);
+    HolidayCalendar expected = gbCal.combinedWith(euCal);
+    for (LocalDate date = date(2015, 12, 1); date.isBefore(date(2018, 2, 1)); date = date.plusDays(1)) {
+      assertEquals(test.isHoliday(date), expected.isHoliday(date));
+    }
+    // memoised for the same reference data instance
+    assertSame(combined.resolve(refData), test);
+    assertSame(refData.getValue(combined), test);
+    ReferenceData refData2 = ImmutableReferenceData.of(ImmutableMap.of(gb, gbCal, eu, euCal));
+    assertNotSame(combined.resolve(refData2), test);
+    assertEquals(combined.resolve(refData2), test);
+  }
+
+  public void test_resolve_combined_versionedInCombined() {
+    HolidayCalendarId gb = HolidayCalendarId.of("GB");
+    HolidayCalendarId eu = HolidayCalendarId.of("EU");
+    HolidayCalendarId combined = gb.combinedWith(eu);
+    HolidayCalendar gbCal = ImmutableHolidayCalendar.of(gb, ImmutableList.of(date(2016, 8, 29)), SATURDAY, SUNDAY);
+    HolidayCalendar euCal = ImmutableHolidayCalendar.of(eu, ImmutableList.of(date(2016, 5, 2)), SATURDAY, SUNDAY);
+    VersionedReferenceData versioned =
+        VersionedReferenceData.of(ImmutableReferenceData.of(ImmutableMap.of(gb, gbCal, eu, euCal)));
+    ReferenceData refData = versioned.combinedWith(ImmutableReferenceData.empty());
+    HolidayCalendar test1 = combined.queryValueOrNull(refData);
+    assertEquals(test1.isHoliday(date(2016, 8, 29)), true);
+    assertEquals(test1.isHoliday(date(2016, 5, 2)), true);
+    assertEquals(test1.isHoliday(date(2016, 12, 26)), false);
+    assertEquals(combined.resolve(refData).isHoliday(date(2016, 12, 26)), false);
+
+    // an update to the versioned reference data wrapped by the combined reference data is seen
+    HolidayCalendar gbCal2 = ImmutableHolidayCalendar.of(
+        gb, ImmutableList.of(date(2016, 8, 29), date(2016, 12, 26)), SATURDAY, SUNDAY);
+    versioned.put(gb, gbCal2);
+    HolidayCalendar test2 = combined.queryValueOrNull(refData);
+    assertEquals(test2.isHoliday(date(2016, 8, 29)), true);
+    assertEquals(test2.isHoliday(date(2016, 5, 2)), true);
+    assertEquals(test2.isHoliday(date(2016, 12, 26)), true);
+    assertEquals(combined.resolve(refData).isHoliday(date(2016, 12, 26)), true);
+  }
+
+  public void test_resolve_combined_mutable() {
+    HolidayCalendarId gb = HolidayCalendarId.of("GB");
+    HolidayCalendarId eu = HolidayCalendarId.of("EU");
+    HolidayCalendarId combined = gb.combinedWith(eu);
+    Map<HolidayCalendarId, HolidayCalendar> map = new HashMap<>();
+    map.put(gb, HolidayCalendars.SAT_SUN);
+    map.put(eu, HolidayCalendars.SAT_SUN);
+    ReferenceData refData = new ReferenceData() {
+      @Override
+      public <T> Optional<T> findValue(ReferenceDataId<T> id) {
+        return Optional.ofNullable(id.getReferenceDataType().cast(map.get(id)));
+      }
+    };
+    assertEquals(combined.queryValueOrNull(refData).isHoliday(date(2016, 8, 26)), false);
+    // an update to mutable reference data is seen
+    map.put(eu, HolidayCalendars.FRI_SAT);
+    assertEquals(combined.queryValueOrNull(refData).isHoliday(date(2016, 8, 26)), true);
+  }
+
+  public void test_resolve_combined_missing() {
+    HolidayCalendarId gb = HolidayCalendarId.of("GB");
+    HolidayCalendarId eu = HolidayCalendarId.of("EU");
+    HolidayCalendarId combined = gb.combinedWith(eu);
+    ReferenceData refData = ImmutableReferenceData.of(ImmutableMap.of(gb, HolidayCalendars.SAT_SUN));
+    assertThrows(() -> combined.resolve(refData), ReferenceDataNotFoundException.class);
+    assertThrows(() -> combined.resolve(refData), ReferenceDataNotFoundException.class);
+  }
+
   @Test
   public void testImmutableReferenceDataWithMergedHolidays() {
     HolidayCalendar hc = HolidayCalendars.FRI_SAT.combinedWith(HolidayCalendars.SAT_SUN);
@@ -19,6 +19,7 @@ import static org.testng.Assert.assertSame;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Random;
 import java.util.SortedSet;
@@ -751,6 +752,85 @@ public class ImmutableHolidayCalendarTest {
     assertEquals(HOLCAL_MON_WED.daysBetween(start, end), expected);
   }
 
+  public void test_daysBetween_matchesDayByDay() {
+    // compare against a day-by-day count, crossing month and year boundaries and the end of the lookup table
+    LocalDate base = date(2013, 11, 1);
+    for (int i = 0; i < 900; i += 7) {
+      for (int j = 0; j < 900; j += 11) {
+        LocalDate start = base.plusDays(i);
+        LocalDate end = base.plusDays(j);
+        int expected = 0;
+        for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+          expected += HOLCAL_MON_WED.isBusinessDay(date) ? 1 : 0;
+        }
+        assertEquals(HOLCAL_MON_WED.daysBetween(start, end), expected);
+      }
+    }
+  }
+
+  public void test_daysBetween_range() {
+    assertEquals(HOLCAL_MON_WED.daysBetween(date(2010, 1, 1), date(2010, 1, 8)), 5);
+    assertEquals(HOLCAL_MON_WED.daysBetween(date(2014, 12, 29), date(2015, 1, 5)), 5);
+    assertEquals(HOLCAL_MON_WED.daysBetween(date(2014, 7, 14), date(2014, 7, 11)), 0);
+    assertEquals(HOLCAL_SAT_SUN.daysBetween(date(2014, 7, 11), date(2014, 7, 18)), 5);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_nthBusinessDayOfMonth() {
+    assertEquals(HOLCAL_MON_WED.nthBusinessDayOfMonth(YearMonth.of(2014, 7), 1), date(2014, 7, 1));
+    assertEquals(HOLCAL_MON_WED.nthBusinessDayOfMonth(YearMonth.of(2014, 7), 10), date(2014, 7, 15));
+    assertEquals(HOLCAL_MON_WED.nthBusinessDayOfMonth(YearMonth.of(2014, 7), 11), date(2014, 7, 17));
+    assertEquals(HOLCAL_MON_WED.nthBusinessDayOfMonth(YearMonth.of(2014, 7), 21), date(2014, 7, 31));
+    assertThrowsIllegalArg(() -> HOLCAL_MON_WED.nthBusinessDayOfMonth(YearMonth.of(2014, 7), 22));
+    assertThrowsIllegalArg(() -> HOLCAL_MON_WED.nthBusinessDayOfMonth(YearMonth.of(2014, 7), 0));
+  }
+
+  public void test_nthBusinessDayOfMonth_matchesDayByDay() {
+    for (YearMonth month = YearMonth.of(2013, 12); month.isBefore(YearMonth.of(2016, 2)); month = month.plusMonths(1)) {
+      int n = 0;
+      for (LocalDate date = month.atDay(1); date.getMonth() == month.getMonth(); date = date.plusDays(1)) {
+        if (HOLCAL_MON_WED.isBusinessDay(date)) {
+          n++;
+          assertEquals(HOLCAL_MON_WED.nthBusinessDayOfMonth(month, n), date);
+          assertEquals(
+              HolidayCalendars.SAT_SUN.nthBusinessDayOfMonth(month, n),
+              HOLCAL_SAT_SUN.nthBusinessDayOfMonth(month, n));
+        }
+      }
+      YearMonth ym = month;
+      int nth = n + 1;
+      assertThrowsIllegalArg(() -> HOLCAL_MON_WED.nthBusinessDayOfMonth(ym, nth));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_shiftAll() {
+    LocalDate[] dates = {FRI_2014_07_11, SAT_2014_07_12, TUE_2014_07_15};
+    LocalDate[] test = HOLCAL_MON_WED.shiftAll(dates, 1);
+    assertEquals(test, new LocalDate[] {TUE_2014_07_15, TUE_2014_07_15, THU_2014_07_17});
+    assertEquals(dates[0], FRI_2014_07_11);
+    LocalDate[] expected = {THU_2014_07_10, FRI_2014_07_11, MON_2014_07_14};
+    assertEquals(HolidayCalendars.SAT_SUN.shiftAll(dates, -1), expected);
+  }
+
+  public void test_shiftAll_matchesShift() {
+    // dates within, at the edges of and outside the lookup table
+    LocalDate[] dates = new LocalDate[1200];
+    for (int i = 0; i < dates.length; i++) {
+      dates[i] = LocalDate.of(2013, 12, 1).plusDays(i);
+    }
+    ImmutableHolidayCalendar noHolidays = ImmutableHolidayCalendar.of(TEST_ID, ImmutableList.of(), SATURDAY, SUNDAY);
+    for (ImmutableHolidayCalendar cal : new ImmutableHolidayCalendar[] {
+        HOLCAL_MON_WED, HOLCAL_YEAR_END, HOLCAL_SAT_SUN, HOLCAL_END_MONTH, noHolidays}) {
+      for (int amount : new int[] {-400, -25, -2, -1, 0, 1, 2, 25, 400}) {
+        LocalDate[] test = cal.shiftAll(dates, amount);
+        for (int i = 0; i < dates.length; i++) {
+          assertEquals(test[i], cal.shift(dates[i], amount), cal + " " + dates[i] + " " + amount);
+        }
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   public void test_combinedWith() {
     Iterable<LocalDate> holidays1 = Arrays.asList(WED_2014_07_16);
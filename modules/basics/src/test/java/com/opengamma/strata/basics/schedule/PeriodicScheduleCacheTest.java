@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.schedule;
+
+import static com.opengamma.strata.basics.date.BusinessDayConventions.MODIFIED_FOLLOWING;
+import static com.opengamma.strata.basics.schedule.Frequency.P3M;
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ImmutableReferenceData;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.ReferenceDataNotFoundException;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.date.HolidayCalendarId;
+import com.opengamma.strata.basics.date.ImmutableHolidayCalendar;
+
+/**
+ * Test {@link PeriodicScheduleCache}.
+ */
+@Test
+public class PeriodicScheduleCacheTest {
+
+  private static final HolidayCalendarId CAL_ID = HolidayCalendarId.of("PeriodicScheduleCacheTest");
+  private static final HolidayCalendar CAL1 =
+      ImmutableHolidayCalendar.of(CAL_ID, ImmutableList.of(date(2014, 6, 17)), SATURDAY, SUNDAY);
+  private static final HolidayCalendar CAL2 =
+      ImmutableHolidayCalendar.of(CAL_ID, ImmutableList.of(date(2014, 6, 18)), SATURDAY, SUNDAY);
+  private static final ReferenceData REF_DATA1 = ImmutableReferenceData.of(CAL_ID, CAL1);
+  private static final ReferenceData REF_DATA2 = ImmutableReferenceData.of(CAL_ID, CAL2);
+  private static final PeriodicSchedule DEFINITION = PeriodicSchedule.of(
+      date(2014, 3, 17),
+      date(2015, 3, 17),
+      P3M,
+      BusinessDayAdjustment.of(MODIFIED_FOLLOWING, CAL_ID),
+      StubConvention.NONE,
+      RollConventions.NONE);
+
+  //-------------------------------------------------------------------------
+  public void test_createSchedule() {
+    PeriodicScheduleCache test = PeriodicScheduleCache.of(100);
+    Schedule schedule = test.createSchedule(DEFINITION, REF_DATA1);
+    assertEquals(schedule, DEFINITION.generateSchedule(REF_DATA1));
+    assertEquals(schedule.getPeriod(1).getEndDate(), date(2014, 9, 17));
+    assertEquals(schedule.getPeriod(0).getEndDate(), date(2014, 6, 18));
+    assertEquals(test.size(), 1);
+    assertEquals(test.stats().hitCount(), 0);
+    assertEquals(test.stats().missCount(), 1);
+
+    // equal definition and same calendar is a cache hit
+    PeriodicSchedule equalDefinition = DEFINITION.toBuilder().build();
+    assertSame(test.createSchedule(equalDefinition, REF_DATA1), schedule);
+    // different reference data containing the same calendar is also a cache hit
+    ReferenceData refData = ImmutableReferenceData.of(CAL_ID, CAL1);
+    assertSame(test.createSchedule(DEFINITION, refData), schedule);
+    assertEquals(test.stats().hitCount(), 2);
+
+    // a different calendar with the same identifier is a cache miss
+    Schedule schedule2 = test.createSchedule(DEFINITION, REF_DATA2);
+    assertNotSame(schedule2, schedule);
+    assertEquals(schedule2.getPeriod(0).getEndDate(), date(2014, 6, 17));
+    assertEquals(test.size(), 2);
+    assertEquals(test.stats().missCount(), 2);
+    assertTrue(test.toString().startsWith("PeriodicScheduleCache[size=2"));
+
+    test.invalidateAll();
+    assertEquals(test.size(), 0);
+  }
+
+  public void test_createSchedule_invalid() {
+    PeriodicScheduleCache test = PeriodicScheduleCache.of(100);
+    PeriodicSchedule definition = DEFINITION.toBuilder().endDate(date(2015, 4, 1)).build();
+    assertThrows(() -> test.createSchedule(definition, REF_DATA1), ScheduleException.class);
+    assertEquals(test.size(), 0);
+    assertThrows(() -> test.createSchedule(DEFINITION, ReferenceData.empty()), ReferenceDataNotFoundException.class);
+    assertEquals(test.size(), 0);
+  }
+
+  public void test_standard() {
+    assertSame(PeriodicScheduleCache.standard(), PeriodicScheduleCache.standard());
+    Schedule schedule = DEFINITION.createSchedule(REF_DATA1);
+    assertSame(DEFINITION.createSchedule(REF_DATA1), schedule);
+    assertSame(PeriodicScheduleCache.standard().createSchedule(DEFINITION, REF_DATA1), schedule);
+  }
+
+}
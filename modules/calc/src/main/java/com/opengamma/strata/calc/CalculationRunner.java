@@ -11,6 +11,7 @@ import java.util.concurrent.ExecutorService;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.runner.CalculationListener;
+import com.opengamma.strata.calc.runner.CalculationResultCache;
 import com.opengamma.strata.calc.runner.CalculationTaskRunner;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -66,6 +67,23 @@ public interface CalculationRunner extends AutoCloseable {
     return DefaultCalculationRunner.of(executor);
   }
 
+  /**
+   * Creates a calculation runner capable of performing calculations, specifying the executor and cache.
+   * <p>
+   * The results of each calculation are added to the cache, keyed by the target, the calculation
+   * and the values of its market data. When the same calculation is repeated with the same market data,
+   * for example when an intraday run is repeated, the cached results are returned.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param executor  the executor to use
+   * @param cache  the cache of calculation results
+   * @return the calculation runner
+   */
+  public static CalculationRunner of(ExecutorService executor, CalculationResultCache cache) {
+    return DefaultCalculationRunner.of(executor, cache);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
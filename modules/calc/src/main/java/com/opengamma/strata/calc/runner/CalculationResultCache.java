@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.Optional;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * A cache of calculation results that can be shared between calculation runs.
+ * <p>
+ * When the same set of trades is repeatedly calculated, many of the tasks are unchanged between runs.
+ * A cache allows the results of those tasks to be reused, calculating only the tasks whose inputs have changed.
+ * The results are keyed by {@link CalculationTaskFingerprint}, which captures the task and the values
+ * of the market data it requires.
+ * <p>
+ * The cache is used by passing it to {@link CalculationTaskRunner#of(java.util.concurrent.ExecutorService,
+ * CalculationResultCache)}. Only results where every cell is a success are cached.
+ * <p>
+ * Each fingerprint holds the market data values and time-series required by its task.
+ * As such, a cached result retains the market data it was calculated with until it is evicted,
+ * which should be taken into account when choosing the size of the cache.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+public interface CalculationResultCache {
+
+  /**
+   * Obtains a cache that holds up to the specified number of results.
+   * <p>
+   * When the cache is full, the least recently used results are evicted.
+   *
+   * @param maximumSize  the maximum number of results to hold
+   * @return the cache
+   */
+  public static CalculationResultCache of(long maximumSize) {
+    return of(CacheBuilder.newBuilder().maximumSize(maximumSize).build());
+  }
+
+  /**
+   * Obtains a cache backed by the specified Guava cache.
+   * <p>
+   * This allows the size limit and eviction policy to be controlled using {@link CacheBuilder}.
+   *
+   * @param cache  the underlying cache
+   * @return the cache
+   */
+  public static CalculationResultCache of(Cache<CalculationTaskFingerprint, CalculationResults> cache) {
+    return new GuavaCalculationResultCache(cache);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Finds the cached results for the specified fingerprint.
+   *
+   * @param fingerprint  the fingerprint of the task and its market data
+   * @return the results, empty if not cached
+   */
+  public abstract Optional<CalculationResults> find(CalculationTaskFingerprint fingerprint);
+
+  /**
+   * Adds results to the cache.
+   *
+   * @param fingerprint  the fingerprint of the task and its market data
+   * @param results  the results of executing the task
+   */
+  public abstract void put(CalculationTaskFingerprint fingerprint, CalculationResults results);
+
+  /**
+   * Removes all results from the cache.
+   */
+  public abstract void invalidateAll();
+
+  /**
+   * Gets the approximate number of results in the cache.
+   *
+   * @return the number of results
+   */
+  public abstract long size();
+
+}
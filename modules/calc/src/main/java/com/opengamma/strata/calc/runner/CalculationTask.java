@@ -202,13 +202,33 @@ public final class CalculationTask implements ImmutableBean {
    * @param refData  the reference data
    * @return results of the calculation, one for every scenario in the market data
    */
-  @SuppressWarnings("unchecked")
   public CalculationResults execute(ScenarioMarketData marketData, ReferenceData refData) {
+    return execute(marketData, ScenarioFxRateProvider.of(marketData), refData);
+  }
+
+  /**
+   * Executes the task, performing calculations for the target using multiple sets of market data,
+   * specifying the provider of FX rates used to convert the results into the reporting currency.
+   * <p>
+   * This invokes the function with the correct set of market data.
+   * The FX rate provider must take its rates from the market data, and will typically be shared
+   * between the tasks of a calculation run, see {@link ScenarioFxRateProvider#of(ScenarioMarketData)}.
+   *
+   * @param marketData  the market data used in the calculation
+   * @param fxProvider  the provider of FX rates, used for currency conversion
+   * @param refData  the reference data
+   * @return results of the calculation, one for every scenario in the market data
+   */
+  @SuppressWarnings("unchecked")
+  public CalculationResults execute(
+      ScenarioMarketData marketData,
+      ScenarioFxRateProvider fxProvider,
+      ReferenceData refData) {
+
     // calculate the results
     Map<Measure, Result<?>> results = calculate(marketData, refData);
 
     // convert the results, using a normal loop for better stack traces
-    ScenarioFxRateProvider fxProvider = ScenarioFxRateProvider.of(marketData);
     ImmutableList.Builder<CalculationResult> resultBuilder = ImmutableList.builder();
     for (CalculationTaskCell cell : cells) {
       resultBuilder.add(cell.createResult(this, target, results, fxProvider, refData));
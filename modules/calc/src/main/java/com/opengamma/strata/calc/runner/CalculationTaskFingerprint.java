@@ -0,0 +1,302 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ImmutableReferenceData;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.VersionedReferenceData;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * The fingerprint of a calculation task and the inputs it depends on.
+ * <p>
+ * Two fingerprints are equal if the tasks are equivalent and were run against the same values of market data.
+ * The fingerprint captures the target, the function, the parameters and the cells of the task.
+ * It also captures the valuation date, the scenario count and the values of all market data and time-series
+ * listed in the {@linkplain CalculationTask#requirements(ReferenceData) requirements} of the task.
+ * The reference data is compared by identity, as it is typically large and shared between runs.
+ * When passed {@link VersionedReferenceData}, the current snapshot is captured, thus an update to the
+ * reference data results in a different fingerprint. Since only {@link ImmutableReferenceData} is
+ * known not to change, a task executed with any other reference data has no fingerprint.
+ * This includes {@linkplain ReferenceData#combinedWith(ReferenceData) combined} reference data, which may
+ * wrap versioned or mutable reference data.
+ * <p>
+ * The function is compared using its {@code equals} method if its class overrides it.
+ * Otherwise, the function is compared by type if its class holds no instance fields, as all instances
+ * of such a class are equivalent. A task whose function satisfies neither condition has no fingerprint.
+ * <p>
+ * This is used as the key of {@link CalculationResultCache}.
+ * As such, it is only valid if the function declares all the market data it uses in its requirements.
+ * The fingerprint holds the market data values and time-series it captures, which are therefore retained
+ * for as long as the fingerprint is.
+ */
+public final class CalculationTaskFingerprint {
+
+  /**
+   * Whether a function type overrides {@code equals}.
+   */
+  private static final ClassValue<Boolean> OVERRIDES_EQUALS = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      try {
+        return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+      } catch (NoSuchMethodException ex) {
+        return false;
+      }
+    }
+  };
+  /**
+   * Whether a function type and its superclasses hold no instance fields.
+   */
+  private static final ClassValue<Boolean> STATELESS = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      for (Class<?> cls = type; cls != null; cls = cls.getSuperclass()) {
+        for (Field field : cls.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers())) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+  };
+
+  /**
+   * The target.
+   */
+  private final CalculationTarget target;
+  /**
+   * The function, or its type if all instances of the type are equivalent.
+   */
+  private final Object function;
+  /**
+   * The parameters.
+   */
+  private final CalculationParameters parameters;
+  /**
+   * The cells.
+   */
+  private final List<CalculationTaskCell> cells;
+  /**
+   * The reference data, compared by identity, which is the snapshot if the reference data is versioned.
+   */
+  private final ReferenceData refData;
+  /**
+   * The valuation date.
+   */
+  private final MarketDataBox<LocalDate> valuationDate;
+  /**
+   * The number of scenarios.
+   */
+  private final int scenarioCount;
+  /**
+   * The values of the market data required by the task.
+   */
+  private final Map<MarketDataId<?>, MarketDataBox<?>> values;
+  /**
+   * The time-series required by the task.
+   */
+  private final Map<ObservableId, LocalDateDoubleTimeSeries> timeSeries;
+  /**
+   * The hash code, which uses the market data identifiers rather than the values, as the values may be large.
+   */
+  private final int hashCode;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the fingerprint of a task and the market data it would be executed with.
+   * <p>
+   * An empty optional is returned if the fingerprint cannot be determined.
+   * This occurs if any of the required market data is missing, or if the requirements cannot be determined,
+   * in which case the task is expected to produce a failure that should not be cached.
+   * It also occurs if the function of the task cannot be compared, or if the reference data
+   * is not immutable, see the class documentation.
+   * <p>
+   * If the reference data is versioned, the task should be executed with the same snapshot that
+   * is captured by the fingerprint, see {@link #snapshot(ReferenceData)}.
+   *
+   * @param task  the task
+   * @param marketData  the market data the task will be executed with
+   * @param refData  the reference data the task will be executed with
+   * @return the fingerprint, empty if it cannot be determined
+   */
+  public static Optional<CalculationTaskFingerprint> of(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    ArgChecker.notNull(task, "task");
+    ArgChecker.notNull(marketData, "marketData");
+    ArgChecker.notNull(refData, "refData");
+    ReferenceData snapshot = snapshot(refData);
+    if (!(snapshot instanceof ImmutableReferenceData)) {
+      return Optional.empty();
+    }
+    Optional<Object> function = functionKey(task.getFunction());
+    if (!function.isPresent()) {
+      return Optional.empty();
+    }
+    MarketDataRequirements requirements;
+    try {
+      requirements = task.requirements(refData);
+    } catch (RuntimeException ex) {
+      return Optional.empty();
+    }
+    ImmutableMap.Builder<MarketDataId<?>, MarketDataBox<?>> values = ImmutableMap.builder();
+    for (MarketDataId<?> id : requirements.getObservables()) {
+      Optional<? extends MarketDataBox<?>> value = marketData.findValue(id);
+      if (!value.isPresent()) {
+        return Optional.empty();
+      }
+      values.put(id, value.get());
+    }
+    for (MarketDataId<?> id : requirements.getNonObservables()) {
+      Optional<? extends MarketDataBox<?>> value = marketData.findValue(id);
+      if (!value.isPresent()) {
+        return Optional.empty();
+      }
+      values.put(id, value.get());
+    }
+    ImmutableMap.Builder<ObservableId, LocalDateDoubleTimeSeries> timeSeries = ImmutableMap.builder();
+    for (ObservableId id : requirements.getTimeSeries()) {
+      timeSeries.put(id, marketData.getTimeSeries(id));
+    }
+    return Optional.of(new CalculationTaskFingerprint(
+        task,
+        function.get(),
+        snapshot,
+        marketData.getValuationDate(),
+        marketData.getScenarioCount(),
+        values.build(),
+        timeSeries.build()));
+  }
+
+  // restricted constructor
+  private CalculationTaskFingerprint(
+      CalculationTask task,
+      Object function,
+      ReferenceData refData,
+      MarketDataBox<LocalDate> valuationDate,
+      int scenarioCount,
+      Map<MarketDataId<?>, MarketDataBox<?>> values,
+      Map<ObservableId, LocalDateDoubleTimeSeries> timeSeries) {
+
+    this.target = task.getTarget();
+    this.function = function;
+    this.parameters = task.getParameters();
+    this.cells = ImmutableList.copyOf(task.getCells());
+    this.refData = refData;
+    this.valuationDate = valuationDate;
+    this.scenarioCount = scenarioCount;
+    this.values = values;
+    this.timeSeries = timeSeries;
+    this.hashCode = Objects.hash(
+        target, function, parameters, cells, System.identityHashCode(refData),
+        valuationDate, scenarioCount, values.keySet(), timeSeries.keySet());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the target of the task.
+   *
+   * @return the target
+   */
+  public CalculationTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * Gets the identifiers of the market data captured by the fingerprint.
+   *
+   * @return the market data identifiers
+   */
+  public ImmutableList<MarketDataId<?>> getMarketDataIds() {
+    return ImmutableList.<MarketDataId<?>>builder()
+        .addAll(values.keySet())
+        .addAll(timeSeries.keySet())
+        .build();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj instanceof CalculationTaskFingerprint) {
+      CalculationTaskFingerprint other = (CalculationTaskFingerprint) obj;
+      return hashCode == other.hashCode &&
+          refData == other.refData &&
+          scenarioCount == other.scenarioCount &&
+          function.equals(other.function) &&
+          target.equals(other.target) &&
+          parameters.equals(other.parameters) &&
+          cells.equals(other.cells) &&
+          valuationDate.equals(other.valuationDate) &&
+          values.equals(other.values) &&
+          timeSeries.equals(other.timeSeries);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    Class<?> functionType = function instanceof Class ? (Class<?>) function : function.getClass();
+    return "CalculationTaskFingerprint[" + target + ", " + functionType.getSimpleName() + ", " + cells + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the reference data that is captured by a fingerprint.
+   * <p>
+   * This is the current snapshot if the reference data is versioned, and the reference data itself otherwise.
+   *
+   * @param refData  the reference data
+   * @return the reference data to key the fingerprint on and execute the task with
+   */
+  public static ReferenceData snapshot(ReferenceData refData) {
+    if (refData instanceof VersionedReferenceData) {
+      return ((VersionedReferenceData) refData).snapshot();
+    }
+    return refData;
+  }
+
+  // the function if it defines equality, its type if it is stateless, empty otherwise
+  private static Optional<Object> functionKey(CalculationFunction<?> function) {
+    Class<?> type = function.getClass();
+    if (OVERRIDES_EQUALS.get(type)) {
+      return Optional.of(function);
+    }
+    if (STATELESS.get(type)) {
+      return Optional.of(type);
+    }
+    return Optional.empty();
+  }
+
+}
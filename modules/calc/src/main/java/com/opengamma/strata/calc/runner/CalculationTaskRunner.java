@@ -79,6 +79,23 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.of(executor);
   }
 
+  /**
+   * Creates a calculation task runner capable of performing calculations, specifying the executor and cache.
+   * <p>
+   * The results of each task are added to the cache, keyed by the task and the values of its market data.
+   * When a task is calculated again with the same market data the cached results are returned.
+   * Sharing the cache between runs allows only the tasks whose inputs have changed to be recalculated.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param executor  the executor to use
+   * @param cache  the cache of calculation results
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner of(ExecutorService executor, CalculationResultCache cache) {
+    return DefaultCalculationTaskRunner.of(executor, cache);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
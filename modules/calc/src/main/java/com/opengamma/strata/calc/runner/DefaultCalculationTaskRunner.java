@@ -8,6 +8,7 @@ package com.opengamma.strata.calc.runner;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -24,12 +25,14 @@ import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioFxRateProvider;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
 /**
  * The default calculation task runner.
  * <p>
  * This uses a single instance of {@link ExecutorService}.
+ * If a {@link CalculationResultCache} is specified, the results of each task are cached.
  */
 final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
 
@@ -38,6 +41,10 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * This will typically be multi-threaded, but single or direct executors also work.
    */
   private final ExecutorService executor;
+  /**
+   * The cache of results from previous runs, null if results are not cached.
+   */
+  private final CalculationResultCache cache;
 
   //-------------------------------------------------------------------------
   /**
@@ -54,7 +61,7 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner ofMultiThreaded() {
-    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()));
+    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()), null);
   }
 
   /**
@@ -66,7 +73,22 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner of(ExecutorService executor) {
-    return new DefaultCalculationTaskRunner(executor);
+    return new DefaultCalculationTaskRunner(executor, null);
+  }
+
+  /**
+   * Creates a calculation task runner capable of performing calculations, specifying the executor and cache.
+   * <p>
+   * The results of each task are cached, allowing them to be reused when the same task is
+   * calculated again with the same market data.
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param cache  the cache of calculation results
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner of(ExecutorService executor, CalculationResultCache cache) {
+    return new DefaultCalculationTaskRunner(executor, ArgChecker.notNull(cache, "cache"));
   }
 
   // create an executor with daemon threads
@@ -86,9 +108,11 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * Creates an instance specifying the executor to use.
    *
    * @param executor  the executor that is used to perform the calculations
+   * @param cache  the cache of results, null if results are not cached
    */
-  private DefaultCalculationTaskRunner(ExecutorService executor) {
+  private DefaultCalculationTaskRunner(ExecutorService executor, CalculationResultCache cache) {
     this.executor = ArgChecker.notNull(executor, "executor");
+    this.cache = cache;
   }
 
   //-------------------------------------------------------------------------
@@ -179,23 +203,54 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     Consumer<CalculationResults> consumer =
         new ListenerWrapper(listener, taskList.size(), tasks.getTargets(), tasks.getColumns());
 
+    // the FX rates used for currency conversion are shared between the tasks
+    ScenarioFxRateProvider fxProvider = ScenarioFxRateProvider.of(marketData);
+
     // run each task using the executor
-    taskList.forEach(task -> runTask(task, marketData, refData, consumer));
+    taskList.forEach(task -> runTask(task, marketData, fxProvider, refData, consumer));
   }
 
   // submits a task to the executor to be run
   private void runTask(
       CalculationTask task,
       ScenarioMarketData marketData,
+      ScenarioFxRateProvider fxProvider,
       ReferenceData refData,
       Consumer<CalculationResults> consumer) {
 
     // the task is executed, with the result passed to the consumer
     // the consumer wraps the listener to ensure thread-safety
-    Supplier<CalculationResults> taskExecutor = () -> task.execute(marketData, refData);
+    Supplier<CalculationResults> taskExecutor = cache == null ?
+        () -> task.execute(marketData, fxProvider, refData) :
+        () -> executeCached(task, marketData, fxProvider, refData);
     CompletableFuture.supplyAsync(taskExecutor, executor).thenAccept(consumer);
   }
 
+  // executes a task, using the cached results if the task and its market data are unchanged
+  private CalculationResults executeCached(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ScenarioFxRateProvider fxProvider,
+      ReferenceData refData) {
+
+    // the task is executed with the same snapshot of versioned reference data as the fingerprint holds
+    ReferenceData data = CalculationTaskFingerprint.snapshot(refData);
+    Optional<CalculationTaskFingerprint> fingerprint = CalculationTaskFingerprint.of(task, marketData, data);
+    if (!fingerprint.isPresent()) {
+      return task.execute(marketData, fxProvider, data);
+    }
+    Optional<CalculationResults> cached = cache.find(fingerprint.get());
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    CalculationResults results = task.execute(marketData, fxProvider, data);
+    // failures are not cached, as they may be caused by transient problems
+    if (results.getCells().stream().allMatch(cell -> cell.getResult().isSuccess())) {
+      cache.put(fingerprint.get(), results);
+    }
+    return results;
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public void close() {
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.Optional;
+
+import com.google.common.cache.Cache;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A calculation result cache backed by a Guava cache.
+ */
+final class GuavaCalculationResultCache implements CalculationResultCache {
+
+  /**
+   * The underlying cache.
+   */
+  private final Cache<CalculationTaskFingerprint, CalculationResults> cache;
+
+  /**
+   * Creates an instance.
+   *
+   * @param cache  the underlying cache
+   */
+  GuavaCalculationResultCache(Cache<CalculationTaskFingerprint, CalculationResults> cache) {
+    this.cache = ArgChecker.notNull(cache, "cache");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Optional<CalculationResults> find(CalculationTaskFingerprint fingerprint) {
+    return Optional.ofNullable(cache.getIfPresent(fingerprint));
+  }
+
+  @Override
+  public void put(CalculationTaskFingerprint fingerprint, CalculationResults results) {
+    ArgChecker.notNull(fingerprint, "fingerprint");
+    ArgChecker.notNull(results, "results");
+    cache.put(fingerprint, results);
+  }
+
+  @Override
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public long size() {
+    return cache.size();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "CalculationResultCache[size=" + cache.size() + "]";
+  }
+
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.calc.ReportingCurrency.NATURAL;
+import static com.opengamma.strata.collect.CollectProjectAssertions.assertThat;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.opengamma.strata.basics.ImmutableReferenceData;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.VersionedReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.date.HolidayCalendarIds;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.marketdata.TestId;
+import com.opengamma.strata.calc.marketdata.TestObservableId;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link CalculationResultCache} and {@link CalculationTaskFingerprint}.
+ */
+@Test
+public class CalculationResultCacheTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final TestTarget TARGET = new TestTarget();
+  private static final LocalDate VAL_DATE = date(2011, 3, 8);
+  private static final Set<Measure> MEASURES = ImmutableSet.of(TestingMeasures.PRESENT_VALUE);
+  private static final TestId ID1 = TestId.of("1");
+  private static final TestObservableId ID2 = TestObservableId.of("2");
+  private static final TestObservableId ID3 = TestObservableId.of("3");
+  private static final LocalDateDoubleTimeSeries TS = LocalDateDoubleTimeSeries.of(date(2011, 3, 7), 1d);
+  private static final MarketData MARKET_DATA =
+      MarketData.of(VAL_DATE, ImmutableMap.of(ID1, "a", ID2, 2d), ImmutableMap.of(ID3, TS));
+  private static final Object ANOTHER_TYPE = "";
+
+  //-------------------------------------------------------------------------
+  public void test_fingerprint() {
+    CalculationTask task = task(new CountingFunction());
+    ScenarioMarketData md = ScenarioMarketData.of(1, MARKET_DATA);
+    CalculationTaskFingerprint test = CalculationTaskFingerprint.of(task, md, REF_DATA).get();
+    assertThat(test.getTarget()).isEqualTo(TARGET);
+    assertThat(test.getMarketDataIds()).containsOnly(ID1, ID2, ID3);
+
+    // equal for an equivalent task and market data
+    CalculationTask task2 = task(new CountingFunction());
+    ScenarioMarketData md2 = ScenarioMarketData.of(
+        1, MarketData.of(VAL_DATE, ImmutableMap.of(ID1, "a", ID2, 2d), ImmutableMap.of(ID3, TS)));
+    CalculationTaskFingerprint test2 = CalculationTaskFingerprint.of(task2, md2, REF_DATA).get();
+    assertThat(test).isEqualTo(test2);
+    assertThat(test.hashCode()).isEqualTo(test2.hashCode());
+    assertThat(test.toString()).contains("CountingFunction");
+
+    // different when any input changes
+    ScenarioMarketData mdValue = ScenarioMarketData.of(
+        1, MarketData.of(VAL_DATE, ImmutableMap.of(ID1, "a", ID2, 3d), ImmutableMap.of(ID3, TS)));
+    assertThat(CalculationTaskFingerprint.of(task, mdValue, REF_DATA).get()).isNotEqualTo(test);
+    ScenarioMarketData mdTimeSeries = ScenarioMarketData.of(
+        1, MarketData.of(VAL_DATE, ImmutableMap.of(ID1, "a", ID2, 2d), ImmutableMap.of()));
+    assertThat(CalculationTaskFingerprint.of(task, mdTimeSeries, REF_DATA).get()).isNotEqualTo(test);
+    ScenarioMarketData mdDate = ScenarioMarketData.of(
+        1, MarketData.of(VAL_DATE.plusDays(1), ImmutableMap.of(ID1, "a", ID2, 2d), ImmutableMap.of(ID3, TS)));
+    assertThat(CalculationTaskFingerprint.of(task, mdDate, REF_DATA).get()).isNotEqualTo(test);
+    ScenarioMarketData mdScenarios = ScenarioMarketData.of(2, MARKET_DATA);
+    assertThat(CalculationTaskFingerprint.of(task, mdScenarios, REF_DATA).get()).isNotEqualTo(test);
+    ReferenceData refData = ReferenceData.of(ImmutableMap.of());
+    assertThat(CalculationTaskFingerprint.of(task, md, refData).get()).isNotEqualTo(test);
+    assertThat(test.equals(null)).isFalse();
+    assertThat(test.equals(ANOTHER_TYPE)).isFalse();
+  }
+
+  public void test_fingerprint_function() {
+    ScenarioMarketData md = ScenarioMarketData.of(1, MARKET_DATA);
+    // functions that define equals are compared using it
+    CalculationTaskFingerprint counting =
+        CalculationTaskFingerprint.of(task(new CountingFunction()), md, REF_DATA).get();
+    CalculationTaskFingerprint failing =
+        CalculationTaskFingerprint.of(task(new CountingFunction(true)), md, REF_DATA).get();
+    assertThat(counting).isNotEqualTo(failing);
+    // stateless functions are compared by type
+    CalculationTaskFingerprint stateless1 =
+        CalculationTaskFingerprint.of(task(new StatelessFunction()), md, REF_DATA).get();
+    CalculationTaskFingerprint stateless2 =
+        CalculationTaskFingerprint.of(task(new StatelessFunction()), md, REF_DATA).get();
+    assertThat(stateless1).isEqualTo(stateless2);
+    assertThat(stateless1.toString()).contains("StatelessFunction");
+    // functions with state but no equals cannot be compared
+    assertThat(CalculationTaskFingerprint.of(task(new ConfiguredFunction("a")), md, REF_DATA)).isEmpty();
+  }
+
+  public void test_fingerprint_missingData() {
+    CalculationTask task = task(new CountingFunction());
+    ScenarioMarketData md = ScenarioMarketData.of(1, MarketData.of(VAL_DATE, ImmutableMap.of(ID1, "a")));
+    assertThat(CalculationTaskFingerprint.of(task, md, REF_DATA)).isEmpty();
+  }
+
+  public void test_fingerprint_referenceData() {
+    CalculationTask task = task(new CountingFunction());
+    ScenarioMarketData md = ScenarioMarketData.of(1, MARKET_DATA);
+    VersionedReferenceData versioned = VersionedReferenceData.of((ImmutableReferenceData) REF_DATA);
+    // versioned reference data is captured as its snapshot
+    assertThat(CalculationTaskFingerprint.of(task, md, versioned))
+        .isEqualTo(CalculationTaskFingerprint.of(task, md, REF_DATA));
+    // reference data that is not immutable has no fingerprint, even when it wraps a versioned store
+    ReferenceData combined = ReferenceData.empty().combinedWith(versioned);
+    assertThat(CalculationTaskFingerprint.of(task, md, combined)).isEmpty();
+    ReferenceData mutable = REF_DATA::findValue;
+    assertThat(CalculationTaskFingerprint.of(task, md, mutable)).isEmpty();
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_of_maximumSize() {
+    CalculationResultCache test = CalculationResultCache.of(1);
+    ScenarioMarketData md = ScenarioMarketData.of(1, MARKET_DATA);
+    CalculationTaskFingerprint fingerprint1 =
+        CalculationTaskFingerprint.of(task(new CountingFunction()), md, REF_DATA).get();
+    CalculationTaskFingerprint fingerprint2 = CalculationTaskFingerprint.of(
+        task(new CountingFunction()), ScenarioMarketData.of(2, MARKET_DATA), REF_DATA).get();
+    CalculationResults results = CalculationResults.of(TARGET, ImmutableList.of());
+    assertThat(test.find(fingerprint1)).isEmpty();
+
+    test.put(fingerprint1, results);
+    assertThat(test.find(fingerprint1)).hasValue(results);
+    assertThat(test.size()).isEqualTo(1);
+
+    // the least recently used result is evicted
+    test.put(fingerprint2, results);
+    assertThat(test.find(fingerprint1)).isEmpty();
+    assertThat(test.find(fingerprint2)).hasValue(results);
+    assertThat(test.size()).isEqualTo(1);
+
+    test.invalidateAll();
+    assertThat(test.size()).isEqualTo(0);
+    assertThat(test.toString()).contains("size=0");
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_runner_cached() {
+    CountingFunction fn = new CountingFunction();
+    CalculationTasks tasks = CalculationTasks.of(
+        ImmutableList.of(task(fn)), ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE)));
+    CalculationResultCache cache = CalculationResultCache.of(100);
+
+    // using the direct executor means there is no need to close/shutdown the runner
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), cache);
+    Results results1 = test.calculate(tasks, MARKET_DATA, REF_DATA);
+    assertThat(results1.get(0, 0)).hasValue("bar");
+    assertThat(fn.count.get()).isEqualTo(1);
+    assertThat(cache.size()).isEqualTo(1);
+
+    // unchanged market data uses the cache
+    MarketData sameMarketData =
+        MarketData.of(VAL_DATE, ImmutableMap.of(ID1, "a", ID2, 2d), ImmutableMap.of(ID3, TS));
+    Results results2 = test.calculate(tasks, sameMarketData, REF_DATA);
+    assertThat(results2).isEqualTo(results1);
+    assertThat(fn.count.get()).isEqualTo(1);
+
+    // changed market data is calculated
+    MarketData changedMarketData =
+        MarketData.of(VAL_DATE, ImmutableMap.of(ID1, "b", ID2, 2d), ImmutableMap.of(ID3, TS));
+    Results results3 = test.calculate(tasks, changedMarketData, REF_DATA);
+    assertThat(results3.get(0, 0)).hasValue("bar");
+    assertThat(fn.count.get()).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  public void test_runner_versionedReferenceData() {
+    CountingFunction fn = new CountingFunction();
+    CalculationTasks tasks = CalculationTasks.of(
+        ImmutableList.of(task(fn)), ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE)));
+    CalculationResultCache cache = CalculationResultCache.of(100);
+    VersionedReferenceData refData = VersionedReferenceData.of((ImmutableReferenceData) REF_DATA);
+
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), cache);
+    Results results1 = test.calculate(tasks, MARKET_DATA, refData);
+    assertThat(results1.get(0, 0)).hasValue("bar");
+    assertThat(fn.count.get()).isEqualTo(1);
+
+    // unchanged reference data uses the cache
+    test.calculate(tasks, MARKET_DATA, refData);
+    assertThat(fn.count.get()).isEqualTo(1);
+
+    // updated reference data is calculated
+    refData.put(HolidayCalendarIds.GBLO, REF_DATA.getValue(HolidayCalendarIds.GBLO));
+    Results results2 = test.calculate(tasks, MARKET_DATA, refData);
+    assertThat(results2.get(0, 0)).hasValue("bar");
+    assertThat(fn.count.get()).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  public void test_runner_combinedVersionedReferenceData() {
+    CountingFunction fn = new CountingFunction();
+    CalculationTasks tasks = CalculationTasks.of(
+        ImmutableList.of(task(fn)), ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE)));
+    CalculationResultCache cache = CalculationResultCache.of(100);
+    VersionedReferenceData versioned = VersionedReferenceData.of(ImmutableReferenceData.empty());
+    ReferenceData refData = REF_DATA.combinedWith(versioned);
+
+    // the nested versioned reference data is not visible to the cache, so nothing is cached
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), cache);
+    test.calculate(tasks, MARKET_DATA, refData);
+    assertThat(fn.count.get()).isEqualTo(1);
+    versioned.put(HolidayCalendarIds.GBLO, REF_DATA.getValue(HolidayCalendarIds.GBLO));
+    Results results = test.calculate(tasks, MARKET_DATA, refData);
+    assertThat(results.get(0, 0)).hasValue("bar");
+    assertThat(fn.count.get()).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(0);
+
+    // taking the snapshot before combining allows the results to be cached
+    ReferenceData snapshot = REF_DATA.combinedWith(versioned.snapshot());
+    test.calculate(tasks, MARKET_DATA, snapshot);
+    test.calculate(tasks, MARKET_DATA, snapshot);
+    assertThat(fn.count.get()).isEqualTo(3);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  public void test_runner_failuresNotCached() {
+    CountingFunction fn = new CountingFunction(true);
+    CalculationTasks tasks = CalculationTasks.of(
+        ImmutableList.of(task(fn)), ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE)));
+    CalculationResultCache cache = CalculationResultCache.of(100);
+
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), cache);
+    Results results1 = test.calculate(tasks, MARKET_DATA, REF_DATA);
+    assertThat(results1.get(0, 0)).isFailure(FailureReason.CALCULATION_FAILED);
+    test.calculate(tasks, MARKET_DATA, REF_DATA);
+    assertThat(fn.count.get()).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(0);
+  }
+
+  public void test_runner_functionNotComparedNotCached() {
+    ImmutableList<Column> columns = ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE));
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task(new ConfiguredFunction("a"))), columns);
+    CalculationResultCache cache = CalculationResultCache.of(100);
+
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), cache);
+    Results results = test.calculate(tasks, MARKET_DATA, REF_DATA);
+    assertThat(results.get(0, 0)).hasValue("a");
+    assertThat(cache.size()).isEqualTo(0);
+
+    // a differently configured function of the same type does not use the results of the first
+    CalculationTasks tasks2 = CalculationTasks.of(ImmutableList.of(task(new ConfiguredFunction("b"))), columns);
+    assertThat(test.calculate(tasks2, MARKET_DATA, REF_DATA).get(0, 0)).hasValue("b");
+  }
+
+  public void test_runner_missingDataNotCached() {
+    CountingFunction fn = new CountingFunction();
+    CalculationTasks tasks = CalculationTasks.of(
+        ImmutableList.of(task(fn)), ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE)));
+    CalculationResultCache cache = CalculationResultCache.of(100);
+
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), cache);
+    MarketData marketData = MarketData.empty(VAL_DATE);
+    test.calculate(tasks, marketData, REF_DATA);
+    test.calculate(tasks, marketData, REF_DATA);
+    assertThat(fn.count.get()).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(0);
+  }
+
+  //-------------------------------------------------------------------------
+  private static CalculationTask task(CalculationFunction<TestTarget> fn) {
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    return CalculationTask.of(TARGET, fn, cell);
+  }
+
+  private static final class CountingFunction implements CalculationFunction<TestTarget> {
+
+    private final AtomicInteger count = new AtomicInteger();
+    private final boolean fail;
+
+    private CountingFunction() {
+      this(false);
+    }
+
+    private CountingFunction(boolean fail) {
+      this.fail = fail;
+    }
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.builder()
+          .valueRequirements(ImmutableSet.of(ID1, ID2))
+          .timeSeriesRequirements(ID3)
+          .build();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      count.incrementAndGet();
+      if (fail) {
+        throw new IllegalStateException("Fail");
+      }
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(ScenarioArray.of("bar")));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof CountingFunction && ((CountingFunction) obj).fail == fail;
+    }
+
+    @Override
+    public int hashCode() {
+      return Boolean.hashCode(fail);
+    }
+  }
+
+  private static class StatelessFunction implements CalculationFunction<TestTarget> {
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.builder().valueRequirements(ImmutableSet.of(ID1)).build();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(ScenarioArray.of(value())));
+    }
+
+    String value() {
+      return "stateless";
+    }
+  }
+
+  private static final class ConfiguredFunction extends StatelessFunction {
+
+    private final String value;
+
+    private ConfiguredFunction(String value) {
+      this.value = value;
+    }
+
+    @Override
+    String value() {
+      return value;
+    }
+  }
+
+}
@@ -9,6 +9,8 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
@@ -92,7 +94,7 @@ public final class XmlFile {
         XMLStreamReader xmlReader = xmlInputFactory().createXMLStreamReader(in);
         try {
           HashMap<String, XmlElement> refs = new HashMap<>();
-          XmlElement root = parse(xmlReader, refAttrName, refs);
+          XmlElement root = parse(xmlReader, refAttrName, refs, new SymbolTable());
           return new XmlFile(root, refs);
         } finally {
           xmlReader.close();
@@ -101,6 +103,61 @@ public final class XmlFile {
     });
   }
 
+  /**
+   * Parses the specified source as an XML file, streaming the elements with a matching name.
+   * <p>
+   * This parses the specified byte source expecting an XML file format.
+   * Rather than parsing the whole file into memory, each element with a name matching the
+   * filter is parsed to an in-memory DOM-like structure and passed to the consumer.
+   * Other elements are not retained, thus only one matching element is held in memory at a time.
+   * <p>
+   * Once a matching element is found, its descendants are not checked against the filter.
+   * The matching elements are passed to the consumer in the order they occur in the file.
+   * <p>
+   * Each element is passed as an {@code XmlFile}, where the root is the matching element.
+   * The reference map of the file contains the references found within the matching element,
+   * using the specified attribute name as per {@link #of(ByteSource, String)}.
+   * 
+   * @param source  the XML source data
+   * @param refAttrName  the attribute name that should be parsed as a reference
+   * @param elementNameFilter  the filter, returning true if the element with the specified name should be parsed
+   * @param consumer  the consumer of the parsed elements
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static void parseElements(
+      ByteSource source,
+      String refAttrName,
+      Predicate<String> elementNameFilter,
+      Consumer<XmlFile> consumer) {
+
+    ArgChecker.notNull(source, "source");
+    ArgChecker.notNull(refAttrName, "refAttrName");
+    ArgChecker.notNull(elementNameFilter, "elementNameFilter");
+    ArgChecker.notNull(consumer, "consumer");
+    Unchecked.wrap(() -> {
+      try (InputStream in = source.openBufferedStream()) {
+        XMLStreamReader xmlReader = xmlInputFactory().createXMLStreamReader(in);
+        try {
+          // the symbol table is shared by all the elements in the file
+          SymbolTable symbols = new SymbolTable();
+          while (xmlReader.hasNext()) {
+            int event = xmlReader.next();
+            if (event == XMLStreamConstants.START_ELEMENT && elementNameFilter.test(xmlReader.getLocalName())) {
+              HashMap<String, XmlElement> refs = new HashMap<>();
+              XmlElement element = parse(xmlReader, refAttrName, refs, symbols);
+              consumer.accept(new XmlFile(element, refs));
+            }
+          }
+        } catch (XMLStreamException ex) {
+          throw new IllegalArgumentException(ex);
+        } finally {
+          xmlReader.close();
+        }
+      }
+    });
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Parses the tree from the StAX stream reader, capturing references.
@@ -110,44 +167,59 @@ public final class XmlFile {
    * This method supports capturing attribute references, such as an id/href pair.
    * Wherever the parser finds an attribute with the specified name, the element is added
    * to the specified map. Note that the map is mutated.
+   * <p>
+   * Element names, attributes and short content are shared using the symbol table,
+   * as the same small vocabulary is typically repeated many times in a file.
+   * Text is only extracted while no child element has been found, as the content
+   * of an element with children is not retained.
    * 
    * @param reader  the StAX stream reader, positioned at or before the element to be parsed
    * @param refAttr  the attribute name that should be parsed as a reference, null if not applicable
    * @param refs  the mutable map of references to update, null if not applicable
+   * @param symbols  the symbol table used to share strings and attributes
    * @return the parsed element
    * @throws IllegalArgumentException if the input cannot be parsed
    */
-  private static XmlElement parse(XMLStreamReader reader, String refAttr, Map<String, XmlElement> refs) {
+  private static XmlElement parse(
+      XMLStreamReader reader,
+      String refAttr,
+      Map<String, XmlElement> refs,
+      SymbolTable symbols) {
+
     try {
       // parse start element
-      String elementName = parseElementName(reader);
-      ImmutableMap<String, String> attrs = parseAttributes(reader);
+      String elementName = symbols.name(parseElementName(reader));
+      ImmutableMap<String, String> attrs = parseAttributes(reader, symbols);
 
       // parse children or content
-      ImmutableList.Builder<XmlElement> childBuilder = ImmutableList.builder();
+      ImmutableList.Builder<XmlElement> childBuilder = null;
       String content = "";
       int event = reader.next();
       while (event != XMLStreamConstants.END_ELEMENT) {
         switch (event) {
           // parse child when start element found
           case XMLStreamConstants.START_ELEMENT:
-            childBuilder.add(parse(reader, refAttr, refs));
+            if (childBuilder == null) {
+              childBuilder = ImmutableList.builder();
+            }
+            childBuilder.add(parse(reader, refAttr, refs, symbols));
             break;
-          // append content when characters found
+          // append content when characters found, unless there are children
           // since XMLStreamReader has IS_COALESCING=true means there should only be one content call
           case XMLStreamConstants.CHARACTERS:
           case XMLStreamConstants.CDATA:
-            content += reader.getText();
+            if (childBuilder == null) {
+              content = content.isEmpty() ? reader.getText() : content + reader.getText();
+            }
             break;
           default:
             break;
         }
         event = reader.next();
       }
-      ImmutableList<XmlElement> children = childBuilder.build();
-      XmlElement parsed = children.isEmpty() ?
-          XmlElement.ofContent(elementName, attrs, content) :
-          XmlElement.ofChildren(elementName, attrs, children);
+      XmlElement parsed = childBuilder == null ?
+          XmlElement.ofContent(elementName, attrs, symbols.value(content)) :
+          XmlElement.ofChildren(elementName, attrs, childBuilder.build());
       String ref = attrs.get(refAttr);
       if (ref != null) {
         refs.put(ref, parsed);
@@ -168,8 +240,8 @@ public final class XmlFile {
     return reader.getLocalName();
   }
 
-  // parses attributes into a map
-  private static ImmutableMap<String, String> parseAttributes(XMLStreamReader reader) {
+  // parses attributes into a map, shared using the symbol table
+  private static ImmutableMap<String, String> parseAttributes(XMLStreamReader reader, SymbolTable symbols) {
     ImmutableMap<String, String> attrs;
     int attributeCount = reader.getAttributeCount() + reader.getNamespaceCount();
     if (attributeCount == 0) {
@@ -177,13 +249,60 @@ public final class XmlFile {
     } else {
       ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
       for (int i = 0; i < reader.getAttributeCount(); i++) {
-        builder.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        builder.put(symbols.name(reader.getAttributeLocalName(i)), symbols.value(reader.getAttributeValue(i)));
       }
-      attrs = builder.build();
+      attrs = symbols.attributes(builder.build());
     }
     return attrs;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * The symbol table used when parsing a single file.
+   * <p>
+   * This ensures that equal names, short values and attribute maps are represented by the same instance.
+   * The table is bounded, thus a file with many distinct values does not cause it to grow without limit.
+   */
+  private static final class SymbolTable {
+    // the maximum number of entries in each map
+    private static final int MAX_SIZE = 10_000;
+    // the maximum length of a value to be shared, longer values are rarely repeated
+    private static final int MAX_VALUE_LENGTH = 32;
+
+    private final Map<String, String> strings = new HashMap<>();
+    private final Map<ImmutableMap<String, String>, ImmutableMap<String, String>> attributes = new HashMap<>();
+
+    // shares an element or attribute name
+    private String name(String name) {
+      return share(strings, name);
+    }
+
+    // shares a short value, such as an attribute value or the content of an element
+    private String value(String value) {
+      if (value.isEmpty()) {
+        return "";
+      }
+      return value.length() <= MAX_VALUE_LENGTH ? share(strings, value) : value;
+    }
+
+    // shares a map of attributes
+    private ImmutableMap<String, String> attributes(ImmutableMap<String, String> attrs) {
+      return share(attributes, attrs);
+    }
+
+    // finds the existing instance, adding the specified instance if absent and there is space
+    private static <T> T share(Map<T, T> map, T value) {
+      T existing = map.get(value);
+      if (existing != null) {
+        return existing;
+      }
+      if (map.size() < MAX_SIZE) {
+        map.put(value, value);
+      }
+      return value;
+    }
+  }
+
   //-------------------------------------------------------------------------
   // creates the XML input factory, recreated each time to avoid JDK-8028111
   // this also provides some protection against hackers attacking XML
@@ -272,6 +272,25 @@ final class DenseLocalDateDoubleTimeSeries
     return OptionalDouble.empty();
   }
 
+  @Override
+  public int getInto(LocalDate[] dates, double[] out) {
+    ArgChecker.isTrue(out.length >= dates.length, "Output array must be at least as long as the array of dates");
+    int found = 0;
+    for (int i = 0; i < dates.length; i++) {
+      LocalDate date = dates[i];
+      double value = Double.NaN;
+      if (!date.isBefore(startDate) && dateCalculation.allowsDate(date)) {
+        int position = dateCalculation.calculatePosition(startDate, date);
+        if (position < points.length) {
+          value = points[position];
+        }
+      }
+      out[i] = value;
+      found += isValidPoint(value) ? 1 : 0;
+    }
+    return found;
+  }
+
   //-------------------------------------------------------------------------
   private IntStream reversedValidIndices() {
     // As there is no way of constructing an IntStream from
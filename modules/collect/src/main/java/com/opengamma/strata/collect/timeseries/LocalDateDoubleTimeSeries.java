@@ -123,6 +123,32 @@ public interface LocalDateDoubleTimeSeries {
    */
   public abstract OptionalDouble get(LocalDate date);
 
+  /**
+   * Gets the values associated with the specified dates, storing them in an array.
+   * <p>
+   * This is equivalent to calling {@link #get(LocalDate)} for each date, without the
+   * overhead of creating an optional for each value.
+   * If there is no value associated with a date, {@link Double#NaN} is stored.
+   * <p>
+   * The dates are typically in ascending order, such as the fixing dates of a period.
+   * Implementations may take advantage of this to find a run of dates efficiently.
+   *
+   * @param dates  the dates to get the values for
+   * @param out  the array to store the values in, at least as long as the array of dates
+   * @return the number of dates that have an associated value
+   * @throws IllegalArgumentException if the output array is too small
+   */
+  public default int getInto(LocalDate[] dates, double[] out) {
+    ArgChecker.isTrue(out.length >= dates.length, "Output array must be at least as long as the array of dates");
+    int found = 0;
+    for (int i = 0; i < dates.length; i++) {
+      OptionalDouble value = get(dates[i]);
+      out[i] = value.orElse(Double.NaN);
+      found += value.isPresent() ? 1 : 0;
+    }
+    return found;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Get the earliest date contained in this time-series.
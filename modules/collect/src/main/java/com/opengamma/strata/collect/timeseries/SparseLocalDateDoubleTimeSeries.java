@@ -185,6 +185,39 @@ final class SparseLocalDateDoubleTimeSeries
     return (position >= 0 ? OptionalDouble.of(values[position]) : OptionalDouble.empty());
   }
 
+  @Override
+  public int getInto(LocalDate[] requestedDates, double[] out) {
+    ArgChecker.isTrue(
+        out.length >= requestedDates.length, "Output array must be at least as long as the array of dates");
+    // walk the dates with a cursor, which is fast when the requested dates are ascending
+    // and match consecutive entries, as is the case for the fixings of a period
+    int found = 0;
+    int cursor = 0;
+    LocalDate previous = null;
+    for (int i = 0; i < requestedDates.length; i++) {
+      LocalDate date = requestedDates[i];
+      if (previous != null && date.isBefore(previous)) {
+        cursor = 0;
+      }
+      previous = date;
+      int position;
+      if (cursor < dates.length && dates[cursor].equals(date)) {
+        position = cursor;
+      } else {
+        position = Arrays.binarySearch(dates, cursor, dates.length, date);
+      }
+      if (position >= 0) {
+        out[i] = values[position];
+        cursor = position + 1;
+        found++;
+      } else {
+        out[i] = Double.NaN;
+        cursor = -position - 1;
+      }
+    }
+    return found;
+  }
+
   private int findDatePosition(LocalDate date) {
     return Arrays.binarySearch(dates, date);
   }
@@ -9,10 +9,12 @@ import static com.opengamma.strata.collect.TestHelper.assertThrows;
 import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
 
 import java.io.File;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -56,6 +58,12 @@ public class XmlFileTest {
       " <h:p>Some text</h:p>" +
       " <leaf1 h:foo='bla' og='strata'>leaf</leaf1>" +
       "</base>";
+  private static final String SAMPLE_REPEATED = "" +
+      "<?xml version=\"1.0\" encoding=\"utf-8\"?>" +
+      "<base>" +
+      " <trade type=\"swap\" ccy=\"GBP\"><notional>100</notional><note>a</note></trade>" +
+      " <trade type=\"swap\" ccy=\"GBP\"><notional>100</notional><note>b</note></trade>" +
+      "</base>";
 
   private static final Map<String, String> ATTR_MAP_EMPTY = ImmutableMap.of();
   private static final Map<String, String> ATTR_MAP = ImmutableMap.of("key", "value", "og", "strata");
@@ -130,6 +138,61 @@ public class XmlFileTest {
     assertThrows(() -> XmlFile.of(source, "key"), UncheckedIOException.class);
   }
 
+  //-------------------------------------------------------------------------
+  public void test_parseElements() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    List<XmlFile> parsed = new ArrayList<>();
+    XmlFile.parseElements(source, "key", name -> name.startsWith("leaf"), parsed::add);
+    assertEquals(parsed.size(), 3);
+    assertEquals(parsed.get(0).getRoot(), LEAF1);
+    assertEquals(parsed.get(1).getRoot(), LEAF2A);
+    assertEquals(parsed.get(2).getRoot(), LEAF2B);
+    assertEquals(parsed.get(0).getReferences(), ImmutableMap.of());
+  }
+
+  public void test_parseElements_nestedAndReferences() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    List<XmlFile> parsed = new ArrayList<>();
+    XmlFile.parseElements(source, "key", name -> name.equals("test") || name.equals("leaf1"), parsed::add);
+    assertEquals(parsed.size(), 1);
+    XmlElement root = parsed.get(0).getRoot();
+    assertEquals(root, XmlElement.ofChildren("test", ATTR_MAP, CHILD_LIST_MULTI));
+    assertEquals(parsed.get(0).getReferences(), ImmutableMap.of("value", root));
+  }
+
+  public void test_parseElements_invalid() {
+    ByteSource source = ByteSource.wrap(SAMPLE_MISMATCHED_TAGS.getBytes(StandardCharsets.UTF_8));
+    assertThrowsIllegalArg(() -> XmlFile.parseElements(source, "key", name -> false, file -> {}));
+    ByteSource missing = Files.asByteSource(new File("/oh-dear-no-such-file"));
+    assertThrows(() -> XmlFile.parseElements(missing, "key", name -> true, file -> {}), UncheckedIOException.class);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_of_ByteSource_sharedSymbols() {
+    ByteSource source = ByteSource.wrap(SAMPLE_REPEATED.getBytes(StandardCharsets.UTF_8));
+    XmlFile test = XmlFile.of(source);
+    XmlElement trade1 = test.getRoot().getChild(0);
+    XmlElement trade2 = test.getRoot().getChild(1);
+    assertEquals(trade1.getAttributes(), ImmutableMap.of("type", "swap", "ccy", "GBP"));
+    assertEquals(trade1.getChild(1).getContent(), "a");
+    assertEquals(trade2.getChild(1).getContent(), "b");
+    assertSame(trade1.getName(), trade2.getName());
+    assertSame(trade1.getAttributes(), trade2.getAttributes());
+    assertSame(trade1.getChild(0).getName(), trade2.getChild(0).getName());
+    assertSame(trade1.getChild(0).getContent(), trade2.getChild(0).getContent());
+  }
+
+  public void test_parseElements_sharedSymbols() {
+    ByteSource source = ByteSource.wrap(SAMPLE_REPEATED.getBytes(StandardCharsets.UTF_8));
+    List<XmlFile> parsed = new ArrayList<>();
+    XmlFile.parseElements(source, "id", name -> name.equals("trade"), parsed::add);
+    assertEquals(parsed.size(), 2);
+    XmlElement trade1 = parsed.get(0).getRoot();
+    XmlElement trade2 = parsed.get(1).getRoot();
+    assertSame(trade1.getAttributes(), trade2.getAttributes());
+    assertSame(trade1.getChild(0).getContent(), trade2.getChild(0).getContent());
+  }
+
   //-------------------------------------------------------------------------
   public void test_equalsHashCodeToString() {
     ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
@@ -208,6 +208,28 @@ public class DenseLocalDateDoubleTimeSeriesTest {
     assertEquals(test.values().toArray(), new double[] {2d, 3d});
   }
 
+  //-------------------------------------------------------------------------
+  public void test_getInto() {
+    LocalDateDoubleTimeSeries test =
+        LocalDateDoubleTimeSeries.builder().putAll(DATES_2015_1_WEEK, VALUES_1_WEEK).build();
+    assertEquals(test.getClass(), DenseLocalDateDoubleTimeSeries.class);
+    LocalDate[] dates = {DATE_2015_01_02, DATE_2015_01_03, DATE_2015_01_05, DATE_2015_01_06, DATE_2015_01_12};
+    double[] out = new double[6];
+    assertEquals(test.getInto(dates, out), 2);
+    assertEquals(out[0], Double.NaN);
+    assertEquals(out[1], Double.NaN);
+    assertEquals(out[2], 10d);
+    assertEquals(out[3], 11d);
+    assertEquals(out[4], Double.NaN);
+    assertEquals(out[5], 0d);
+  }
+
+  public void test_getInto_outputTooSmall() {
+    LocalDateDoubleTimeSeries test =
+        LocalDateDoubleTimeSeries.builder().putAll(DATES_2015_1_WEEK, VALUES_1_WEEK).build();
+    assertThrowsIllegalArg(() -> test.getInto(new LocalDate[] {DATE_2015_01_05, DATE_2015_01_06}, new double[1]));
+  }
+
   @Test(expectedExceptions = IllegalArgumentException.class)
   public void test_of_map_null() {
 
@@ -200,6 +200,29 @@ public class SparseLocalDateDoubleTimeSeriesTest {
     assertEquals(test.values().toArray(), new double[] {2d, 3d});
   }
 
+  //-------------------------------------------------------------------------
+  public void test_getInto() {
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeries.builder().putAll(DATES_2010_14, VALUES_10_14).build();
+    LocalDate[] dates = {
+        DATE_2010_01_01, DATE_2011_01_01, DATE_2011_06_01, DATE_2012_01_01, DATE_2014_01_01, DATE_2010_01_01,
+        DATE_2015_06_01};
+    double[] out = new double[dates.length];
+    assertEquals(test.getInto(dates, out), 5);
+    assertEquals(out, new double[] {10d, 11d, Double.NaN, 12d, 14d, 10d, Double.NaN});
+  }
+
+  public void test_getInto_empty() {
+    LocalDate[] dates = {DATE_2010_01_01};
+    double[] out = new double[1];
+    assertEquals(LocalDateDoubleTimeSeries.empty().getInto(dates, out), 0);
+    assertEquals(out[0], Double.NaN);
+  }
+
+  public void test_getInto_outputTooSmall() {
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeries.builder().putAll(DATES_2010_14, VALUES_10_14).build();
+    assertThrowsIllegalArg(() -> test.getInto(new LocalDate[] {DATE_2010_01_01, DATE_2011_01_01}, new double[1]));
+  }
+
   public void test_of_collection_collectionNull() {
     assertThrowsIllegalArg(() -> LocalDateDoubleTimeSeries.builder()
         .putAll(((List<LocalDateDoublePoint>) null))
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * A provider of FX rates for scenarios that holds the rates in dense arrays.
+ * <p>
+ * Each currency that is used is assigned an index on first use, and the rates for a currency pair
+ * are held in a column containing the rate for every scenario. The column is obtained from the
+ * underlying provider the first time the pair is requested, which performs any triangulation.
+ * Subsequent requests find the rate by index, without any map lookups.
+ * <p>
+ * This is effective when converting many amounts into a small number of reporting currencies.
+ * <p>
+ * This class is thread-safe. The tables are replaced on write, so reads do not lock.
+ */
+final class IndexedScenarioFxRateProvider
+    implements ScenarioFxRateProvider, Serializable {
+
+  /** Serialization version. */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The underlying provider.
+   */
+  private final ScenarioFxRateProvider underlying;
+  /**
+   * The number of scenarios.
+   */
+  private final int scenarioCount;
+  /**
+   * The table of rates, replaced when a new pair is added.
+   */
+  private transient volatile Table table = Table.EMPTY;
+
+  // creates an instance
+  IndexedScenarioFxRateProvider(ScenarioFxRateProvider underlying) {
+    this.underlying = underlying;
+    this.scenarioCount = underlying.getScenarioCount();
+  }
+
+  // ensure the table is initialized after deserialization
+  private Object readResolve() {
+    return new IndexedScenarioFxRateProvider(underlying);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int getScenarioCount() {
+    return scenarioCount;
+  }
+
+  @Override
+  public double fxRate(Currency baseCurrency, Currency counterCurrency, int scenarioIndex) {
+    if (baseCurrency.equals(counterCurrency)) {
+      return 1;
+    }
+    return rates(baseCurrency, counterCurrency)[scenarioIndex];
+  }
+
+  @Override
+  public DoubleArray fxRates(Currency baseCurrency, Currency counterCurrency) {
+    if (baseCurrency.equals(counterCurrency)) {
+      return DoubleArray.filled(scenarioCount, 1);
+    }
+    // the column is never altered once published
+    return DoubleArray.ofUnsafe(rates(baseCurrency, counterCurrency));
+  }
+
+  @Override
+  public FxRateProvider fxRateProvider(int scenarioIndex) {
+    return (baseCurrency, counterCurrency) -> fxRate(baseCurrency, counterCurrency, scenarioIndex);
+  }
+
+  //-------------------------------------------------------------------------
+  // finds the rates by index, querying the underlying provider if not found
+  private double[] rates(Currency baseCurrency, Currency counterCurrency) {
+    double[] rates = table.find(baseCurrency, counterCurrency);
+    if (rates != null) {
+      return rates;
+    }
+    double[] queried = new double[scenarioCount];
+    for (int i = 0; i < scenarioCount; i++) {
+      queried[i] = underlying.fxRate(baseCurrency, counterCurrency, i);
+    }
+    synchronized (this) {
+      table = table.with(baseCurrency, counterCurrency, queried);
+    }
+    return queried;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "IndexedScenarioFxRateProvider[" + underlying + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * An immutable table of rates, indexed by currency.
+   */
+  private static final class Table {
+
+    private static final Table EMPTY = new Table(new Currency[0], new double[0][][]);
+
+    // the currencies, the position in the array is the index
+    private final Currency[] currencies;
+    // the rates, indexed by base and counter currency, then by scenario
+    private final double[][][] rates;
+
+    private Table(Currency[] currencies, double[][][] rates) {
+      this.currencies = currencies;
+      this.rates = rates;
+    }
+
+    // finds the index of the currency, -1 if not found
+    private int indexOf(Currency currency) {
+      for (int i = 0; i < currencies.length; i++) {
+        if (currencies[i] == currency || currencies[i].equals(currency)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    // finds the rates, null if not found
+    private double[] find(Currency baseCurrency, Currency counterCurrency) {
+      int baseIndex = indexOf(baseCurrency);
+      if (baseIndex < 0) {
+        return null;
+      }
+      int counterIndex = indexOf(counterCurrency);
+      if (counterIndex < 0) {
+        return null;
+      }
+      return rates[baseIndex][counterIndex];
+    }
+
+    // returns a new table with the rates added
+    private Table with(Currency baseCurrency, Currency counterCurrency, double[] pairRates) {
+      Currency[] newCurrencies = currencies;
+      if (indexOf(baseCurrency) < 0) {
+        newCurrencies = append(newCurrencies, baseCurrency);
+      }
+      if (indexOf(counterCurrency) < 0 && !baseCurrency.equals(counterCurrency)) {
+        newCurrencies = append(newCurrencies, counterCurrency);
+      }
+      int size = newCurrencies.length;
+      double[][][] newRates = new double[size][][];
+      for (int i = 0; i < size; i++) {
+        newRates[i] = i < rates.length ? Arrays.copyOf(rates[i], size) : new double[size][];
+      }
+      Table newTable = new Table(newCurrencies, newRates);
+      newRates[newTable.indexOf(baseCurrency)][newTable.indexOf(counterCurrency)] = pairRates;
+      return newTable;
+    }
+
+    // appends the currency
+    private static Currency[] append(Currency[] currencies, Currency currency) {
+      Currency[] result = Arrays.copyOf(currencies, currencies.length + 1);
+      result[currencies.length] = currency;
+      return result;
+    }
+  }
+
+}
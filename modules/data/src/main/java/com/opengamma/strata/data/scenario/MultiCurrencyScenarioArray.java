@@ -190,18 +190,7 @@ public final class MultiCurrencyScenarioArray
       throw new IllegalArgumentException(Messages.format(
           "Expected {} FX rates but received {}", size, fxRateProvider.getScenarioCount()));
     }
-
-    double[] singleCurrencyValues = new double[size];
-    for (Map.Entry<Currency, DoubleArray> entry : amounts.getValues().entrySet()) {
-      Currency currency = entry.getKey();
-      DoubleArray currencyValues = entry.getValue();
-
-      for (int i = 0; i < size; i++) {
-        double convertedValue = currencyValues.get(i) * fxRateProvider.fxRate(currency, reportingCurrency, i);
-        singleCurrencyValues[i] += convertedValue;
-      }
-    }
-    return CurrencyScenarioArray.of(reportingCurrency, DoubleArray.ofUnsafe(singleCurrencyValues));
+    return CurrencyScenarioArray.of(fxRateProvider.convert(amounts, reportingCurrency));
   }
 
   /**
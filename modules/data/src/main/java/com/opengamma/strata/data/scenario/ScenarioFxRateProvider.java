@@ -6,7 +6,11 @@
 package com.opengamma.strata.data.scenario;
 
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmountArray;
 import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmountArray;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.ObservableSource;
 
 /**
@@ -23,12 +27,14 @@ public interface ScenarioFxRateProvider {
 
   /**
    * Returns a scenario FX rate provider which takes its data from the provided market data.
+   * <p>
+   * The rates for each currency pair are found once, for all scenarios, and then held by index.
    *
    * @param marketData  market data containing FX rates
    * @return a scenario FX rate provider which takes its data from the provided market data
    */
   public static ScenarioFxRateProvider of(ScenarioMarketData marketData) {
-    return new DefaultScenarioFxRateProvider(marketData, ObservableSource.NONE);
+    return of(marketData, ObservableSource.NONE);
   }
 
   /**
@@ -39,7 +45,25 @@ public interface ScenarioFxRateProvider {
    * @return a scenario FX rate provider which takes its data from the provided market data
    */
   public static ScenarioFxRateProvider of(ScenarioMarketData marketData, ObservableSource source) {
-    return new DefaultScenarioFxRateProvider(marketData, source);
+    return indexed(new DefaultScenarioFxRateProvider(marketData, source));
+  }
+
+  /**
+   * Returns a scenario FX rate provider which holds the rates of the underlying provider by index.
+   * <p>
+   * The rates for each currency pair are obtained from the underlying provider the first time
+   * the pair is used, for all scenarios. Subsequent calls find the rates by index,
+   * which is effective when converting many amounts.
+   * The underlying provider must return the same rates each time it is called.
+   *
+   * @param underlying  the underlying provider of FX rates
+   * @return a scenario FX rate provider which holds the rates by index
+   */
+  public static ScenarioFxRateProvider indexed(ScenarioFxRateProvider underlying) {
+    if (underlying instanceof IndexedScenarioFxRateProvider) {
+      return underlying;
+    }
+    return new IndexedScenarioFxRateProvider(underlying);
   }
 
   /**
@@ -80,6 +104,56 @@ public interface ScenarioFxRateProvider {
     return fxRateProvider(scenarioIndex).fxRate(baseCurrency, counterCurrency);
   }
 
+  /**
+   * Gets the FX rates for the specified currency pair, one for each scenario.
+   * <p>
+   * The rates returned are the rates from the base currency to the counter currency
+   * as defined by this formula: {@code (1 * baseCurrency = fxRate * counterCurrency)}.
+   * 
+   * @param baseCurrency  the base currency, to convert from
+   * @param counterCurrency  the counter currency, to convert to
+   * @return the FX rates for the currency pair, indexed by scenario
+   * @throws RuntimeException if no FX rate could be found
+   */
+  public default DoubleArray fxRates(Currency baseCurrency, Currency counterCurrency) {
+    return DoubleArray.of(getScenarioCount(), i -> fxRate(baseCurrency, counterCurrency, i));
+  }
+
+  /**
+   * Converts an array of amounts, one for each scenario, to a single currency.
+   * <p>
+   * The amount at each index is converted using the FX rates of the scenario with the same index.
+   * The rates are obtained once for each currency in the array using {@link #fxRates(Currency, Currency)}.
+   * 
+   * @param amounts  the amounts, one for each scenario
+   * @param resultCurrency  the currency into which the amounts should be converted
+   * @return the converted amounts, one for each scenario
+   * @throws IllegalArgumentException if the size of the array does not match the number of scenarios
+   * @throws RuntimeException if no FX rate could be found
+   */
+  public default CurrencyAmountArray convert(MultiCurrencyAmountArray amounts, Currency resultCurrency) {
+    int size = getScenarioCount();
+    if (amounts.size() != size) {
+      throw new IllegalArgumentException(Messages.format(
+          "Expected {} FX rates but received {}", amounts.size(), size));
+    }
+    double[] converted = new double[size];
+    for (Currency currency : amounts.getCurrencies()) {
+      DoubleArray values = amounts.getValues(currency);
+      if (currency.equals(resultCurrency)) {
+        for (int i = 0; i < size; i++) {
+          converted[i] += values.get(i);
+        }
+      } else {
+        DoubleArray rates = fxRates(currency, resultCurrency);
+        for (int i = 0; i < size; i++) {
+          converted[i] += values.get(i) * rates.get(i);
+        }
+      }
+    }
+    return CurrencyAmountArray.of(resultCurrency, DoubleArray.ofUnsafe(converted));
+  }
+
   /**
    * Gets the FX rate provider for the specified scenario index.
    * 
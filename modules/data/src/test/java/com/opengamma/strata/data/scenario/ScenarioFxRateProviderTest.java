@@ -5,15 +5,24 @@
  */
 package com.opengamma.strata.data.scenario;
 
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmountArray;
 import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmountArray;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.FxRateId;
 import com.opengamma.strata.data.ObservableSource;
 
@@ -51,4 +60,62 @@ public class ScenarioFxRateProviderTest {
     assertThat(defaultRateProvider.fxRate(Currency.GBP, Currency.USD, 0)).isEqualTo(1.4d);
     assertThat(sourceRateProvider.fxRate(Currency.GBP, Currency.USD, 0)).isEqualTo(1.41d);
   }
+
+  //-------------------------------------------------------------------------
+  public void fxRates() {
+    ScenarioFxRateProvider test = ScenarioFxRateProvider.indexed(createProvider());
+    assertThat(test.getScenarioCount()).isEqualTo(3);
+    assertThat(test.fxRates(GBP, USD)).isEqualTo(DoubleArray.of(1.61, 1.62, 1.63));
+    assertThat(test.fxRates(GBP, GBP)).isEqualTo(DoubleArray.of(1, 1, 1));
+    assertThat(test.fxRate(EUR, USD, 2)).isEqualTo(1.13);
+    assertThat(test.fxRateProvider(2).fxRate(EUR, USD)).isEqualTo(1.13);
+    assertThat(ScenarioFxRateProvider.indexed(test)).isSameAs(test);
+  }
+
+  public void fxRates_queriedOnce() {
+    AtomicInteger count = new AtomicInteger();
+    ScenarioFxRateProvider underlying = createProvider();
+    ScenarioFxRateProvider counting = new ScenarioFxRateProvider() {
+      @Override
+      public int getScenarioCount() {
+        return underlying.getScenarioCount();
+      }
+
+      @Override
+      public FxRateProvider fxRateProvider(int scenarioIndex) {
+        count.incrementAndGet();
+        return underlying.fxRateProvider(scenarioIndex);
+      }
+    };
+    ScenarioFxRateProvider test = ScenarioFxRateProvider.indexed(counting);
+    for (int i = 0; i < 3; i++) {
+      assertThat(test.fxRate(GBP, USD, i)).isEqualTo(underlying.fxRate(GBP, USD, i));
+      assertThat(test.fxRate(EUR, USD, i)).isEqualTo(underlying.fxRate(EUR, USD, i));
+      assertThat(test.fxRate(GBP, USD, i)).isEqualTo(underlying.fxRate(GBP, USD, i));
+    }
+    assertThat(count.get()).isEqualTo(6);
+  }
+
+  public void convert_array() {
+    MultiCurrencyAmountArray amounts = MultiCurrencyAmountArray.of(ImmutableMap.of(
+        GBP, DoubleArray.of(10, 20, 30),
+        EUR, DoubleArray.of(1, 2, 3),
+        USD, DoubleArray.of(5, 5, 5)));
+    ScenarioFxRateProvider underlying = createProvider();
+    ScenarioFxRateProvider test = ScenarioFxRateProvider.indexed(underlying);
+    CurrencyAmountArray expected = CurrencyAmountArray.of(USD, DoubleArray.of(
+        10 * 1.61 + 1 * 1.11 + 5,
+        20 * 1.62 + 2 * 1.12 + 5,
+        30 * 1.63 + 3 * 1.13 + 5));
+    assertThat(test.convert(amounts, USD)).isEqualTo(expected);
+    assertThat(underlying.convert(amounts, USD)).isEqualTo(expected);
+    assertThat(amounts.convertedTo(USD, test.fxRateProvider(0)).get(0)).isEqualTo(expected.get(0));
+  }
+
+  private static ScenarioFxRateProvider createProvider() {
+    return new TestScenarioFxRateProvider(
+        FxRateScenarioArray.of(GBP, USD, DoubleArray.of(1.61, 1.62, 1.63)),
+        FxRateScenarioArray.of(EUR, USD, DoubleArray.of(1.11, 1.12, 1.13)));
+  }
+
 }
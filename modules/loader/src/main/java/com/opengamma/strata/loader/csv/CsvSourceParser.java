@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.csv;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.io.CharSource;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Parses a number of CSV character sources, optionally in parallel.
+ * <p>
+ * The time taken to parse each source is logged at level {@code FINE}.
+ * The results are returned in the order of the sources, thus the caller can merge them
+ * deterministically, exactly as if they had been parsed one at a time.
+ */
+final class CsvSourceParser {
+
+  /**
+   * The logger.
+   */
+  private static final Logger log = Logger.getLogger(CsvSourceParser.class.getName());
+
+  /**
+   * Parses each source on the calling thread.
+   *
+   * @param <T>  the type of the result of parsing a single source
+   * @param charSources  the CSV character sources
+   * @param parser  the parser of a single source
+   * @return the result of parsing each source, in the order of the sources
+   */
+  static <T> List<T> parseEach(Collection<CharSource> charSources, Function<CharSource, T> parser) {
+    List<T> results = new ArrayList<>(charSources.size());
+    for (CharSource charSource : charSources) {
+      results.add(timed(charSource, parser));
+    }
+    return results;
+  }
+
+  /**
+   * Parses each source using the executor.
+   * <p>
+   * Each source is read and parsed as a separate task.
+   * If more than one source fails, the exception of the first failing source is thrown.
+   *
+   * @param <T>  the type of the result of parsing a single source
+   * @param charSources  the CSV character sources
+   * @param executor  the executor used to parse each source
+   * @param parser  the parser of a single source
+   * @return the result of parsing each source, in the order of the sources
+   */
+  static <T> List<T> parseEach(
+      Collection<CharSource> charSources,
+      Executor executor,
+      Function<CharSource, T> parser) {
+
+    ArgChecker.notNull(executor, "executor");
+    List<CompletableFuture<T>> futures = new ArrayList<>(charSources.size());
+    for (CharSource charSource : charSources) {
+      futures.add(CompletableFuture.supplyAsync(() -> timed(charSource, parser), executor));
+    }
+    List<T> results = new ArrayList<>(futures.size());
+    for (CompletableFuture<T> future : futures) {
+      try {
+        results.add(future.join());
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) ex.getCause();
+        }
+        if (ex.getCause() instanceof Error) {
+          throw (Error) ex.getCause();
+        }
+        throw ex;
+      }
+    }
+    return results;
+  }
+
+  // parses a single source, logging the time taken
+  private static <T> T timed(CharSource charSource, Function<CharSource, T> parser) {
+    long start = System.nanoTime();
+    T result = parser.apply(charSource);
+    long millis = (System.nanoTime() - start) / 1_000_000;
+    log.log(Level.FINE, "Parsed CSV file in {0}ms: {1}", new Object[] {millis, charSource});
+    return result;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Restricted constructor.
+   */
+  private CsvSourceParser() {
+  }
+
+}
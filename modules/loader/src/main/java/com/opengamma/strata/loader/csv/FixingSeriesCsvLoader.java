@@ -11,7 +11,9 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.CharSource;
@@ -49,6 +51,9 @@ import com.opengamma.strata.market.observable.IndexQuoteId;
  * USD-LIBOR-3M, 1971-01-06, 0.0638
  * </pre>
  * Note that Microsoft Excel prefers the CSV file to have no space after the comma.
+ * <p>
+ * Where there are many resources, they may be parsed in parallel by passing an {@link Executor}.
+ * The result is the same as when the resources are parsed one at a time.
  */
 public final class FixingSeriesCsvLoader {
 
@@ -85,6 +90,27 @@ public final class FixingSeriesCsvLoader {
     return parse(charSources);
   }
 
+  /**
+   * Loads one or more CSV format fixing series files in parallel.
+   * <p>
+   * Each file is read and parsed as a separate task using the executor.
+   * The results are merged in the order of the resources.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   * 
+   * @param resources  the fixing series CSV resources
+   * @param executor  the executor used to parse each file
+   * @return the loaded fixing series, mapped by {@linkplain ObservableId observable ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> load(
+      Collection<ResourceLocator> resources,
+      Executor executor) {
+
+    Collection<CharSource> charSources = resources.stream().map(r -> r.getCharSource()).collect(toList());
+    return parse(charSources, executor);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Parses one or more CSV format fixing series files.
@@ -96,10 +122,37 @@ public final class FixingSeriesCsvLoader {
    * @throws IllegalArgumentException if the files contain a duplicate entry
    */
   public static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> parse(Collection<CharSource> charSources) {
+    return merge(CsvSourceParser.parseEach(charSources, FixingSeriesCsvLoader::parseSingle));
+  }
+
+  /**
+   * Parses one or more CSV format fixing series files in parallel.
+   * <p>
+   * Each file is read and parsed as a separate task using the executor.
+   * The results are merged in the order of the character sources.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   * 
+   * @param charSources  the fixing series CSV character sources
+   * @param executor  the executor used to parse each file
+   * @return the loaded fixing series, mapped by {@linkplain ObservableId observable ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> parse(
+      Collection<CharSource> charSources,
+      Executor executor) {
+
+    return merge(CsvSourceParser.parseEach(charSources, executor, FixingSeriesCsvLoader::parseSingle));
+  }
+
+  // merges the series parsed from each file
+  private static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> merge(
+      List<ImmutableMap<ObservableId, LocalDateDoubleTimeSeries>> parsed) {
+
     // builder ensures keys can only be seen once
     ImmutableMap.Builder<ObservableId, LocalDateDoubleTimeSeries> builder = ImmutableMap.builder();
-    for (CharSource charSource : charSources) {
-      builder.putAll(parseSingle(charSource));
+    for (ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> series : parsed) {
+      builder.putAll(series);
     }
     return builder.build();
   }
@@ -8,16 +8,21 @@ package com.opengamma.strata.loader.csv;
 import static java.util.stream.Collectors.toList;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
+import com.google.common.collect.Maps;
 import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.collect.Messages;
@@ -52,6 +57,9 @@ import com.opengamma.strata.market.observable.QuoteId;
  * 2014-01-22, OG-Future, CME-ED-Mar14, MarketValue, 99.620
  * </pre>
  * Note that Microsoft Excel prefers the CSV file to have no space after the comma.
+ * <p>
+ * Where there are many resources, they may be parsed in parallel by passing an {@link Executor}.
+ * The result is the same as when the resources are parsed one at a time.
  */
 public final class QuotesCsvLoader {
 
@@ -170,6 +178,28 @@ public final class QuotesCsvLoader {
     return parse(d -> true, charSources);
   }
 
+  /**
+   * Loads one or more CSV format quote files in parallel.
+   * <p>
+   * All dates that are found will be returned.
+   * Each file is read and parsed as a separate task using the executor.
+   * The results are merged in the order of the resources.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   * 
+   * @param resources  the CSV resources
+   * @param executor  the executor used to parse each file
+   * @return the loaded quotes, mapped by {@link LocalDate} and {@linkplain QuoteId quote ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<LocalDate, ImmutableMap<QuoteId, Double>> loadAllDates(
+      Collection<ResourceLocator> resources,
+      Executor executor) {
+
+    Collection<CharSource> charSources = resources.stream().map(r -> r.getCharSource()).collect(toList());
+    return parse(d -> true, charSources, executor);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Parses one or more CSV format quote files.
@@ -188,10 +218,47 @@ public final class QuotesCsvLoader {
       Predicate<LocalDate> datePredicate,
       Collection<CharSource> charSources) {
 
+    return merge(CsvSourceParser.parseEach(charSources, charSource -> parseSingle(datePredicate, charSource)));
+  }
+
+  /**
+   * Parses one or more CSV format quote files in parallel.
+   * <p>
+   * A predicate is specified that is used to filter the dates that are returned.
+   * This could match a single date, a set of dates or all dates.
+   * Each file is read and parsed as a separate task using the executor.
+   * The results are merged in the order of the character sources.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   * 
+   * @param datePredicate  the predicate used to select the dates
+   * @param charSources  the CSV character sources
+   * @param executor  the executor used to parse each file
+   * @return the loaded quotes, mapped by {@link LocalDate} and {@linkplain QuoteId quote ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<LocalDate, ImmutableMap<QuoteId, Double>> parse(
+      Predicate<LocalDate> datePredicate,
+      Collection<CharSource> charSources,
+      Executor executor) {
+
+    Function<CharSource, Map<LocalDate, List<Entry<QuoteId, Double>>>> parser =
+        charSource -> parseSingle(datePredicate, charSource);
+    return merge(CsvSourceParser.parseEach(charSources, executor, parser));
+  }
+
+  // merges the quotes parsed from each file
+  private static ImmutableMap<LocalDate, ImmutableMap<QuoteId, Double>> merge(
+      List<Map<LocalDate, List<Entry<QuoteId, Double>>>> parsed) {
+
     // builder ensures keys can only be seen once
     Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> mutableMap = new HashMap<>();
-    for (CharSource charSource : charSources) {
-      parseSingle(datePredicate, charSource, mutableMap);
+    for (Map<LocalDate, List<Entry<QuoteId, Double>>> fileQuotes : parsed) {
+      for (Entry<LocalDate, List<Entry<QuoteId, Double>>> entry : fileQuotes.entrySet()) {
+        ImmutableMap.Builder<QuoteId, Double> builderForDate =
+            mutableMap.computeIfAbsent(entry.getKey(), k -> ImmutableMap.builder());
+        builderForDate.putAll(entry.getValue());
+      }
     }
     ImmutableMap.Builder<LocalDate, ImmutableMap<QuoteId, Double>> builder = ImmutableMap.builder();
     for (Entry<LocalDate, Builder<QuoteId, Double>> entry : mutableMap.entrySet()) {
@@ -201,11 +268,11 @@ public final class QuotesCsvLoader {
   }
 
   // loads a single CSV file, filtering by date
-  private static void parseSingle(
+  private static Map<LocalDate, List<Entry<QuoteId, Double>>> parseSingle(
       Predicate<LocalDate> datePredicate,
-      CharSource resource,
-      Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> mutableMap) {
+      CharSource resource) {
 
+    Map<LocalDate, List<Entry<QuoteId, Double>>> mutableMap = new HashMap<>();
     try {
       CsvFile csv = CsvFile.of(resource, true);
       for (CsvRow row : csv.rows()) {
@@ -221,14 +288,15 @@ public final class QuotesCsvLoader {
           StandardId id = StandardId.of(symbologyStr, tickerStr);
           FieldName fieldName = fieldNameStr.isEmpty() ? FieldName.MARKET_VALUE : FieldName.of(fieldNameStr);
 
-          ImmutableMap.Builder<QuoteId, Double> builderForDate = mutableMap.computeIfAbsent(date, k -> ImmutableMap.builder());
-          builderForDate.put(QuoteId.of(id, fieldName), value);
+          List<Entry<QuoteId, Double>> quotesForDate = mutableMap.computeIfAbsent(date, k -> new ArrayList<>());
+          quotesForDate.add(Maps.immutableEntry(QuoteId.of(id, fieldName), value));
         }
       }
     } catch (RuntimeException ex) {
       throw new IllegalArgumentException(
           Messages.format("Error processing resource as CSV file: {}", resource), ex);
     }
+    return mutableMap;
   }
 
   //-------------------------------------------------------------------------
@@ -20,6 +20,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -29,6 +31,7 @@ import com.google.common.io.CharSource;
 import com.google.common.math.DoubleMath;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.io.CsvFile;
 import com.opengamma.strata.collect.io.CsvRow;
@@ -129,6 +132,9 @@ import com.opengamma.strata.product.swap.type.XCcyIborIborSwapTemplate;
  * <p>
  * Each curve must be contained entirely within a single file, but each file may contain more than
  * one curve. The curve points do not need to be ordered.
+ * <p>
+ * Where there are many curve node resources, they may be parsed in parallel by passing an {@link Executor}.
+ * The result is the same as when the resources are parsed one at a time.
  */
 public final class RatesCalibrationCsvLoader {
 
@@ -202,6 +208,31 @@ public final class RatesCalibrationCsvLoader {
     return parse(groupsResource.getCharSource(), settingsResource.getCharSource(), curveNodeCharSources);
   }
 
+  /**
+   * Loads one or more CSV format curve calibration files in parallel.
+   * <p>
+   * Each curve node file is read and parsed as a separate task using the executor.
+   * The results are merged in the order of the resources.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   * 
+   * @param groupsResource  the curve groups CSV resource
+   * @param settingsResource  the curve settings CSV resource
+   * @param curveNodeResources  the CSV resources for curve nodes
+   * @param executor  the executor used to parse each curve node file
+   * @return the group definitions, mapped by name
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<CurveGroupName, CurveGroupDefinition> load(
+      ResourceLocator groupsResource,
+      ResourceLocator settingsResource,
+      Collection<ResourceLocator> curveNodeResources,
+      Executor executor) {
+
+    Collection<CharSource> curveNodeCharSources = curveNodeResources.stream().map(r -> r.getCharSource()).collect(toList());
+    return parse(groupsResource.getCharSource(), settingsResource.getCharSource(), curveNodeCharSources, executor);
+  }
+
   /**
    * Loads one or more CSV format curve calibration files with seasonality.
    * <p>
@@ -245,7 +276,32 @@ public final class RatesCalibrationCsvLoader {
       CharSource settingsCharSource,
       Collection<CharSource> curveNodeCharSources) {
 
-    return parse0(groupsCharSource, settingsCharSource, ImmutableMap.of(), curveNodeCharSources);
+    return parse0(groupsCharSource, settingsCharSource, ImmutableMap.of(), curveNodeCharSources, null);
+  }
+
+  /**
+   * Parses one or more CSV format curve calibration files in parallel.
+   * <p>
+   * Each curve node file is read and parsed as a separate task using the executor.
+   * The results are merged in the order of the character sources.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   * 
+   * @param groupsCharSource  the curve groups CSV character source
+   * @param settingsCharSource  the curve settings CSV character source
+   * @param curveNodeCharSources  the CSV character sources for curve nodes
+   * @param executor  the executor used to parse each curve node file
+   * @return the group definitions, mapped by name
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<CurveGroupName, CurveGroupDefinition> parse(
+      CharSource groupsCharSource,
+      CharSource settingsCharSource,
+      Collection<CharSource> curveNodeCharSources,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    return parse0(groupsCharSource, settingsCharSource, ImmutableMap.of(), curveNodeCharSources, executor);
   }
 
   /**
@@ -268,23 +324,28 @@ public final class RatesCalibrationCsvLoader {
 
     Map<CurveName, SeasonalityDefinition> seasonality =
         SeasonalityDefinitionCsvLoader.parseSeasonalityDefinitions(seasonalityResource);
-    return parse0(groupsCharSource, settingsCharSource, seasonality, curveNodeCharSources);
+    return parse0(groupsCharSource, settingsCharSource, seasonality, curveNodeCharSources, null);
   }
 
-  // parse based on pre-parsed seasonality
+  // parse based on pre-parsed seasonality, using the executor if not null
   private static ImmutableMap<CurveGroupName, CurveGroupDefinition> parse0(
       CharSource groupsCharSource,
       CharSource settingsCharSource,
       Map<CurveName, SeasonalityDefinition> seasonality,
-      Collection<CharSource> curveNodeCharSources) {
+      Collection<CharSource> curveNodeCharSources,
+      Executor executor) {
 
     // load curve groups and settings
     List<CurveGroupDefinition> curveGroups = CurveGroupDefinitionCsvLoader.parseCurveGroupDefinitions(groupsCharSource);
     Map<CurveName, LoadedCurveSettings> settingsMap = RatesCurvesCsvLoader.parseCurveSettings(settingsCharSource);
 
     // load curve definitions
-    List<CurveDefinition> curveDefinitions = curveNodeCharSources.stream()
-        .flatMap(res -> parseSingle(res, settingsMap).stream())
+    Function<CharSource, List<CurveDefinition>> parser = res -> parseSingle(res, settingsMap);
+    List<List<CurveDefinition>> parsed = executor != null ?
+        CsvSourceParser.parseEach(curveNodeCharSources, executor, parser) :
+        CsvSourceParser.parseEach(curveNodeCharSources, parser);
+    List<CurveDefinition> curveDefinitions = parsed.stream()
+        .flatMap(List::stream)
         .collect(toImmutableList());
 
     // Add the curve definitions to the curve group definitions
@@ -27,6 +27,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import com.google.common.collect.BiMap;
@@ -97,6 +99,9 @@ import com.opengamma.strata.market.param.DatedParameterMetadata;
  * <p>
  * Each curve must be contained entirely within a single file, but each file may contain more than
  * one curve. The curve points do not need to be ordered.
+ * <p>
+ * Where there are many curve value resources, they may be parsed in parallel by passing an {@link Executor}.
+ * The result is the same as when the resources are parsed one at a time.
  */
 public final class RatesCurvesCsvLoader {
 
@@ -182,6 +187,32 @@ public final class RatesCurvesCsvLoader {
     return parse(d -> true, groupsResource.getCharSource(), settingsResource.getCharSource(), curveCharSources);
   }
 
+  /**
+   * Loads one or more CSV format curve files for all available dates in parallel.
+   * <p>
+   * Each curve values file is read and parsed as a separate task using the executor.
+   * The results are merged in the order of the resources.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   *
+   * @param groupsResource  the curve groups CSV resource
+   * @param settingsResource  the curve settings CSV resource
+   * @param curveValueResources  the CSV resources for curves
+   * @param executor  the executor used to parse each curve values file
+   * @return the loaded curves, mapped by date and identifier
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableListMultimap<LocalDate, CurveGroup> loadAllDates(
+      ResourceLocator groupsResource,
+      ResourceLocator settingsResource,
+      Collection<ResourceLocator> curveValueResources,
+      Executor executor) {
+
+    Collection<CharSource> curveCharSources = curveValueResources.stream().map(r -> r.getCharSource()).collect(toList());
+    return parse(
+        d -> true, groupsResource.getCharSource(), settingsResource.getCharSource(), curveCharSources, executor);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Parses one or more CSV format curve files for all available dates.
@@ -204,9 +235,49 @@ public final class RatesCurvesCsvLoader {
       CharSource settingsCharSource,
       Collection<CharSource> curveValueCharSources) {
 
+    return parse0(datePredicate, groupsCharSource, settingsCharSource, curveValueCharSources, null);
+  }
+
+  /**
+   * Parses one or more CSV format curve files for all available dates in parallel.
+   * <p>
+   * A predicate is specified that is used to filter the dates that are returned.
+   * This could match a single date, a set of dates or all dates.
+   * Each curve values file is read and parsed as a separate task using the executor.
+   * The results are merged in the order of the character sources.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   *
+   * @param datePredicate  the predicate used to select the dates
+   * @param groupsCharSource  the curve groups CSV character source
+   * @param settingsCharSource  the curve settings CSV character source
+   * @param curveValueCharSources  the CSV character sources for curves
+   * @param executor  the executor used to parse each curve values file
+   * @return the loaded curves, mapped by date and identifier
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableListMultimap<LocalDate, CurveGroup> parse(
+      Predicate<LocalDate> datePredicate,
+      CharSource groupsCharSource,
+      CharSource settingsCharSource,
+      Collection<CharSource> curveValueCharSources,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    return parse0(datePredicate, groupsCharSource, settingsCharSource, curveValueCharSources, executor);
+  }
+
+  // parses the curves, using the executor if not null
+  private static ImmutableListMultimap<LocalDate, CurveGroup> parse0(
+      Predicate<LocalDate> datePredicate,
+      CharSource groupsCharSource,
+      CharSource settingsCharSource,
+      Collection<CharSource> curveValueCharSources,
+      Executor executor) {
+
     List<CurveGroupDefinition> curveGroups = CurveGroupDefinitionCsvLoader.parseCurveGroupDefinitions(groupsCharSource);
     Map<LocalDate, Map<CurveName, Curve>> curves =
-        parseCurves(datePredicate, settingsCharSource, curveValueCharSources);
+        parseCurves(datePredicate, settingsCharSource, curveValueCharSources, executor);
     ImmutableListMultimap.Builder<LocalDate, CurveGroup> builder = ImmutableListMultimap.builder();
 
     for (CurveGroupDefinition groupDefinition : curveGroups) {
@@ -219,19 +290,26 @@ public final class RatesCurvesCsvLoader {
   }
 
   //-------------------------------------------------------------------------
-  // loads the curves, filtering by date
+  // loads the curves, filtering by date, using the executor if not null
   private static Map<LocalDate, Map<CurveName, Curve>> parseCurves(
       Predicate<LocalDate> datePredicate,
       CharSource settingsResource,
-      Collection<CharSource> curvesResources) {
+      Collection<CharSource> curvesResources,
+      Executor executor) {
 
     // load curve settings
     Map<CurveName, LoadedCurveSettings> settingsMap = parseCurveSettings(settingsResource);
 
-    // load curves, ensuring curves only be seen once within a date
+    // load curves
+    Function<CharSource, Multimap<LocalDate, Curve>> parser =
+        curvesResource -> parseSingle(datePredicate, curvesResource, settingsMap);
+    List<Multimap<LocalDate, Curve>> parsed = executor != null ?
+        CsvSourceParser.parseEach(curvesResources, executor, parser) :
+        CsvSourceParser.parseEach(curvesResources, parser);
+
+    // merge curves in order, ensuring curves only be seen once within a date
     Map<LocalDate, Map<CurveName, Curve>> resultMap = new TreeMap<>();
-    for (CharSource curvesResource : curvesResources) {
-      Multimap<LocalDate, Curve> fileCurvesByDate = parseSingle(datePredicate, curvesResource, settingsMap);
+    for (Multimap<LocalDate, Curve> fileCurvesByDate : parsed) {
       // Ensure curve names are unique, with a good error message
       for (LocalDate date : fileCurvesByDate.keySet()) {
         Collection<Curve> fileCurves = fileCurvesByDate.get(date);
@@ -13,6 +13,8 @@ import java.time.Period;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -214,6 +216,37 @@ public final class FpmlDocument {
     this.refData = refData;
   }
 
+  // creates an instance for a single trade, sharing the parties of the document
+  private FpmlDocument(FpmlDocument document, XmlElement fpmlRootEl, Map<String, XmlElement> references) {
+    this.fpmlRoot = fpmlRootEl;
+    this.references = ImmutableMap.copyOf(references);
+    this.parties = document.parties;
+    this.ourPartyHrefId = document.ourPartyHrefId;
+    this.tradeInfoParser = document.tradeInfoParser;
+    this.refData = document.refData;
+  }
+
+  /**
+   * Returns a document for a single trade, sharing the parties of this document.
+   * <p>
+   * This is used when the trades of a document are parsed one at a time.
+   * The FpML root of the result contains the party elements of this document and the trade.
+   * The references are the combination of the references of this document and those of the trade.
+   * The party selection is not repeated.
+   * 
+   * @param tradeEl  the trade element
+   * @param tradeReferences  the map of id/href to referenced element within the trade
+   * @return the document for the trade
+   */
+  FpmlDocument withTrade(XmlElement tradeEl, Map<String, XmlElement> tradeReferences) {
+    List<XmlElement> children = new ArrayList<>(fpmlRoot.getChildren("party"));
+    children.add(tradeEl);
+    XmlElement root = XmlElement.ofChildren(fpmlRoot.getName(), fpmlRoot.getAttributes(), children);
+    Map<String, XmlElement> combinedReferences = new HashMap<>(references);
+    combinedReferences.putAll(tradeReferences);
+    return new FpmlDocument(this, root, combinedReferences);
+  }
+
   // parse all the root-level party elements
   private static ImmutableListMultimap<String, String> parseParties(XmlElement root) {
     ListMultimap<String, String> parties = ArrayListMultimap.create();
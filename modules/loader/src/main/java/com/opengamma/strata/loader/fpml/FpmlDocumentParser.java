@@ -8,15 +8,21 @@ package com.opengamma.strata.loader.fpml;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteSource;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.io.XmlElement;
 import com.opengamma.strata.collect.io.XmlFile;
 import com.opengamma.strata.collect.named.ExtendedEnum;
@@ -34,11 +40,16 @@ import com.opengamma.strata.product.Trade;
 public final class FpmlDocumentParser {
   // Notes: Streaming trades directly from the file is difficult due to the
   // need to parse the party element at the root, which is after the trades
+  // as such, the streaming approach reads the file twice, once for the parties and once for the trades
 
   /**
    * The lookup of trade parsers.
    */
   static final ExtendedEnum<FpmlParserPlugin> ENUM_LOOKUP = ExtendedEnum.of(FpmlParserPlugin.class);
+  /**
+   * The maximum number of trades that have been read but not yet parsed when streaming.
+   */
+  private static final int MAX_PENDING_TRADES = 256;
 
   /**
    * The selector used to find "our" party within the set of parties in the FpML document.
@@ -194,6 +205,99 @@ public final class FpmlDocumentParser {
     return parseTrades(root, xmlFile.getReferences());
   }
 
+  /**
+   * Parses FpML from the specified source, streaming the trades to a consumer.
+   * <p>
+   * This parses the specified byte source which must be an XML document.
+   * Unlike {@link #parseTrades(ByteSource)}, the document is not held in memory.
+   * Instead, the source is read twice, first to find the {@code <party>} elements,
+   * then to read each {@code <trade>} element in turn. Each trade element is then
+   * parsed to a trade using the executor, and passed to the consumer.
+   * The number of trade elements waiting to be parsed is bounded, limiting the memory used.
+   * <p>
+   * Every {@code <trade>} element in the document is parsed, wherever it is located.
+   * Thus, this method is intended for documents containing a list of trades, rather than
+   * messages that contain multiple versions of the same trade, such as clearing confirmations,
+   * or wrappers that contain other elements named {@code <trade>}.
+   * <p>
+   * If the executor uses multiple threads, the consumer must be thread-safe, and the
+   * trades will not necessarily be received in the order they occur in the document.
+   * Use {@code Runnable::run} as the executor to parse the trades on the calling thread.
+   * This method returns once all the trades have been passed to the consumer.
+   * If any trade fails to parse, no further trades are read and the first exception is thrown
+   * once the trades already submitted to the executor have completed.
+   * 
+   * @param source  the source of the FpML XML document
+   * @param executor  the executor used to parse the trade elements
+   * @param consumer  the consumer of the parsed trades
+   * @throws RuntimeException if a parse error occurred
+   */
+  public void parseTrades(ByteSource source, Executor executor, Consumer<Trade> consumer) {
+    ArgChecker.notNull(source, "source");
+    ArgChecker.notNull(executor, "executor");
+    ArgChecker.notNull(consumer, "consumer");
+    // find the parties
+    List<XmlElement> partyEls = new ArrayList<>();
+    Map<String, XmlElement> partyRefs = new HashMap<>();
+    XmlFile.parseElements(source, FpmlDocument.ID, "party"::equals, file -> {
+      // FpML parties always have an id, other elements named party are ignored
+      if (file.getRoot().findAttribute(FpmlDocument.ID).isPresent()) {
+        partyEls.add(file.getRoot());
+        partyRefs.putAll(file.getReferences());
+      }
+    });
+    if (partyEls.isEmpty()) {
+      throw new FpmlParseException("Unable to find FpML <party> elements with an id");
+    }
+    XmlElement partyRoot = XmlElement.ofChildren("FpML", partyEls);
+    FpmlDocument document = new FpmlDocument(partyRoot, partyRefs, ourPartySelector, tradeInfoParser, refData);
+
+    // stream the trades, limiting the number waiting to be parsed
+    Semaphore pending = new Semaphore(MAX_PENDING_TRADES);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    try {
+      XmlFile.parseElements(source, FpmlDocument.ID, "trade"::equals, file -> {
+        pending.acquireUninterruptibly();
+        if (failure.get() != null) {
+          pending.release();
+          rethrow(failure.get());
+        }
+        try {
+          executor.execute(() -> {
+            try {
+              FpmlDocument tradeDocument = document.withTrade(file.getRoot(), file.getReferences());
+              consumer.accept(parseTrade(tradeDocument, file.getRoot()));
+            } catch (Throwable ex) {
+              failure.compareAndSet(null, ex);
+            } finally {
+              pending.release();
+            }
+          });
+        } catch (RuntimeException ex) {
+          pending.release();
+          throw ex;
+        }
+      });
+    } finally {
+      // wait for the trades to be parsed
+      pending.acquireUninterruptibly(MAX_PENDING_TRADES);
+    }
+    if (failure.get() != null) {
+      rethrow(failure.get());
+    }
+  }
+
+  // rethrows the failure of a parsing task, wrapping checked exceptions
+  private static void rethrow(Throwable failure) {
+    if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    }
+    if (failure instanceof Error) {
+      throw (Error) failure;
+    }
+    throw new IllegalStateException(failure);
+  }
+
   // intelligently finds the FpML root element
   private static XmlElement findFpmlRoot(XmlElement root) {
     XmlElement fpmlRoot = getFpmlRoot(root);
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.csv;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
+import static org.testng.Assert.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.CharSource;
+import com.opengamma.strata.collect.Unchecked;
+
+/**
+ * Test {@link CsvSourceParser}.
+ */
+@Test
+public class CsvSourceParserTest {
+
+  private static final ImmutableList<CharSource> SOURCES = ImmutableList.of(
+      CharSource.wrap("a"), CharSource.wrap("bad1"), CharSource.wrap("c"), CharSource.wrap("bad2"));
+  private static final Function<CharSource, String> PARSER = source -> {
+    String text = Unchecked.wrap(() -> source.read());
+    if (text.startsWith("bad")) {
+      throw new IllegalStateException(text);
+    }
+    return text + text;
+  };
+
+  //-------------------------------------------------------------------------
+  public void test_parseEach() {
+    List<String> test = CsvSourceParser.parseEach(ImmutableList.of(SOURCES.get(0), SOURCES.get(2)), PARSER);
+    assertEquals(test, ImmutableList.of("aa", "cc"));
+    assertThrows(() -> CsvSourceParser.parseEach(SOURCES, PARSER), IllegalStateException.class, "bad1");
+  }
+
+  public void test_parseEach_executor() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<String> test =
+          CsvSourceParser.parseEach(ImmutableList.of(SOURCES.get(2), SOURCES.get(0)), executor, PARSER);
+      assertEquals(test, ImmutableList.of("cc", "aa"));
+      // the failure of the first failing source is reported
+      assertThrows(() -> CsvSourceParser.parseEach(SOURCES, executor, PARSER), IllegalStateException.class, "bad1");
+      assertThrowsIllegalArg(() -> CsvSourceParser.parseEach(SOURCES, null, PARSER));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    coverPrivateConstructor(CsvSourceParser.class);
+  }
+
+}
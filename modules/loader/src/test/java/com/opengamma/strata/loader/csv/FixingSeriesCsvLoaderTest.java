@@ -12,6 +12,7 @@ import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.testng.annotations.Test;
 
@@ -69,6 +70,28 @@ public class FixingSeriesCsvLoaderTest {
         "Multiple entries with same key: .*");
   }
 
+  public void test_multiple_series_multiple_files_parallel() {
+    Map<ObservableId, LocalDateDoubleTimeSeries> ts = FixingSeriesCsvLoader.load(
+        ImmutableList.of(FIXING_SERIES_1, FIXING_SERIES_2), ForkJoinPool.commonPool());
+    assertLibor3m6mSeries(ts);
+    assertEquals(ts, FixingSeriesCsvLoader.load(FIXING_SERIES_1, FIXING_SERIES_2));
+  }
+
+  public void test_single_series_multiple_files_parallel() {
+    assertThrows(
+        () -> FixingSeriesCsvLoader.load(ImmutableList.of(FIXING_SERIES_1, FIXING_SERIES_1), ForkJoinPool.commonPool()),
+        IllegalArgumentException.class,
+        "Multiple entries with same key: .*");
+  }
+
+  public void test_invalidDate_parallel() {
+    assertThrows(
+        () -> FixingSeriesCsvLoader.load(
+            ImmutableList.of(FIXING_SERIES_1, FIXING_SERIES_INVALID_DATE), ForkJoinPool.commonPool()),
+        IllegalArgumentException.class,
+        "Error processing resource as CSV file: .*");
+  }
+
   public void test_invalidDate() {
     assertThrows(
         () -> FixingSeriesCsvLoader.load(FIXING_SERIES_INVALID_DATE),
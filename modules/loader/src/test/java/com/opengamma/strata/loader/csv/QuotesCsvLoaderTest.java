@@ -14,6 +14,7 @@ import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.testng.annotations.Test;
 
@@ -102,6 +103,23 @@ public class QuotesCsvLoaderTest {
     assertFile1Date2(map.get(DATE2));
   }
 
+  public void test_load_allDates_file1file2_parallel() {
+    Map<LocalDate, ImmutableMap<QuoteId, Double>> map =
+        QuotesCsvLoader.loadAllDates(ImmutableList.of(QUOTES_1, QUOTES_2), ForkJoinPool.commonPool());
+    assertEquals(map, QuotesCsvLoader.loadAllDates(QUOTES_1, QUOTES_2));
+    assertEquals(map.get(DATE1).keySet().asList(), ImmutableList.of(FGBL_MAR14, ED_MAR14, FGBL_JUN14));
+    assertFile1Date1(map.get(DATE1));
+    assertFile2Date1(map.get(DATE1));
+    assertFile1Date2(map.get(DATE2));
+  }
+
+  public void test_invalidDuplicate_parallel() {
+    assertThrowsIllegalArg(() -> QuotesCsvLoader.loadAllDates(
+        ImmutableList.of(QUOTES_1, QUOTES_INVALID_DUPLICATE), ForkJoinPool.commonPool()));
+    assertThrowsIllegalArg(() -> QuotesCsvLoader.loadAllDates(
+        ImmutableList.of(QUOTES_1, QUOTES_1), ForkJoinPool.commonPool()));
+  }
+
   //-------------------------------------------------------------------------
   private void assertFile1Date1(Map<QuoteId, Double> map) {
     assertTrue(map.containsKey(FGBL_MAR14));
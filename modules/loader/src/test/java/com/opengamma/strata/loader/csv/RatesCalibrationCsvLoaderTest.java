@@ -9,6 +9,7 @@ import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
 import static org.testng.Assert.assertEquals;
 
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.testng.annotations.Test;
 
@@ -71,6 +72,28 @@ public class RatesCalibrationCsvLoaderTest {
         ImmutableList.of(ResourceLocator.of(CALIBRATION_1), ResourceLocator.of(CALIBRATION_1)));
   }
 
+  public void test_parallel() {
+    Map<CurveGroupName, CurveGroupDefinition> test = RatesCalibrationCsvLoader.load(
+        ResourceLocator.of(GROUPS_1),
+        ResourceLocator.of(SETTINGS_1),
+        ImmutableList.of(ResourceLocator.of(CALIBRATION_1)),
+        ForkJoinPool.commonPool());
+    assertEquals(
+        test,
+        RatesCalibrationCsvLoader.load(
+            ResourceLocator.of(GROUPS_1), ResourceLocator.of(SETTINGS_1), ResourceLocator.of(CALIBRATION_1)));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class,
+      expectedExceptionsMessageRegExp = "Multiple entries with same key: .*")
+  public void test_single_curve_multiple_Files_parallel() {
+    RatesCalibrationCsvLoader.load(
+        ResourceLocator.of(GROUPS_1),
+        ResourceLocator.of(SETTINGS_1),
+        ImmutableList.of(ResourceLocator.of(CALIBRATION_1), ResourceLocator.of(CALIBRATION_1)),
+        ForkJoinPool.commonPool());
+  }
+
   @Test(expectedExceptions = IllegalArgumentException.class)
   public void test_invalid_curve_duplicate_points() {
     RatesCalibrationCsvLoader.load(
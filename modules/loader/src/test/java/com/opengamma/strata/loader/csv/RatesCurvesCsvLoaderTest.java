@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.loader.csv;
 
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
 import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
 import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
 import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
@@ -16,6 +17,7 @@ import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.testng.annotations.Test;
 
@@ -235,6 +237,33 @@ public class RatesCurvesCsvLoaderTest {
     assertTrue(usd3mlNodal.getYValues().equalZeroWithTolerance(0d));
   }
 
+  public void test_load_all_curves_parallel() {
+    ImmutableList<ResourceLocator> curveResources =
+        ImmutableList.of(ResourceLocator.of(CURVES_1), ResourceLocator.of(CURVES_2), ResourceLocator.of(CURVES_3));
+    ListMultimap<LocalDate, CurveGroup> allGroups = RatesCurvesCsvLoader.loadAllDates(
+        ResourceLocator.of(GROUPS_1),
+        ResourceLocator.of(SETTINGS_1),
+        curveResources,
+        ForkJoinPool.commonPool());
+
+    assertEquals(allGroups.size(), 2);
+    assertCurves(allGroups.get(CURVE_DATE));
+    ListMultimap<LocalDate, CurveGroup> expected =
+        RatesCurvesCsvLoader.loadAllDates(ResourceLocator.of(GROUPS_1), ResourceLocator.of(SETTINGS_1), curveResources);
+    assertEquals(allGroups, expected);
+  }
+
+  public void test_load_all_curves_parallel_duplicate() {
+    assertThrows(
+        () -> RatesCurvesCsvLoader.loadAllDates(
+            ResourceLocator.of(GROUPS_1),
+            ResourceLocator.of(SETTINGS_1),
+            ImmutableList.of(ResourceLocator.of(CURVES_1), ResourceLocator.of(CURVES_1_AND_2)),
+            ForkJoinPool.commonPool()),
+        IllegalArgumentException.class,
+        "Rates curve loader found multiple curves with the same name: .*");
+  }
+
   public void test_load_curves_date_filtering() {
     List<CurveGroup> curves = RatesCurvesCsvLoader.load(
         CURVE_DATE,
@@ -41,20 +41,28 @@ import static com.opengamma.strata.product.common.BuySell.SELL;
 import static com.opengamma.strata.product.common.PayReceive.PAY;
 import static com.opengamma.strata.product.common.PayReceive.RECEIVE;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Period;
 import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.joda.beans.Bean;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMap;
@@ -1414,6 +1422,103 @@ public class FpmlDocumentParserTest {
         "Unable to find FpML root element.*");
   }
 
+  //-------------------------------------------------------------------------
+  @DataProvider(name = "streaming")
+  Object[][] data_streaming() {
+    return new Object[][] {
+        {"ird-ex01-vanilla-swap.xml"},
+        {"ird-ex02-stub-amort-swap.xml"},
+        {"ird-ex06-xccy-swap.xml"},
+        {"ird-ex08-fra.xml"},
+        {"ird-ex08-fra-wrapper1.xml"},
+        {"ird-ex08-fra-wrapper-clearing-status.xml"},
+        {"ird-ex10-euro-swaption-relative.xml"},
+        {"fx-ex08-fx-swap.xml"},
+    };
+  }
+
+  @Test(dataProvider = "streaming")
+  public void streaming(String fileName) {
+    String location = "classpath:com/opengamma/strata/loader/fpml/" + fileName;
+    ByteSource resource = ResourceLocator.of(location).getByteSource();
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.matching("Party1"));
+    List<Trade> expected = parser.parseTrades(resource);
+    List<Trade> trades = new ArrayList<>();
+    parser.parseTrades(resource, Runnable::run, trades::add);
+    assertEquals(trades, expected);
+  }
+
+  public void streaming_manyTrades() throws Exception {
+    String location = "classpath:com/opengamma/strata/loader/fpml/ird-ex01-vanilla-swap.xml";
+    String xml = ResourceLocator.of(location).getCharSource().read();
+    int tradeStart = xml.indexOf("<trade>");
+    int tradeEnd = xml.indexOf("</trade>") + "</trade>".length();
+    String tradeXml = xml.substring(tradeStart, tradeEnd);
+    String manyXml = xml.substring(0, tradeStart) + Strings.repeat(tradeXml, 500) + xml.substring(tradeEnd);
+    ByteSource resource = ByteSource.wrap(manyXml.getBytes(StandardCharsets.UTF_8));
+
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.matching("Party1"));
+    Trade expected = parser.parseTrades(ResourceLocator.of(location).getByteSource()).get(0);
+    Queue<Trade> trades = new ConcurrentLinkedQueue<>();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      parser.parseTrades(resource, executor, trades::add);
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(trades.size(), 500);
+    assertTrue(trades.stream().allMatch(expected::equals));
+  }
+
+  public void streaming_badSelector() {
+    String location = "classpath:com/opengamma/strata/loader/fpml/ird-ex08-fra.xml";
+    ByteSource resource = ResourceLocator.of(location).getByteSource();
+    FpmlDocumentParser parser = FpmlDocumentParser.of(allParties -> Optional.of("rubbish"));
+    assertThrows(
+        () -> parser.parseTrades(resource, Runnable::run, trade -> {}),
+        FpmlParseException.class,
+        "Selector returned an ID .*");
+  }
+
+  public void streaming_notFpml() {
+    String location = "classpath:com/opengamma/strata/loader/fpml/not-fpml.xml";
+    ByteSource resource = ResourceLocator.of(location).getByteSource();
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.any());
+    assertThrows(
+        () -> parser.parseTrades(resource, Runnable::run, trade -> {}),
+        FpmlParseException.class,
+        "Unable to find FpML <party> elements.*");
+  }
+
+  public void streaming_failedTrade() {
+    String location = "classpath:com/opengamma/strata/loader/fpml/ird-ex08-fra.xml";
+    ByteSource resource = ResourceLocator.of(location).getByteSource();
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.any());
+    assertThrows(
+        () -> parser.parseTrades(resource, Runnable::run, trade -> {
+          throw new IllegalStateException("Consumer failed");
+        }),
+        IllegalStateException.class,
+        "Consumer failed");
+  }
+
+  public void streaming_failedTradeError() {
+    String location = "classpath:com/opengamma/strata/loader/fpml/ird-ex08-fra.xml";
+    ByteSource resource = ResourceLocator.of(location).getByteSource();
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.any());
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      assertThrows(
+          () -> parser.parseTrades(resource, executor, trade -> {
+            throw new StackOverflowError("Consumer error");
+          }),
+          StackOverflowError.class,
+          "Consumer error");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   //-------------------------------------------------------------------------
   public void document() {
     XmlElement tradeDateEl = XmlElement.ofContent("tradeDate", "2000-06-30");
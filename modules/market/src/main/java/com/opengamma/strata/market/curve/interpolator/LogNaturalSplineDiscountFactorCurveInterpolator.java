@@ -9,6 +9,8 @@ import java.io.Serializable;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.math.impl.FunctionUtils;
@@ -47,6 +49,10 @@ final class LogNaturalSplineDiscountFactorCurveInterpolator implements CurveInte
    * Underlying matrix algebra.
    */
   private static final MatrixAlgebra MA = new OGMatrixAlgebra();
+  /**
+   * The factorised spline systems, including the clamped node at zero, keyed by the identity of the x-values.
+   */
+  private static final Cache<DoubleArray, NaturalSplineSystem> SYSTEMS = CacheBuilder.newBuilder().weakKeys().build();
 
   /**
    * Restricted constructor.
@@ -85,6 +91,7 @@ final class LogNaturalSplineDiscountFactorCurveInterpolator implements CurveInte
     private final double[] yValues;
     private final PiecewisePolynomialResult poly;
     private final Supplier<PiecewisePolynomialResultsWithSensitivity> polySens;
+    private final NaturalSplineSystem system;
     private double[] logYValues;
 
     Bound(DoubleArray xValues, DoubleArray yValues) {
@@ -92,10 +99,26 @@ final class LogNaturalSplineDiscountFactorCurveInterpolator implements CurveInte
       this.xValues = xValues.toArrayUnsafe();
       this.yValues = yValues.toArrayUnsafe();
       this.logYValues = getYLogValues(this.yValues);
-      ClampedPiecewisePolynomialInterpolator underlying = new ClampedPiecewisePolynomialInterpolator(
-          new NaturalSplineInterpolator(), new double[] {0d}, new double[] {0d});
-      this.poly = underlying.interpolate(xValues.toArray(), logYValues);
-      this.polySens = Suppliers.memoize(() -> underlying.interpolateWithSensitivity(xValues.toArray(), logYValues));
+      if (this.xValues[0] > 0d && NaturalSplineSystem.isSupported(this.xValues, logYValues)) {
+        // the spline is clamped at zero, which is the first node of the system
+        // the factorised system is shared by all bound interpolators with the same x-values
+        NaturalSplineSystem system = SYSTEMS.getIfPresent(xValues);
+        if (system == null) {
+          system = NaturalSplineSystem.of(clampedXValues(this.xValues));
+          SYSTEMS.put(xValues, system);
+        }
+        NaturalSplineSystem clampedSystem = system;
+        PiecewisePolynomialResult poly = clampedSystem.interpolate(clampedYValues(logYValues));
+        this.poly = poly;
+        this.polySens = Suppliers.memoize(() -> clampedSystem.interpolateWithSensitivity(poly));
+        this.system = clampedSystem;
+      } else {
+        ClampedPiecewisePolynomialInterpolator underlying = new ClampedPiecewisePolynomialInterpolator(
+            new NaturalSplineInterpolator(), new double[] {0d}, new double[] {0d});
+        this.poly = underlying.interpolate(xValues.toArray(), logYValues);
+        this.polySens = Suppliers.memoize(() -> underlying.interpolateWithSensitivity(xValues.toArray(), logYValues));
+        this.system = null;
+      }
     }
 
     Bound(Bound base, BoundCurveExtrapolator extrapolatorLeft, BoundCurveExtrapolator extrapolatorRight) {
@@ -105,6 +128,12 @@ final class LogNaturalSplineDiscountFactorCurveInterpolator implements CurveInte
       this.logYValues = base.logYValues;
       this.poly = base.poly;
       this.polySens = base.polySens;
+      this.system = base.system;
+    }
+
+    // the factorised system, null if the spline is computed without it
+    NaturalSplineSystem getSystem() {
+      return system;
     }
 
     //-------------------------------------------------------------------------
@@ -184,6 +213,18 @@ final class LogNaturalSplineDiscountFactorCurveInterpolator implements CurveInte
       return res;
     }
 
+    private static double[] clampedXValues(double[] xValues) {
+      double[] res = new double[xValues.length + 1];
+      System.arraycopy(xValues, 0, res, 1, xValues.length);
+      return res;
+    }
+
+    private static double[] clampedYValues(double[] logYValues) {
+      double[] res = new double[logYValues.length + 1];
+      System.arraycopy(logYValues, 0, res, 1, logYValues.length);
+      return res;
+    }
+
     private static double[] getYLogValues(double[] yValues) {
       int nData = yValues.length;
       double[] logYValues = new double[nData];
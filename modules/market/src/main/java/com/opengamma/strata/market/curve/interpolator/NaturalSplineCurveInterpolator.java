@@ -9,6 +9,8 @@ import java.io.Serializable;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.math.impl.FunctionUtils;
@@ -42,6 +44,10 @@ final class NaturalSplineCurveInterpolator
    * Underlying matrix algebra.
    */
   private static final MatrixAlgebra MA = new OGMatrixAlgebra();
+  /**
+   * The factorised spline systems, keyed by the identity of the x-values.
+   */
+  private static final Cache<DoubleArray, NaturalSplineSystem> SYSTEMS = CacheBuilder.newBuilder().weakKeys().build();
 
   /**
    * Restricted constructor.
@@ -80,14 +86,26 @@ final class NaturalSplineCurveInterpolator
     private final double[] yValues;
     private final PiecewisePolynomialResult poly;
     private final Supplier<PiecewisePolynomialResultsWithSensitivity> polySens;
+    private final NaturalSplineSystem system;
 
     Bound(DoubleArray xValues, DoubleArray yValues) {
       super(xValues, yValues);
       this.xValues = xValues.toArrayUnsafe();
       this.yValues = yValues.toArrayUnsafe();
-      PiecewisePolynomialInterpolator underlying = new NaturalSplineInterpolator();
-      this.poly = underlying.interpolate(xValues.toArray(), yValues.toArray());
-      this.polySens = Suppliers.memoize(() -> underlying.interpolateWithSensitivity(xValues.toArray(), yValues.toArray()));
+      if (NaturalSplineSystem.isSupported(this.xValues, this.yValues)) {
+        // the factorised system is shared by all bound interpolators with the same x-values
+        NaturalSplineSystem system = NaturalSplineSystem.of(SYSTEMS, xValues);
+        PiecewisePolynomialResult poly = system.interpolate(this.yValues);
+        this.poly = poly;
+        this.polySens = Suppliers.memoize(() -> system.interpolateWithSensitivity(poly));
+        this.system = system;
+      } else {
+        PiecewisePolynomialInterpolator underlying = new NaturalSplineInterpolator();
+        this.poly = underlying.interpolate(xValues.toArray(), yValues.toArray());
+        this.polySens = Suppliers.memoize(
+            () -> underlying.interpolateWithSensitivity(xValues.toArray(), yValues.toArray()));
+        this.system = null;
+      }
     }
 
     Bound(Bound base, BoundCurveExtrapolator extrapolatorLeft, BoundCurveExtrapolator extrapolatorRight) {
@@ -96,6 +114,12 @@ final class NaturalSplineCurveInterpolator
       this.yValues = base.yValues;
       this.poly = base.poly;
       this.polySens = base.polySens;
+      this.system = base.system;
+    }
+
+    // the factorised system, null if the spline is computed without it
+    NaturalSplineSystem getSystem() {
+      return system;
     }
 
     //-------------------------------------------------------------------------
@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve.interpolator;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialResult;
+import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialResultsWithSensitivity;
+
+/**
+ * The factorised linear system of a natural cubic spline.
+ * <p>
+ * The second derivatives of a natural cubic spline at the nodes are the solution of a tridiagonal system.
+ * The matrix of the system depends only on the x-values of the nodes, with the y-values only affecting
+ * the right hand side. This class holds the factorisation of the matrix, allowing the spline for a new
+ * set of y-values to be found in O(n), as is the case when a curve is bumped or perturbed.
+ * <p>
+ * As the spline is linear in the y-values, the sensitivity of the coefficients to the y-values
+ * also depends only on the x-values. It is calculated once, when first needed.
+ * <p>
+ * Instances are shared between bound interpolators with the same x-values using {@link #of(Cache, DoubleArray)}.
+ * The cache is keyed by the identity of the x-values array, which is shared by the copies of a curve.
+ */
+final class NaturalSplineSystem {
+
+  /**
+   * The knots, which are the x-values of the nodes.
+   */
+  private final DoubleArray knots;
+  /**
+   * The x-values of the nodes.
+   */
+  private final double[] xValues;
+  /**
+   * The intervals between the nodes.
+   */
+  private final double[] intervals;
+  /**
+   * The factorised upper diagonal, indexed by node.
+   */
+  private final double[] upperFactors;
+  /**
+   * The factorised pivots, indexed by node.
+   */
+  private final double[] pivots;
+  /**
+   * The sensitivity of the coefficients of each interval to the y-values.
+   */
+  private final Supplier<DoubleMatrix[]> coefficientSensitivity;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the system for the specified x-values, using the cache.
+   * <p>
+   * The cache must be created with {@link CacheBuilder#weakKeys()}.
+   *
+   * @param cache  the cache of systems, keyed by the x-values array
+   * @param xValues  the x-values, which must be finite and strictly increasing
+   * @return the system
+   */
+  static NaturalSplineSystem of(Cache<DoubleArray, NaturalSplineSystem> cache, DoubleArray xValues) {
+    NaturalSplineSystem cached = cache.getIfPresent(xValues);
+    if (cached != null) {
+      return cached;
+    }
+    NaturalSplineSystem system = of(xValues.toArrayUnsafe());
+    cache.put(xValues, system);
+    return system;
+  }
+
+  /**
+   * Obtains the system for the specified x-values.
+   *
+   * @param xValues  the x-values, which must be finite and strictly increasing
+   * @return the system
+   */
+  static NaturalSplineSystem of(double[] xValues) {
+    ArgChecker.isTrue(isIncreasing(xValues), "x-values must be finite and strictly increasing");
+    return new NaturalSplineSystem(xValues);
+  }
+
+  /**
+   * Checks if the nodes are supported by this system.
+   * <p>
+   * At least two nodes are required, with the x-values finite and strictly increasing
+   * and the y-values finite.
+   *
+   * @param xValues  the x-values
+   * @param yValues  the y-values
+   * @return true if supported
+   */
+  static boolean isSupported(double[] xValues, double[] yValues) {
+    if (xValues.length != yValues.length || !isIncreasing(xValues)) {
+      return false;
+    }
+    for (double yValue : yValues) {
+      if (!Double.isFinite(yValue)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // checks the x-values are finite and strictly increasing
+  private static boolean isIncreasing(double[] xValues) {
+    if (xValues.length < 2 || !Double.isFinite(xValues[0])) {
+      return false;
+    }
+    for (int i = 1; i < xValues.length; i++) {
+      if (!Double.isFinite(xValues[i]) || !(xValues[i] > xValues[i - 1])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // restricted constructor
+  private NaturalSplineSystem(double[] xValues) {
+    int size = xValues.length;
+    this.knots = DoubleArray.copyOf(xValues);
+    this.xValues = knots.toArrayUnsafe();
+    this.intervals = new double[size - 1];
+    for (int i = 0; i < size - 1; i++) {
+      intervals[i] = xValues[i + 1] - xValues[i];
+    }
+    // the first and last second derivatives are zero, leaving a tridiagonal system for the interior nodes
+    // the system is strictly diagonally dominant, thus is factorised without pivoting
+    this.upperFactors = new double[size];
+    this.pivots = new double[size];
+    for (int i = 1; i < size - 1; i++) {
+      double lower = i > 1 ? intervals[i - 1] : 0d;
+      pivots[i] = 2d * (intervals[i - 1] + intervals[i]) - lower * upperFactors[i - 1];
+      upperFactors[i] = i < size - 2 ? intervals[i] / pivots[i] : 0d;
+    }
+    this.coefficientSensitivity = Suppliers.memoize(this::calculateCoefficientSensitivity);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of nodes.
+   *
+   * @return the number of nodes
+   */
+  int size() {
+    return xValues.length;
+  }
+
+  /**
+   * Calculates the second derivatives of the spline at the nodes.
+   *
+   * @param yValues  the y-values
+   * @return the second derivatives
+   */
+  double[] secondDerivatives(double[] yValues) {
+    int size = xValues.length;
+    ArgChecker.isTrue(yValues.length == size, "x-values and y-values must have the same size");
+    double[] result = new double[size];
+    // forward substitution
+    for (int i = 1; i < size - 1; i++) {
+      double rhs = 6d * ((yValues[i + 1] - yValues[i]) / intervals[i] -
+          (yValues[i] - yValues[i - 1]) / intervals[i - 1]);
+      double lower = i > 1 ? intervals[i - 1] : 0d;
+      result[i] = (rhs - lower * result[i - 1]) / pivots[i];
+    }
+    // back substitution
+    for (int i = size - 3; i > 0; i--) {
+      result[i] -= upperFactors[i] * result[i + 1];
+    }
+    return result;
+  }
+
+  /**
+   * Calculates the piecewise polynomial of the spline.
+   *
+   * @param yValues  the y-values
+   * @return the piecewise polynomial
+   */
+  PiecewisePolynomialResult interpolate(double[] yValues) {
+    double[] secondDerivatives = secondDerivatives(yValues);
+    int intervalCount = intervals.length;
+    double[][] coefs = new double[intervalCount][4];
+    for (int i = 0; i < intervalCount; i++) {
+      double h = intervals[i];
+      coefs[i][0] = secondDerivatives[i + 1] / 6d / h - secondDerivatives[i] / 6d / h;
+      coefs[i][1] = 0.5 * secondDerivatives[i];
+      coefs[i][2] = yValues[i + 1] / h - yValues[i] / h - h * secondDerivatives[i] / 2d -
+          h * secondDerivatives[i + 1] / 6d + h * secondDerivatives[i] / 6d;
+      coefs[i][3] = yValues[i];
+      for (int j = 0; j < 4; j++) {
+        ArgChecker.isTrue(Double.isFinite(coefs[i][j]), "Too large input");
+      }
+    }
+    return new PiecewisePolynomialResult(knots, DoubleMatrix.ofUnsafe(coefs), 4, 1);
+  }
+
+  /**
+   * Calculates the piecewise polynomial of the spline, with the sensitivity to the y-values.
+   *
+   * @param poly  the piecewise polynomial, as returned by {@link #interpolate(double[])}
+   * @return the piecewise polynomial with sensitivity
+   */
+  PiecewisePolynomialResultsWithSensitivity interpolateWithSensitivity(PiecewisePolynomialResult poly) {
+    return new PiecewisePolynomialResultsWithSensitivity(
+        knots, poly.getCoefMatrix(), poly.getOrder(), 1, coefficientSensitivity.get());
+  }
+
+  // the sensitivity of the coefficients to the y-values, independent of the y-values
+  private DoubleMatrix[] calculateCoefficientSensitivity() {
+    int size = xValues.length;
+    // the sensitivity of the second derivatives, found by solving for each unit vector
+    double[][] secondDerivativeSensitivity = new double[size][];
+    double[] unit = new double[size];
+    for (int k = 0; k < size; k++) {
+      unit[k] = 1d;
+      secondDerivativeSensitivity[k] = secondDerivatives(unit);
+      unit[k] = 0d;
+    }
+    DoubleMatrix[] result = new DoubleMatrix[size - 1];
+    for (int i = 0; i < size - 1; i++) {
+      double h = intervals[i];
+      double[][] sensitivity = new double[4][size];
+      sensitivity[3][i] = 1d;
+      sensitivity[2][i + 1] = 1d / h;
+      sensitivity[2][i] = -1d / h;
+      for (int k = 0; k < size; k++) {
+        double current = secondDerivativeSensitivity[k][i];
+        double next = secondDerivativeSensitivity[k][i + 1];
+        sensitivity[0][k] = next / 6d / h - current / 6d / h;
+        sensitivity[1][k] = 0.5 * current;
+        sensitivity[2][k] += -h * current / 2d - h * next / 6d + h * current / 6d;
+      }
+      result[i] = DoubleMatrix.ofUnsafe(sensitivity);
+    }
+    return result;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "NaturalSplineSystem[" + knots + "]";
+  }
+
+}
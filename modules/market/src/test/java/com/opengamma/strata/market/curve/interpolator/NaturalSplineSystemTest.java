@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve.interpolator;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.interpolation.NaturalSplineInterpolator;
+import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialResult;
+import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialResultsWithSensitivity;
+
+/**
+ * Test {@link NaturalSplineSystem}.
+ */
+@Test
+public class NaturalSplineSystemTest {
+
+  private static final double[] X_DATA = {0.0, 0.4, 1.0, 1.8, 2.8, 5.0};
+  private static final double[] Y_DATA = {3.0, 4.0, 3.1, 2.0, 7.0, 2.0};
+  private static final double TOL = 1.e-12;
+
+  //-------------------------------------------------------------------------
+  public void test_interpolate_matchesUnderlying() {
+    NaturalSplineSystem test = NaturalSplineSystem.of(X_DATA);
+    assertEquals(test.size(), X_DATA.length);
+    PiecewisePolynomialResult expected = new NaturalSplineInterpolator().interpolate(X_DATA, Y_DATA);
+    PiecewisePolynomialResult computed = test.interpolate(Y_DATA);
+    assertEquals(computed.getKnots(), expected.getKnots());
+    assertMatrix(computed.getCoefMatrix(), expected.getCoefMatrix());
+  }
+
+  public void test_interpolateWithSensitivity_matchesUnderlying() {
+    NaturalSplineSystem test = NaturalSplineSystem.of(X_DATA);
+    PiecewisePolynomialResultsWithSensitivity expected =
+        new NaturalSplineInterpolator().interpolateWithSensitivity(X_DATA, Y_DATA);
+    PiecewisePolynomialResultsWithSensitivity computed = test.interpolateWithSensitivity(test.interpolate(Y_DATA));
+    assertMatrix(computed.getCoefMatrix(), expected.getCoefMatrix());
+    for (int i = 0; i < X_DATA.length - 1; i++) {
+      assertMatrix(computed.getCoefficientSensitivity(i), expected.getCoefficientSensitivity(i));
+    }
+  }
+
+  public void test_twoNodes() {
+    NaturalSplineSystem test = NaturalSplineSystem.of(new double[] {1d, 2d});
+    PiecewisePolynomialResult computed = test.interpolate(new double[] {3d, 5d});
+    assertMatrix(computed.getCoefMatrix(), DoubleMatrix.of(1, 4, 0d, 0d, 2d, 3d));
+  }
+
+  public void test_of_cache() {
+    Cache<DoubleArray, NaturalSplineSystem> cache = CacheBuilder.newBuilder().weakKeys().build();
+    DoubleArray xValues = DoubleArray.copyOf(X_DATA);
+    NaturalSplineSystem test = NaturalSplineSystem.of(cache, xValues);
+    assertSame(NaturalSplineSystem.of(cache, xValues), test);
+    assertEquals(cache.size(), 1);
+  }
+
+  public void test_isSupported() {
+    assertTrue(NaturalSplineSystem.isSupported(X_DATA, Y_DATA));
+    assertFalse(NaturalSplineSystem.isSupported(new double[] {1d}, new double[] {1d}));
+    assertFalse(NaturalSplineSystem.isSupported(new double[] {1d, 1d}, new double[] {1d, 2d}));
+    assertFalse(NaturalSplineSystem.isSupported(new double[] {2d, 1d}, new double[] {1d, 2d}));
+    assertFalse(NaturalSplineSystem.isSupported(new double[] {1d, Double.NaN}, new double[] {1d, 2d}));
+    assertFalse(NaturalSplineSystem.isSupported(new double[] {1d, 2d}, new double[] {1d, Double.NaN}));
+    assertFalse(NaturalSplineSystem.isSupported(new double[] {1d, 2d}, new double[] {1d}));
+    assertThrowsIllegalArg(() -> NaturalSplineSystem.of(new double[] {2d, 1d}));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_curveInterpolators_shareSystem() {
+    DoubleArray xValues = DoubleArray.of(0.5, 1.0, 2.0, 5.0, 10.0);
+    DoubleArray yValues = DoubleArray.of(0.99, 0.98, 0.96, 0.9, 0.8);
+    DoubleArray bumpedValues = yValues.with(2, 0.95);
+    for (CurveInterpolator interpolator : new CurveInterpolator[] {
+        CurveInterpolators.NATURAL_SPLINE, CurveInterpolators.LOG_NATURAL_SPLINE_DISCOUNT_FACTOR}) {
+      // bound interpolators with the same x-values reuse the factorised system
+      BoundCurveInterpolator base = interpolator.bind(xValues, yValues);
+      BoundCurveInterpolator bumped = interpolator.bind(xValues, bumpedValues);
+      // the result matches an interpolator bound to a distinct, but equal, x-values array
+      BoundCurveInterpolator expected = interpolator.bind(DoubleArray.copyOf(xValues.toArray()), bumpedValues);
+      for (double x = 0.5; x < 10d; x += 0.25) {
+        assertEquals(bumped.interpolate(x), expected.interpolate(x), TOL);
+        assertEquals(bumped.firstDerivative(x), expected.firstDerivative(x), TOL);
+        assertTrue(bumped.parameterSensitivity(x).equalWithTolerance(expected.parameterSensitivity(x), TOL));
+      }
+      assertEquals(base.interpolate(2d), 0.96, TOL);
+      assertEquals(bumped.interpolate(2d), 0.95, TOL);
+    }
+    // the same factorised system instance is used
+    NaturalSplineSystem system = ((NaturalSplineCurveInterpolator.Bound) CurveInterpolators.NATURAL_SPLINE
+        .bind(xValues, yValues)).getSystem();
+    assertNotNull(system);
+    assertSame(((NaturalSplineCurveInterpolator.Bound) CurveInterpolators.NATURAL_SPLINE
+        .bind(xValues, bumpedValues)).getSystem(), system);
+    NaturalSplineSystem clampedSystem = ((LogNaturalSplineDiscountFactorCurveInterpolator.Bound)
+        CurveInterpolators.LOG_NATURAL_SPLINE_DISCOUNT_FACTOR.bind(xValues, yValues)).getSystem();
+    assertNotNull(clampedSystem);
+    assertEquals(clampedSystem.size(), xValues.size() + 1);
+    assertSame(((LogNaturalSplineDiscountFactorCurveInterpolator.Bound)
+        CurveInterpolators.LOG_NATURAL_SPLINE_DISCOUNT_FACTOR.bind(xValues, bumpedValues)).getSystem(), clampedSystem);
+  }
+
+  //-------------------------------------------------------------------------
+  private static void assertMatrix(DoubleMatrix computed, DoubleMatrix expected) {
+    assertEquals(computed.rowCount(), expected.rowCount());
+    assertEquals(computed.columnCount(), expected.columnCount());
+    for (int i = 0; i < expected.rowCount(); i++) {
+      for (int j = 0; j < expected.columnCount(); j++) {
+        assertEquals(computed.get(i, j), expected.get(i, j), TOL);
+      }
+    }
+  }
+
+}
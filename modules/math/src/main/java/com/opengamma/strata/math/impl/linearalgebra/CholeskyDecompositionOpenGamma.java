@@ -6,6 +6,7 @@
 package com.opengamma.strata.math.impl.linearalgebra;
 
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 
 /**
@@ -41,36 +42,87 @@ public class CholeskyDecompositionOpenGamma extends Decomposition<CholeskyDecomp
    */
   public CholeskyDecompositionResult evaluate(DoubleMatrix matrix, double symmetryThreshold, double positivityThreshold) {
     ArgChecker.notNull(matrix, "Matrix null");
-    int nbRow = matrix.rowCount();
-    int nbCol = matrix.columnCount();
-    ArgChecker.isTrue(nbRow == nbCol, "Matrix not square");
+    int nbRow = checkSquare(matrix);
+    double[] lArray = new double[nbRow * nbRow];
+    decompose(matrix.toArrayUnsafe(), lArray, nbRow, symmetryThreshold, positivityThreshold);
     double[][] l = new double[nbRow][nbRow];
-    // Check symmetry and initial fill of _lTArray
+    for (int looprow = 0; looprow < nbRow; looprow++) {
+      System.arraycopy(lArray, looprow * nbRow, l[looprow], 0, looprow + 1);
+    }
+    return new CholeskyDecompositionOpenGammaResult(l);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The matrix is decomposed in the workspace of the current thread, using the default thresholds.
+   */
+  @Override
+  public DoubleArray solve(DoubleMatrix a, DoubleArray b) {
+    ArgChecker.notNull(a, "a");
+    ArgChecker.notNull(b, "b");
+    int nbRow = checkSquare(a);
+    ArgChecker.isTrue(b.size() == nbRow, "b array of incorrect size");
+    double[] l = DecompositionWorkspace.current().matrix(nbRow * nbRow);
+    decompose(a.toArrayUnsafe(), l, nbRow, DEFAULT_SYMMETRY_THRESHOLD, DEFAULT_POSITIVITY_THRESHOLD);
+    double[] x = b.toArray();
+    // L y = b (y stored in x array)
+    for (int looprow = 0; looprow < nbRow; looprow++) {
+      x[looprow] /= l[looprow * nbRow + looprow];
+      for (int j = looprow + 1; j < nbRow; j++) {
+        x[j] -= x[looprow] * l[j * nbRow + looprow];
+      }
+    }
+    // L^T x = y
+    for (int looprow = nbRow - 1; looprow >= 0; looprow--) {
+      x[looprow] /= l[looprow * nbRow + looprow];
+      for (int j = 0; j < looprow; j++) {
+        x[j] -= x[looprow] * l[looprow * nbRow + j];
+      }
+    }
+    return DoubleArray.ofUnsafe(x);
+  }
+
+  private static int checkSquare(DoubleMatrix matrix) {
+    int nbRow = matrix.rowCount();
+    ArgChecker.isTrue(nbRow == matrix.columnCount(), "Matrix not square");
+    return nbRow;
+  }
+
+  // decomposes the matrix into the lower part of the row-major array, the upper part is not used
+  private static void decompose(
+      double[][] matrix,
+      double[] l,
+      int nbRow,
+      double symmetryThreshold,
+      double positivityThreshold) {
+
+    // Check symmetry and initial fill of the lower part
     for (int looprow = 0; looprow < nbRow; looprow++) {
       for (int loopcol = 0; loopcol <= looprow; loopcol++) {
-        double rowcol = matrix.get(looprow, loopcol);
-        double colrow = matrix.get(loopcol, looprow);
+        double rowcol = matrix[looprow][loopcol];
+        double colrow = matrix[loopcol][looprow];
         double maxValue = Math.max(Math.abs(rowcol), Math.abs(colrow));
         double diff = Math.abs(rowcol - colrow);
         ArgChecker.isTrue(diff <= maxValue * symmetryThreshold, "Matrix not symmetrical");
-        l[looprow][loopcol] = rowcol;
+        l[looprow * nbRow + loopcol] = rowcol;
       }
     }
     // The decomposition
-    for (int loopcol = 0; loopcol < nbCol; loopcol++) {
-      ArgChecker.isTrue(l[loopcol][loopcol] > positivityThreshold, "Matrix not positive");
-      l[loopcol][loopcol] = Math.sqrt(l[loopcol][loopcol]); // Pivot
-      double lInverse = 1.0 / l[loopcol][loopcol];
+    for (int loopcol = 0; loopcol < nbRow; loopcol++) {
+      int diagonal = loopcol * nbRow + loopcol;
+      ArgChecker.isTrue(l[diagonal] > positivityThreshold, "Matrix not positive");
+      l[diagonal] = Math.sqrt(l[diagonal]); // Pivot
+      double lInverse = 1.0 / l[diagonal];
       for (int looprow = loopcol + 1; looprow < nbRow; looprow++) { // Current column
-        l[looprow][loopcol] *= lInverse;
+        l[looprow * nbRow + loopcol] *= lInverse;
       }
       for (int j = loopcol + 1; j < nbRow; j++) { // Other columns
         for (int i = j; i < nbRow; i++) {
-          l[i][j] -= l[i][loopcol] * l[j][loopcol];
+          l[i * nbRow + j] -= l[i * nbRow + loopcol] * l[j * nbRow + loopcol];
         }
       }
     }
-    return new CholeskyDecompositionOpenGammaResult(l);
   }
 
 }
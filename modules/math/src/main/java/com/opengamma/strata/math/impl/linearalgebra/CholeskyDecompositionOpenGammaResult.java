@@ -50,7 +50,7 @@ public class CholeskyDecompositionOpenGammaResult implements CholeskyDecompositi
 
   @Override
   public DoubleArray solve(DoubleArray b) {
-    return b;
+    return DoubleArray.ofUnsafe(solve(b.toArrayUnsafe()));
   }
 
   @Override
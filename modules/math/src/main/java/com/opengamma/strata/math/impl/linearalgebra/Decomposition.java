@@ -7,6 +7,7 @@ package com.opengamma.strata.math.impl.linearalgebra;
 
 import java.util.function.Function;
 
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 
 /**
@@ -16,4 +17,18 @@ import com.opengamma.strata.collect.array.DoubleMatrix;
 
 public abstract class Decomposition<S extends DecompositionResult> implements Function<DoubleMatrix, S> {
 
+  /**
+   * Solves $\mathbf{A}x = b$ where $\mathbf{A}$ is a matrix and $b$ is a vector.
+   * <p>
+   * This is equivalent to decomposing the matrix and solving using the result.
+   * Implementations may override this to avoid creating the decomposition result,
+   * which is useful when the decomposition is only used once, such as in iterative solvers.
+   * @param a the matrix, not null
+   * @param b the vector, not null
+   * @return the vector x
+   */
+  public DoubleArray solve(DoubleMatrix a, DoubleArray b) {
+    return apply(a).solve(b);
+  }
+
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+/**
+ * Reusable storage for the in-place decompositions.
+ * <p>
+ * Each thread has its own workspace, obtained using {@link #current()}.
+ * The arrays only grow, thus repeated solves of the same size do not allocate.
+ * The workspace must only be used within a single method call that does not invoke user code,
+ * as the arrays are shared by all decompositions on the thread.
+ */
+final class DecompositionWorkspace {
+
+  /**
+   * The workspace of each thread.
+   */
+  private static final ThreadLocal<DecompositionWorkspace> CURRENT = ThreadLocal.withInitial(DecompositionWorkspace::new);
+
+  /**
+   * The matrix storage, row-major.
+   */
+  private double[] matrix = new double[0];
+  /**
+   * The pivot storage.
+   */
+  private int[] pivot = new int[0];
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the workspace of the current thread.
+   *
+   * @return the workspace
+   */
+  static DecompositionWorkspace current() {
+    return CURRENT.get();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the matrix storage, with at least the specified size.
+   * <p>
+   * The content of the array is undefined.
+   *
+   * @param size  the minimum size
+   * @return the array
+   */
+  double[] matrix(int size) {
+    if (matrix.length < size) {
+      matrix = new double[size];
+    }
+    return matrix;
+  }
+
+  /**
+   * Gets the pivot storage, with at least the specified size.
+   * <p>
+   * The content of the array is undefined.
+   *
+   * @param size  the minimum size
+   * @return the array
+   */
+  int[] pivot(int size) {
+    if (pivot.length < size) {
+      pivot = new int[size];
+    }
+    return pivot;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Copies a square matrix into row-major storage.
+   *
+   * @param matrix  the matrix
+   * @param storage  the storage, at least the size of the matrix
+   */
+  static void copy(double[][] matrix, double[] storage) {
+    int n = matrix.length;
+    for (int i = 0; i < n; i++) {
+      System.arraycopy(matrix[i], 0, storage, i * n, n);
+    }
+  }
+
+  /**
+   * Restricted constructor.
+   */
+  private DecompositionWorkspace() {
+  }
+
+}
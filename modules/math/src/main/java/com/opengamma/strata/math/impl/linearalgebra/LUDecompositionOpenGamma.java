@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * OpenGamma implementation of the LU decomposition with partial pivoting.
+ * <p>
+ * The decomposition operates directly on arrays of doubles, without conversion to another matrix library.
+ * The method {@link #solve(DoubleMatrix, DoubleArray)} decomposes the matrix in a workspace that is
+ * reused by each thread, so the only allocation is the solution vector.
+ * <p>
+ * As in {@link LUDecompositionCommons}, a matrix with a pivot smaller than {@value #SINGULARITY_THRESHOLD}
+ * in absolute value is considered singular.
+ */
+public class LUDecompositionOpenGamma extends Decomposition<LUDecompositionResult> {
+
+  /**
+   * The threshold below which a pivot is considered to be zero.
+   */
+  public static final double SINGULARITY_THRESHOLD = 1e-11;
+
+  @Override
+  public LUDecompositionResult apply(DoubleMatrix x) {
+    ArgChecker.notNull(x, "x");
+    int n = checkSquare(x);
+    double[] lu = new double[n * n];
+    int[] pivot = new int[n];
+    DecompositionWorkspace.copy(x.toArrayUnsafe(), lu);
+    int sign = decompose(lu, pivot, n);
+    return new LUDecompositionOpenGammaResult(lu, pivot, n, sign);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The matrix is decomposed in the workspace of the current thread.
+   */
+  @Override
+  public DoubleArray solve(DoubleMatrix a, DoubleArray b) {
+    ArgChecker.notNull(a, "a");
+    ArgChecker.notNull(b, "b");
+    int n = checkSquare(a);
+    ArgChecker.isTrue(b.size() == n, "b array of incorrect size");
+    DecompositionWorkspace workspace = DecompositionWorkspace.current();
+    double[] lu = workspace.matrix(n * n);
+    int[] pivot = workspace.pivot(n);
+    DecompositionWorkspace.copy(a.toArrayUnsafe(), lu);
+    decompose(lu, pivot, n);
+    double[] x = new double[n];
+    solve(lu, pivot, n, b.toArrayUnsafe(), x);
+    return DoubleArray.ofUnsafe(x);
+  }
+
+  private static int checkSquare(DoubleMatrix x) {
+    int n = x.rowCount();
+    ArgChecker.isTrue(n == x.columnCount(), "Matrix not square");
+    return n;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Decomposes the matrix in place.
+   * <p>
+   * On exit, the strict lower part of the array contains L, whose diagonal is one,
+   * and the upper part contains U. Row i of L U is row {@code pivot[i]} of the original matrix.
+   *
+   * @param lu  the matrix, row-major, overwritten by the decomposition
+   * @param pivot  the array to populate with the pivot
+   * @param n  the size of the matrix
+   * @return the sign of the permutation, one or minus one
+   * @throws IllegalArgumentException if the matrix is singular
+   */
+  static int decompose(double[] lu, int[] pivot, int n) {
+    for (int i = 0; i < n; i++) {
+      pivot[i] = i;
+    }
+    int sign = 1;
+    for (int k = 0; k < n; k++) {
+      int rowK = k * n;
+      // find the largest element in the column
+      int max = k;
+      double largest = Math.abs(lu[rowK + k]);
+      for (int i = k + 1; i < n; i++) {
+        double value = Math.abs(lu[i * n + k]);
+        if (value > largest) {
+          largest = value;
+          max = i;
+        }
+      }
+      ArgChecker.isTrue(largest >= SINGULARITY_THRESHOLD, "Matrix is singular; could not perform LU decomposition");
+      if (max != k) {
+        int rowMax = max * n;
+        for (int j = 0; j < n; j++) {
+          double temp = lu[rowK + j];
+          lu[rowK + j] = lu[rowMax + j];
+          lu[rowMax + j] = temp;
+        }
+        int temp = pivot[k];
+        pivot[k] = pivot[max];
+        pivot[max] = temp;
+        sign = -sign;
+      }
+      // eliminate below the pivot
+      double diagonal = lu[rowK + k];
+      for (int i = k + 1; i < n; i++) {
+        int rowI = i * n;
+        double factor = lu[rowI + k] / diagonal;
+        lu[rowI + k] = factor;
+        if (factor != 0d) {
+          for (int j = k + 1; j < n; j++) {
+            lu[rowI + j] -= factor * lu[rowK + j];
+          }
+        }
+      }
+    }
+    return sign;
+  }
+
+  /**
+   * Solves the system using a decomposed matrix.
+   *
+   * @param lu  the decomposed matrix, row-major
+   * @param pivot  the pivot
+   * @param n  the size of the matrix
+   * @param b  the right hand side
+   * @param x  the array to populate with the solution, not the same as {@code b}
+   */
+  static void solve(double[] lu, int[] pivot, int n, double[] b, double[] x) {
+    // L y = P b (y stored in x array)
+    for (int i = 0; i < n; i++) {
+      double sum = b[pivot[i]];
+      int rowI = i * n;
+      for (int j = 0; j < i; j++) {
+        sum -= lu[rowI + j] * x[j];
+      }
+      x[i] = sum;
+    }
+    // U x = y
+    for (int i = n - 1; i >= 0; i--) {
+      double sum = x[i];
+      int rowI = i * n;
+      for (int j = i + 1; j < n; j++) {
+        sum -= lu[rowI + j] * x[j];
+      }
+      x[i] = sum / lu[rowI + i];
+    }
+  }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Results of the OpenGamma implementation of LU decomposition ({@link LUDecompositionOpenGamma}).
+ */
+public class LUDecompositionOpenGammaResult implements LUDecompositionResult {
+
+  /**
+   * The decomposition, row-major, L in the strict lower part and U in the upper part.
+   */
+  private final double[] _lu;
+  /**
+   * The pivot.
+   */
+  private final int[] _pivot;
+  /**
+   * The size of the matrix.
+   */
+  private final int _n;
+  /**
+   * The determinant of the original matrix.
+   */
+  private final double _determinant;
+
+  /**
+   * Creates an instance.
+   *
+   * @param lu  the decomposition, row-major, L in the strict lower part and U in the upper part, not copied
+   * @param pivot  the pivot, not copied
+   * @param n  the size of the matrix
+   * @param sign  the sign of the permutation
+   */
+  LUDecompositionOpenGammaResult(double[] lu, int[] pivot, int n, int sign) {
+    _lu = lu;
+    _pivot = pivot;
+    _n = n;
+    double determinant = sign;
+    for (int i = 0; i < n; i++) {
+      determinant *= lu[i * n + i];
+    }
+    _determinant = determinant;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double getDeterminant() {
+    return _determinant;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getL() {
+    return DoubleMatrix.of(_n, _n, (i, j) -> i > j ? _lu[i * _n + j] : (i == j ? 1d : 0d));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getU() {
+    return DoubleMatrix.of(_n, _n, (i, j) -> i <= j ? _lu[i * _n + j] : 0d);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getP() {
+    return DoubleMatrix.of(_n, _n, (i, j) -> _pivot[i] == j ? 1d : 0d);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int[] getPivot() {
+    return _pivot.clone();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleArray solve(DoubleArray b) {
+    ArgChecker.notNull(b, "b");
+    return DoubleArray.ofUnsafe(solve(b.toArrayUnsafe()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double[] solve(double[] b) {
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.length == _n, "b array of incorrect size");
+    double[] x = new double[_n];
+    LUDecompositionOpenGamma.solve(_lu, _pivot, _n, b, x);
+    return x;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix solve(DoubleMatrix b) {
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.rowCount() == _n, "b matrix of incorrect size");
+    int nbCol = b.columnCount();
+    double[][] x = new double[_n][nbCol];
+    double[] column = new double[_n];
+    double[] solution = new double[_n];
+    for (int loopcol = 0; loopcol < nbCol; loopcol++) {
+      for (int i = 0; i < _n; i++) {
+        column[i] = b.get(i, loopcol);
+      }
+      LUDecompositionOpenGamma.solve(_lu, _pivot, _n, column, solution);
+      for (int i = 0; i < _n; i++) {
+        x[i][loopcol] = solution[i];
+      }
+    }
+    return DoubleMatrix.ofUnsafe(x);
+  }
+
+}
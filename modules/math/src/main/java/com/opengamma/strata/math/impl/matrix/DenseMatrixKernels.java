@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.matrix;
+
+import java.util.stream.IntStream;
+
+/**
+ * Kernels for the multiplication of dense matrices.
+ * <p>
+ * The matrices are the row arrays of {@code DoubleMatrix}, which are accessed row by row.
+ * The loops are ordered and blocked so that the innermost loop runs along a row of the result,
+ * keeping a block of the right hand matrix in cache while it is reused.
+ * Large products are split by rows of the result and computed in the fork-join common pool.
+ * <p>
+ * Each element of a result is accumulated in increasing order of the summation index, starting from zero,
+ * whatever the blocking or the parallelism. The results are thus identical to those of the simple
+ * triple loop, and are deterministic.
+ */
+final class DenseMatrixKernels {
+
+  /**
+   * The size of the blocks of the summation and column dimensions.
+   */
+  private static final int BLOCK = 64;
+  /**
+   * The number of rows of the result computed by each parallel task.
+   */
+  private static final int ROWS_PER_TASK = 32;
+  /**
+   * The number of multiplications above which the product is computed in parallel.
+   */
+  static final long PARALLEL_THRESHOLD = 1L << 21;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the product of two matrices, $\mathbf{AB}$.
+   *
+   * @param a  the first matrix, n by p
+   * @param b  the second matrix, p by m
+   * @param p  the number of columns of the first matrix
+   * @param m  the number of columns of the second matrix
+   * @return the product, n by m
+   */
+  static double[][] multiply(double[][] a, double[][] b, int p, int m) {
+    int n = a.length;
+    double[][] c = new double[n][m];
+    forEachRowRange(n, (long) n * p * m, (start, end) -> {
+      for (int jj = 0; jj < m; jj += BLOCK) {
+        int jEnd = Math.min(jj + BLOCK, m);
+        for (int kk = 0; kk < p; kk += BLOCK) {
+          int kEnd = Math.min(kk + BLOCK, p);
+          for (int i = start; i < end; i++) {
+            double[] ai = a[i];
+            double[] ci = c[i];
+            for (int k = kk; k < kEnd; k++) {
+              double aik = ai[k];
+              double[] bk = b[k];
+              for (int j = jj; j < jEnd; j++) {
+                ci[j] += aik * bk[j];
+              }
+            }
+          }
+        }
+      }
+    });
+    return c;
+  }
+
+  /**
+   * Calculates the product of the transpose of a matrix with another matrix, $\mathbf{A}^T\mathbf{B}$.
+   *
+   * @param a  the first matrix, n by p
+   * @param b  the second matrix, n by m
+   * @param p  the number of columns of the first matrix
+   * @param m  the number of columns of the second matrix
+   * @param symmetric  true if the two matrices are the same, in which case only the upper half is computed
+   * @return the product, p by m
+   */
+  static double[][] transposeMultiply(double[][] a, double[][] b, int p, int m, boolean symmetric) {
+    int n = a.length;
+    double[][] c = new double[p][m];
+    forEachRowRange(p, (long) n * p * m, (start, end) -> {
+      for (int jj = 0; jj < m; jj += BLOCK) {
+        int jEnd = Math.min(jj + BLOCK, m);
+        for (int k = 0; k < n; k++) {
+          double[] ak = a[k];
+          double[] bk = b[k];
+          for (int i = start; i < end; i++) {
+            double aki = ak[i];
+            double[] ci = c[i];
+            for (int j = symmetric ? Math.max(i, jj) : jj; j < jEnd; j++) {
+              ci[j] += aki * bk[j];
+            }
+          }
+        }
+      }
+    });
+    if (symmetric) {
+      for (int i = 0; i < p; i++) {
+        for (int j = i + 1; j < p; j++) {
+          c[j][i] = c[i][j];
+        }
+      }
+    }
+    return c;
+  }
+
+  /**
+   * Calculates the product of a matrix with the transpose of another matrix, $\mathbf{AB}^T$.
+   *
+   * @param a  the first matrix, n by p
+   * @param b  the second matrix, m by p
+   * @param p  the number of columns of the matrices
+   * @return the product, n by m
+   */
+  static double[][] multiplyTranspose(double[][] a, double[][] b, int p) {
+    int n = a.length;
+    int m = b.length;
+    double[][] c = new double[n][m];
+    forEachRowRange(n, (long) n * p * m, (start, end) -> {
+      for (int jj = 0; jj < m; jj += BLOCK) {
+        int jEnd = Math.min(jj + BLOCK, m);
+        for (int i = start; i < end; i++) {
+          double[] ai = a[i];
+          double[] ci = c[i];
+          for (int j = jj; j < jEnd; j++) {
+            ci[j] = dot(ai, b[j], p);
+          }
+        }
+      }
+    });
+    return c;
+  }
+
+  /**
+   * Calculates the product of a matrix with a vector, $\mathbf{A}x$.
+   *
+   * @param a  the matrix, n by p
+   * @param x  the vector, size p
+   * @return the product, size n
+   */
+  static double[] multiply(double[][] a, double[] x) {
+    int n = a.length;
+    int p = x.length;
+    double[] y = new double[n];
+    forEachRowRange(n, (long) n * p, (start, end) -> {
+      for (int i = start; i < end; i++) {
+        y[i] = dot(a[i], x, p);
+      }
+    });
+    return y;
+  }
+
+  /**
+   * Calculates the product of a vector with a matrix, $x^T\mathbf{A}$.
+   *
+   * @param x  the vector, size n
+   * @param a  the matrix, n by m
+   * @param m  the number of columns of the matrix
+   * @return the product, size m
+   */
+  static double[] multiply(double[] x, double[][] a, int m) {
+    int n = x.length;
+    double[] y = new double[m];
+    for (int k = 0; k < n; k++) {
+      double xk = x[k];
+      double[] ak = a[k];
+      for (int j = 0; j < m; j++) {
+        y[j] += xk * ak[j];
+      }
+    }
+    return y;
+  }
+
+  //-------------------------------------------------------------------------
+  // the scalar product of the first p elements
+  private static double dot(double[] x, double[] y, int p) {
+    double sum = 0d;
+    for (int k = 0; k < p; k++) {
+      sum += x[k] * y[k];
+    }
+    return sum;
+  }
+
+  // applies the task to ranges of rows, in parallel if the number of multiplications is large
+  private static void forEachRowRange(int rows, long multiplications, RowRangeTask task) {
+    if (multiplications < PARALLEL_THRESHOLD || rows <= ROWS_PER_TASK) {
+      task.apply(0, rows);
+      return;
+    }
+    int nbTasks = (rows + ROWS_PER_TASK - 1) / ROWS_PER_TASK;
+    IntStream.range(0, nbTasks)
+        .parallel()
+        .forEach(t -> task.apply(t * ROWS_PER_TASK, Math.min((t + 1) * ROWS_PER_TASK, rows)));
+  }
+
+  /**
+   * A computation on a range of rows of the result.
+   */
+  @FunctionalInterface
+  private interface RowRangeTask {
+    void apply(int start, int end);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Restricted constructor.
+   */
+  private DenseMatrixKernels() {
+  }
+
+}
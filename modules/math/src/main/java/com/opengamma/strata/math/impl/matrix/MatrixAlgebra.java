@@ -278,27 +278,44 @@ public abstract class MatrixAlgebra {
    */
   public DoubleMatrix matrixTransposeMultiplyMatrix(DoubleMatrix a) {
     ArgChecker.notNull(a, "a");
-    int n = a.rowCount();
     int m = a.columnCount();
+    double[][] array = a.toArrayUnsafe();
+    return DoubleMatrix.ofUnsafe(DenseMatrixKernels.transposeMultiply(array, array, m, m, true));
+  }
 
-    double[][] data = new double[m][m];
-    for (int i = 0; i < m; i++) {
-      double sum = 0d;
-      for (int k = 0; k < n; k++) {
-        sum += a.get(k, i) * a.get(k, i);
-      }
-      data[i][i] = sum;
+  /**
+   * Compute $A^T B$, where A and B are matrices with the same number of rows.
+   * <p>
+   * This is equivalent to multiplying the transpose of A by B, without creating the transpose.
+   * @param a The first matrix
+   * @param b The second matrix
+   * @return The result of $A^T B$
+   */
+  public DoubleMatrix matrixTransposeMultiplyMatrix(DoubleMatrix a, DoubleMatrix b) {
+    ArgChecker.notNull(a, "a");
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(a.rowCount() == b.rowCount(), "Matrix size mismatch. a is " + a.rowCount() + " by " +
+        a.columnCount() + ", but b is " + b.rowCount() + " by " + b.columnCount());
+    double[][] product =
+        DenseMatrixKernels.transposeMultiply(a.toArrayUnsafe(), b.toArrayUnsafe(), a.columnCount(), b.columnCount(), false);
+    return DoubleMatrix.ofUnsafe(product);
+  }
 
-      for (int j = i + 1; j < m; j++) {
-        sum = 0d;
-        for (int k = 0; k < n; k++) {
-          sum += a.get(k, i) * a.get(k, j);
-        }
-        data[i][j] = sum;
-        data[j][i] = sum;
-      }
-    }
-    return DoubleMatrix.ofUnsafe(data);
+  /**
+   * Compute $A B^T$, where A and B are matrices with the same number of columns.
+   * <p>
+   * This is equivalent to multiplying A by the transpose of B, without creating the transpose.
+   * @param a The first matrix
+   * @param b The second matrix
+   * @return The result of $A B^T$
+   */
+  public DoubleMatrix matrixMultiplyMatrixTranspose(DoubleMatrix a, DoubleMatrix b) {
+    ArgChecker.notNull(a, "a");
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(a.columnCount() == b.columnCount(), "Matrix size mismatch. a is " + a.rowCount() + " by " +
+        a.columnCount() + ", but b is " + b.rowCount() + " by " + b.columnCount());
+    double[][] product = DenseMatrixKernels.multiplyTranspose(a.toArrayUnsafe(), b.toArrayUnsafe(), a.columnCount());
+    return DoubleMatrix.ofUnsafe(product);
   }
 
 }
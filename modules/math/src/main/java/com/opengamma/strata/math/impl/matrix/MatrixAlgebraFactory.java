@@ -18,10 +18,14 @@ public final class MatrixAlgebraFactory {
   public static final String COMMONS = "Commons";
   /** Label for OpenGamma matrix algebra */
   public static final String OG = "OG";
+  /** Label for OpenGamma matrix algebra with LU decomposition */
+  public static final String OG_LU = "OG_LU";
   /** {@link CommonsMatrixAlgebra} */
   public static final CommonsMatrixAlgebra COMMONS_ALGEBRA = new CommonsMatrixAlgebra();
   /** {@link OGMatrixAlgebra} */
   public static final OGMatrixAlgebra OG_ALGEBRA = new OGMatrixAlgebra();
+  /** {@link OGLUMatrixAlgebra} */
+  public static final OGLUMatrixAlgebra OG_LU_ALGEBRA = new OGLUMatrixAlgebra();
   private static final Map<String, MatrixAlgebra> STATIC_INSTANCES;
   private static final Map<Class<?>, String> INSTANCE_NAMES;
 
@@ -32,6 +36,8 @@ public final class MatrixAlgebraFactory {
     INSTANCE_NAMES.put(CommonsMatrixAlgebra.class, COMMONS);
     STATIC_INSTANCES.put(OG, OG_ALGEBRA);
     INSTANCE_NAMES.put(OGMatrixAlgebra.class, OG);
+    STATIC_INSTANCES.put(OG_LU, OG_LU_ALGEBRA);
+    INSTANCE_NAMES.put(OGLUMatrixAlgebra.class, OG_LU);
   }
 
   private MatrixAlgebraFactory() {
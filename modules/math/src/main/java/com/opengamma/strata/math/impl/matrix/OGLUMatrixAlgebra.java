@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.matrix;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.array.Matrix;
+import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionOpenGamma;
+
+/**
+ * An implementation of matrix algebra that adds the determinant and inverse to {@link OGMatrixAlgebra}.
+ * <p>
+ * The determinant and inverse are calculated using {@link LUDecompositionOpenGamma},
+ * which operates on arrays of doubles without conversion to the Commons Math matrices.
+ * Unlike {@link CommonsMatrixAlgebra}, a singular matrix is rejected.
+ */
+public class OGLUMatrixAlgebra extends OGMatrixAlgebra {
+
+  /**
+   * The decomposition.
+   */
+  private static final LUDecompositionOpenGamma LU = new LUDecompositionOpenGamma();
+
+  /**
+   * {@inheritDoc}
+   * @throws IllegalArgumentException if the matrix is singular
+   */
+  @Override
+  public double getDeterminant(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleMatrix) {
+      return LU.apply((DoubleMatrix) m).getDeterminant();
+    }
+    throw new IllegalArgumentException("Can only find determinant of DoubleMatrix; have " + m.getClass());
+  }
+
+  /**
+   * {@inheritDoc}
+   * @throws IllegalArgumentException if the matrix is singular
+   */
+  @Override
+  public DoubleMatrix getInverse(Matrix m) {
+    ArgChecker.notNull(m, "matrix was null");
+    if (m instanceof DoubleMatrix) {
+      DoubleMatrix matrix = (DoubleMatrix) m;
+      return LU.apply(matrix).solve(DoubleMatrix.identity(matrix.rowCount()));
+    }
+    throw new IllegalArgumentException("Can only find inverse of DoubleMatrix; have " + m.getClass());
+  }
+
+}
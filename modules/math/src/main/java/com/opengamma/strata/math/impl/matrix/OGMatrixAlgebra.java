@@ -199,28 +199,14 @@ public class OGMatrixAlgebra extends MatrixAlgebra {
         m1.columnCount() == p,
         "Matrix size mismatch. m1 is " + m1.rowCount() + " by " + m1.columnCount() +
             ", but m2 is " + m2.rowCount() + " by " + m2.columnCount());
-    return DoubleMatrix.of(
-        m1.rowCount(),
-        m2.columnCount(),
-        (i, j) -> {
-          double sum = 0d;
-          for (int k = 0; k < p; k++) {
-            sum += m1.get(i, k) * m2.get(k, j);
-          }
-          return sum;
-        });
+    return DoubleMatrix.ofUnsafe(
+        DenseMatrixKernels.multiply(m1.toArrayUnsafe(), m2.toArrayUnsafe(), p, m2.columnCount()));
   }
 
   private DoubleArray multiply(DoubleMatrix matrix, DoubleArray vector) {
     int n = vector.size();
     ArgChecker.isTrue(matrix.columnCount() == n, "Matrix/vector size mismatch");
-    return DoubleArray.of(matrix.rowCount(), i -> {
-      double sum = 0;
-      for (int j = 0; j < n; j++) {
-        sum += matrix.get(i, j) * vector.get(j);
-      }
-      return sum;
-    });
+    return DoubleArray.ofUnsafe(DenseMatrixKernels.multiply(matrix.toArrayUnsafe(), vector.toArrayUnsafe()));
   }
 
   private DoubleArray multiply(TridiagonalMatrix matrix, DoubleArray vector) {
@@ -243,13 +229,8 @@ public class OGMatrixAlgebra extends MatrixAlgebra {
   private DoubleArray multiply(DoubleArray vector, DoubleMatrix matrix) {
     int n = vector.size();
     ArgChecker.isTrue(matrix.rowCount() == n, "Matrix/vector size mismatch");
-    return DoubleArray.of(matrix.columnCount(), i -> {
-      double sum = 0;
-      for (int j = 0; j < n; j++) {
-        sum += vector.get(j) * matrix.get(j, i);
-      }
-      return sum;
-    });
+    return DoubleArray.ofUnsafe(
+        DenseMatrixKernels.multiply(vector.toArrayUnsafe(), matrix.toArrayUnsafe(), matrix.columnCount()));
   }
 
   private DoubleArray multiply(DoubleArray vector, TridiagonalMatrix matrix) {
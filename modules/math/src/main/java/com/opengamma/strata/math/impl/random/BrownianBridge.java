@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Brownian bridge construction of the paths of a Brownian motion.
+ * <p>
+ * The first standard normal number determines the value at the last time.
+ * Each subsequent number determines the value in the middle of the largest remaining gap,
+ * conditional on the values at both ends of the gap.
+ * This concentrates the variance of the path in the first numbers, which is the purpose of the construction
+ * when the numbers are the coordinates of a low-discrepancy sequence such as {@link SobolSequence}.
+ * <p>
+ * The Brownian motion starts at zero at time zero.
+ * The construction is precomputed from the times, thus generating a path requires no allocation.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class BrownianBridge {
+
+  /**
+   * The index of the time set by each step.
+   */
+  private final int[] bridgeIndex;
+  /**
+   * The index of the known time before the time set by each step, minus one, zero for time zero.
+   */
+  private final int[] leftIndex;
+  /**
+   * The index of the known time after the time set by each step.
+   */
+  private final int[] rightIndex;
+  /**
+   * The weight of the value at the left time.
+   */
+  private final double[] leftWeight;
+  /**
+   * The weight of the value at the right time.
+   */
+  private final double[] rightWeight;
+  /**
+   * The standard deviation of each step, conditional on the values at the left and right times.
+   */
+  private final double[] stdDev;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance for the specified times.
+   *
+   * @param times  the times, positive and strictly increasing
+   * @return the bridge
+   */
+  public static BrownianBridge of(DoubleArray times) {
+    ArgChecker.notNull(times, "times");
+    int size = times.size();
+    ArgChecker.isTrue(size > 0, "times must not be empty");
+    double[] t = times.toArrayUnsafe();
+    ArgChecker.isTrue(t[0] > 0d, "times must be positive");
+    for (int i = 1; i < size; i++) {
+      ArgChecker.isTrue(t[i] > t[i - 1], "times must be strictly increasing");
+    }
+    return new BrownianBridge(t);
+  }
+
+  // restricted constructor
+  private BrownianBridge(double[] t) {
+    int size = t.length;
+    bridgeIndex = new int[size];
+    leftIndex = new int[size];
+    rightIndex = new int[size];
+    leftWeight = new double[size];
+    rightWeight = new double[size];
+    stdDev = new double[size];
+    // map of the times already set, by step number plus one
+    int[] map = new int[size];
+    map[size - 1] = 1;
+    bridgeIndex[0] = size - 1;
+    stdDev[0] = Math.sqrt(t[size - 1]);
+    int j = 0;
+    for (int i = 1; i < size; i++) {
+      // find the next gap, from j to k - 1, with k set
+      while (map[j] != 0) {
+        j++;
+      }
+      int k = j;
+      while (map[k] == 0) {
+        k++;
+      }
+      int l = j + ((k - 1 - j) >> 1);
+      map[l] = i + 1;
+      bridgeIndex[i] = l;
+      leftIndex[i] = j;
+      rightIndex[i] = k;
+      double tLeft = j == 0 ? 0d : t[j - 1];
+      leftWeight[i] = (t[k] - t[l]) / (t[k] - tLeft);
+      rightWeight[i] = (t[l] - tLeft) / (t[k] - tLeft);
+      stdDev[i] = Math.sqrt((t[l] - tLeft) * (t[k] - t[l]) / (t[k] - tLeft));
+      j = k + 1;
+      if (j >= size) {
+        j = 0;
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of times, which is the number of normal numbers required by each path.
+   *
+   * @return the number of times
+   */
+  public int getSize() {
+    return bridgeIndex.length;
+  }
+
+  /**
+   * Builds the values of a path at the times.
+   *
+   * @param normals  the independent standard normal numbers, of size at least the number of times
+   * @param path  the array to populate with the values of the Brownian motion at the times
+   */
+  public void path(double[] normals, double[] path) {
+    int size = bridgeIndex.length;
+    path[size - 1] = stdDev[0] * normals[0];
+    for (int i = 1; i < size; i++) {
+      int j = leftIndex[i];
+      int k = rightIndex[i];
+      int l = bridgeIndex[i];
+      if (j != 0) {
+        path[l] = leftWeight[i] * path[j - 1] + rightWeight[i] * path[k] + stdDev[i] * normals[i];
+      } else {
+        path[l] = rightWeight[i] * path[k] + stdDev[i] * normals[i];
+      }
+    }
+  }
+
+  /**
+   * Builds the increments of a path between consecutive times, the first from time zero.
+   *
+   * @param normals  the independent standard normal numbers, of size at least the number of times
+   * @param increments  the array to populate with the increments of the Brownian motion
+   */
+  public void increments(double[] normals, double[] increments) {
+    path(normals, increments);
+    for (int i = bridgeIndex.length - 1; i > 0; i--) {
+      increments[i] -= increments[i - 1];
+    }
+  }
+
+}
@@ -60,6 +60,14 @@ public class NormalRandomNumberGenerator
     return result;
   }
 
+  @Override
+  public void fill(double[] result) {
+    ArgChecker.notNull(result, "result");
+    for (int i = 0; i < result.length; i++) {
+      result[i] = normal.nextRandom();
+    }
+  }
+
   @Override
   public List<double[]> getVectors(int arraySize, int listSize) {
     ArgChecker.notNegative(arraySize, "arraySize");
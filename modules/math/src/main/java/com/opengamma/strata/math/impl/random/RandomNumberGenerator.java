@@ -20,6 +20,18 @@ public interface RandomNumberGenerator {
    */
   double[] getVector(int size);
 
+  /**
+   * Fills an array with random numbers.
+   * <p>
+   * This is equivalent to {@link #getVector(int)}, but writes into an existing array.
+   * The default implementation copies the result of {@link #getVector(int)}.
+   * 
+   * @param result  the array to populate
+   */
+  default void fill(double[] result) {
+    System.arraycopy(getVector(result.length), 0, result, 0, result.length);
+  }
+
   /**
    * Gets a list of random number arrays.
    * 
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import org.apache.commons.math3.random.SobolSequenceGenerator;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistributionKernel;
+
+/**
+ * Sobol low-discrepancy sequence.
+ * <p>
+ * The sequence is generated in Gray code order, where each point is obtained from the previous one
+ * by a single exclusive-or per dimension. The direction numbers are those of Joe and Kuo,
+ * "Constructing Sobol sequences with better two-dimensional projections", SIAM J. Sci. Comput. 30 (2008),
+ * as distributed with Commons Math, which supports up to 1000 dimensions.
+ * <p>
+ * The first point of the sequence, the origin, is skipped, thus all coordinates are strictly between zero and one.
+ * The point with index {@code n}, starting from one, is the same as the one returned by the Commons Math
+ * {@link SobolSequenceGenerator} after {@code n} previous points.
+ * At most {@value #MAX_INDEX} points can be generated.
+ * <p>
+ * The points are written into arrays supplied by the caller, thus no memory is allocated when generating.
+ * To generate the sequence in parallel, each task should use its own instance created using
+ * {@link #startingAt(long)}, for example a block of consecutive indices for each task.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class SobolSequence {
+
+  /**
+   * The maximum index of a point.
+   */
+  public static final long MAX_INDEX = Integer.MAX_VALUE;
+  /**
+   * The number of direction numbers, enough to generate the maximum number of points.
+   */
+  private static final int DIRECTION_COUNT = 31;
+  /**
+   * The number of bits of the direction numbers.
+   */
+  private static final int BITS = 52;
+  /**
+   * The scale to convert the integers to numbers between zero and one.
+   */
+  private static final double SCALE = Math.pow(2d, -BITS);
+
+  /**
+   * The direction numbers, by bit then by dimension. Shared between copies.
+   */
+  private final long[][] directions;
+  /**
+   * The dimension.
+   */
+  private final int dimension;
+  /**
+   * The integer representation of the current point.
+   */
+  private final long[] current;
+  /**
+   * The index of the current point.
+   */
+  private long index;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a sequence of the specified dimension.
+   * <p>
+   * The first call to {@link #nextUniform(double[])} returns the point with index one.
+   *
+   * @param dimension  the dimension, from 1 to 1000
+   * @return the sequence
+   */
+  public static SobolSequence of(int dimension) {
+    ArgChecker.inRangeInclusive(dimension, 1, 1000, "dimension");
+    // the point with index 2^(k+1)-1 has the Gray code 2^k, its value is direction number k
+    SobolSequenceGenerator generator = new SobolSequenceGenerator(dimension);
+    long[][] directions = new long[DIRECTION_COUNT][dimension];
+    for (int k = 0; k < DIRECTION_COUNT; k++) {
+      double[] point = generator.skipTo((int) ((1L << (k + 1)) - 1));
+      for (int j = 0; j < dimension; j++) {
+        directions[k][j] = (long) Math.scalb(point[j], BITS);
+      }
+    }
+    return new SobolSequence(directions, dimension, 0);
+  }
+
+  // restricted constructor
+  private SobolSequence(long[][] directions, int dimension, long index) {
+    this.directions = directions;
+    this.dimension = dimension;
+    this.current = new long[dimension];
+    skipTo(index);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the dimension of the sequence.
+   *
+   * @return the dimension
+   */
+  public int getDimension() {
+    return dimension;
+  }
+
+  /**
+   * Gets the index of the last point generated, zero if none.
+   *
+   * @return the index
+   */
+  public long getIndex() {
+    return index;
+  }
+
+  /**
+   * Returns a copy of this sequence, such that the next point generated is the point after the specified index.
+   * <p>
+   * The direction numbers are shared, thus this is cheaper than creating a new sequence.
+   * The state of this sequence is not altered.
+   *
+   * @param index  the index of the last point considered generated, zero to start from the beginning
+   * @return the sequence
+   */
+  public SobolSequence startingAt(long index) {
+    return new SobolSequence(directions, dimension, index);
+  }
+
+  // sets the current point to the point with the specified index
+  private void skipTo(long index) {
+    ArgChecker.isTrue(index >= 0 && index <= MAX_INDEX, "Index must be between 0 and {}, but was {}", MAX_INDEX, index);
+    long grayCode = index ^ (index >> 1);
+    for (int j = 0; j < dimension; j++) {
+      long value = 0;
+      for (int k = 0; k < DIRECTION_COUNT; k++) {
+        if ((grayCode >> k & 1) != 0) {
+          value ^= directions[k][j];
+        }
+      }
+      current[j] = value;
+    }
+    this.index = index;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Generates the next point, with coordinates uniformly distributed between zero and one.
+   *
+   * @param point  the array to populate, of size at least the dimension
+   * @throws IllegalStateException if the maximum number of points has been generated
+   */
+  public void nextUniform(double[] point) {
+    next();
+    for (int j = 0; j < dimension; j++) {
+      point[j] = current[j] * SCALE;
+    }
+  }
+
+  /**
+   * Generates the next point, with coordinates following the standard normal distribution.
+   * <p>
+   * The uniform coordinates are transformed using {@link NormalDistributionKernel#inverseCdf(double)}.
+   *
+   * @param point  the array to populate, of size at least the dimension
+   * @throws IllegalStateException if the maximum number of points has been generated
+   */
+  public void nextNormal(double[] point) {
+    next();
+    for (int j = 0; j < dimension; j++) {
+      point[j] = NormalDistributionKernel.inverseCdf(current[j] * SCALE);
+    }
+  }
+
+  // moves to the next point, changing the direction number of the rightmost zero bit of the current index
+  private void next() {
+    if (index >= MAX_INDEX) {
+      throw new IllegalStateException("Maximum number of points of Sobol sequence reached");
+    }
+    long[] direction = directions[Long.numberOfTrailingZeros(~index)];
+    for (int j = 0; j < dimension; j++) {
+      current[j] ^= direction[j];
+    }
+    index++;
+  }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistributionKernel;
+
+/**
+ * Generator of standard normal random numbers that can be split into independent generators.
+ * <p>
+ * The uniform numbers are produced by {@link SplittableRandom} and transformed to normal numbers
+ * using {@link NormalDistributionKernel#inverseCdf(double)}.
+ * <p>
+ * To generate numbers in parallel, split the generator into one generator per task, in a fixed order,
+ * before the tasks are started. Each task then draws from its own independent stream, and the numbers
+ * only depend on the seed and the split order, not on the scheduling of the tasks.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class SplittableNormalRandomNumberGenerator
+    implements RandomNumberGenerator {
+
+  /**
+   * The scale to convert 52 random bits to a number between zero and one.
+   */
+  private static final double SCALE = Math.pow(2d, -52);
+
+  /**
+   * The underlying generator of uniform numbers.
+   */
+  private final SplittableRandom random;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from a seed.
+   * <p>
+   * Two instances with the same seed produce the same numbers.
+   *
+   * @param seed  the seed
+   * @return the generator
+   */
+  public static SplittableNormalRandomNumberGenerator of(long seed) {
+    return new SplittableNormalRandomNumberGenerator(new SplittableRandom(seed));
+  }
+
+  // restricted constructor
+  private SplittableNormalRandomNumberGenerator(SplittableRandom random) {
+    this.random = random;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Splits off a new generator, independent of this one.
+   * <p>
+   * This generator is advanced by the split.
+   *
+   * @return the new generator
+   */
+  public SplittableNormalRandomNumberGenerator split() {
+    return new SplittableNormalRandomNumberGenerator(random.split());
+  }
+
+  /**
+   * Splits off a number of new generators, independent of this one and of each other.
+   * <p>
+   * This generator is advanced by the splits.
+   *
+   * @param count  the number of generators
+   * @return the new generators
+   */
+  public List<SplittableNormalRandomNumberGenerator> split(int count) {
+    ArgChecker.notNegative(count, "count");
+    ImmutableList.Builder<SplittableNormalRandomNumberGenerator> builder = ImmutableList.builder();
+    for (int i = 0; i < count; i++) {
+      builder.add(split());
+    }
+    return builder.build();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the next standard normal random number.
+   *
+   * @return the random number
+   */
+  public double next() {
+    // uniform strictly between zero and one, thus the inverse is finite
+    double uniform = ((random.nextLong() >>> 12) + 0.5d) * SCALE;
+    return NormalDistributionKernel.inverseCdf(uniform);
+  }
+
+  @Override
+  public void fill(double[] result) {
+    ArgChecker.notNull(result, "result");
+    for (int i = 0; i < result.length; i++) {
+      result[i] = next();
+    }
+  }
+
+  @Override
+  public double[] getVector(int size) {
+    ArgChecker.notNegative(size, "size");
+    double[] result = new double[size];
+    fill(result);
+    return result;
+  }
+
+  @Override
+  public List<double[]> getVectors(int arraySize, int listSize) {
+    ArgChecker.notNegative(arraySize, "arraySize");
+    ArgChecker.notNegative(listSize, "listSize");
+    List<double[]> result = new ArrayList<>(listSize);
+    for (int i = 0; i < listSize; i++) {
+      result.add(getVector(arraySize));
+    }
+    return result;
+  }
+
+}
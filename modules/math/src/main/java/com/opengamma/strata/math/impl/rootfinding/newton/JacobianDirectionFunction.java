@@ -9,7 +9,6 @@ import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.math.impl.linearalgebra.Decomposition;
-import com.opengamma.strata.math.impl.linearalgebra.DecompositionResult;
 
 /**
  * 
@@ -27,8 +26,7 @@ public class JacobianDirectionFunction implements NewtonRootFinderDirectionFunct
   public DoubleArray getDirection(DoubleMatrix estimate, DoubleArray y) {
     ArgChecker.notNull(estimate, "estimate");
     ArgChecker.notNull(y, "y");
-    DecompositionResult result = _decomposition.apply(estimate);
-    return result.solve(y);
+    return _decomposition.solve(estimate, y);
   }
 
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.statistics.distribution;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Primitive functions of the standard normal distribution, with mean zero and standard deviation one.
+ * <p>
+ * These are the functions used when pricing options in closed form, such as the Black and Bachelier formulas.
+ * Unlike {@link NormalDistribution}, the arguments are not boxed and no random engine is required,
+ * thus there is no allocation.
+ * <p>
+ * The accuracy of each function is as follows:
+ * <ul>
+ * <li>{@link #pdf(double)} is exact up to the rounding of {@link Math#exp(double)}.
+ * <li>{@link #cdf(double)} uses the SLATEC complementary error function, whose Chebyshev expansions
+ *  are truncated at one tenth of the machine precision. The relative error is below 1e-15 for any
+ *  argument whose result does not underflow, including the far left tail. The result is identical to
+ *  {@link NormalDistribution#getCDF(Double)}.
+ * <li>{@link #inverseCdf(double)} uses algorithm AS241 (PPND16) from Wichura, "The Percentage Points
+ *  of the Normal Distribution", Applied Statistics 37 (1988). The published relative accuracy of the
+ *  rational approximations is about 1e-16 for probabilities down to 1e-300.
+ * </ul>
+ * <p>
+ * This class is thread-safe.
+ */
+public final class NormalDistributionKernel {
+
+  /**
+   * The density at zero, {@code 1 / sqrt(2 pi)}.
+   */
+  private static final double INV_SQRT_2PI = 1d / Math.sqrt(2d * Math.PI);
+  /**
+   * The square root of two.
+   */
+  private static final double ROOT2 = Math.sqrt(2d);
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the probability density function of the standard normal distribution.
+   *
+   * @param x  the value
+   * @return the density at the value
+   */
+  public static double pdf(double x) {
+    return INV_SQRT_2PI * Math.exp(-(x * x) / 2d);
+  }
+
+  /**
+   * Calculates the cumulative distribution function of the standard normal distribution.
+   *
+   * @param x  the value
+   * @return the probability of a value less than or equal to the specified value
+   */
+  public static double cdf(double x) {
+    return DERFC.getErfc(-x / ROOT2) / 2;
+  }
+
+  /**
+   * Calculates the inverse of the cumulative distribution function of the standard normal distribution.
+   * <p>
+   * A probability of zero returns negative infinity, and a probability of one returns positive infinity.
+   *
+   * @param p  the probability, from zero to one inclusive
+   * @return the value with the specified cumulative probability
+   * @throws IllegalArgumentException if the probability is outside the range zero to one
+   */
+  public static double inverseCdf(double p) {
+    ArgChecker.isTrue(p >= 0d && p <= 1d, "Probability must be >= 0 and <= 1");
+    if (p == 0d) {
+      return Double.NEGATIVE_INFINITY;
+    }
+    if (p == 1d) {
+      return Double.POSITIVE_INFINITY;
+    }
+    double q = p - 0.5;
+    if (Math.abs(q) <= 0.425) {
+      // central region, probability from 0.075 to 0.925
+      double r = 0.180625 - q * q;
+      return q * (((((((r * 2509.0809287301226727 +
+          33430.575583588128105) * r + 67265.770927008700853) * r +
+          45921.953931549871457) * r + 13731.693765509461125) * r +
+          1971.5909503065514427) * r + 133.14166789178437745) * r +
+          3.387132872796366608) /
+          (((((((r * 5226.495278852545925 +
+              28729.085735721942674) * r + 39307.89580009271061) * r +
+              21213.794301586595867) * r + 5394.1960214247511077) * r +
+              687.1870074920579083) * r + 42.313330701600911252) * r + 1d);
+    }
+    // tails, using the smaller of p and 1 - p
+    double r = Math.sqrt(-Math.log(q < 0 ? p : 1d - p));
+    double value;
+    if (r <= 5d) {
+      r -= 1.6;
+      value = (((((((r * 7.7454501427834140764e-4 +
+          0.0227238449892691845833) * r + 0.24178072517745061177) * r +
+          1.27045825245236838258) * r + 3.64784832476320460504) * r +
+          5.7694972214606914055) * r + 4.6303378461565452959) * r +
+          1.42343711074968357734) /
+          (((((((r * 1.05075007164441684324e-9 +
+              5.475938084995344946e-4) * r + 0.0151986665636164571966) * r +
+              0.14810397642748007459) * r + 0.68976733498510000455) * r +
+              1.6763848301838038494) * r + 2.05319162663775882187) * r + 1d);
+    } else {
+      r -= 5d;
+      value = (((((((r * 2.01033439929228813265e-7 +
+          2.71155556874348757815e-5) * r + 0.0012426609473880784386) * r +
+          0.026532189526576123093) * r + 0.29656057182850489123) * r +
+          1.7848265399172913358) * r + 5.4637849111641143699) * r +
+          6.6579046435011037772) /
+          (((((((r * 2.04426310338993978564e-15 +
+              1.4215117583164458887e-7) * r + 1.8463183175100546818e-5) * r +
+              7.868691311456132591e-4) * r + 0.0148753612908506148525) * r +
+              0.13692988092273580531) * r + 0.59983220655588793769) * r + 1d);
+    }
+    return q < 0 ? -value : value;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Restricted constructor.
+   */
+  private NormalDistributionKernel() {
+  }
+
+}
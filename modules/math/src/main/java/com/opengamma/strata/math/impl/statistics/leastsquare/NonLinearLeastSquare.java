@@ -392,7 +392,6 @@ public class NonLinearLeastSquare {
     ArgChecker.isTrue(constraints.apply(startPos),
         "The inital value of the parameters (startPos) is {} - this is not an allowed value", startPos);
     DoubleMatrix alpha;
-    DecompositionResult decmp;
     DoubleArray theta = startPos;
 
     double lambda = 0.0; // TODO debug if the model is linear, it will be solved in 1 step
@@ -415,8 +414,7 @@ public class NonLinearLeastSquare {
 
       DoubleArray deltaTheta;
       try {
-        decmp = _decomposition.apply(alpha);
-        deltaTheta = decmp.solve(beta);
+        deltaTheta = _decomposition.solve(alpha, beta);
       } catch (Exception e) {
         throw new MathException(e);
       }
@@ -439,10 +437,7 @@ public class NonLinearLeastSquare {
 
         // if the model is an exact fit to the data, then no more improvement is possible
         if (newChiSqr < _eps) {
-          if (lambda > 0.0) {
-            decmp = _decomposition.apply(alpha0);
-          }
-          return finish(alpha0, decmp, newChiSqr, jacobian, trialTheta, sigma);
+          return finish(alpha0, _decomposition.apply(alpha0), newChiSqr, jacobian, trialTheta, sigma);
         }
 
         SVDecompositionCommons svd = (SVDecompositionCommons) DecompositionFactory.SV_COMMONS;
@@ -521,7 +516,7 @@ public class NonLinearLeastSquare {
             if (counter > 10 || Math.abs(newChiSqr - oldChiSqr) / (1 + oldChiSqr) < _eps) {
               LOGGER.warn("Saddle point detected, but no improvement to chi^2 possible by moving away. " +
                   "It is recommended that a different starting point is used.");
-              return finish(newAlpha, decmp, oldChiSqr, jacobian, theta, sigma);
+              return finish(newAlpha, _decomposition.apply(alpha), oldChiSqr, jacobian, theta, sigma);
             }
             scale /= 2.0;
             deltaTheta = (DoubleArray) _algebra.scale(direction, scale);
@@ -533,7 +528,7 @@ public class NonLinearLeastSquare {
         } else {
           // this should be the normal finish - i.e. no improvement in chiSqr and at a true minimum (although there is
           // no guarantee it is not a local minimum)
-          return finish(newAlpha, decmp, newChiSqr, jacobian, trialTheta, sigma);
+          return finish(newAlpha, _decomposition.apply(alpha), newChiSqr, jacobian, trialTheta, sigma);
         }
       }
 
@@ -72,6 +72,19 @@ public class CholeskyDecompositionOpenGammaTest {
     ArrayAsserts.assertArrayEquals("Cholesky decomposition OpenGamma - solve", b[1], ax.rowArray(1), 1.0E-10);
   }
 
+  /**
+   * Tests solve Ax = b from A and b, without creating the result.
+   */
+  public void solveWorkspace() {
+    DoubleArray b = DoubleArray.of(1.0, 2.0, 3.0, 4.0, -1.0);
+    DoubleArray expected = DoubleArray.copyOf(CDOG.apply(A5).solve(b.toArray()));
+    assertEquals(CDOG.apply(A5).solve(b), expected);
+    assertEquals(CDOG.solve(A5, b), expected);
+    DoubleArray b3 = DoubleArray.of(1.0, 2.0, 3.0);
+    assertEquals(CDOG.solve(A3, b3), CDOG.apply(A3).solve(b3));
+    assertEquals(CDOG.solve(A5, b), expected);
+  }
+
   /**
    * Compare results with Common decomposition
    */
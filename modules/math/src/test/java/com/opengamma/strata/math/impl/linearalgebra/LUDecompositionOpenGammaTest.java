@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
+
+/**
+ * Test {@link LUDecompositionOpenGamma}.
+ */
+@Test
+public class LUDecompositionOpenGammaTest {
+
+  private static final MatrixAlgebra ALGEBRA = new OGMatrixAlgebra();
+  private static final LUDecompositionOpenGamma LU = new LUDecompositionOpenGamma();
+  private static final LUDecompositionCommons LU_COMMONS = new LUDecompositionCommons();
+  private static final DoubleMatrix A = DoubleMatrix.copyOf(
+      new double[][] {{1, 2, -1}, {4, 3, 1}, {2, 2, 3}});
+  private static final DoubleMatrix A5 = DoubleMatrix.copyOf(
+      new double[][] {
+          {0.1, 2.0, -1.0, 1.0, 1.0},
+          {2.0, 5.0, -2.0, 0.5, 0.5},
+          {-1.0, -2.0, 15.0, 1.0, 0.5},
+          {7.0, 0.5, 1.0, 10.0, -1.0},
+          {1.0, 0.5, 0.5, -1.0, 0.0}});
+  private static final DoubleArray B5 = DoubleArray.of(1.0, 2.0, 3.0, 4.0, -1.0);
+  private static final double EPS = 1e-12;
+
+  public void test_recoverOriginal() {
+    LUDecompositionResult lu = LU.apply(A5);
+    DoubleMatrix a = (DoubleMatrix) ALGEBRA.multiply(lu.getL(), lu.getU());
+    checkEquals(a, (DoubleMatrix) ALGEBRA.multiply(lu.getP(), A5));
+  }
+
+  public void test_compareCommons() {
+    LUDecompositionResult lu = LU.apply(A5);
+    LUDecompositionResult expected = LU_COMMONS.apply(A5);
+    checkEquals(lu.getL(), expected.getL());
+    checkEquals(lu.getU(), expected.getU());
+    checkEquals(lu.getP(), expected.getP());
+    assertEquals(lu.getPivot(), expected.getPivot());
+    assertEquals(lu.getDeterminant(), expected.getDeterminant(), EPS * Math.abs(expected.getDeterminant()));
+    assertEquals(LU.apply(A).getDeterminant(), LU_COMMONS.apply(A).getDeterminant(), EPS);
+  }
+
+  public void test_solve() {
+    LUDecompositionResult lu = LU.apply(A5);
+    DoubleArray x = lu.solve(B5);
+    checkEquals(x, LU_COMMONS.apply(A5).solve(B5));
+    checkEquals((DoubleArray) ALGEBRA.multiply(A5, x), B5);
+    assertEquals(lu.solve(B5.toArray()), x.toArray());
+    DoubleMatrix b = DoubleMatrix.copyOf(new double[][] {{1, 2}, {2, 3}, {3, 4}, {4, -2}, {-1, -1}});
+    DoubleMatrix xMatrix = lu.solve(b);
+    checkEquals((DoubleMatrix) ALGEBRA.multiply(A5, xMatrix), b);
+    checkEquals(xMatrix.column(0), x);
+  }
+
+  public void test_solve_workspace() {
+    // the workspace path is identical to the result path, including after a larger solve on the same thread
+    DoubleArray expected = LU.apply(A5).solve(B5);
+    assertEquals(LU.solve(A5, B5), expected);
+    DoubleArray b3 = DoubleArray.of(1, 2, 3);
+    assertEquals(LU.solve(A, b3), LU.apply(A).solve(b3));
+    assertEquals(LU.solve(A5, B5), expected);
+  }
+
+  public void test_solve_workspace_threads() throws Exception {
+    DoubleArray expected = LU.solve(A5, B5);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      @SuppressWarnings("unchecked")
+      CompletableFuture<DoubleArray>[] futures = new CompletableFuture[16];
+      for (int i = 0; i < futures.length; i++) {
+        DoubleMatrix matrix = i % 2 == 0 ? A5 : A;
+        DoubleArray b = i % 2 == 0 ? B5 : DoubleArray.of(1, 2, 3);
+        futures[i] = CompletableFuture.supplyAsync(() -> {
+          DoubleArray result = null;
+          for (int j = 0; j < 100; j++) {
+            result = LU.solve(matrix, b);
+          }
+          return result;
+        }, executor);
+      }
+      for (int i = 0; i < futures.length; i += 2) {
+        assertEquals(futures[i].get(), expected);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void test_invalid() {
+    DoubleMatrix singular = DoubleMatrix.copyOf(new double[][] {{1, 2}, {2, 4}});
+    assertThrowsIllegalArg(() -> LU.apply(null));
+    assertThrowsIllegalArg(() -> LU.apply(singular));
+    assertThrowsIllegalArg(() -> LU.apply(DoubleMatrix.filled(2, 3)));
+    assertThrowsIllegalArg(() -> LU.solve(singular, DoubleArray.of(1, 2)));
+    assertThrowsIllegalArg(() -> LU.solve(A, DoubleArray.of(1, 2)));
+    assertThrowsIllegalArg(() -> LU.apply(A).solve(new double[2]));
+  }
+
+  public void test_factory() {
+    assertEquals(DecompositionFactory.getDecomposition(DecompositionFactory.LU_OG_NAME), DecompositionFactory.LU_OG);
+    assertEquals(DecompositionFactory.getDecompositionName(LU), DecompositionFactory.LU_OG_NAME);
+  }
+
+  //-------------------------------------------------------------------------
+  private void checkEquals(DoubleMatrix x, DoubleMatrix y) {
+    assertEquals(x.rowCount(), y.rowCount());
+    assertEquals(x.columnCount(), y.columnCount());
+    for (int i = 0; i < x.rowCount(); i++) {
+      for (int j = 0; j < x.columnCount(); j++) {
+        assertEquals(x.get(i, j), y.get(i, j), EPS);
+      }
+    }
+  }
+
+  private void checkEquals(DoubleArray x, DoubleArray y) {
+    assertEquals(x.size(), y.size());
+    for (int i = 0; i < x.size(); i++) {
+      assertEquals(x.get(i), y.get(i), EPS);
+    }
+  }
+
+}
@@ -22,6 +22,7 @@ public class MatrixAlgebraImplementationTest {
 
   private static final MatrixAlgebra COMMONS = MatrixAlgebraFactory.COMMONS_ALGEBRA;
   private static final MatrixAlgebra OG = MatrixAlgebraFactory.OG_ALGEBRA;
+  private static final MatrixAlgebra OG_LU = MatrixAlgebraFactory.OG_LU_ALGEBRA;
   private static final DoubleArray M1 = DoubleArray.of(1, 2);
   private static final DoubleArray M2 = DoubleArray.of(3, 4);
   private static final DoubleMatrix M3 = DoubleMatrix.copyOf(new double[][] { {1, 2}, {2, 1}});
@@ -212,6 +213,17 @@ public class MatrixAlgebraImplementationTest {
   @Test
   public void testDeterminant() {
     assertEquals(COMMONS.getDeterminant(M4), -2.0, EPS);
+    assertEquals(OG_LU.getDeterminant(M4), -2.0, EPS);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testOGLUDeterminant() {
+    OG_LU.getDeterminant(M1);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testOGLUInverse() {
+    OG_LU.getInverse(M1);
   }
 
   @Test
@@ -246,6 +258,8 @@ public class MatrixAlgebraImplementationTest {
   public void testInverse() {
     assertMatrixEquals(COMMONS.getInverse(M3), DoubleMatrix.copyOf(
         new double[][] { {-0.3333333333333333, 0.6666666666666666}, {0.6666666666666666, -0.3333333333333333}}));
+    assertMatrixEquals(OG_LU.getInverse(M3), COMMONS.getInverse(M3));
+    assertMatrixEquals(OG_LU.getInverse(M4), COMMONS.getInverse(M4));
   }
 
   @Test
@@ -7,6 +7,8 @@ package com.opengamma.strata.math.impl.matrix;
 
 import static org.testng.AssertJUnit.assertEquals;
 
+import java.util.Random;
+
 import org.testng.annotations.Test;
 
 import com.opengamma.strata.collect.array.DoubleArray;
@@ -124,4 +126,91 @@ public class OGMatrixAlgebraTest {
     AssertMatrix.assertEqualsMatrix(aTaRef, aTa, 1e-15);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void testMultiplyLarge() {
+    // small and large sizes, the largest above the parallel threshold
+    Random random = new Random(1234);
+    for (int[] size : new int[][] {{1, 1, 1}, {3, 70, 5}, {65, 129, 67}, {150, 140, 130}}) {
+      DoubleMatrix a = randomMatrix(random, size[0], size[1]);
+      DoubleMatrix b = randomMatrix(random, size[1], size[2]);
+      DoubleMatrix c = randomMatrix(random, size[0], size[2]);
+      DoubleArray x = DoubleArray.copyOf(randomMatrix(random, 1, size[1]).rowArray(0));
+      DoubleArray y = DoubleArray.copyOf(randomMatrix(random, 1, size[0]).rowArray(0));
+      // the kernels accumulate in the same order as the simple loops, thus the results are identical
+      assertEquals(ALGEBRA.multiply(a, b), naiveMultiply(a, b));
+      assertEquals(ALGEBRA.multiply(a, x), naiveMultiply(a, DoubleMatrix.ofArrays(size[1], 1, i -> new double[] {x.get(i)})).column(0));
+      assertEquals(ALGEBRA.multiply(y, a), naiveMultiply(DoubleMatrix.ofArrays(1, size[0], i -> y.toArray()), a).row(0));
+      assertEquals(ALGEBRA.matrixTransposeMultiplyMatrix(a), naiveMultiply(a.transpose(), a));
+      assertEquals(ALGEBRA.matrixTransposeMultiplyMatrix(a, c), naiveMultiply(a.transpose(), c));
+      assertEquals(ALGEBRA.matrixMultiplyMatrixTranspose(b.transpose(), a), naiveMultiply(b.transpose(), a.transpose()));
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testTransposeMultiplySizeMismatch() {
+    ALGEBRA.matrixTransposeMultiplyMatrix(A, B.transpose());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testMultiplyTransposeSizeMismatch() {
+    ALGEBRA.matrixMultiplyMatrixTranspose(A, B);
+  }
+
+  @Test(enabled = false)
+  void performance() {
+    long startTime, endTime;
+    int nbTests = 20;
+    int nbRep = 3;
+    double count = 0;
+    MatrixAlgebra commons = new CommonsMatrixAlgebra();
+    Random random = new Random(1234);
+    DoubleMatrix a = randomMatrix(random, 500, 400);
+    DoubleMatrix b = randomMatrix(random, 400, 600);
+
+    for (int i = 0; i < nbRep; i++) {
+      startTime = System.currentTimeMillis();
+      for (int looprep = 0; looprep < nbTests; looprep++) {
+        count += ((DoubleMatrix) commons.multiply(a, b)).get(1, 1);
+      }
+      endTime = System.currentTimeMillis();
+      System.out.println("Performance: " + nbTests + " products 500x400x600 with Commons in " + (endTime - startTime) + " ms.");
+      startTime = System.currentTimeMillis();
+      for (int looprep = 0; looprep < nbTests; looprep++) {
+        count += naiveMultiply(a, b).get(1, 1);
+      }
+      endTime = System.currentTimeMillis();
+      System.out.println("Performance: " + nbTests + " products 500x400x600 with triple loop in " + (endTime - startTime) + " ms.");
+      startTime = System.currentTimeMillis();
+      for (int looprep = 0; looprep < nbTests; looprep++) {
+        count += ((DoubleMatrix) ALGEBRA.multiply(a, b)).get(1, 1);
+      }
+      endTime = System.currentTimeMillis();
+      System.out.println("Performance: " + nbTests + " products 500x400x600 with OG in " + (endTime - startTime) + " ms.");
+      startTime = System.currentTimeMillis();
+      for (int looprep = 0; looprep < nbTests; looprep++) {
+        count += ALGEBRA.matrixTransposeMultiplyMatrix(b).get(1, 1);
+      }
+      endTime = System.currentTimeMillis();
+      System.out.println("Performance: " + nbTests + " products B^T B 600x400x600 with OG in " + (endTime - startTime) + " ms.");
+    }
+    System.out.println("Avoiding hotspot: " + count);
+  }
+
+  private static DoubleMatrix randomMatrix(Random random, int rows, int columns) {
+    return DoubleMatrix.of(rows, columns, (i, j) -> random.nextDouble() - 0.5);
+  }
+
+  // the simple triple loop, as implemented before the kernels
+  private static DoubleMatrix naiveMultiply(DoubleMatrix m1, DoubleMatrix m2) {
+    int p = m2.rowCount();
+    return DoubleMatrix.of(m1.rowCount(), m2.columnCount(), (i, j) -> {
+      double sum = 0d;
+      for (int k = 0; k < p; k++) {
+        sum += m1.get(i, k) * m2.get(k, j);
+      }
+      return sum;
+    });
+  }
+
 }
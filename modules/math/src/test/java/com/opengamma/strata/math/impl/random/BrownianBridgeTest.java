@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link BrownianBridge}.
+ */
+@Test
+public class BrownianBridgeTest {
+
+  private static final double TOL = 1e-12;
+
+  public void test_covariance() {
+    // the path is linear in the normals, the covariance of the values at times s and t must be min(s, t)
+    for (int size = 1; size <= 40; size++) {
+      double[] times = new double[size];
+      for (int i = 0; i < size; i++) {
+        times[i] = 0.25 * (i + 1) + 0.01 * i * i;
+      }
+      BrownianBridge bridge = BrownianBridge.of(DoubleArray.copyOf(times));
+      assertEquals(bridge.getSize(), size);
+      double[][] columns = new double[size][size];
+      double[] normals = new double[size];
+      for (int k = 0; k < size; k++) {
+        normals[k] = 1d;
+        bridge.path(normals, columns[k]);
+        normals[k] = 0d;
+      }
+      for (int i = 0; i < size; i++) {
+        for (int j = 0; j < size; j++) {
+          double covariance = 0d;
+          for (int k = 0; k < size; k++) {
+            covariance += columns[k][i] * columns[k][j];
+          }
+          assertEquals(covariance, Math.min(times[i], times[j]), TOL);
+        }
+      }
+    }
+  }
+
+  public void test_firstNormal() {
+    // the first normal determines the terminal value
+    BrownianBridge bridge = BrownianBridge.of(DoubleArray.of(0.5, 1d, 2d, 4d));
+    double[] path = new double[4];
+    bridge.path(new double[] {1d, 0d, 0d, 0d}, path);
+    assertEquals(path[3], 2d, TOL);
+    assertEquals(path[0], 0.25, TOL);
+    assertEquals(path[1], 0.5, TOL);
+    assertEquals(path[2], 1d, TOL);
+  }
+
+  public void test_increments() {
+    BrownianBridge bridge = BrownianBridge.of(DoubleArray.of(0.5, 1d, 2d, 4d, 5d));
+    double[] normals = {0.3, -1.2, 0.7, 2.1, -0.4};
+    double[] path = new double[5];
+    double[] increments = new double[5];
+    bridge.path(normals, path);
+    bridge.increments(normals, increments);
+    double sum = 0d;
+    for (int i = 0; i < 5; i++) {
+      sum += increments[i];
+      assertEquals(sum, path[i], TOL);
+    }
+  }
+
+  public void test_invalid() {
+    assertThrowsIllegalArg(() -> BrownianBridge.of(DoubleArray.EMPTY));
+    assertThrowsIllegalArg(() -> BrownianBridge.of(DoubleArray.of(0d, 1d)));
+    assertThrowsIllegalArg(() -> BrownianBridge.of(DoubleArray.of(1d, 1d)));
+  }
+
+}
@@ -27,6 +27,16 @@ public class NormalRandomNumberGeneratorTest {
     assertEquals(result.length, 10);
   }
 
+  public void test_fill() {
+    double[] result = new double[10];
+    new NormalRandomNumberGenerator(0, 1, new MersenneTwister64(1)).fill(result);
+    double[] expected = new NormalRandomNumberGenerator(0, 1, new MersenneTwister64(1)).getVector(10);
+    assertEquals(result.length, 10);
+    for (int i = 0; i < 10; i++) {
+      assertEquals(result[i], expected[i]);
+    }
+  }
+
   public void test_list() {
     List<double[]> result = GENERATOR.getVectors(10, 50);
     assertEquals(result.size(), 50);
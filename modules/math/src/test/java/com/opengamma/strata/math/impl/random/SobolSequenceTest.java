@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import org.apache.commons.math3.random.SobolSequenceGenerator;
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistributionKernel;
+
+/**
+ * Test {@link SobolSequence}.
+ */
+@Test
+public class SobolSequenceTest {
+
+  public void test_compareCommons() {
+    for (int dimension : new int[] {1, 2, 7, 100, 1000}) {
+      SobolSequence sequence = SobolSequence.of(dimension);
+      assertEquals(sequence.getDimension(), dimension);
+      SobolSequenceGenerator expected = new SobolSequenceGenerator(dimension);
+      expected.nextVector(); // the origin is skipped
+      double[] point = new double[dimension];
+      for (int i = 1; i <= 2000; i++) {
+        sequence.nextUniform(point);
+        assertEquals(sequence.getIndex(), i);
+        assertEquals(point, expected.nextVector());
+      }
+    }
+  }
+
+  public void test_uniformInUnitInterval() {
+    SobolSequence sequence = SobolSequence.of(50);
+    double[] point = new double[50];
+    double[] sum = new double[50];
+    int nbPoints = 4095;
+    for (int i = 0; i < nbPoints; i++) {
+      sequence.nextUniform(point);
+      for (int j = 0; j < 50; j++) {
+        assertTrue(point[j] > 0d && point[j] < 1d);
+        sum[j] += point[j];
+      }
+    }
+    // the first 2^k - 1 points and the origin are the multiples of 2^-k in each dimension
+    for (int j = 0; j < 50; j++) {
+      assertEquals(sum[j], nbPoints / 2d, 1e-9);
+    }
+  }
+
+  public void test_normal() {
+    SobolSequence uniform = SobolSequence.of(5);
+    SobolSequence normal = SobolSequence.of(5);
+    double[] u = new double[5];
+    double[] z = new double[5];
+    for (int i = 0; i < 100; i++) {
+      uniform.nextUniform(u);
+      normal.nextNormal(z);
+      for (int j = 0; j < 5; j++) {
+        assertEquals(z[j], NormalDistributionKernel.inverseCdf(u[j]));
+      }
+    }
+  }
+
+  public void test_startingAt() {
+    SobolSequence sequence = SobolSequence.of(20);
+    double[] point = new double[20];
+    double[][] points = new double[300][];
+    for (int i = 0; i < 300; i++) {
+      sequence.nextUniform(point);
+      points[i] = point.clone();
+    }
+    for (int start : new int[] {0, 1, 127, 128, 200}) {
+      SobolSequence skipped = sequence.startingAt(start);
+      assertEquals(skipped.getIndex(), start);
+      for (int i = start; i < 300; i++) {
+        skipped.nextUniform(point);
+        assertEquals(point, points[i]);
+      }
+    }
+    assertEquals(sequence.getIndex(), 300);
+  }
+
+  public void test_maximumIndex() {
+    SobolSequence sequence = SobolSequence.of(3).startingAt(SobolSequence.MAX_INDEX - 1);
+    double[] point = new double[3];
+    sequence.nextUniform(point);
+    assertTrue(point[0] > 0d && point[0] < 1d);
+    try {
+      sequence.nextUniform(point);
+      throw new AssertionError("expected exception");
+    } catch (IllegalStateException ex) {
+      // expected
+    }
+  }
+
+  public void test_invalid() {
+    assertThrowsIllegalArg(() -> SobolSequence.of(0));
+    assertThrowsIllegalArg(() -> SobolSequence.of(1001));
+    assertThrowsIllegalArg(() -> SobolSequence.of(2).startingAt(-1));
+    assertThrowsIllegalArg(() -> SobolSequence.of(2).startingAt(SobolSequence.MAX_INDEX + 1));
+  }
+
+}
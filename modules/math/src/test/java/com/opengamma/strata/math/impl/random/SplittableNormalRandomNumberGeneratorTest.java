@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test {@link SplittableNormalRandomNumberGenerator}.
+ */
+@Test
+public class SplittableNormalRandomNumberGeneratorTest {
+
+  public void test_seed() {
+    double[] first = SplittableNormalRandomNumberGenerator.of(42).getVector(100);
+    double[] second = new double[100];
+    SplittableNormalRandomNumberGenerator.of(42).fill(second);
+    assertEquals(first, second);
+    assertFalse(Arrays.equals(first, SplittableNormalRandomNumberGenerator.of(43).getVector(100)));
+  }
+
+  public void test_moments() {
+    SplittableNormalRandomNumberGenerator generator = SplittableNormalRandomNumberGenerator.of(1);
+    double[] values = new double[200_000];
+    generator.fill(values);
+    double sum = 0d;
+    double sumSquare = 0d;
+    for (double value : values) {
+      sum += value;
+      sumSquare += value * value;
+    }
+    double mean = sum / values.length;
+    // 5 standard errors
+    assertEquals(mean, 0d, 5d / Math.sqrt(values.length));
+    assertEquals(sumSquare / values.length - mean * mean, 1d, 5d * Math.sqrt(2d / values.length));
+  }
+
+  public void test_split_parallel() {
+    // the streams only depend on the seed and the split order
+    List<SplittableNormalRandomNumberGenerator> sequential = SplittableNormalRandomNumberGenerator.of(7).split(8);
+    List<SplittableNormalRandomNumberGenerator> parallel = SplittableNormalRandomNumberGenerator.of(7).split(8);
+    @SuppressWarnings("unchecked")
+    CompletableFuture<double[]>[] futures = new CompletableFuture[8];
+    for (int i = 0; i < 8; i++) {
+      SplittableNormalRandomNumberGenerator generator = parallel.get(i);
+      futures[i] = CompletableFuture.supplyAsync(() -> generator.getVector(1000), ForkJoinPool.commonPool());
+    }
+    double[][] expected = new double[8][];
+    for (int i = 0; i < 8; i++) {
+      expected[i] = sequential.get(i).getVector(1000);
+      assertEquals(futures[i].join(), expected[i]);
+    }
+    for (int i = 1; i < 8; i++) {
+      assertFalse(Arrays.equals(expected[i], expected[i - 1]));
+    }
+  }
+
+  public void test_list() {
+    List<double[]> result = SplittableNormalRandomNumberGenerator.of(3).getVectors(10, 50);
+    assertEquals(result.size(), 50);
+    for (double[] d : result) {
+      assertEquals(d.length, 10);
+    }
+  }
+
+  public void test_invalid() {
+    SplittableNormalRandomNumberGenerator generator = SplittableNormalRandomNumberGenerator.of(1);
+    assertThrowsIllegalArg(() -> generator.getVector(-1));
+    assertThrowsIllegalArg(() -> generator.getVectors(-1, 4));
+    assertThrowsIllegalArg(() -> generator.getVectors(1, -5));
+    assertThrowsIllegalArg(() -> generator.split(-1));
+    assertThrowsIllegalArg(() -> generator.fill(null));
+  }
+
+}
@@ -7,6 +7,7 @@ package com.opengamma.strata.math.impl.rootfinding.newton;
 
 import org.testng.annotations.Test;
 
+import com.opengamma.strata.math.impl.linearalgebra.DecompositionFactory;
 import com.opengamma.strata.math.impl.linearalgebra.SVDecompositionCommons;
 
 /**
@@ -18,6 +19,7 @@ public class BroydenVectorRootFinderTest extends VectorRootFinderTest {
   private static final NewtonVectorRootFinder SV = new BroydenVectorRootFinder(TOLERANCE, TOLERANCE, MAXSTEPS, new SVDecompositionCommons());
   private static final NewtonVectorRootFinder DEFAULT_JACOBIAN_2D = new BroydenVectorRootFinder(TOLERANCE, TOLERANCE, MAXSTEPS);
   private static final NewtonVectorRootFinder SV_JACOBIAN_2D = new BroydenVectorRootFinder(TOLERANCE, TOLERANCE, MAXSTEPS, new SVDecompositionCommons());
+  private static final NewtonVectorRootFinder LU_OG = new BroydenVectorRootFinder(TOLERANCE, TOLERANCE, MAXSTEPS, DecompositionFactory.LU_OG);
   private static final NewtonVectorRootFinder DEFAULT_JACOBIAN_3D = new BroydenVectorRootFinder(TOLERANCE, TOLERANCE, MAXSTEPS);
   private static final NewtonVectorRootFinder SV_JACOBIAN_3D = new BroydenVectorRootFinder(TOLERANCE, TOLERANCE, MAXSTEPS, new SVDecompositionCommons());
 
@@ -31,6 +33,11 @@ public class BroydenVectorRootFinderTest extends VectorRootFinderTest {
     assertFunction2D(DEFAULT_JACOBIAN_2D, EPS);
   }
 
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testSingularOpenGamma() {
+    assertFunction2D(LU_OG, EPS);
+  }
+
   @Test
   public void test() {
     assertLinear(DEFAULT, EPS);
@@ -42,5 +49,8 @@ public class BroydenVectorRootFinderTest extends VectorRootFinderTest {
     assertFunction3D(SV, EPS);
     assertFunction3D(SV_JACOBIAN_3D, EPS);
     assertYieldCurveBootstrap(DEFAULT, EPS);
+    assertLinear(LU_OG, EPS);
+    assertFunction3D(LU_OG, EPS);
+    assertYieldCurveBootstrap(LU_OG, EPS);
   }
 }
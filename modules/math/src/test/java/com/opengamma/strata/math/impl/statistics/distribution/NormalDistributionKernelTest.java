@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.statistics.distribution;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import cern.jet.random.engine.MersenneTwister64;
+import cern.jet.stat.Probability;
+
+/**
+ * Test {@link NormalDistributionKernel}.
+ */
+@Test
+public class NormalDistributionKernelTest {
+
+  private static final NormalDistribution NORMAL = new NormalDistribution(0, 1, new MersenneTwister64(0));
+
+  //-------------------------------------------------------------------------
+  public void test_pdf() {
+    for (int i = 0; i <= 400; i++) {
+      double x = -20d + 0.1 * i;
+      double expected = NORMAL.getPDF(x);
+      assertEquals(NormalDistributionKernel.pdf(x), expected, Math.abs(expected) * 1e-15);
+    }
+    assertEquals(NormalDistributionKernel.pdf(0d), 0.3989422804014327, 1e-16);
+    assertEquals(NormalDistributionKernel.pdf(Double.POSITIVE_INFINITY), 0d);
+  }
+
+  public void test_cdf() {
+    for (int i = 0; i <= 400; i++) {
+      double x = -20d + 0.1 * i;
+      // same implementation
+      assertEquals(NormalDistributionKernel.cdf(x), NORMAL.getCDF(x));
+    }
+    assertEquals(NormalDistributionKernel.cdf(0d), 0.5, 1e-16);
+    assertEquals(NormalDistributionKernel.cdf(1.959963984540054), 0.975, 1e-15);
+    assertEquals(NormalDistributionKernel.cdf(-10d), 7.619853024160527e-24, 7.619853024160527e-24 * 1e-14);
+  }
+
+  public void test_inverseCdf() {
+    assertEquals(NormalDistributionKernel.inverseCdf(0.5), 0d, 0d);
+    assertEquals(NormalDistributionKernel.inverseCdf(0.975), 1.959963984540054, 1e-15);
+    assertEquals(NormalDistributionKernel.inverseCdf(0.025), -1.959963984540054, 1e-15);
+    assertEquals(NormalDistributionKernel.inverseCdf(1e-10), -6.361340902404056, 1e-14);
+    assertEquals(NormalDistributionKernel.inverseCdf(0d), Double.NEGATIVE_INFINITY);
+    assertEquals(NormalDistributionKernel.inverseCdf(1d), Double.POSITIVE_INFINITY);
+    assertThrowsIllegalArg(() -> NormalDistributionKernel.inverseCdf(-1e-10));
+    assertThrowsIllegalArg(() -> NormalDistributionKernel.inverseCdf(1 + 1e-10));
+    assertThrowsIllegalArg(() -> NormalDistributionKernel.inverseCdf(Double.NaN));
+  }
+
+  public void test_inverseCdf_colt() {
+    for (int i = 1; i < 1000; i++) {
+      double p = i / 1000d;
+      double expected = Probability.normalInverse(p);
+      assertEquals(NormalDistributionKernel.inverseCdf(p), expected, 1e-14 * Math.max(1d, Math.abs(expected)));
+      assertEquals(NormalDistributionKernel.inverseCdf(1d - p), -NormalDistributionKernel.inverseCdf(p), 1e-14);
+    }
+  }
+
+  public void test_inverseCdf_roundTrip() {
+    // probabilities from 1e-300 to 0.5, covering all three regions of the approximation
+    for (int i = 0; i <= 600; i++) {
+      double p = Math.pow(10d, -300d + i * 0.5) / 2;
+      double x = NormalDistributionKernel.inverseCdf(p);
+      assertEquals(NormalDistributionKernel.cdf(x), p, p * 1e-13 * Math.max(1d, x * x));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    coverPrivateConstructor(NormalDistributionKernel.class);
+  }
+
+}
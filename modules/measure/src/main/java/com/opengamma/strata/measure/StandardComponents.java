@@ -22,6 +22,7 @@ import com.opengamma.strata.measure.curve.CurveInputsMarketDataFunction;
 import com.opengamma.strata.measure.curve.CurveMarketDataFunction;
 import com.opengamma.strata.measure.deposit.TermDepositTradeCalculationFunction;
 import com.opengamma.strata.measure.dsf.DsfTradeCalculationFunction;
+import com.opengamma.strata.measure.exposure.ExposureNettingSetCalculationFunction;
 import com.opengamma.strata.measure.fra.FraTradeCalculationFunction;
 import com.opengamma.strata.measure.fx.FxNdfTradeCalculationFunction;
 import com.opengamma.strata.measure.fx.FxRateMarketDataFunction;
@@ -79,6 +80,7 @@ public final class StandardComponents {
       new CdsTradeCalculationFunction(),
       new CdsIndexTradeCalculationFunction(),
       new DsfTradeCalculationFunction(),
+      new ExposureNettingSetCalculationFunction(),
       new FraTradeCalculationFunction(),
       new FxNdfTradeCalculationFunction(),
       new FxSingleBarrierOptionTradeCalculationFunction(),
@@ -24,7 +24,9 @@ import com.opengamma.strata.data.FieldName;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.calc.TradeResolverCalculationParameter;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.product.TradeResolver;
 import com.opengamma.strata.product.bond.BondFuture;
 import com.opengamma.strata.product.bond.BondFutureOption;
 import com.opengamma.strata.product.bond.BondFutureOptionTrade;
@@ -132,7 +134,8 @@ public class BondFutureOptionTradeCalculationFunction
       ReferenceData refData) {
 
     // resolve the trade once for all measures and all scenarios
-    ResolvedBondFutureOptionTrade resolved = trade.resolve(refData);
+    TradeResolver resolver = TradeResolverCalculationParameter.resolver(parameters);
+    ResolvedBondFutureOptionTrade resolved = resolver.resolve(trade, refData);
 
     // use lookup to query market data
     LegalEntityDiscountingMarketDataLookup ledLookup = parameters.getParameter(LegalEntityDiscountingMarketDataLookup.class);
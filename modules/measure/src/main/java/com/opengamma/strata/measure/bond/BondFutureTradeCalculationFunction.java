@@ -24,7 +24,9 @@ import com.opengamma.strata.data.FieldName;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.calc.TradeResolverCalculationParameter;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.product.TradeResolver;
 import com.opengamma.strata.product.bond.BondFuture;
 import com.opengamma.strata.product.bond.BondFutureTrade;
 import com.opengamma.strata.product.bond.FixedCouponBond;
@@ -132,7 +134,8 @@ public class BondFutureTradeCalculationFunction
       ReferenceData refData) {
 
     // resolve the trade once for all measures and all scenarios
-    ResolvedBondFutureTrade resolved = trade.resolve(refData);
+    TradeResolver resolver = TradeResolverCalculationParameter.resolver(parameters);
+    ResolvedBondFutureTrade resolved = resolver.resolve(trade, refData);
 
     // use lookup to query market data
     LegalEntityDiscountingMarketDataLookup ledLookup = parameters.getParameter(LegalEntityDiscountingMarketDataLookup.class);
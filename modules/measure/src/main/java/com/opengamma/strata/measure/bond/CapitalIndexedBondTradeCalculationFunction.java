@@ -23,9 +23,11 @@ import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.calc.TradeResolverCalculationParameter;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.product.SecurityId;
+import com.opengamma.strata.product.TradeResolver;
 import com.opengamma.strata.product.bond.CapitalIndexedBond;
 import com.opengamma.strata.product.bond.CapitalIndexedBondTrade;
 import com.opengamma.strata.product.bond.ResolvedCapitalIndexedBondTrade;
@@ -127,7 +129,8 @@ public class CapitalIndexedBondTradeCalculationFunction
       ReferenceData refData) {
 
     // resolve the trade once for all measures and all scenarios
-    ResolvedCapitalIndexedBondTrade resolved = trade.resolve(refData);
+    TradeResolver resolver = TradeResolverCalculationParameter.resolver(parameters);
+    ResolvedCapitalIndexedBondTrade resolved = resolver.resolve(trade, refData);
 
     // use lookup to query market data
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
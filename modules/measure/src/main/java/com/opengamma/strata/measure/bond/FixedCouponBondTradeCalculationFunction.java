@@ -22,6 +22,8 @@ import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.calc.TradeResolverCalculationParameter;
+import com.opengamma.strata.product.TradeResolver;
 import com.opengamma.strata.product.bond.FixedCouponBond;
 import com.opengamma.strata.product.bond.FixedCouponBondTrade;
 import com.opengamma.strata.product.bond.ResolvedFixedCouponBondTrade;
@@ -116,7 +118,8 @@ public class FixedCouponBondTradeCalculationFunction
       ReferenceData refData) {
 
     // resolve the trade once for all measures and all scenarios
-    ResolvedFixedCouponBondTrade resolved = trade.resolve(refData);
+    TradeResolver resolver = TradeResolverCalculationParameter.resolver(parameters);
+    ResolvedFixedCouponBondTrade resolved = resolver.resolve(trade, refData);
 
     // use lookup to query market data
     LegalEntityDiscountingMarketDataLookup bondLookup = parameters.getParameter(LegalEntityDiscountingMarketDataLookup.class);
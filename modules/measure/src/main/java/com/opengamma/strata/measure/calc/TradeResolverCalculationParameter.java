@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.calc;
+
+import java.util.Set;
+
+import org.joda.beans.BeanDefinition;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.Property;
+import org.joda.beans.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.runner.CalculationParameter;
+import com.opengamma.strata.calc.runner.CalculationParameters;
+import com.opengamma.strata.product.TradeResolver;
+
+/**
+ * A calculation parameter that specifies the resolver used to resolve trades.
+ * <p>
+ * The standard calculation functions resolve each trade using a {@link TradeResolver}, which caches
+ * the resolved form. By default, the shared instance {@link TradeResolver#standard()} is used.
+ * Passing this parameter as an argument to {@link CalculationRules} allows a different resolver
+ * to be used, for example one with a bounded size.
+ * <p>
+ * The resolver is compared by identity. Since the resolver holds a cache, this parameter is not serializable.
+ */
+@BeanDefinition(style = "light")
+public final class TradeResolverCalculationParameter
+    implements CalculationParameter, ImmutableBean {
+
+  /**
+   * The trade resolver.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final TradeResolver resolver;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the specified resolver.
+   *
+   * @param resolver  the trade resolver
+   * @return the calculation parameter
+   */
+  public static TradeResolverCalculationParameter of(TradeResolver resolver) {
+    return new TradeResolverCalculationParameter(resolver);
+  }
+
+  /**
+   * Finds the trade resolver to use from the calculation parameters.
+   * <p>
+   * If the parameters do not contain this parameter, {@link TradeResolver#standard()} is returned.
+   *
+   * @param parameters  the calculation parameters
+   * @return the trade resolver
+   */
+  public static TradeResolver resolver(CalculationParameters parameters) {
+    return parameters.findParameter(TradeResolverCalculationParameter.class)
+        .map(TradeResolverCalculationParameter::getResolver)
+        .orElse(TradeResolver.standard());
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  ///CLOVER:OFF
+  /**
+   * The meta-bean for {@code TradeResolverCalculationParameter}.
+   */
+  private static final MetaBean META_BEAN = LightMetaBean.of(TradeResolverCalculationParameter.class);
+
+  /**
+   * The meta-bean for {@code TradeResolverCalculationParameter}.
+   * @return the meta-bean, not null
+   */
+  public static MetaBean meta() {
+    return META_BEAN;
+  }
+
+  static {
+    JodaBeanUtils.registerMetaBean(META_BEAN);
+  }
+
+  private TradeResolverCalculationParameter(
+      TradeResolver resolver) {
+    JodaBeanUtils.notNull(resolver, "resolver");
+    this.resolver = resolver;
+  }
+
+  @Override
+  public MetaBean metaBean() {
+    return META_BEAN;
+  }
+
+  @Override
+  public <R> Property<R> property(String propertyName) {
+    return metaBean().<R>metaProperty(propertyName).createProperty(this);
+  }
+
+  @Override
+  public Set<String> propertyNames() {
+    return metaBean().metaPropertyMap().keySet();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the trade resolver.
+   * @return the value of the property, not null
+   */
+  public TradeResolver getResolver() {
+    return resolver;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      TradeResolverCalculationParameter other = (TradeResolverCalculationParameter) obj;
+      return JodaBeanUtils.equal(resolver, other.resolver);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(resolver);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(64);
+    buf.append("TradeResolverCalculationParameter{");
+    buf.append("resolver").append('=').append(JodaBeanUtils.toString(resolver));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  ///CLOVER:ON
+  //-------------------------- AUTOGENERATED END --------------------------
+}
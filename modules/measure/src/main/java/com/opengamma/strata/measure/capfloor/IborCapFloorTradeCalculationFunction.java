@@ -24,8 +24,10 @@ import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.calc.TradeResolverCalculationParameter;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
+import com.opengamma.strata.product.TradeResolver;
 import com.opengamma.strata.product.capfloor.IborCapFloor;
 import com.opengamma.strata.product.capfloor.IborCapFloorTrade;
 import com.opengamma.strata.product.capfloor.ResolvedIborCapFloorTrade;
@@ -127,7 +129,8 @@ public class IborCapFloorTradeCalculationFunction
       ReferenceData refData) {
 
     // expand the trade once for all measures and all scenarios
-    ResolvedIborCapFloorTrade resolved = trade.resolve(refData);
+    TradeResolver resolver = TradeResolverCalculationParameter.resolver(parameters);
+    ResolvedIborCapFloorTrade resolved = resolver.resolve(trade, refData);
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
     RatesScenarioMarketData ratesMarketData = ratesLookup.marketDataView(scenarioMarketData);
     IborCapFloorMarketDataLookup capFloorLookup = parameters.getParameter(IborCapFloorMarketDataLookup.class);
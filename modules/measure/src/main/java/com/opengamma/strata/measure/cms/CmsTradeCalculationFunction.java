@@ -24,10 +24,12 @@ import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.calc.TradeResolverCalculationParameter;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.measure.swaption.SwaptionMarketDataLookup;
 import com.opengamma.strata.measure.swaption.SwaptionScenarioMarketData;
+import com.opengamma.strata.product.TradeResolver;
 import com.opengamma.strata.product.cms.Cms;
 import com.opengamma.strata.product.cms.CmsTrade;
 import com.opengamma.strata.product.cms.ResolvedCmsTrade;
@@ -132,7 +134,8 @@ public class CmsTradeCalculationFunction
       ReferenceData refData) {
 
     // expand the trade once for all measures and all scenarios
-    ResolvedCmsTrade resolved = trade.resolve(refData);
+    TradeResolver resolver = TradeResolverCalculationParameter.resolver(parameters);
+    ResolvedCmsTrade resolved = resolver.resolve(trade, refData);
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
     RatesScenarioMarketData ratesMarketData = ratesLookup.marketDataView(scenarioMarketData);
     SwaptionMarketDataLookup swaptionLookup = parameters.getParameter(SwaptionMarketDataLookup.class);
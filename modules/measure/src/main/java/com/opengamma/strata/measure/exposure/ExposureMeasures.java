@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import com.opengamma.strata.calc.Measure;
+
+/**
+ * The standard set of exposure measures that can be calculated by Strata.
+ * <p>
+ * A measure identifies the calculation result that is required.
+ * The exposure measures are calculated on an {@link ExposureNettingSet}.
+ */
+public final class ExposureMeasures {
+
+  /**
+   * Measure representing the expected positive exposure profile of the netting set.
+   * <p>
+   * This is the average over the simulated paths of the positive part of the value of the netting set,
+   * at each date of the simulation.
+   */
+  public static final Measure EXPECTED_POSITIVE_EXPOSURE =
+      Measure.of(StandardExposureMeasures.EXPECTED_POSITIVE_EXPOSURE.getName());
+  /**
+   * Measure representing the potential future exposure profile of the netting set.
+   * <p>
+   * This is the quantile over the simulated paths of the positive part of the value of the netting set,
+   * at each date of the simulation, thus it is never negative. The level of the quantile is specified in {@link ExposureParameters}.
+   */
+  public static final Measure POTENTIAL_FUTURE_EXPOSURE =
+      Measure.of(StandardExposureMeasures.POTENTIAL_FUTURE_EXPOSURE.getName());
+
+  //-------------------------------------------------------------------------
+  private ExposureMeasures() {
+  }
+
+}
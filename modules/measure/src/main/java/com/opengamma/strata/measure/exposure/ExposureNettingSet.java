@@ -0,0 +1,374 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.BeanDefinition;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.Property;
+import org.joda.beans.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.product.Trade;
+
+/**
+ * A netting set, the target of exposure calculations.
+ * <p>
+ * The trades of a netting set are valued together, the exposure being that of the sum of their values.
+ * The values are expressed in the currency of the netting set.
+ */
+@BeanDefinition(builderScope = "private")
+public final class ExposureNettingSet
+    implements CalculationTarget, ImmutableBean, Serializable {
+
+  /**
+   * The identifier of the netting set.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final StandardId id;
+  /**
+   * The currency in which the exposure is expressed.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Currency currency;
+  /**
+   * The trades of the netting set.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableList<Trade> trades;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   *
+   * @param id  the identifier of the netting set
+   * @param currency  the currency in which the exposure is expressed
+   * @param trades  the trades of the netting set
+   * @return the netting set
+   */
+  public static ExposureNettingSet of(StandardId id, Currency currency, List<? extends Trade> trades) {
+    return new ExposureNettingSet(id, currency, ImmutableList.copyOf(trades));
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  ///CLOVER:OFF
+  /**
+   * The meta-bean for {@code ExposureNettingSet}.
+   * @return the meta-bean, not null
+   */
+  public static ExposureNettingSet.Meta meta() {
+    return ExposureNettingSet.Meta.INSTANCE;
+  }
+
+  static {
+    JodaBeanUtils.registerMetaBean(ExposureNettingSet.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private ExposureNettingSet(
+      StandardId id,
+      Currency currency,
+      List<Trade> trades) {
+    JodaBeanUtils.notNull(id, "id");
+    JodaBeanUtils.notNull(currency, "currency");
+    JodaBeanUtils.notNull(trades, "trades");
+    this.id = id;
+    this.currency = currency;
+    this.trades = ImmutableList.copyOf(trades);
+  }
+
+  @Override
+  public ExposureNettingSet.Meta metaBean() {
+    return ExposureNettingSet.Meta.INSTANCE;
+  }
+
+  @Override
+  public <R> Property<R> property(String propertyName) {
+    return metaBean().<R>metaProperty(propertyName).createProperty(this);
+  }
+
+  @Override
+  public Set<String> propertyNames() {
+    return metaBean().metaPropertyMap().keySet();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the identifier of the netting set.
+   * @return the value of the property, not null
+   */
+  public StandardId getId() {
+    return id;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the currency in which the exposure is expressed.
+   * @return the value of the property, not null
+   */
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the trades of the netting set.
+   * @return the value of the property, not null
+   */
+  public ImmutableList<Trade> getTrades() {
+    return trades;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ExposureNettingSet other = (ExposureNettingSet) obj;
+      return JodaBeanUtils.equal(id, other.id) &&
+          JodaBeanUtils.equal(currency, other.currency) &&
+          JodaBeanUtils.equal(trades, other.trades);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(id);
+    hash = hash * 31 + JodaBeanUtils.hashCode(currency);
+    hash = hash * 31 + JodaBeanUtils.hashCode(trades);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(128);
+    buf.append("ExposureNettingSet{");
+    buf.append("id").append('=').append(id).append(',').append(' ');
+    buf.append("currency").append('=').append(currency).append(',').append(' ');
+    buf.append("trades").append('=').append(JodaBeanUtils.toString(trades));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code ExposureNettingSet}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code id} property.
+     */
+    private final MetaProperty<StandardId> id = DirectMetaProperty.ofImmutable(
+        this, "id", ExposureNettingSet.class, StandardId.class);
+    /**
+     * The meta-property for the {@code currency} property.
+     */
+    private final MetaProperty<Currency> currency = DirectMetaProperty.ofImmutable(
+        this, "currency", ExposureNettingSet.class, Currency.class);
+    /**
+     * The meta-property for the {@code trades} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableList<Trade>> trades = DirectMetaProperty.ofImmutable(
+        this, "trades", ExposureNettingSet.class, (Class) ImmutableList.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "id",
+        "currency",
+        "trades");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 3355:  // id
+          return id;
+        case 575402001:  // currency
+          return currency;
+        case -865715313:  // trades
+          return trades;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends ExposureNettingSet> builder() {
+      return new ExposureNettingSet.Builder();
+    }
+
+    @Override
+    public Class<? extends ExposureNettingSet> beanType() {
+      return ExposureNettingSet.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code id} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<StandardId> id() {
+      return id;
+    }
+
+    /**
+     * The meta-property for the {@code currency} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Currency> currency() {
+      return currency;
+    }
+
+    /**
+     * The meta-property for the {@code trades} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableList<Trade>> trades() {
+      return trades;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case 3355:  // id
+          return ((ExposureNettingSet) bean).getId();
+        case 575402001:  // currency
+          return ((ExposureNettingSet) bean).getCurrency();
+        case -865715313:  // trades
+          return ((ExposureNettingSet) bean).getTrades();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code ExposureNettingSet}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<ExposureNettingSet> {
+
+    private StandardId id;
+    private Currency currency;
+    private List<Trade> trades = ImmutableList.of();
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+      super(meta());
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 3355:  // id
+          return id;
+        case 575402001:  // currency
+          return currency;
+        case -865715313:  // trades
+          return trades;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case 3355:  // id
+          this.id = (StandardId) newValue;
+          break;
+        case 575402001:  // currency
+          this.currency = (Currency) newValue;
+          break;
+        case -865715313:  // trades
+          this.trades = (List<Trade>) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public ExposureNettingSet build() {
+      return new ExposureNettingSet(
+          id,
+          currency,
+          trades);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(128);
+      buf.append("ExposureNettingSet.Builder{");
+      buf.append("id").append('=').append(JodaBeanUtils.toString(id)).append(',').append(' ');
+      buf.append("currency").append('=').append(JodaBeanUtils.toString(currency)).append(',').append(' ');
+      buf.append("trades").append('=').append(JodaBeanUtils.toString(trades));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  ///CLOVER:ON
+  //-------------------------- AUTOGENERATED END --------------------------
+}
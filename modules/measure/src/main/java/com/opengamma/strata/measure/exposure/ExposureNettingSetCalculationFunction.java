@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.runner.CalculationFunction;
+import com.opengamma.strata.calc.runner.CalculationParameters;
+import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.measure.calc.TradeResolverCalculationParameter;
+import com.opengamma.strata.pricer.SimulatedValueProfile;
+import com.opengamma.strata.product.ResolvableTrade;
+import com.opengamma.strata.product.ResolvedTrade;
+import com.opengamma.strata.product.Trade;
+import com.opengamma.strata.product.TradeResolver;
+
+/**
+ * Perform exposure calculations on an {@code ExposureNettingSet} for each of a set of scenarios.
+ * <p>
+ * The trades of the netting set are valued on simulated market states provided in market data
+ * as {@link ExposureScenarios}. An instance of {@link ExposureParameters} must be specified.
+ * The supported built-in measures are:
+ * <ul>
+ *   <li>{@linkplain ExposureMeasures#EXPECTED_POSITIVE_EXPOSURE Expected positive exposure}
+ *   <li>{@linkplain ExposureMeasures#POTENTIAL_FUTURE_EXPOSURE Potential future exposure}
+ * </ul>
+ * <p>
+ * The trades are resolved and valued once for all the measures.
+ * The "natural" currency is the currency of the netting set.
+ */
+public class ExposureNettingSetCalculationFunction
+    implements CalculationFunction<ExposureNettingSet> {
+
+  /**
+   * The calculations by measure.
+   */
+  private static final ImmutableMap<Measure, SingleMeasureCalculation> CALCULATORS =
+      ImmutableMap.<Measure, SingleMeasureCalculation>builder()
+          .put(ExposureMeasures.EXPECTED_POSITIVE_EXPOSURE, (profile, params) ->
+              ExposureProfile.of(profile.getCurrency(), profile.getDates(), profile.expectedPositiveExposure()))
+          .put(ExposureMeasures.POTENTIAL_FUTURE_EXPOSURE, (profile, params) ->
+              ExposureProfile.of(
+                  profile.getCurrency(), profile.getDates(), profile.potentialFutureExposure(params.getLevel())))
+          .build();
+
+  private static final ImmutableSet<Measure> MEASURES = CALCULATORS.keySet();
+
+  /**
+   * The calculator of the simulated values.
+   */
+  private final ExposureProfileCalculator profileCalculator;
+
+  /**
+   * Creates an instance.
+   */
+  public ExposureNettingSetCalculationFunction() {
+    this.profileCalculator = ExposureProfileCalculator.DEFAULT;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Class<ExposureNettingSet> targetType() {
+    return ExposureNettingSet.class;
+  }
+
+  @Override
+  public Set<Measure> supportedMeasures() {
+    return MEASURES;
+  }
+
+  @Override
+  public Optional<String> identifier(ExposureNettingSet target) {
+    return Optional.of(target.getId().toString());
+  }
+
+  @Override
+  public Currency naturalCurrency(ExposureNettingSet target, ReferenceData refData) {
+    return target.getCurrency();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public FunctionRequirements requirements(
+      ExposureNettingSet target,
+      Set<Measure> measures,
+      CalculationParameters parameters,
+      ReferenceData refData) {
+
+    ExposureParameters exposureParameters = parameters.getParameter(ExposureParameters.class);
+    return FunctionRequirements.builder()
+        .valueRequirements(ImmutableSet.of(exposureParameters.getScenariosId()))
+        .outputCurrencies(target.getCurrency())
+        .build();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Map<Measure, Result<?>> calculate(
+      ExposureNettingSet target,
+      Set<Measure> measures,
+      CalculationParameters parameters,
+      ScenarioMarketData scenarioMarketData,
+      ReferenceData refData) {
+
+    // resolve and value the trades once for all measures, and once for all scenarios sharing the same simulation
+    ExposureParameters exposureParameters = parameters.getParameter(ExposureParameters.class);
+    Result<MarketDataBox<SimulatedValueProfile>> profiles = Result.of(() -> {
+      List<ResolvedTrade> trades = resolve(target, TradeResolverCalculationParameter.resolver(parameters), refData);
+      MarketDataBox<ExposureScenarios> scenarios = scenarioMarketData.getValue(exposureParameters.getScenariosId());
+      return scenarios.map(simulation -> profileCalculator.valueProfile(trades, target.getCurrency(), simulation));
+    });
+
+    // loop around measures, calculating all scenarios for one measure
+    int scenarioCount = scenarioMarketData.getScenarioCount();
+    Map<Measure, Result<?>> results = new HashMap<>();
+    for (Measure measure : measures) {
+      results.put(measure, calculate(measure, profiles, exposureParameters, scenarioCount));
+    }
+    return results;
+  }
+
+  // calculate one measure
+  private Result<?> calculate(
+      Measure measure,
+      Result<MarketDataBox<SimulatedValueProfile>> profiles,
+      ExposureParameters parameters,
+      int scenarioCount) {
+
+    SingleMeasureCalculation calculator = CALCULATORS.get(measure);
+    if (calculator == null) {
+      return Result.failure(FailureReason.UNSUPPORTED, "Unsupported measure for ExposureNettingSet: {}", measure);
+    }
+    return profiles.map(box -> ScenarioArray.of(
+        scenarioCount, i -> calculator.calculate(box.getValue(i), parameters)));
+  }
+
+  // resolve the trades of the netting set
+  private static List<ResolvedTrade> resolve(
+      ExposureNettingSet target,
+      TradeResolver resolver,
+      ReferenceData refData) {
+
+    List<ResolvableTrade<?>> trades = new ArrayList<>(target.getTrades().size());
+    for (Trade trade : target.getTrades()) {
+      if (!(trade instanceof ResolvableTrade)) {
+        throw new IllegalArgumentException(Messages.format(
+            "Exposure calculation is not supported for trade type: {}", trade.getClass().getSimpleName()));
+      }
+      trades.add((ResolvableTrade<?>) trade);
+    }
+    return resolver.resolveAll(trades, refData);
+  }
+
+  //-------------------------------------------------------------------------
+  @FunctionalInterface
+  interface SingleMeasureCalculation {
+    public abstract ExposureProfile calculate(
+        SimulatedValueProfile profile,
+        ExposureParameters parameters);
+  }
+
+}
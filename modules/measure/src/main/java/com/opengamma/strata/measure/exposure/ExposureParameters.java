@@ -0,0 +1,345 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.BeanDefinition;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.ImmutableValidator;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.Property;
+import org.joda.beans.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.opengamma.strata.calc.runner.CalculationParameter;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * The parameters used to calculate future exposure.
+ * <p>
+ * This provides the identifier of the simulated market states in market data
+ * and the quantile level of the potential future exposure.
+ * <p>
+ * This implements {@link CalculationParameter} and is used by passing it
+ * as an argument to {@code CalculationRules}.
+ */
+@BeanDefinition(builderScope = "private")
+public final class ExposureParameters
+    implements CalculationParameter, ImmutableBean, Serializable {
+
+  /**
+   * The default quantile level of the potential future exposure, 95%.
+   */
+  public static final double DEFAULT_LEVEL = 0.95;
+
+  /**
+   * The identifier of the simulated market states.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ExposureScenariosId scenariosId;
+  /**
+   * The quantile level of the potential future exposure, strictly between 0 and 1.
+   */
+  @PropertyDefinition
+  private final double level;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance with the default quantile level.
+   *
+   * @param scenariosId  the identifier of the simulated market states
+   * @return the parameters
+   */
+  public static ExposureParameters of(ExposureScenariosId scenariosId) {
+    return new ExposureParameters(scenariosId, DEFAULT_LEVEL);
+  }
+
+  /**
+   * Obtains an instance.
+   *
+   * @param scenariosId  the identifier of the simulated market states
+   * @param level  the quantile level of the potential future exposure, strictly between 0 and 1
+   * @return the parameters
+   */
+  public static ExposureParameters of(ExposureScenariosId scenariosId, double level) {
+    return new ExposureParameters(scenariosId, level);
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    ArgChecker.inRangeExclusive(level, 0d, 1d, "level");
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  ///CLOVER:OFF
+  /**
+   * The meta-bean for {@code ExposureParameters}.
+   * @return the meta-bean, not null
+   */
+  public static ExposureParameters.Meta meta() {
+    return ExposureParameters.Meta.INSTANCE;
+  }
+
+  static {
+    JodaBeanUtils.registerMetaBean(ExposureParameters.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private ExposureParameters(
+      ExposureScenariosId scenariosId,
+      double level) {
+    JodaBeanUtils.notNull(scenariosId, "scenariosId");
+    this.scenariosId = scenariosId;
+    this.level = level;
+    validate();
+  }
+
+  @Override
+  public ExposureParameters.Meta metaBean() {
+    return ExposureParameters.Meta.INSTANCE;
+  }
+
+  @Override
+  public <R> Property<R> property(String propertyName) {
+    return metaBean().<R>metaProperty(propertyName).createProperty(this);
+  }
+
+  @Override
+  public Set<String> propertyNames() {
+    return metaBean().metaPropertyMap().keySet();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the identifier of the simulated market states.
+   * @return the value of the property, not null
+   */
+  public ExposureScenariosId getScenariosId() {
+    return scenariosId;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the quantile level of the potential future exposure, strictly between 0 and 1.
+   * @return the value of the property
+   */
+  public double getLevel() {
+    return level;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ExposureParameters other = (ExposureParameters) obj;
+      return JodaBeanUtils.equal(scenariosId, other.scenariosId) &&
+          JodaBeanUtils.equal(level, other.level);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(scenariosId);
+    hash = hash * 31 + JodaBeanUtils.hashCode(level);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(96);
+    buf.append("ExposureParameters{");
+    buf.append("scenariosId").append('=').append(scenariosId).append(',').append(' ');
+    buf.append("level").append('=').append(JodaBeanUtils.toString(level));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code ExposureParameters}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code scenariosId} property.
+     */
+    private final MetaProperty<ExposureScenariosId> scenariosId = DirectMetaProperty.ofImmutable(
+        this, "scenariosId", ExposureParameters.class, ExposureScenariosId.class);
+    /**
+     * The meta-property for the {@code level} property.
+     */
+    private final MetaProperty<Double> level = DirectMetaProperty.ofImmutable(
+        this, "level", ExposureParameters.class, Double.TYPE);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "scenariosId",
+        "level");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 1352981342:  // scenariosId
+          return scenariosId;
+        case 102865796:  // level
+          return level;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends ExposureParameters> builder() {
+      return new ExposureParameters.Builder();
+    }
+
+    @Override
+    public Class<? extends ExposureParameters> beanType() {
+      return ExposureParameters.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code scenariosId} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ExposureScenariosId> scenariosId() {
+      return scenariosId;
+    }
+
+    /**
+     * The meta-property for the {@code level} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Double> level() {
+      return level;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case 1352981342:  // scenariosId
+          return ((ExposureParameters) bean).getScenariosId();
+        case 102865796:  // level
+          return ((ExposureParameters) bean).getLevel();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code ExposureParameters}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<ExposureParameters> {
+
+    private ExposureScenariosId scenariosId;
+    private double level;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+      super(meta());
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 1352981342:  // scenariosId
+          return scenariosId;
+        case 102865796:  // level
+          return level;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case 1352981342:  // scenariosId
+          this.scenariosId = (ExposureScenariosId) newValue;
+          break;
+        case 102865796:  // level
+          this.level = (Double) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public ExposureParameters build() {
+      return new ExposureParameters(
+          scenariosId,
+          level);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(96);
+      buf.append("ExposureParameters.Builder{");
+      buf.append("scenariosId").append('=').append(JodaBeanUtils.toString(scenariosId)).append(',').append(' ');
+      buf.append("level").append('=').append(JodaBeanUtils.toString(level));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  ///CLOVER:ON
+  //-------------------------- AUTOGENERATED END --------------------------
+}
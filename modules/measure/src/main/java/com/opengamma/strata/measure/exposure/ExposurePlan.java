@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.ResolvedTrade;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+
+/**
+ * The valuation plan of a trade on the dates of an exposure grid.
+ * <p>
+ * A plan is built once for a trade and a grid, and then used to value the trade
+ * on every simulated state of every date.
+ * Any work that does not depend on the state, such as selecting the cash flows
+ * still to be paid at a date, is done when the plan is built.
+ * <p>
+ * Implementations must be immutable and thread-safe.
+ */
+interface ExposurePlan {
+
+  /**
+   * Obtains the plan of a resolved trade.
+   *
+   * @param trade  the resolved trade
+   * @param dates  the dates of the grid, in increasing order
+   * @param currency  the currency of the values
+   * @return the plan
+   * @throws IllegalArgumentException if the trade type is not supported
+   */
+  public static ExposurePlan of(ResolvedTrade trade, List<LocalDate> dates, Currency currency) {
+    if (trade instanceof ResolvedSwapTrade) {
+      return SwapExposurePlan.of(((ResolvedSwapTrade) trade).getProduct(), dates, currency);
+    }
+    throw new IllegalArgumentException(Messages.format(
+        "Exposure calculation is not supported for trade type: {}", trade.getClass().getSimpleName()));
+  }
+
+  /**
+   * Calculates the value of the trade on a simulated state.
+   * <p>
+   * The value is expressed in the currency of the plan, at the valuation date of the state.
+   *
+   * @param dateIndex  the index of the date in the grid
+   * @param provider  the simulated state at the date
+   * @return the value
+   */
+  public abstract double value(int dateIndex, RatesProvider provider);
+
+}
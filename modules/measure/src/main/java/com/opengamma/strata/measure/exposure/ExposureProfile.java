@@ -0,0 +1,392 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.BeanDefinition;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.ImmutableValidator;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.Property;
+import org.joda.beans.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * An exposure profile, such as the expected positive exposure, on a grid of future dates.
+ * <p>
+ * Each value is an amount in the currency of the profile, expressed at the matching date.
+ */
+@BeanDefinition(builderScope = "private")
+public final class ExposureProfile
+    implements ImmutableBean, Serializable {
+
+  /**
+   * The currency of the exposure.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Currency currency;
+  /**
+   * The dates of the grid, in increasing order.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableList<LocalDate> dates;
+  /**
+   * The exposure, one value per date.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleArray values;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   *
+   * @param currency  the currency of the exposure
+   * @param dates  the dates of the grid, in increasing order
+   * @param values  the exposure, one value per date
+   * @return the profile
+   */
+  public static ExposureProfile of(Currency currency, List<LocalDate> dates, DoubleArray values) {
+    return new ExposureProfile(currency, dates, values);
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    ArgChecker.isTrue(values.size() == dates.size(), "Exposure must have one value per date");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the maximum of the exposure over the dates, zero if there are no dates.
+   * <p>
+   * Applied to a potential future exposure, this is the peak exposure.
+   *
+   * @return the maximum value
+   */
+  public double getMaximum() {
+    return values.isEmpty() ? 0d : values.max();
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  ///CLOVER:OFF
+  /**
+   * The meta-bean for {@code ExposureProfile}.
+   * @return the meta-bean, not null
+   */
+  public static ExposureProfile.Meta meta() {
+    return ExposureProfile.Meta.INSTANCE;
+  }
+
+  static {
+    JodaBeanUtils.registerMetaBean(ExposureProfile.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private ExposureProfile(
+      Currency currency,
+      List<LocalDate> dates,
+      DoubleArray values) {
+    JodaBeanUtils.notNull(currency, "currency");
+    JodaBeanUtils.notNull(dates, "dates");
+    JodaBeanUtils.notNull(values, "values");
+    this.currency = currency;
+    this.dates = ImmutableList.copyOf(dates);
+    this.values = values;
+    validate();
+  }
+
+  @Override
+  public ExposureProfile.Meta metaBean() {
+    return ExposureProfile.Meta.INSTANCE;
+  }
+
+  @Override
+  public <R> Property<R> property(String propertyName) {
+    return metaBean().<R>metaProperty(propertyName).createProperty(this);
+  }
+
+  @Override
+  public Set<String> propertyNames() {
+    return metaBean().metaPropertyMap().keySet();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the currency of the exposure.
+   * @return the value of the property, not null
+   */
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the dates of the grid, in increasing order.
+   * @return the value of the property, not null
+   */
+  public ImmutableList<LocalDate> getDates() {
+    return dates;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the exposure, one value per date.
+   * @return the value of the property, not null
+   */
+  public DoubleArray getValues() {
+    return values;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ExposureProfile other = (ExposureProfile) obj;
+      return JodaBeanUtils.equal(currency, other.currency) &&
+          JodaBeanUtils.equal(dates, other.dates) &&
+          JodaBeanUtils.equal(values, other.values);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(currency);
+    hash = hash * 31 + JodaBeanUtils.hashCode(dates);
+    hash = hash * 31 + JodaBeanUtils.hashCode(values);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(128);
+    buf.append("ExposureProfile{");
+    buf.append("currency").append('=').append(currency).append(',').append(' ');
+    buf.append("dates").append('=').append(dates).append(',').append(' ');
+    buf.append("values").append('=').append(JodaBeanUtils.toString(values));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code ExposureProfile}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code currency} property.
+     */
+    private final MetaProperty<Currency> currency = DirectMetaProperty.ofImmutable(
+        this, "currency", ExposureProfile.class, Currency.class);
+    /**
+     * The meta-property for the {@code dates} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableList<LocalDate>> dates = DirectMetaProperty.ofImmutable(
+        this, "dates", ExposureProfile.class, (Class) ImmutableList.class);
+    /**
+     * The meta-property for the {@code values} property.
+     */
+    private final MetaProperty<DoubleArray> values = DirectMetaProperty.ofImmutable(
+        this, "values", ExposureProfile.class, DoubleArray.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "currency",
+        "dates",
+        "values");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 575402001:  // currency
+          return currency;
+        case 95356549:  // dates
+          return dates;
+        case -823812830:  // values
+          return values;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends ExposureProfile> builder() {
+      return new ExposureProfile.Builder();
+    }
+
+    @Override
+    public Class<? extends ExposureProfile> beanType() {
+      return ExposureProfile.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code currency} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Currency> currency() {
+      return currency;
+    }
+
+    /**
+     * The meta-property for the {@code dates} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableList<LocalDate>> dates() {
+      return dates;
+    }
+
+    /**
+     * The meta-property for the {@code values} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<DoubleArray> values() {
+      return values;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case 575402001:  // currency
+          return ((ExposureProfile) bean).getCurrency();
+        case 95356549:  // dates
+          return ((ExposureProfile) bean).getDates();
+        case -823812830:  // values
+          return ((ExposureProfile) bean).getValues();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code ExposureProfile}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<ExposureProfile> {
+
+    private Currency currency;
+    private List<LocalDate> dates = ImmutableList.of();
+    private DoubleArray values;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+      super(meta());
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 575402001:  // currency
+          return currency;
+        case 95356549:  // dates
+          return dates;
+        case -823812830:  // values
+          return values;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case 575402001:  // currency
+          this.currency = (Currency) newValue;
+          break;
+        case 95356549:  // dates
+          this.dates = (List<LocalDate>) newValue;
+          break;
+        case -823812830:  // values
+          this.values = (DoubleArray) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public ExposureProfile build() {
+      return new ExposureProfile(
+          currency,
+          dates,
+          values);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(128);
+      buf.append("ExposureProfile.Builder{");
+      buf.append("currency").append('=').append(JodaBeanUtils.toString(currency)).append(',').append(' ');
+      buf.append("dates").append('=').append(JodaBeanUtils.toString(dates)).append(',').append(' ');
+      buf.append("values").append('=').append(JodaBeanUtils.toString(values));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  ///CLOVER:ON
+  //-------------------------- AUTOGENERATED END --------------------------
+}
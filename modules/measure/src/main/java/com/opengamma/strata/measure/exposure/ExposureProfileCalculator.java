@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.pricer.SimulatedValueProfile;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.ResolvedTrade;
+
+/**
+ * Calculates the simulated values of a netting set on a grid of future dates.
+ * <p>
+ * The trades are valued on each simulated state of {@link ExposureScenarios} and their values are summed.
+ * A valuation plan is built once for each trade and reused for all the dates and paths,
+ * so that the cash flows still to be paid at a date are not searched again for each state.
+ * The states are valued in parallel, each state summing the trades in order,
+ * so the result does not depend on the number of threads.
+ * <p>
+ * The paths are equally weighted. The resulting {@link SimulatedValueProfile} has unit deflators
+ * and discount factors, so that its exposures are plain averages and quantiles over the paths.
+ * <p>
+ * Swap trades are supported, including cross-currency swaps.
+ */
+public class ExposureProfileCalculator {
+
+  /**
+   * Default implementation.
+   */
+  public static final ExposureProfileCalculator DEFAULT = new ExposureProfileCalculator();
+
+  /**
+   * Creates an instance.
+   */
+  public ExposureProfileCalculator() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the simulated values of a netting set.
+   * <p>
+   * The value of each state is the sum of the values of the trades, in the specified currency.
+   *
+   * @param trades  the resolved trades of the netting set
+   * @param currency  the currency of the values
+   * @param scenarios  the simulated market states
+   * @return the simulated values, one row per date and one column per path
+   * @throws IllegalArgumentException if a trade type is not supported
+   */
+  public SimulatedValueProfile valueProfile(
+      List<? extends ResolvedTrade> trades,
+      Currency currency,
+      ExposureScenarios scenarios) {
+
+    ArgChecker.notNull(trades, "trades");
+    ArgChecker.notNull(currency, "currency");
+    ArgChecker.notNull(scenarios, "scenarios");
+    ImmutableList<LocalDate> dates = scenarios.getDates();
+    ImmutableList<ExposurePlan> plans = trades.parallelStream()
+        .map(trade -> ExposurePlan.of(trade, dates, currency))
+        .collect(toImmutableList());
+    int nbDates = scenarios.getDateCount();
+    int nbPaths = scenarios.getPathCount();
+    double[][] values = new double[nbDates][nbPaths];
+    IntStream.range(0, nbDates * nbPaths).parallel().forEach(k -> {
+      int dateIndex = k / nbPaths;
+      int pathIndex = k % nbPaths;
+      RatesProvider state = scenarios.getState(dateIndex, pathIndex);
+      double total = 0d;
+      for (ExposurePlan plan : plans) {
+        total += plan.value(dateIndex, state);
+      }
+      values[dateIndex][pathIndex] = total;
+    });
+    return SimulatedValueProfile.of(
+        currency,
+        dates,
+        DoubleArray.filled(nbDates, 1d),
+        DoubleMatrix.ofUnsafe(values),
+        DoubleMatrix.filled(nbDates, nbPaths, 1d));
+  }
+
+}
@@ -0,0 +1,391 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.BeanDefinition;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.ImmutableValidator;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.Property;
+import org.joda.beans.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+
+/**
+ * Simulated market states on a grid of future dates.
+ * <p>
+ * For each date of the grid, this holds the same number of simulated market states, or paths.
+ * Each state is a {@link RatesProvider} whose valuation date is the grid date.
+ * The states must contain the index fixings required to value trades at the date,
+ * including the fixings of the simulated path between the valuation date and the grid date.
+ * <p>
+ * The paths are equally weighted. A path index refers to the same simulated path at all dates,
+ * which allows exposures to be computed on path-dependent aggregations.
+ * <p>
+ * The simulation is provided in market data using {@link ExposureScenariosId}.
+ */
+@BeanDefinition(builderScope = "private")
+public final class ExposureScenarios
+    implements ImmutableBean {
+
+  /**
+   * The dates of the grid, in increasing order.
+   */
+  @PropertyDefinition(validate = "notEmpty")
+  private final ImmutableList<LocalDate> dates;
+  /**
+   * The simulated states, with one list of paths for each date.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableList<ImmutableList<RatesProvider>> states;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the dates and the simulated states.
+   * <p>
+   * The states are provided with one list for each date, all the lists having the same size.
+   *
+   * @param dates  the dates of the grid, in increasing order
+   * @param states  the simulated states, with one list of paths for each date
+   * @return the simulated states
+   */
+  public static ExposureScenarios of(List<LocalDate> dates, List<? extends List<? extends RatesProvider>> states) {
+    ImmutableList<ImmutableList<RatesProvider>> copy = states.stream()
+        .map(paths -> ImmutableList.<RatesProvider>copyOf(paths))
+        .collect(toImmutableList());
+    return new ExposureScenarios(dates, copy);
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    ArgChecker.notEmpty(dates, "dates");
+    ArgChecker.isTrue(states.size() == dates.size(), "States must be provided for each date");
+    int pathCount = states.get(0).size();
+    ArgChecker.isTrue(pathCount > 0, "States must contain at least one path");
+    for (int i = 0; i < dates.size(); i++) {
+      LocalDate date = dates.get(i);
+      if (i > 0) {
+        ArgChecker.inOrderNotEqual(dates.get(i - 1), date, "dates[i-1]", "dates[i]");
+      }
+      ImmutableList<RatesProvider> paths = states.get(i);
+      ArgChecker.isTrue(paths.size() == pathCount, "States must have the same number of paths for each date");
+      for (RatesProvider path : paths) {
+        if (!path.getValuationDate().equals(date)) {
+          throw new IllegalArgumentException(Messages.format(
+              "State valuation date {} does not match grid date {}", path.getValuationDate(), date));
+        }
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of dates in the grid.
+   *
+   * @return the number of dates
+   */
+  public int getDateCount() {
+    return dates.size();
+  }
+
+  /**
+   * Gets the number of paths, which is the same for each date.
+   *
+   * @return the number of paths
+   */
+  public int getPathCount() {
+    return states.get(0).size();
+  }
+
+  /**
+   * Gets the simulated state at a date of the grid on a path.
+   *
+   * @param dateIndex  the index of the date
+   * @param pathIndex  the index of the path
+   * @return the simulated state
+   * @throws IndexOutOfBoundsException if either index is invalid
+   */
+  public RatesProvider getState(int dateIndex, int pathIndex) {
+    return states.get(dateIndex).get(pathIndex);
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  ///CLOVER:OFF
+  /**
+   * The meta-bean for {@code ExposureScenarios}.
+   * @return the meta-bean, not null
+   */
+  public static ExposureScenarios.Meta meta() {
+    return ExposureScenarios.Meta.INSTANCE;
+  }
+
+  static {
+    JodaBeanUtils.registerMetaBean(ExposureScenarios.Meta.INSTANCE);
+  }
+
+  private ExposureScenarios(
+      List<LocalDate> dates,
+      List<ImmutableList<RatesProvider>> states) {
+    JodaBeanUtils.notEmpty(dates, "dates");
+    JodaBeanUtils.notNull(states, "states");
+    this.dates = ImmutableList.copyOf(dates);
+    this.states = ImmutableList.copyOf(states);
+    validate();
+  }
+
+  @Override
+  public ExposureScenarios.Meta metaBean() {
+    return ExposureScenarios.Meta.INSTANCE;
+  }
+
+  @Override
+  public <R> Property<R> property(String propertyName) {
+    return metaBean().<R>metaProperty(propertyName).createProperty(this);
+  }
+
+  @Override
+  public Set<String> propertyNames() {
+    return metaBean().metaPropertyMap().keySet();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the dates of the grid, in increasing order.
+   * @return the value of the property, not empty
+   */
+  public ImmutableList<LocalDate> getDates() {
+    return dates;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the simulated states, with one list of paths for each date.
+   * @return the value of the property, not null
+   */
+  public ImmutableList<ImmutableList<RatesProvider>> getStates() {
+    return states;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ExposureScenarios other = (ExposureScenarios) obj;
+      return JodaBeanUtils.equal(dates, other.dates) &&
+          JodaBeanUtils.equal(states, other.states);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(dates);
+    hash = hash * 31 + JodaBeanUtils.hashCode(states);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(96);
+    buf.append("ExposureScenarios{");
+    buf.append("dates").append('=').append(dates).append(',').append(' ');
+    buf.append("states").append('=').append(JodaBeanUtils.toString(states));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code ExposureScenarios}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code dates} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableList<LocalDate>> dates = DirectMetaProperty.ofImmutable(
+        this, "dates", ExposureScenarios.class, (Class) ImmutableList.class);
+    /**
+     * The meta-property for the {@code states} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableList<ImmutableList<RatesProvider>>> states = DirectMetaProperty.ofImmutable(
+        this, "states", ExposureScenarios.class, (Class) ImmutableList.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "dates",
+        "states");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 95356549:  // dates
+          return dates;
+        case -892482046:  // states
+          return states;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends ExposureScenarios> builder() {
+      return new ExposureScenarios.Builder();
+    }
+
+    @Override
+    public Class<? extends ExposureScenarios> beanType() {
+      return ExposureScenarios.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code dates} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableList<LocalDate>> dates() {
+      return dates;
+    }
+
+    /**
+     * The meta-property for the {@code states} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableList<ImmutableList<RatesProvider>>> states() {
+      return states;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case 95356549:  // dates
+          return ((ExposureScenarios) bean).getDates();
+        case -892482046:  // states
+          return ((ExposureScenarios) bean).getStates();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code ExposureScenarios}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<ExposureScenarios> {
+
+    private List<LocalDate> dates = ImmutableList.of();
+    private List<ImmutableList<RatesProvider>> states = ImmutableList.of();
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+      super(meta());
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 95356549:  // dates
+          return dates;
+        case -892482046:  // states
+          return states;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case 95356549:  // dates
+          this.dates = (List<LocalDate>) newValue;
+          break;
+        case -892482046:  // states
+          this.states = (List<ImmutableList<RatesProvider>>) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public ExposureScenarios build() {
+      return new ExposureScenarios(
+          dates,
+          states);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(96);
+      buf.append("ExposureScenarios.Builder{");
+      buf.append("dates").append('=').append(JodaBeanUtils.toString(dates)).append(',').append(' ');
+      buf.append("states").append('=').append(JodaBeanUtils.toString(states));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  ///CLOVER:ON
+  //-------------------------- AUTOGENERATED END --------------------------
+}
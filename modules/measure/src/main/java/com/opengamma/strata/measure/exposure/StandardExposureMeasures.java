@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import com.opengamma.strata.calc.ImmutableMeasure;
+import com.opengamma.strata.calc.Measure;
+
+/**
+ * The standard set of exposure measures that can be calculated by Strata.
+ */
+final class StandardExposureMeasures {
+
+  // expected positive exposure profile, which is expressed in the currency of the netting set
+  public static final Measure EXPECTED_POSITIVE_EXPOSURE = ImmutableMeasure.of("ExpectedPositiveExposure", false);
+  // potential future exposure profile, which is expressed in the currency of the netting set
+  public static final Measure POTENTIAL_FUTURE_EXPOSURE = ImmutableMeasure.of("PotentialFutureExposure", false);
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.pricer.impl.swap.DiscountingRatePaymentPeriodPricer;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.swap.SwapPaymentEventPricer;
+import com.opengamma.strata.pricer.swap.SwapPaymentPeriodPricer;
+import com.opengamma.strata.product.swap.RatePaymentPeriodArray;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.SwapPaymentEvent;
+import com.opengamma.strata.product.swap.SwapPaymentPeriod;
+
+/**
+ * The valuation plan of a swap on the dates of an exposure grid.
+ * <p>
+ * The payment periods of standard legs are held as a {@link RatePaymentPeriodArray},
+ * which is valued without creating dates for the payments.
+ * The other payment periods and the payment events are sorted by payment date,
+ * and the first one paid on or after each date of the grid is found when the plan is built.
+ * The value on a state is the sum of the present values of the remaining periods and events,
+ * converted to the currency of the plan at the FX rates of the state.
+ */
+final class SwapExposurePlan implements ExposurePlan {
+
+  /**
+   * Pricer for payment periods.
+   */
+  private static final SwapPaymentPeriodPricer<SwapPaymentPeriod> PERIOD_PRICER = SwapPaymentPeriodPricer.standard();
+  /**
+   * Pricer for the compact view of payment periods.
+   */
+  private static final DiscountingRatePaymentPeriodPricer COMPACT_PRICER = DiscountingRatePaymentPeriodPricer.DEFAULT;
+  /**
+   * Pricer for payment events.
+   */
+  private static final SwapPaymentEventPricer<SwapPaymentEvent> EVENT_PRICER = SwapPaymentEventPricer.standard();
+
+  /**
+   * The currency of the values.
+   */
+  private final Currency currency;
+  /**
+   * The payment periods of the standard legs.
+   */
+  private final RatePaymentPeriodArray[] compactPeriods;
+  /**
+   * The payment periods of the other legs, sorted by payment date.
+   */
+  private final SwapPaymentPeriod[] periods;
+  /**
+   * The payment events, sorted by payment date.
+   */
+  private final SwapPaymentEvent[] events;
+  /**
+   * The index of the first period paid on or after each date of the grid.
+   */
+  private final int[] firstPeriods;
+  /**
+   * The index of the first event paid on or after each date of the grid.
+   */
+  private final int[] firstEvents;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the plan of a swap.
+   *
+   * @param swap  the swap
+   * @param dates  the dates of the grid, in increasing order
+   * @param currency  the currency of the values
+   * @return the plan
+   */
+  static SwapExposurePlan of(ResolvedSwap swap, List<LocalDate> dates, Currency currency) {
+    List<RatePaymentPeriodArray> compactPeriods = new ArrayList<>();
+    List<SwapPaymentPeriod> periods = new ArrayList<>();
+    List<SwapPaymentEvent> events = new ArrayList<>();
+    for (ResolvedSwapLeg leg : swap.getLegs()) {
+      if (RatePaymentPeriodArray.isSupported(leg)) {
+        compactPeriods.add(RatePaymentPeriodArray.of(leg));
+      } else {
+        periods.addAll(leg.getPaymentPeriods());
+      }
+      events.addAll(leg.getPaymentEvents());
+    }
+    periods.sort(Comparator.comparing(SwapPaymentPeriod::getPaymentDate));
+    events.sort(Comparator.comparing(SwapPaymentEvent::getPaymentDate));
+    int[] firstPeriods = new int[dates.size()];
+    int[] firstEvents = new int[dates.size()];
+    int period = 0;
+    int event = 0;
+    for (int i = 0; i < dates.size(); i++) {
+      LocalDate date = dates.get(i);
+      while (period < periods.size() && periods.get(period).getPaymentDate().isBefore(date)) {
+        period++;
+      }
+      while (event < events.size() && events.get(event).getPaymentDate().isBefore(date)) {
+        event++;
+      }
+      firstPeriods[i] = period;
+      firstEvents[i] = event;
+    }
+    return new SwapExposurePlan(
+        currency,
+        compactPeriods.toArray(new RatePaymentPeriodArray[compactPeriods.size()]),
+        periods.toArray(new SwapPaymentPeriod[periods.size()]),
+        events.toArray(new SwapPaymentEvent[events.size()]),
+        firstPeriods,
+        firstEvents);
+  }
+
+  // restricted constructor
+  private SwapExposurePlan(
+      Currency currency,
+      RatePaymentPeriodArray[] compactPeriods,
+      SwapPaymentPeriod[] periods,
+      SwapPaymentEvent[] events,
+      int[] firstPeriods,
+      int[] firstEvents) {
+
+    this.currency = currency;
+    this.compactPeriods = compactPeriods;
+    this.periods = periods;
+    this.events = events;
+    this.firstPeriods = firstPeriods;
+    this.firstEvents = firstEvents;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double value(int dateIndex, RatesProvider provider) {
+    // the compact pricer only includes the periods paid on or after the valuation date of the state
+    double total = 0d;
+    for (RatePaymentPeriodArray compact : compactPeriods) {
+      total += convert(COMPACT_PRICER.presentValue(compact, provider), compact.getCurrency(), provider);
+    }
+    for (int i = firstPeriods[dateIndex]; i < periods.length; i++) {
+      SwapPaymentPeriod period = periods[i];
+      total += convert(PERIOD_PRICER.presentValue(period, provider), period.getCurrency(), provider);
+    }
+    for (int i = firstEvents[dateIndex]; i < events.length; i++) {
+      SwapPaymentEvent event = events[i];
+      total += convert(EVENT_PRICER.presentValue(event, provider), event.getCurrency(), provider);
+    }
+    return total;
+  }
+
+  // converts an amount to the currency of the plan
+  private double convert(double amount, Currency amountCurrency, RatesProvider provider) {
+    return amountCurrency.equals(currency) ? amount : amount * provider.fxRate(amountCurrency, currency);
+  }
+
+}
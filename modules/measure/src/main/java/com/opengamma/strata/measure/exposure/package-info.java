@@ -0,0 +1,10 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * Calculation functions for future exposure over simulated market states.
+ */
+package com.opengamma.strata.measure.exposure;
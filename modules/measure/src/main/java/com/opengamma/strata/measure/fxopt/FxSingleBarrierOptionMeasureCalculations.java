@@ -5,8 +5,20 @@
  */
 package com.opengamma.strata.measure.fxopt;
 
-import java.time.LocalDate;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.CurrencyPair;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
@@ -101,6 +113,44 @@ final class FxSingleBarrierOptionMeasureCalculations {
     }
   }
 
+  // calculates present value for all scenarios of several trades
+  List<MultiCurrencyScenarioArray> presentValue(
+      List<ResolvedFxSingleBarrierOptionTrade> trades,
+      RatesScenarioMarketData ratesMarketData,
+      FxOptionScenarioMarketData optionMarketData,
+      FxSingleBarrierOptionMethod method) {
+
+    int nScenarios = ratesMarketData.getScenarioCount();
+    List<List<MultiCurrencyAmount>> results = IntStream.range(0, nScenarios)
+        .mapToObj(i -> presentValue(
+            trades,
+            ratesMarketData.scenario(i).ratesProvider(),
+            optionMarketData.scenario(i)::volatilities,
+            method))
+        .collect(toImmutableList());
+    return IntStream.range(0, trades.size())
+        .mapToObj(k -> MultiCurrencyScenarioArray.of(nScenarios, i -> results.get(i).get(k)))
+        .collect(toImmutableList());
+  }
+
+  // present value for one scenario of several trades
+  // the trinomial tree pricer prices the trades of each currency pair together
+  List<MultiCurrencyAmount> presentValue(
+      List<ResolvedFxSingleBarrierOptionTrade> trades,
+      RatesProvider ratesProvider,
+      Function<CurrencyPair, FxOptionVolatilities> volatilities,
+      FxSingleBarrierOptionMethod method) {
+
+    if (method == FxSingleBarrierOptionMethod.TRINOMIAL_TREE) {
+      return trinomialTreeBatch(
+          trades, volatilities, (group, vols) -> trinomialTreePricer.presentValue(group, ratesProvider, vols));
+    } else {
+      return trades.stream()
+          .map(trade -> presentValue(trade, ratesProvider, volatilities.apply(currencyPair(trade)), method))
+          .collect(toImmutableList());
+    }
+  }
+
   //-------------------------------------------------------------------------
   // calculates calibrated sum PV01 for all scenarios
   MultiCurrencyScenarioArray pv01RatesCalibratedSum(
@@ -159,6 +209,48 @@ final class FxSingleBarrierOptionMeasureCalculations {
     return paramSens.multipliedBy(ONE_BASIS_POINT);
   }
 
+  // calculates calibrated bucketed PV01 for all scenarios of several trades
+  List<ScenarioArray<CurrencyParameterSensitivities>> pv01RatesCalibratedBucketed(
+      List<ResolvedFxSingleBarrierOptionTrade> trades,
+      RatesScenarioMarketData ratesMarketData,
+      FxOptionScenarioMarketData optionMarketData,
+      FxSingleBarrierOptionMethod method) {
+
+    int nScenarios = ratesMarketData.getScenarioCount();
+    List<List<CurrencyParameterSensitivities>> results = IntStream.range(0, nScenarios)
+        .mapToObj(i -> pv01RatesCalibratedBucketed(
+            trades,
+            ratesMarketData.scenario(i).ratesProvider(),
+            optionMarketData.scenario(i)::volatilities,
+            method))
+        .collect(toImmutableList());
+    return IntStream.range(0, trades.size())
+        .mapToObj(k -> ScenarioArray.of(nScenarios, i -> results.get(i).get(k)))
+        .collect(toImmutableList());
+  }
+
+  // calibrated bucketed PV01 for one scenario of several trades
+  // the trinomial tree pricer prices the trades of each currency pair together
+  List<CurrencyParameterSensitivities> pv01RatesCalibratedBucketed(
+      List<ResolvedFxSingleBarrierOptionTrade> trades,
+      RatesProvider ratesProvider,
+      Function<CurrencyPair, FxOptionVolatilities> volatilities,
+      FxSingleBarrierOptionMethod method) {
+
+    if (method == FxSingleBarrierOptionMethod.TRINOMIAL_TREE) {
+      List<CurrencyParameterSensitivities> paramSens = trinomialTreeBatch(
+          trades,
+          volatilities,
+          (group, vols) -> trinomialTreePricer.presentValueSensitivityRates(group, ratesProvider, vols));
+      return paramSens.stream().map(sens -> sens.multipliedBy(ONE_BASIS_POINT)).collect(toImmutableList());
+    } else {
+      return trades.stream()
+          .map(trade -> pv01RatesCalibratedBucketed(
+              trade, ratesProvider, volatilities.apply(currencyPair(trade)), method))
+          .collect(toImmutableList());
+    }
+  }
+
   //-------------------------------------------------------------------------
   // calculates market quote sum PV01 for all scenarios
   MultiCurrencyScenarioArray pv01RatesMarketQuoteSum(
@@ -295,6 +387,36 @@ final class FxSingleBarrierOptionMeasureCalculations {
     }
   }
 
+  //-------------------------------------------------------------------------
+  // applies a batch function of the trinomial tree pricer to the trades of each currency pair
+  private <R> List<R> trinomialTreeBatch(
+      List<ResolvedFxSingleBarrierOptionTrade> trades,
+      Function<CurrencyPair, FxOptionVolatilities> volatilities,
+      BiFunction<List<ResolvedFxSingleBarrierOptionTrade>, BlackFxOptionVolatilities, List<R>> batchFunction) {
+
+    Map<CurrencyPair, List<Integer>> groups = new LinkedHashMap<>();
+    for (int k = 0; k < trades.size(); ++k) {
+      groups.computeIfAbsent(currencyPair(trades.get(k)), pair -> new ArrayList<>()).add(k);
+    }
+    List<R> results = new ArrayList<>(Collections.nCopies(trades.size(), null));
+    for (Entry<CurrencyPair, List<Integer>> group : groups.entrySet()) {
+      List<Integer> indices = group.getValue();
+      List<ResolvedFxSingleBarrierOptionTrade> groupTrades =
+          indices.stream().map(trades::get).collect(toImmutableList());
+      BlackFxOptionVolatilities vols = checkTrinomialTreeVolatilities(volatilities.apply(group.getKey()));
+      List<R> groupResults = batchFunction.apply(groupTrades, vols);
+      for (int k = 0; k < indices.size(); ++k) {
+        results.set(indices.get(k), groupResults.get(k));
+      }
+    }
+    return ImmutableList.copyOf(results);
+  }
+
+  // the currency pair of the trade
+  private static CurrencyPair currencyPair(ResolvedFxSingleBarrierOptionTrade trade) {
+    return trade.getProduct().getCurrencyPair();
+  }
+
   //-------------------------------------------------------------------------
   // ensures that the volatilities are correct
   private BlackFxOptionVolatilities checkBlackVolatilities(FxOptionVolatilities volatilities) {
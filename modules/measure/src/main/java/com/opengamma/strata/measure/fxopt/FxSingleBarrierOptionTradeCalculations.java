@@ -5,6 +5,8 @@
  */
 package com.opengamma.strata.measure.fxopt;
 
+import java.util.List;
+
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
@@ -102,6 +104,54 @@ public class FxSingleBarrierOptionTradeCalculations {
     return calc.presentValue(trade, ratesProvider, volatilities, method);
   }
 
+  /**
+   * Calculates present value of several trades across one or more scenarios.
+   * <p>
+   * When using the trinomial tree method, the trades are priced together in each scenario,
+   * calibrating the tree once for each currency pair and expiry.
+   * 
+   * @param trades  the trades
+   * @param ratesLookup  the lookup used to query the market data
+   * @param fxLookup  the lookup used to query the option market data
+   * @param marketData  the market data
+   * @param method  the pricing method
+   * @return the present value, one entry per trade in the order of the trades, each with one entry per scenario
+   */
+  public List<MultiCurrencyScenarioArray> presentValue(
+      List<ResolvedFxSingleBarrierOptionTrade> trades,
+      RatesMarketDataLookup ratesLookup,
+      FxOptionMarketDataLookup fxLookup,
+      ScenarioMarketData marketData,
+      FxSingleBarrierOptionMethod method) {
+
+    return calc.presentValue(
+        trades,
+        ratesLookup.marketDataView(marketData),
+        fxLookup.marketDataView(marketData),
+        method);
+  }
+
+  /**
+   * Calculates present value of several trades for a single set of market data.
+   * <p>
+   * When using the trinomial tree method, the trades are priced together,
+   * calibrating the tree once for each currency pair and expiry.
+   * 
+   * @param trades  the trades
+   * @param ratesProvider  the market data
+   * @param volatilities  the option volatilities
+   * @param method  the pricing method
+   * @return the present value, one entry per trade in the order of the trades
+   */
+  public List<MultiCurrencyAmount> presentValue(
+      List<ResolvedFxSingleBarrierOptionTrade> trades,
+      RatesProvider ratesProvider,
+      FxOptionVolatilities volatilities,
+      FxSingleBarrierOptionMethod method) {
+
+    return calc.presentValue(trades, ratesProvider, currencyPair -> volatilities, method);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates present value sensitivity across one or more scenarios.
@@ -200,6 +250,59 @@ public class FxSingleBarrierOptionTradeCalculations {
     return calc.pv01RatesCalibratedBucketed(trade, ratesProvider, volatilities, method);
   }
 
+  /**
+   * Calculates present value sensitivity of several trades across one or more scenarios.
+   * <p>
+   * This is the sensitivity of present value to a one basis point shift in the calibrated curves.
+   * The result is provided for each affected curve and currency, bucketed by curve node.
+   * <p>
+   * When using the trinomial tree method, the trades are priced together for each bumped curve parameter.
+   * 
+   * @param trades  the trades
+   * @param ratesLookup  the lookup used to query the market data
+   * @param fxLookup  the lookup used to query the option market data
+   * @param marketData  the market data
+   * @param method  the pricing method
+   * @return the present value sensitivity, one entry per trade in the order of the trades,
+   *  each with one entry per scenario
+   */
+  public List<ScenarioArray<CurrencyParameterSensitivities>> pv01RatesCalibratedBucketed(
+      List<ResolvedFxSingleBarrierOptionTrade> trades,
+      RatesMarketDataLookup ratesLookup,
+      FxOptionMarketDataLookup fxLookup,
+      ScenarioMarketData marketData,
+      FxSingleBarrierOptionMethod method) {
+
+    return calc.pv01RatesCalibratedBucketed(
+        trades,
+        ratesLookup.marketDataView(marketData),
+        fxLookup.marketDataView(marketData),
+        method);
+  }
+
+  /**
+   * Calculates present value sensitivity of several trades for a single set of market data.
+   * <p>
+   * This is the sensitivity of present value to a one basis point shift in the calibrated curves.
+   * The result is provided for each affected curve and currency, bucketed by curve node.
+   * <p>
+   * When using the trinomial tree method, the trades are priced together for each bumped curve parameter.
+   * 
+   * @param trades  the trades
+   * @param ratesProvider  the market data
+   * @param volatilities  the option volatilities
+   * @param method  the pricing method
+   * @return the present value sensitivity, one entry per trade in the order of the trades
+   */
+  public List<CurrencyParameterSensitivities> pv01RatesCalibratedBucketed(
+      List<ResolvedFxSingleBarrierOptionTrade> trades,
+      RatesProvider ratesProvider,
+      FxOptionVolatilities volatilities,
+      FxSingleBarrierOptionMethod method) {
+
+    return calc.pv01RatesCalibratedBucketed(trades, ratesProvider, currencyPair -> volatilities, method);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates present value sensitivity across one or more scenarios.
@@ -176,7 +176,7 @@ final class DefaultLookupRatesProvider
       throw new MarketDataNotFoundException(lookup.msgCurrencyNotFound(currency));
     }
     Curve curve = marketData.getValue(curveId);
-    return DiscountFactors.of(currency, getValuationDate(), curve);
+    return lookup.discountFactors(currency, getValuationDate(), curve);
   }
 
   //-------------------------------------------------------------------------
@@ -203,7 +203,7 @@ final class DefaultLookupRatesProvider
       throw new MarketDataNotFoundException(lookup.msgIndexNotFound(index));
     }
     Curve curve = marketData.getValue(curveId);
-    return IborIndexRates.of(index, getValuationDate(), curve, timeSeries(index));
+    return lookup.iborIndexRates(index, getValuationDate(), curve, timeSeries(index));
   }
 
   //-------------------------------------------------------------------------
@@ -8,34 +8,47 @@ package com.opengamma.strata.measure.rate;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
 import java.io.Serializable;
+import java.time.LocalDate;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.joda.beans.BeanDefinition;
 import org.joda.beans.ImmutableBean;
+import org.joda.beans.ImmutableConstructor;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
 import org.joda.beans.Property;
 import org.joda.beans.PropertyDefinition;
 import org.joda.beans.impl.light.LightMetaBean;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.basics.index.IborIndex;
 import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.calc.CalculationRules;
 import com.opengamma.strata.calc.runner.CalculationParameter;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.data.ObservableId;
 import com.opengamma.strata.data.ObservableSource;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveId;
 import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.pricer.CachingDiscountFactors;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.rate.CachingIborIndexRates;
+import com.opengamma.strata.pricer.rate.IborIndexRates;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 
 /**
@@ -71,6 +84,23 @@ final class DefaultRatesMarketDataLookup
    */
   @PropertyDefinition(validate = "notNull")
   private final FxRateLookup fxLookup;
+  /**
+   * The number of days from the valuation date for which curve lookups are cached, zero if disabled.
+   * <p>
+   * When positive, the discount factors and Ibor index rates created from a curve are shared
+   * by all rates providers using the same curve instance, and cache their results by date.
+   * See {@link CachingDiscountFactors} and {@link CachingIborIndexRates}.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative")
+  private final int cacheSize;
+  /**
+   * The cached discount factors, keyed by curve instance.
+   */
+  private final transient Cache<Curve, Map<Currency, DiscountFactors>> discountFactorsCache;  // derived
+  /**
+   * The cached Ibor index rates, keyed by curve instance.
+   */
+  private final transient Cache<Curve, Map<IborIndex, IborIndexRates>> iborIndexRatesCache;  // derived
 
   //-------------------------------------------------------------------------
   /**
@@ -92,7 +122,33 @@ final class DefaultRatesMarketDataLookup
       ObservableSource obsSource,
       FxRateLookup fxLookup) {
 
-    return new DefaultRatesMarketDataLookup(discountCurveIds, forwardCurveIds, obsSource, fxLookup);
+    return new DefaultRatesMarketDataLookup(discountCurveIds, forwardCurveIds, obsSource, fxLookup, 0);
+  }
+
+  @ImmutableConstructor
+  private DefaultRatesMarketDataLookup(
+      Map<Currency, CurveId> discountCurves,
+      Map<? extends Index, CurveId> forwardCurves,
+      ObservableSource observableSource,
+      FxRateLookup fxLookup,
+      int cacheSize) {
+    JodaBeanUtils.notNull(discountCurves, "discountCurves");
+    JodaBeanUtils.notNull(forwardCurves, "forwardCurves");
+    JodaBeanUtils.notNull(observableSource, "observableSource");
+    JodaBeanUtils.notNull(fxLookup, "fxLookup");
+    ArgChecker.notNegative(cacheSize, "cacheSize");
+    this.discountCurves = ImmutableMap.copyOf(discountCurves);
+    this.forwardCurves = ImmutableMap.copyOf(forwardCurves);
+    this.observableSource = observableSource;
+    this.fxLookup = fxLookup;
+    this.cacheSize = cacheSize;
+    this.discountFactorsCache = CacheBuilder.newBuilder().weakKeys().softValues().build();
+    this.iborIndexRatesCache = CacheBuilder.newBuilder().weakKeys().softValues().build();
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new DefaultRatesMarketDataLookup(discountCurves, forwardCurves, observableSource, fxLookup, cacheSize);
   }
 
   //-------------------------------------------------------------------------
@@ -161,6 +217,11 @@ final class DefaultRatesMarketDataLookup
         .build();
   }
 
+  @Override
+  public DefaultRatesMarketDataLookup withCacheSize(int cacheSize) {
+    return new DefaultRatesMarketDataLookup(discountCurves, forwardCurves, observableSource, fxLookup, cacheSize);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public RatesProvider ratesProvider(MarketData marketData) {
@@ -172,6 +233,47 @@ final class DefaultRatesMarketDataLookup
     return fxLookup.fxRateProvider(marketData);
   }
 
+  //-------------------------------------------------------------------------
+  // obtains the discount factors for the curve, shared between providers if caching is enabled
+  DiscountFactors discountFactors(Currency currency, LocalDate valuationDate, Curve curve) {
+    if (cacheSize == 0) {
+      return DiscountFactors.of(currency, valuationDate, curve);
+    }
+    Map<Currency, DiscountFactors> byCurrency =
+        discountFactorsCache.asMap().computeIfAbsent(curve, c -> new ConcurrentHashMap<>());
+    DiscountFactors cached = byCurrency.get(currency);
+    if (cached != null && cached.getValuationDate().equals(valuationDate)) {
+      return cached;
+    }
+    DiscountFactors created = CachingDiscountFactors.of(DiscountFactors.of(currency, valuationDate, curve), cacheSize);
+    byCurrency.put(currency, created);
+    return created;
+  }
+
+  // obtains the Ibor index rates for the curve, shared between providers if caching is enabled
+  IborIndexRates iborIndexRates(
+      IborIndex index,
+      LocalDate valuationDate,
+      Curve curve,
+      LocalDateDoubleTimeSeries fixings) {
+
+    if (cacheSize == 0) {
+      return IborIndexRates.of(index, valuationDate, curve, fixings);
+    }
+    Map<IborIndex, IborIndexRates> byIndex =
+        iborIndexRatesCache.asMap().computeIfAbsent(curve, c -> new ConcurrentHashMap<>());
+    IborIndexRates cached = byIndex.get(index);
+    if (cached != null &&
+        cached.getValuationDate().equals(valuationDate) &&
+        (cached.getFixings() == fixings || cached.getFixings().equals(fixings))) {
+      return cached;
+    }
+    IborIndexRates created =
+        CachingIborIndexRates.of(IborIndexRates.of(index, valuationDate, curve, fixings), cacheSize);
+    byIndex.put(index, created);
+    return created;
+  }
+
   //-------------------------------------------------------------------------
   String msgCurrencyNotFound(Currency currency) {
     return Messages.format("Rates lookup has no discount curve defined for currency '{}'", currency);
@@ -205,21 +307,6 @@ final class DefaultRatesMarketDataLookup
    */
   private static final long serialVersionUID = 1L;
 
-  private DefaultRatesMarketDataLookup(
-      Map<Currency, CurveId> discountCurves,
-      Map<? extends Index, CurveId> forwardCurves,
-      ObservableSource observableSource,
-      FxRateLookup fxLookup) {
-    JodaBeanUtils.notNull(discountCurves, "discountCurves");
-    JodaBeanUtils.notNull(forwardCurves, "forwardCurves");
-    JodaBeanUtils.notNull(observableSource, "observableSource");
-    JodaBeanUtils.notNull(fxLookup, "fxLookup");
-    this.discountCurves = ImmutableMap.copyOf(discountCurves);
-    this.forwardCurves = ImmutableMap.copyOf(forwardCurves);
-    this.observableSource = observableSource;
-    this.fxLookup = fxLookup;
-  }
-
   @Override
   public MetaBean metaBean() {
     return META_BEAN;
@@ -271,6 +358,19 @@ final class DefaultRatesMarketDataLookup
     return fxLookup;
   }
 
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of days from the valuation date for which curve lookups are cached, zero if disabled.
+   * <p>
+   * When positive, the discount factors and Ibor index rates created from a curve are shared
+   * by all rates providers using the same curve instance, and cache their results by date.
+   * See {@link CachingDiscountFactors} and {@link CachingIborIndexRates}.
+   * @return the value of the property
+   */
+  public int getCacheSize() {
+    return cacheSize;
+  }
+
   //-----------------------------------------------------------------------
   @Override
   public boolean equals(Object obj) {
@@ -282,7 +382,8 @@ final class DefaultRatesMarketDataLookup
       return JodaBeanUtils.equal(discountCurves, other.discountCurves) &&
           JodaBeanUtils.equal(forwardCurves, other.forwardCurves) &&
           JodaBeanUtils.equal(observableSource, other.observableSource) &&
-          JodaBeanUtils.equal(fxLookup, other.fxLookup);
+          JodaBeanUtils.equal(fxLookup, other.fxLookup) &&
+          (cacheSize == other.cacheSize);
     }
     return false;
   }
@@ -294,17 +395,19 @@ final class DefaultRatesMarketDataLookup
     hash = hash * 31 + JodaBeanUtils.hashCode(forwardCurves);
     hash = hash * 31 + JodaBeanUtils.hashCode(observableSource);
     hash = hash * 31 + JodaBeanUtils.hashCode(fxLookup);
+    hash = hash * 31 + JodaBeanUtils.hashCode(cacheSize);
     return hash;
   }
 
   @Override
   public String toString() {
-    StringBuilder buf = new StringBuilder(160);
+    StringBuilder buf = new StringBuilder(192);
     buf.append("DefaultRatesMarketDataLookup{");
     buf.append("discountCurves").append('=').append(discountCurves).append(',').append(' ');
     buf.append("forwardCurves").append('=').append(forwardCurves).append(',').append(' ');
     buf.append("observableSource").append('=').append(observableSource).append(',').append(' ');
-    buf.append("fxLookup").append('=').append(JodaBeanUtils.toString(fxLookup));
+    buf.append("fxLookup").append('=').append(fxLookup).append(',').append(' ');
+    buf.append("cacheSize").append('=').append(JodaBeanUtils.toString(cacheSize));
     buf.append('}');
     return buf.toString();
   }
@@ -233,6 +233,26 @@ public interface RatesMarketDataLookup extends CalculationParameter {
    */
   public abstract ImmutableSet<MarketDataId<?>> getForwardMarketDataIds(Index index);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a copy of this lookup that caches curve lookups in the rates providers it creates.
+   * <p>
+   * When the cache size is positive, the discount factors and Ibor index rates of each curve are
+   * shared by all rates providers created by the lookup for the same curve instance.
+   * They cache the discount factors and forward rates by date, from the valuation date
+   * up to the specified number of days. This is useful when pricing a large number of trades
+   * that share payment and fixing dates. A cache size of zero disables caching.
+   * <p>
+   * By default, this returns this lookup, which does not cache.
+   * The standard implementation overrides this method to support caching.
+   *
+   * @param cacheSize  the number of days from the valuation date to cache, zero to disable caching
+   * @return the lookup with the specified cache size
+   */
+  public default RatesMarketDataLookup withCacheSize(int cacheSize) {
+    return this;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates market data requirements for the specified currencies.
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.calc;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.Optional;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.runner.CalculationParameters;
+import com.opengamma.strata.product.TradeResolver;
+
+/**
+ * Test {@link TradeResolverCalculationParameter}.
+ */
+@Test
+public class TradeResolverCalculationParameterTest {
+
+  private static final TradeResolver RESOLVER = TradeResolver.of(10);
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    TradeResolverCalculationParameter test = TradeResolverCalculationParameter.of(RESOLVER);
+    assertSame(test.getResolver(), RESOLVER);
+    assertEquals(test.queryType(), TradeResolverCalculationParameter.class);
+    assertEquals(test.filter(null, TestingMeasures.PRESENT_VALUE), Optional.of(test));
+  }
+
+  public void test_of_null() {
+    assertThrowsIllegalArg(() -> TradeResolverCalculationParameter.of(null));
+  }
+
+  public void test_resolver() {
+    CalculationParameters parameters = CalculationParameters.of(TradeResolverCalculationParameter.of(RESOLVER));
+    assertSame(TradeResolverCalculationParameter.resolver(parameters), RESOLVER);
+    assertSame(TradeResolverCalculationParameter.resolver(CalculationParameters.empty()), TradeResolver.standard());
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    TradeResolverCalculationParameter test = TradeResolverCalculationParameter.of(RESOLVER);
+    coverImmutableBean(test);
+    TradeResolverCalculationParameter test2 = TradeResolverCalculationParameter.of(TradeResolver.standard());
+    coverBeanEquals(test, test2);
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_6M;
+import static com.opengamma.strata.collect.TestHelper.date;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.FxMatrix;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+import com.opengamma.strata.market.curve.ConstantCurve;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.SwapTrade;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+
+/**
+ * Simulated market states used in exposure tests.
+ */
+final class ExposureDataSet {
+
+  static final ReferenceData REF_DATA = ReferenceData.standard();
+  static final LocalDate VAL_DATE = date(2016, 6, 30);
+  static final double NOTIONAL = 1_000_000d;
+  static final SwapTrade SWAP_TRADE = FixedIborSwapConventions.GBP_FIXED_6M_LIBOR_6M
+      .createTrade(VAL_DATE, Tenor.TENOR_5Y, BuySell.BUY, NOTIONAL, 0.01, REF_DATA);
+  static final SwapTrade SWAP_TRADE_OFFSET = FixedIborSwapConventions.GBP_FIXED_6M_LIBOR_6M
+      .createTrade(VAL_DATE, Tenor.TENOR_5Y, BuySell.SELL, NOTIONAL, 0.01, REF_DATA);
+  static final SwapTrade SWAP_TRADE_SHORT = FixedIborSwapConventions.GBP_FIXED_6M_LIBOR_6M
+      .createTrade(VAL_DATE, Tenor.TENOR_2Y, BuySell.SELL, 2 * NOTIONAL, 0.005, REF_DATA);
+
+  static final List<LocalDate> DATES = ImmutableList.of(
+      VAL_DATE, VAL_DATE.plusMonths(7), VAL_DATE.plusYears(2), VAL_DATE.plusYears(6));
+  static final int PATH_COUNT = 5;
+  static final double FX_RATE = 1.4;
+  private static final LocalDateDoubleTimeSeries FIXINGS = fixings();
+  static final ExposureScenarios SCENARIOS = scenarios(0d);
+  static final ExposureScenarios SCENARIOS_SHIFTED = scenarios(0.002);
+
+  //-------------------------------------------------------------------------
+  // the state with flat curves at a rate
+  static RatesProvider state(LocalDate date, double rate) {
+    Curve curve = ConstantCurve.of(Curves.zeroRates("GBP", ACT_365F), rate);
+    return ImmutableRatesProvider.builder(date)
+        .fxRateProvider(FxMatrix.of(GBP, USD, FX_RATE))
+        .discountCurve(GBP, curve)
+        .iborIndexCurve(GBP_LIBOR_6M, curve, FIXINGS)
+        .build();
+  }
+
+  // the rate of a path
+  static double rate(int pathIndex, double shift) {
+    return -0.002 + 0.004 * pathIndex + shift;
+  }
+
+  private static ExposureScenarios scenarios(double shift) {
+    List<List<RatesProvider>> states = new ArrayList<>();
+    for (LocalDate date : DATES) {
+      List<RatesProvider> paths = new ArrayList<>();
+      for (int j = 0; j < PATH_COUNT; j++) {
+        paths.add(state(date, rate(j, shift)));
+      }
+      states.add(paths);
+    }
+    return ExposureScenarios.of(DATES, states);
+  }
+
+  private static LocalDateDoubleTimeSeries fixings() {
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    for (LocalDate date = VAL_DATE.minusMonths(1); !date.isAfter(VAL_DATE.plusYears(6)); date = date.plusDays(1)) {
+      builder.put(date, 0.01);
+    }
+    return builder.build();
+  }
+
+  //-------------------------------------------------------------------------
+  private ExposureDataSet() {
+  }
+
+}
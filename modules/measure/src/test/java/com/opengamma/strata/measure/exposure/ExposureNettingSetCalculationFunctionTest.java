@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.REF_DATA;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.SCENARIOS;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.SCENARIOS_SHIFTED;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.SWAP_TRADE;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.SWAP_TRADE_SHORT;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.VAL_DATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.runner.CalculationParameters;
+import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.pricer.SimulatedValueProfile;
+import com.opengamma.strata.product.GenericSecurity;
+import com.opengamma.strata.product.GenericSecurityTrade;
+import com.opengamma.strata.product.ResolvedTrade;
+import com.opengamma.strata.product.SecurityId;
+import com.opengamma.strata.product.SecurityInfo;
+import com.opengamma.strata.product.SecurityPriceInfo;
+import com.opengamma.strata.product.TradeInfo;
+
+/**
+ * Test {@link ExposureNettingSetCalculationFunction}.
+ */
+@Test
+public class ExposureNettingSetCalculationFunctionTest {
+
+  private static final StandardId ID = StandardId.of("OG-Test", "NettingSet");
+  private static final ExposureNettingSet NETTING_SET =
+      ExposureNettingSet.of(ID, GBP, ImmutableList.of(SWAP_TRADE, SWAP_TRADE_SHORT));
+  private static final ExposureScenariosId SCENARIOS_ID = ExposureScenariosId.of("Simulation");
+  private static final double LEVEL = 0.9;
+  private static final CalculationParameters PARAMS =
+      CalculationParameters.of(ExposureParameters.of(SCENARIOS_ID, LEVEL));
+  private static final Set<Measure> MEASURES =
+      ImmutableSet.of(ExposureMeasures.EXPECTED_POSITIVE_EXPOSURE, ExposureMeasures.POTENTIAL_FUTURE_EXPOSURE);
+  private static final ImmutableList<ResolvedTrade> RTRADES = ImmutableList.<ResolvedTrade>of(
+      SWAP_TRADE.resolve(REF_DATA), SWAP_TRADE_SHORT.resolve(REF_DATA));
+
+  //-------------------------------------------------------------------------
+  public void test_requirementsAndCurrency() {
+    ExposureNettingSetCalculationFunction function = new ExposureNettingSetCalculationFunction();
+    assertThat(function.targetType()).isEqualTo(ExposureNettingSet.class);
+    assertThat(function.supportedMeasures()).isEqualTo(MEASURES);
+    FunctionRequirements reqs = function.requirements(NETTING_SET, MEASURES, PARAMS, REF_DATA);
+    assertThat(reqs.getOutputCurrencies()).containsOnly(GBP);
+    assertThat(reqs.getValueRequirements()).isEqualTo(ImmutableSet.of(SCENARIOS_ID));
+    assertThat(reqs.getTimeSeriesRequirements()).isEmpty();
+    assertThat(function.naturalCurrency(NETTING_SET, REF_DATA)).isEqualTo(GBP);
+    assertThat(function.identifier(NETTING_SET)).hasValue(ID.toString());
+  }
+
+  public void test_calculate() {
+    ExposureNettingSetCalculationFunction function = new ExposureNettingSetCalculationFunction();
+    ScenarioMarketData md = ImmutableScenarioMarketData.builder(VAL_DATE)
+        .addValue(SCENARIOS_ID, SCENARIOS)
+        .build();
+    SimulatedValueProfile profile = ExposureProfileCalculator.DEFAULT.valueProfile(RTRADES, GBP, SCENARIOS);
+    ExposureProfile expectedEpe = ExposureProfile.of(GBP, SCENARIOS.getDates(), profile.expectedPositiveExposure());
+    ExposureProfile expectedPfe =
+        ExposureProfile.of(GBP, SCENARIOS.getDates(), profile.potentialFutureExposure(LEVEL));
+    assertThat(function.calculate(NETTING_SET, MEASURES, PARAMS, md, REF_DATA))
+        .containsEntry(ExposureMeasures.EXPECTED_POSITIVE_EXPOSURE, Result.success(ScenarioArray.of(expectedEpe)))
+        .containsEntry(ExposureMeasures.POTENTIAL_FUTURE_EXPOSURE, Result.success(ScenarioArray.of(expectedPfe)));
+  }
+
+  public void test_calculate_scenarios() {
+    ExposureNettingSetCalculationFunction function = new ExposureNettingSetCalculationFunction();
+    ScenarioMarketData md = ImmutableScenarioMarketData.builder(VAL_DATE)
+        .addBox(SCENARIOS_ID, MarketDataBox.ofScenarioValues(SCENARIOS, SCENARIOS_SHIFTED))
+        .build();
+    ExposureProfile expected1 = ExposureProfile.of(GBP, SCENARIOS.getDates(),
+        ExposureProfileCalculator.DEFAULT.valueProfile(RTRADES, GBP, SCENARIOS).expectedPositiveExposure());
+    ExposureProfile expected2 = ExposureProfile.of(GBP, SCENARIOS.getDates(),
+        ExposureProfileCalculator.DEFAULT.valueProfile(RTRADES, GBP, SCENARIOS_SHIFTED).expectedPositiveExposure());
+    Map<Measure, Result<?>> results = function.calculate(
+        NETTING_SET, ImmutableSet.of(ExposureMeasures.EXPECTED_POSITIVE_EXPOSURE), PARAMS, md, REF_DATA);
+    assertThat(results).containsEntry(
+        ExposureMeasures.EXPECTED_POSITIVE_EXPOSURE, Result.success(ScenarioArray.of(expected1, expected2)));
+  }
+
+  public void test_calculate_failures() {
+    ExposureNettingSetCalculationFunction function = new ExposureNettingSetCalculationFunction();
+    ScenarioMarketData md = ImmutableScenarioMarketData.builder(VAL_DATE)
+        .addValue(SCENARIOS_ID, SCENARIOS)
+        .build();
+    // unsupported measure
+    Map<Measure, Result<?>> unsupported =
+        function.calculate(NETTING_SET, ImmutableSet.of(Measures.PRESENT_VALUE), PARAMS, md, REF_DATA);
+    assertThat(unsupported.get(Measures.PRESENT_VALUE).getFailure().getReason()).isEqualTo(FailureReason.UNSUPPORTED);
+    // missing simulation
+    ScenarioMarketData emptyMd = ImmutableScenarioMarketData.builder(VAL_DATE).build();
+    Map<Measure, Result<?>> missing = function.calculate(NETTING_SET, MEASURES, PARAMS, emptyMd, REF_DATA);
+    assertThat(missing.get(ExposureMeasures.EXPECTED_POSITIVE_EXPOSURE).isFailure()).isTrue();
+    // trade that cannot be resolved
+    GenericSecurity security = GenericSecurity.of(
+        SecurityInfo.of(SecurityId.of("OG-Test", "Security"), SecurityPriceInfo.of(GBP, 1d)));
+    GenericSecurityTrade securityTrade = GenericSecurityTrade.of(TradeInfo.empty(), security, 1d, 1d);
+    ExposureNettingSet nettingSet = ExposureNettingSet.of(ID, GBP, ImmutableList.of(SWAP_TRADE, securityTrade));
+    Map<Measure, Result<?>> unresolvable = function.calculate(nettingSet, MEASURES, PARAMS, md, REF_DATA);
+    assertThat(unresolvable.get(ExposureMeasures.POTENTIAL_FUTURE_EXPOSURE).getFailure().getReason())
+        .isEqualTo(FailureReason.ERROR);
+  }
+
+}
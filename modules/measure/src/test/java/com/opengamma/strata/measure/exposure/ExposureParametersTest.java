@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.DATES;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.SWAP_TRADE;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.SWAP_TRADE_SHORT;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link ExposureParameters}, {@link ExposureProfile} and {@link ExposureNettingSet}.
+ */
+@Test
+public class ExposureParametersTest {
+
+  private static final ExposureScenariosId ID = ExposureScenariosId.of("Simulation");
+  private static final ExposureScenariosId ID2 = ExposureScenariosId.of("Other");
+
+  //-------------------------------------------------------------------------
+  public void test_parameters() {
+    ExposureParameters test = ExposureParameters.of(ID);
+    assertEquals(test.getScenariosId(), ID);
+    assertEquals(test.getLevel(), ExposureParameters.DEFAULT_LEVEL);
+    assertEquals(test.queryType(), ExposureParameters.class);
+    assertEquals(ExposureParameters.of(ID, 0.99).getLevel(), 0.99);
+    assertThrowsIllegalArg(() -> ExposureParameters.of(ID, 0d));
+    assertThrowsIllegalArg(() -> ExposureParameters.of(ID, 1d));
+  }
+
+  public void test_profile() {
+    DoubleArray values = DoubleArray.of(0d, 3d, 2d, 0d);
+    ExposureProfile test = ExposureProfile.of(GBP, DATES, values);
+    assertEquals(test.getCurrency(), GBP);
+    assertEquals(test.getDates(), DATES);
+    assertEquals(test.getValues(), values);
+    assertEquals(test.getMaximum(), 3d);
+    assertEquals(ExposureProfile.of(GBP, ImmutableList.of(), DoubleArray.EMPTY).getMaximum(), 0d);
+    assertThrowsIllegalArg(() -> ExposureProfile.of(GBP, DATES, DoubleArray.of(1d)));
+  }
+
+  public void test_nettingSet() {
+    StandardId id = StandardId.of("OG-Test", "NettingSet");
+    ExposureNettingSet test = ExposureNettingSet.of(id, GBP, ImmutableList.of(SWAP_TRADE));
+    assertEquals(test.getId(), id);
+    assertEquals(test.getCurrency(), GBP);
+    assertEquals(test.getTrades(), ImmutableList.of(SWAP_TRADE));
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    coverImmutableBean(ExposureParameters.of(ID));
+    coverBeanEquals(ExposureParameters.of(ID), ExposureParameters.of(ID2, 0.5));
+    ExposureProfile profile = ExposureProfile.of(GBP, DATES, DoubleArray.of(0d, 3d, 2d, 0d));
+    coverImmutableBean(profile);
+    coverBeanEquals(profile, ExposureProfile.of(USD, DATES.subList(0, 1), DoubleArray.of(1d)));
+    ExposureNettingSet nettingSet =
+        ExposureNettingSet.of(StandardId.of("OG-Test", "NettingSet"), GBP, ImmutableList.of(SWAP_TRADE));
+    coverImmutableBean(nettingSet);
+    coverBeanEquals(
+        nettingSet, ExposureNettingSet.of(StandardId.of("OG-Test", "Other"), USD, ImmutableList.of(SWAP_TRADE_SHORT)));
+  }
+
+  public void test_serialization() {
+    assertSerialization(ExposureParameters.of(ID));
+    assertSerialization(ExposureProfile.of(GBP, DATES, DoubleArray.of(0d, 3d, 2d, 0d)));
+    assertSerialization(ExposureNettingSet.of(StandardId.of("OG-Test", "NettingSet"), GBP, ImmutableList.of(SWAP_TRADE)));
+  }
+
+}
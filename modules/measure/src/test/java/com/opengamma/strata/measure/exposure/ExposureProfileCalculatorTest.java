@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.DATES;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.FX_RATE;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.NOTIONAL;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.PATH_COUNT;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.REF_DATA;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.SCENARIOS;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.SWAP_TRADE;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.SWAP_TRADE_OFFSET;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.SWAP_TRADE_SHORT;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.VAL_DATE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Period;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.pricer.SimulatedValueProfile;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.fra.ResolvedFraTrade;
+import com.opengamma.strata.product.fra.type.FraConvention;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+
+/**
+ * Test {@link ExposureProfileCalculator}.
+ */
+@Test
+public class ExposureProfileCalculatorTest {
+
+  private static final ResolvedSwapTrade RTRADE = SWAP_TRADE.resolve(REF_DATA);
+  private static final ResolvedSwapTrade RTRADE_OFFSET = SWAP_TRADE_OFFSET.resolve(REF_DATA);
+  private static final ResolvedSwapTrade RTRADE_SHORT = SWAP_TRADE_SHORT.resolve(REF_DATA);
+  private static final ExposureProfileCalculator CALCULATOR = ExposureProfileCalculator.DEFAULT;
+  private static final DiscountingSwapProductPricer SWAP_PRICER = DiscountingSwapProductPricer.DEFAULT;
+  private static final double TOL = 1e-12;
+
+  //-------------------------------------------------------------------------
+  public void test_valueProfile() {
+    SimulatedValueProfile test = CALCULATOR.valueProfile(ImmutableList.of(RTRADE), GBP, SCENARIOS);
+    assertEquals(test.getCurrency(), GBP);
+    assertEquals(test.getDates(), DATES);
+    assertEquals(test.getPathCount(), PATH_COUNT);
+    assertEquals(test.getDiscountFactors(), DoubleArray.filled(DATES.size(), 1d));
+    assertEquals(test.getDeflators(), DoubleMatrix.filled(DATES.size(), PATH_COUNT, 1d));
+    for (int i = 0; i < DATES.size(); i++) {
+      for (int j = 0; j < PATH_COUNT; j++) {
+        double expected = SWAP_PRICER.presentValue(RTRADE.getProduct(), SCENARIOS.getState(i, j)).getAmount(GBP).getAmount();
+        assertEquals(test.getValues().get(i, j), expected, NOTIONAL * TOL);
+      }
+    }
+    // matured at the last date
+    assertEquals(test.getValues().row(DATES.size() - 1), DoubleArray.filled(PATH_COUNT));
+    // equally weighted paths
+    double[] values = test.getValues().rowArray(1);
+    double expectedEpe = 0d;
+    for (double value : values) {
+      expectedEpe += Math.max(value, 0d) / PATH_COUNT;
+    }
+    assertEquals(test.expectedPositiveExposure().get(1), expectedEpe, NOTIONAL * TOL);
+  }
+
+  public void test_valueProfile_nettingSet() {
+    SimulatedValueProfile offset = CALCULATOR.valueProfile(ImmutableList.of(RTRADE, RTRADE_OFFSET), GBP, SCENARIOS);
+    assertMatrix(offset.getValues(), DoubleMatrix.filled(DATES.size(), PATH_COUNT));
+    SimulatedValueProfile test = CALCULATOR.valueProfile(ImmutableList.of(RTRADE, RTRADE_SHORT), GBP, SCENARIOS);
+    SimulatedValueProfile first = CALCULATOR.valueProfile(ImmutableList.of(RTRADE), GBP, SCENARIOS);
+    SimulatedValueProfile second = CALCULATOR.valueProfile(ImmutableList.of(RTRADE_SHORT), GBP, SCENARIOS);
+    assertMatrix(test.getValues(), first.getValues().plus(second.getValues()));
+  }
+
+  public void test_valueProfile_currency() {
+    SimulatedValueProfile test = CALCULATOR.valueProfile(ImmutableList.of(RTRADE), USD, SCENARIOS);
+    SimulatedValueProfile expected = CALCULATOR.valueProfile(ImmutableList.of(RTRADE), GBP, SCENARIOS);
+    assertEquals(test.getCurrency(), USD);
+    assertMatrix(test.getValues(), expected.getValues().multipliedBy(FX_RATE));
+  }
+
+  public void test_valueProfile_empty() {
+    SimulatedValueProfile test = CALCULATOR.valueProfile(ImmutableList.of(), GBP, SCENARIOS);
+    assertEquals(test.getValues(), DoubleMatrix.filled(DATES.size(), PATH_COUNT));
+  }
+
+  public void test_valueProfile_unsupported() {
+    ResolvedFraTrade fra = FraConvention.of(GBP_LIBOR_3M)
+        .createTrade(VAL_DATE, Period.ofMonths(3), BuySell.BUY, NOTIONAL, 0.01, REF_DATA)
+        .resolve(REF_DATA);
+    assertThrowsIllegalArg(() -> CALCULATOR.valueProfile(ImmutableList.of(RTRADE, fra), GBP, SCENARIOS));
+  }
+
+  //-------------------------------------------------------------------------
+  private static void assertMatrix(DoubleMatrix computed, DoubleMatrix expected) {
+    assertEquals(computed.rowCount(), expected.rowCount());
+    for (int i = 0; i < expected.rowCount(); i++) {
+      assertTrue(computed.row(i).equalWithTolerance(expected.row(i), NOTIONAL * TOL));
+    }
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.exposure;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.DATES;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.PATH_COUNT;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.SCENARIOS;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.SCENARIOS_SHIFTED;
+import static com.opengamma.strata.measure.exposure.ExposureDataSet.VAL_DATE;
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+
+/**
+ * Test {@link ExposureScenarios} and {@link ExposureScenariosId}.
+ */
+@Test
+public class ExposureScenariosTest {
+
+  private static final LocalDate DATE1 = VAL_DATE.plusYears(1);
+  private static final LocalDate DATE2 = VAL_DATE.plusYears(2);
+  private static final RatesProvider STATE1 = ExposureDataSet.state(DATE1, 0.01);
+  private static final RatesProvider STATE2 = ExposureDataSet.state(DATE2, 0.01);
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    assertEquals(SCENARIOS.getDates(), DATES);
+    assertEquals(SCENARIOS.getDateCount(), DATES.size());
+    assertEquals(SCENARIOS.getPathCount(), PATH_COUNT);
+    assertEquals(SCENARIOS.getStates().size(), DATES.size());
+    assertEquals(SCENARIOS.getState(2, 3), SCENARIOS.getStates().get(2).get(3));
+    assertEquals(SCENARIOS.getState(2, 3).getValuationDate(), DATES.get(2));
+  }
+
+  public void test_of_invalid() {
+    // no date
+    assertThrowsIllegalArg(
+        () -> ExposureScenarios.of(ImmutableList.of(), ImmutableList.of()), "Argument 'dates' must not be empty");
+    // no path
+    assertThrowsIllegalArg(() -> ExposureScenarios.of(ImmutableList.of(DATE1), ImmutableList.of(ImmutableList.of())));
+    // missing states
+    assertThrowsIllegalArg(() -> ExposureScenarios.of(
+        ImmutableList.of(DATE1, DATE2), ImmutableList.of(ImmutableList.of(STATE1))));
+    // different path counts
+    assertThrowsIllegalArg(() -> ExposureScenarios.of(
+        ImmutableList.of(DATE1, DATE2),
+        ImmutableList.of(ImmutableList.of(STATE1), ImmutableList.of(STATE2, STATE2))));
+    // dates not in order
+    assertThrowsIllegalArg(() -> ExposureScenarios.of(
+        ImmutableList.of(DATE2, DATE1), ImmutableList.of(ImmutableList.of(STATE2), ImmutableList.of(STATE1))));
+    // state not at the date
+    assertThrowsIllegalArg(() -> ExposureScenarios.of(
+        ImmutableList.of(DATE1, DATE2), ImmutableList.of(ImmutableList.of(STATE1), ImmutableList.of(STATE1))));
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    coverImmutableBean(SCENARIOS);
+    coverBeanEquals(SCENARIOS, SCENARIOS_SHIFTED);
+    ExposureScenariosId id = ExposureScenariosId.of("Simulation");
+    assertEquals(id.getName(), "Simulation");
+    assertEquals(id.getMarketDataType(), ExposureScenarios.class);
+    coverImmutableBean(id);
+    coverBeanEquals(id, ExposureScenariosId.of("Other"));
+  }
+
+  public void test_serialization() {
+    assertSerialization(ExposureScenariosId.of("Simulation"));
+  }
+
+}
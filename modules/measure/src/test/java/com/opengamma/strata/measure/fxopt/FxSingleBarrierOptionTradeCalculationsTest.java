@@ -6,7 +6,11 @@
 package com.opengamma.strata.measure.fxopt;
 
 import static com.opengamma.strata.measure.fxopt.FxSingleBarrierOptionMethod.BLACK;
+import static com.opengamma.strata.measure.fxopt.FxSingleBarrierOptionMethod.TRINOMIAL_TREE;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
 
 import org.testng.annotations.Test;
 
@@ -23,6 +27,8 @@ import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.pricer.fxopt.BlackFxOptionVolatilities;
 import com.opengamma.strata.pricer.fxopt.BlackFxSingleBarrierOptionTradePricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.common.LongShort;
+import com.opengamma.strata.product.fxopt.ResolvedFxSingleBarrierOption;
 import com.opengamma.strata.product.fxopt.ResolvedFxSingleBarrierOptionTrade;
 
 /**
@@ -76,4 +82,36 @@ public class FxSingleBarrierOptionTradeCalculationsTest {
         ScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed)));
   }
 
+  public void test_severalTrades() {
+    ScenarioMarketData md = FxSingleBarrierOptionTradeCalculationFunctionTest.marketData();
+    RatesProvider provider = RATES_LOOKUP.marketDataView(md.scenario(0)).ratesProvider();
+    ResolvedFxSingleBarrierOption product = RTRADE.getProduct();
+    ResolvedFxSingleBarrierOptionTrade otherTrade = RTRADE.toBuilder()
+        .product(ResolvedFxSingleBarrierOption.of(
+            product.getUnderlyingOption().toBuilder().longShort(LongShort.LONG).build(), product.getBarrier()))
+        .build();
+    List<ResolvedFxSingleBarrierOptionTrade> trades = ImmutableList.of(RTRADE, otherTrade);
+    FxSingleBarrierOptionTradeCalculations calcs = FxSingleBarrierOptionTradeCalculations.DEFAULT;
+    for (FxSingleBarrierOptionMethod method : ImmutableList.of(BLACK, TRINOMIAL_TREE)) {
+      List<MultiCurrencyScenarioArray> pvs = calcs.presentValue(trades, RATES_LOOKUP, FX_OPTION_LOOKUP, md, method);
+      List<ScenarioArray<CurrencyParameterSensitivities>> pv01s =
+          calcs.pv01RatesCalibratedBucketed(trades, RATES_LOOKUP, FX_OPTION_LOOKUP, md, method);
+      List<MultiCurrencyAmount> pvsSingle = calcs.presentValue(trades, provider, VOLS, method);
+      List<CurrencyParameterSensitivities> pv01sSingle =
+          calcs.pv01RatesCalibratedBucketed(trades, provider, VOLS, method);
+      assertEquals(pvs.size(), trades.size());
+      assertEquals(pv01s.size(), trades.size());
+      for (int i = 0; i < trades.size(); ++i) {
+        ResolvedFxSingleBarrierOptionTrade trade = trades.get(i);
+        MultiCurrencyAmount expectedPv = calcs.presentValue(trade, provider, VOLS, method);
+        CurrencyParameterSensitivities expectedPv01 = calcs.pv01RatesCalibratedBucketed(trade, provider, VOLS, method);
+        assertEquals(pvs.get(i), MultiCurrencyScenarioArray.of(ImmutableList.of(expectedPv)));
+        assertEquals(pvsSingle.get(i), expectedPv);
+        assertEquals(pv01s.get(i).getScenarioCount(), 1);
+        assertTrue(pv01s.get(i).get(0).equalWithTolerance(expectedPv01, 1.0e-10));
+        assertTrue(pv01sSingle.get(i).equalWithTolerance(expectedPv01, 1.0e-10));
+      }
+    }
+  }
+
 }
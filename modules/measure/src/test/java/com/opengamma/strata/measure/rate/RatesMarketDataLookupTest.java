@@ -22,6 +22,8 @@ import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.util.Map;
@@ -32,9 +34,11 @@ import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.FxRate;
 import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.basics.index.IborIndexObservation;
 import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
 import com.opengamma.strata.data.FxRateId;
@@ -53,7 +57,9 @@ import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.measure.curve.TestMarketDataMap;
+import com.opengamma.strata.pricer.CachingDiscountFactors;
 import com.opengamma.strata.pricer.SimpleDiscountFactors;
+import com.opengamma.strata.pricer.rate.CachingIborIndexRates;
 import com.opengamma.strata.pricer.rate.DiscountIborIndexRates;
 import com.opengamma.strata.pricer.rate.DiscountOvernightIndexRates;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
@@ -193,6 +199,41 @@ public class RatesMarketDataLookupTest {
     assertEquals(ratesProvider.toImmutableRatesProvider(), expectedImmutable);
   }
 
+  public void test_ratesProvider_cached() {
+    ImmutableMap<Currency, CurveId> discounts = ImmutableMap.of(USD, CURVE_ID_DSC);
+    ImmutableMap<Index, CurveId> forwards = ImmutableMap.of(USD_LIBOR_3M, CURVE_ID_FWD);
+    RatesMarketDataLookup base = RatesMarketDataLookup.of(discounts, forwards);
+    RatesMarketDataLookup test = base.withCacheSize(365);
+    assertEquals(((DefaultRatesMarketDataLookup) base).getCacheSize(), 0);
+    assertEquals(((DefaultRatesMarketDataLookup) test).getCacheSize(), 365);
+    assertThrowsIllegalArg(() -> base.withCacheSize(-1));
+    LocalDate valDate = date(2015, 6, 30);
+    Curve dscCurve = ConstantCurve.of(Curves.discountFactors(CURVE_ID_DSC.getCurveName(), ACT_360), 0.9d);
+    Curve fwdCurve = ConstantCurve.of(Curves.discountFactors(CURVE_ID_FWD.getCurveName(), ACT_360), 0.8d);
+    MarketData md = ImmutableMarketData.of(valDate, ImmutableMap.of(CURVE_ID_DSC, dscCurve, CURVE_ID_FWD, fwdCurve));
+    RatesProvider provider1 = test.ratesProvider(md);
+    RatesProvider provider2 = test.ratesProvider(md);
+    RatesProvider expected = base.ratesProvider(md);
+    // lookups are shared between providers using the same curves
+    assertTrue(provider1.discountFactors(USD) instanceof CachingDiscountFactors);
+    assertSame(provider1.discountFactors(USD), provider2.discountFactors(USD));
+    assertTrue(provider1.iborIndexRates(USD_LIBOR_3M) instanceof CachingIborIndexRates);
+    assertSame(provider1.iborIndexRates(USD_LIBOR_3M), provider2.iborIndexRates(USD_LIBOR_3M));
+    // values are unaffected
+    LocalDate date = valDate.plusMonths(3);
+    IborIndexObservation obs = IborIndexObservation.of(USD_LIBOR_3M, date, ReferenceData.standard());
+    assertEquals(provider1.discountFactor(USD, date), expected.discountFactor(USD, date));
+    assertEquals(provider2.discountFactor(USD, date), expected.discountFactor(USD, date));
+    assertEquals(provider1.iborIndexRates(USD_LIBOR_3M).rate(obs), expected.iborIndexRates(USD_LIBOR_3M).rate(obs));
+    assertEquals(provider2.iborIndexRates(USD_LIBOR_3M).rate(obs), expected.iborIndexRates(USD_LIBOR_3M).rate(obs));
+    // different curves are not shared
+    Curve dscCurve2 = ConstantCurve.of(Curves.discountFactors(CURVE_ID_DSC.getCurveName(), ACT_360), 0.95d);
+    MarketData md2 = ImmutableMarketData.of(valDate, ImmutableMap.of(CURVE_ID_DSC, dscCurve2, CURVE_ID_FWD, fwdCurve));
+    RatesProvider provider3 = test.ratesProvider(md2);
+    assertEquals(provider3.discountFactor(USD, date), base.ratesProvider(md2).discountFactor(USD, date));
+    assertSerialization(test);
+  }
+
   public void test_fxProvider() {
     RatesMarketDataLookup test = RatesMarketDataLookup.of(ImmutableMap.of(), ImmutableMap.of());
     LocalDate valDate = date(2015, 6, 30);
@@ -218,6 +259,7 @@ public class RatesMarketDataLookupTest {
     DefaultRatesMarketDataLookup test2 =
         DefaultRatesMarketDataLookup.of(discounts2, forwards2, OBS_SOURCE, FxRateLookup.ofRates(EUR));
     coverBeanEquals(test, test2);
+    coverBeanEquals(test, test.withCacheSize(365));
 
     // related coverage
     coverImmutableBean((ImmutableBean) test.marketDataView(MOCK_CALC_MARKET_DATA));
@@ -40,10 +40,12 @@ import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.calc.TradeResolverCalculationParameter;
 import com.opengamma.strata.measure.curve.TestMarketDataMap;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.swap.DiscountingSwapTradePricer;
+import com.opengamma.strata.product.TradeResolver;
 import com.opengamma.strata.product.common.BuySell;
 import com.opengamma.strata.product.swap.ResolvedSwapTrade;
 import com.opengamma.strata.product.swap.SwapTrade;
@@ -143,6 +145,19 @@ public class SwapTradeCalculationFunctionTest {
             Measures.PV01_CALIBRATED_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedBucketedPv01))));
   }
 
+  public void test_tradeResolverParameter() {
+    SwapTradeCalculationFunction function = new SwapTradeCalculationFunction();
+    ScenarioMarketData md = marketData();
+    TradeResolver resolver = TradeResolver.of(10);
+    CalculationParameters params = PARAMS.combinedWith(
+        CalculationParameters.of(TradeResolverCalculationParameter.of(resolver)));
+
+    Set<Measure> measures = ImmutableSet.of(Measures.RESOLVED_TARGET);
+    assertThat(function.calculate(TRADE, measures, params, md, REF_DATA))
+        .containsEntry(Measures.RESOLVED_TARGET, Result.success(RTRADE));
+    assertThat(resolver.size(REF_DATA)).isEqualTo(1);
+  }
+
   //-------------------------------------------------------------------------
   static ScenarioMarketData marketData() {
     Curve curve = ConstantCurve.of(Curves.discountFactors("Test", ACT_360), 0.99);
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.market.param.ParameterPerturbation;
+
+/**
+ * Discount factors that memoise date-based lookups of an underlying instance.
+ * <p>
+ * This decorates another {@link DiscountFactors}, caching the year fraction and discount factor
+ * of each date that is queried. This is useful when many trades are priced against the same
+ * instance and discount to the same dates.
+ * <p>
+ * Dates from the valuation date up to the cache size in days are cached.
+ * Perturbed instances, created by {@code withParameter} or {@code withPerturbation},
+ * are not cached.
+ */
+public final class CachingDiscountFactors
+    implements DiscountFactors {
+
+  /**
+   * The underlying discount factors.
+   */
+  private final DiscountFactors underlying;
+  /**
+   * The cache of year fractions.
+   */
+  private final EpochDayDoubleCache yearFractions;
+  /**
+   * The cache of discount factors.
+   */
+  private final EpochDayDoubleCache discountFactors;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that caches the lookups of the underlying discount factors.
+   * <p>
+   * If the underlying instance is already caching, it is returned unaltered.
+   *
+   * @param underlying  the underlying discount factors
+   * @param cacheSize  the number of days from the valuation date to cache
+   * @return the caching discount factors
+   */
+  public static DiscountFactors of(DiscountFactors underlying, int cacheSize) {
+    if (underlying instanceof CachingDiscountFactors) {
+      return underlying;
+    }
+    return new CachingDiscountFactors(underlying, cacheSize);
+  }
+
+  // restricted constructor
+  private CachingDiscountFactors(DiscountFactors underlying, int cacheSize) {
+    this.underlying = ArgChecker.notNull(underlying, "underlying");
+    this.yearFractions = EpochDayDoubleCache.of(underlying.getValuationDate(), cacheSize);
+    this.discountFactors = EpochDayDoubleCache.of(underlying.getValuationDate(), cacheSize);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the underlying discount factors.
+   *
+   * @return the underlying discount factors
+   */
+  public DiscountFactors getUnderlying() {
+    return underlying;
+  }
+
+  @Override
+  public Currency getCurrency() {
+    return underlying.getCurrency();
+  }
+
+  @Override
+  public LocalDate getValuationDate() {
+    return underlying.getValuationDate();
+  }
+
+  @Override
+  public <T> Optional<T> findData(MarketDataName<T> name) {
+    return underlying.findData(name);
+  }
+
+  @Override
+  public int getParameterCount() {
+    return underlying.getParameterCount();
+  }
+
+  @Override
+  public double getParameter(int parameterIndex) {
+    return underlying.getParameter(parameterIndex);
+  }
+
+  @Override
+  public ParameterMetadata getParameterMetadata(int parameterIndex) {
+    return underlying.getParameterMetadata(parameterIndex);
+  }
+
+  @Override
+  public DiscountFactors withParameter(int parameterIndex, double newValue) {
+    return underlying.withParameter(parameterIndex, newValue);
+  }
+
+  @Override
+  public DiscountFactors withPerturbation(ParameterPerturbation perturbation) {
+    return underlying.withPerturbation(perturbation);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double relativeYearFraction(LocalDate date) {
+    return yearFractions.get(date, epochDay -> underlying.relativeYearFraction(date));
+  }
+
+  @Override
+  public double relativeYearFraction(long epochDay) {
+    return yearFractions.get(epochDay, underlying::relativeYearFraction);
+  }
+
+  @Override
+  public double discountFactor(LocalDate date) {
+    return discountFactors.get(date, epochDay -> underlying.discountFactor(date));
+  }
+
+  @Override
+  public double discountFactor(double yearFraction) {
+    return underlying.discountFactor(yearFraction);
+  }
+
+  @Override
+  public double discountFactorTimeDerivative(double yearFraction) {
+    return underlying.discountFactorTimeDerivative(yearFraction);
+  }
+
+  @Override
+  public double zeroRate(double yearFraction) {
+    return underlying.zeroRate(yearFraction);
+  }
+
+  @Override
+  public ZeroRateSensitivity zeroRatePointSensitivity(double yearFraction, Currency sensitivityCurrency) {
+    return underlying.zeroRatePointSensitivity(yearFraction, sensitivityCurrency);
+  }
+
+  @Override
+  public CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSensitivity) {
+    return underlying.parameterSensitivity(pointSensitivity);
+  }
+
+  @Override
+  public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
+    return underlying.createParameterSensitivity(currency, sensitivities);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "CachingDiscountFactors[" + underlying + "]";
+  }
+
+}
@@ -93,6 +93,21 @@ public interface DiscountFactors
    */
   public double relativeYearFraction(LocalDate date);
 
+  /**
+   * Calculates the relative time between the valuation date and the specified epoch-day.
+   * <p>
+   * This is equivalent to {@link #relativeYearFraction(LocalDate)}, with the date expressed
+   * as the epoch-day returned by {@link LocalDate#toEpochDay()}.
+   * This allows callers that hold dates in primitive form to avoid creating the date.
+   * 
+   * @param epochDay  the epoch-day of the date
+   * @return  the year fraction
+   * @throws RuntimeException if it is not possible to convert dates to relative times
+   */
+  public default double relativeYearFraction(long epochDay) {
+    return relativeYearFraction(LocalDate.ofEpochDay(epochDay));
+  }
+
   /**
    * Gets the discount factor for the specified date.
    * <p>
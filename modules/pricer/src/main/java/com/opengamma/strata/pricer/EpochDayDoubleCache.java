@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongToDoubleFunction;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A thread-safe memoising map from epoch-day to {@code double}.
+ * <p>
+ * This is used to cache the result of a date-based calculation, such as a discount factor,
+ * where the same dates are queried many times.
+ * The cache covers a fixed window of dates, starting from a specified date.
+ * Dates outside the window are calculated but not cached.
+ * <p>
+ * The values are stored in a primitive array indexed by the number of days from the start date.
+ * No locks are taken, and concurrent callers may calculate the same value more than once.
+ * As such, the function must be side-effect free and return the same value for the same date.
+ */
+public final class EpochDayDoubleCache {
+
+  /**
+   * The bits used to mark an empty slot.
+   * This is a NaN with a payload that is never produced by {@link Double#doubleToLongBits(double)}.
+   */
+  private static final long EMPTY = 0x7ff8_0000_dead_beefL;
+
+  /**
+   * The first epoch-day that is cached.
+   */
+  private final long startEpochDay;
+  /**
+   * The cached values, as raw long bits.
+   */
+  private final AtomicLongArray values;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an empty cache.
+   *
+   * @param startDate  the first date to cache
+   * @param size  the number of days to cache, from the start date
+   * @return the cache
+   */
+  public static EpochDayDoubleCache of(LocalDate startDate, int size) {
+    return new EpochDayDoubleCache(startDate.toEpochDay(), size);
+  }
+
+  // restricted constructor
+  private EpochDayDoubleCache(long startEpochDay, int size) {
+    ArgChecker.notNegative(size, "size");
+    this.startEpochDay = startEpochDay;
+    this.values = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      values.lazySet(i, EMPTY);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of days that can be cached.
+   *
+   * @return the size of the cache
+   */
+  public int size() {
+    return values.length();
+  }
+
+  /**
+   * Gets the value for the specified date, calculating it if it is not cached.
+   *
+   * @param date  the date
+   * @param calculator  the function to calculate the value from the epoch-day
+   * @return the value
+   */
+  public double get(LocalDate date, LongToDoubleFunction calculator) {
+    return get(date.toEpochDay(), calculator);
+  }
+
+  /**
+   * Gets the value for the specified epoch-day, calculating it if it is not cached.
+   *
+   * @param epochDay  the epoch-day
+   * @param calculator  the function to calculate the value from the epoch-day
+   * @return the value
+   */
+  public double get(long epochDay, LongToDoubleFunction calculator) {
+    long offset = epochDay - startEpochDay;
+    if (offset < 0 || offset >= values.length()) {
+      return calculator.applyAsDouble(epochDay);
+    }
+    int index = (int) offset;
+    long bits = values.get(index);
+    if (bits != EMPTY) {
+      return Double.longBitsToDouble(bits);
+    }
+    double value = calculator.applyAsDouble(epochDay);
+    values.set(index, Double.doubleToLongBits(value));
+    return value;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "EpochDayDoubleCache[" + LocalDate.ofEpochDay(startEpochDay) + ", size=" + values.length() + "]";
+  }
+
+}
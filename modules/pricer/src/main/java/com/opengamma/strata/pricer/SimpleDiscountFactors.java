@@ -164,6 +164,11 @@ public final class SimpleDiscountFactors
     return dayCount.relativeYearFraction(valuationDate, date);
   }
 
+  @Override
+  public double relativeYearFraction(long epochDay) {
+    return dayCount.relativeYearFraction(valuationDate.toEpochDay(), epochDay);
+  }
+
   @Override
   public double discountFactor(double yearFraction) {
     // read discount factor directly off curve
@@ -0,0 +1,309 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.joda.beans.BeanDefinition;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.ImmutableValidator;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.Property;
+import org.joda.beans.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.DoubleArrayMath;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * The simulated values of a product or a netting set at future dates.
+ * <p>
+ * For each date and each path, this holds the value at the date, in the currency at that date,
+ * and the deflator, which discounts an amount at the date to the valuation date along the path.
+ * The present value of an amount paid at the date is the average over the paths of the deflated amount.
+ * <p>
+ * The exposures are computed in the forward measure associated to each date, in which the weight of a path
+ * is its deflator divided by the discount factor of the date.
+ */
+@BeanDefinition(style = "light")
+public final class SimulatedValueProfile
+    implements ImmutableBean, Serializable {
+
+  /**
+   * The currency of the values.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Currency currency;
+  /**
+   * The dates, in increasing order.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableList<LocalDate> dates;
+  /**
+   * The discount factors at the valuation date for the dates.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleArray discountFactors;
+  /**
+   * The values, with one row per date and one column per path.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleMatrix values;
+  /**
+   * The deflators, with one row per date and one column per path.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleMatrix deflators;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   *
+   * @param currency  the currency of the values
+   * @param dates  the dates, in increasing order
+   * @param discountFactors  the discount factors at the valuation date for the dates
+   * @param values  the values, with one row per date and one column per path
+   * @param deflators  the deflators, with one row per date and one column per path
+   * @return the profile
+   */
+  public static SimulatedValueProfile of(
+      Currency currency,
+      List<LocalDate> dates,
+      DoubleArray discountFactors,
+      DoubleMatrix values,
+      DoubleMatrix deflators) {
+
+    return new SimulatedValueProfile(currency, ImmutableList.copyOf(dates), discountFactors, values, deflators);
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    int nbDates = dates.size();
+    ArgChecker.isTrue(discountFactors.size() == nbDates, "discountFactors must have one value per date");
+    ArgChecker.isTrue(values.rowCount() == nbDates, "values must have one row per date");
+    ArgChecker.isTrue(deflators.rowCount() == nbDates, "deflators must have one row per date");
+    ArgChecker.isTrue(deflators.columnCount() == values.columnCount(), "values and deflators must have the same paths");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of paths.
+   *
+   * @return the number of paths
+   */
+  public int getPathCount() {
+    return values.columnCount();
+  }
+
+  /**
+   * Calculates the expected positive exposure at each date.
+   * <p>
+   * This is the expectation of the positive part of the value, in the forward measure of the date.
+   *
+   * @return the expected positive exposure, one value per date
+   */
+  public DoubleArray expectedPositiveExposure() {
+    int nbPaths = values.columnCount();
+    return DoubleArray.of(dates.size(), i -> {
+      double[] value = values.rowArray(i);
+      double[] deflator = deflators.rowArray(i);
+      double sum = 0d;
+      for (int j = 0; j < nbPaths; j++) {
+        sum += deflator[j] * Math.max(value[j], 0d);
+      }
+      return sum / (nbPaths * discountFactors.get(i));
+    });
+  }
+
+  /**
+   * Calculates the potential future exposure at each date.
+   * <p>
+   * This is the quantile at the specified level of the positive part of the value,
+   * in the forward measure of the date. The result is thus never negative.
+   *
+   * @param level  the level of the quantile, strictly between 0 and 1, for example 0.95
+   * @return the potential future exposure, one value per date
+   */
+  public DoubleArray potentialFutureExposure(double level) {
+    ArgChecker.inRangeExclusive(level, 0d, 1d, "level");
+    int nbPaths = values.columnCount();
+    return DoubleArray.of(dates.size(), i -> {
+      double[] exposure = values.rowArray(i);
+      double[] deflator = deflators.rowArray(i);
+      double total = 0d;
+      for (int j = 0; j < nbPaths; j++) {
+        exposure[j] = Math.max(exposure[j], 0d);
+        total += deflator[j];
+      }
+      // sort the exposures, keeping the deflator of each path
+      DoubleArrayMath.sortPairs(exposure, deflator);
+      double target = level * total;
+      double cumulative = 0d;
+      for (int j = 0; j < nbPaths - 1; j++) {
+        cumulative += deflator[j];
+        if (cumulative >= target) {
+          return exposure[j];
+        }
+      }
+      return exposure[nbPaths - 1];
+    });
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  ///CLOVER:OFF
+  /**
+   * The meta-bean for {@code SimulatedValueProfile}.
+   */
+  private static final MetaBean META_BEAN = LightMetaBean.of(SimulatedValueProfile.class);
+
+  /**
+   * The meta-bean for {@code SimulatedValueProfile}.
+   * @return the meta-bean, not null
+   */
+  public static MetaBean meta() {
+    return META_BEAN;
+  }
+
+  static {
+    JodaBeanUtils.registerMetaBean(META_BEAN);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private SimulatedValueProfile(
+      Currency currency,
+      List<LocalDate> dates,
+      DoubleArray discountFactors,
+      DoubleMatrix values,
+      DoubleMatrix deflators) {
+    JodaBeanUtils.notNull(currency, "currency");
+    JodaBeanUtils.notNull(dates, "dates");
+    JodaBeanUtils.notNull(discountFactors, "discountFactors");
+    JodaBeanUtils.notNull(values, "values");
+    JodaBeanUtils.notNull(deflators, "deflators");
+    this.currency = currency;
+    this.dates = ImmutableList.copyOf(dates);
+    this.discountFactors = discountFactors;
+    this.values = values;
+    this.deflators = deflators;
+    validate();
+  }
+
+  @Override
+  public MetaBean metaBean() {
+    return META_BEAN;
+  }
+
+  @Override
+  public <R> Property<R> property(String propertyName) {
+    return metaBean().<R>metaProperty(propertyName).createProperty(this);
+  }
+
+  @Override
+  public Set<String> propertyNames() {
+    return metaBean().metaPropertyMap().keySet();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the currency of the values.
+   * @return the value of the property, not null
+   */
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the dates, in increasing order.
+   * @return the value of the property, not null
+   */
+  public ImmutableList<LocalDate> getDates() {
+    return dates;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the discount factors at the valuation date for the dates.
+   * @return the value of the property, not null
+   */
+  public DoubleArray getDiscountFactors() {
+    return discountFactors;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the values, with one row per date and one column per path.
+   * @return the value of the property, not null
+   */
+  public DoubleMatrix getValues() {
+    return values;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the deflators, with one row per date and one column per path.
+   * @return the value of the property, not null
+   */
+  public DoubleMatrix getDeflators() {
+    return deflators;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      SimulatedValueProfile other = (SimulatedValueProfile) obj;
+      return JodaBeanUtils.equal(currency, other.currency) &&
+          JodaBeanUtils.equal(dates, other.dates) &&
+          JodaBeanUtils.equal(discountFactors, other.discountFactors) &&
+          JodaBeanUtils.equal(values, other.values) &&
+          JodaBeanUtils.equal(deflators, other.deflators);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(currency);
+    hash = hash * 31 + JodaBeanUtils.hashCode(dates);
+    hash = hash * 31 + JodaBeanUtils.hashCode(discountFactors);
+    hash = hash * 31 + JodaBeanUtils.hashCode(values);
+    hash = hash * 31 + JodaBeanUtils.hashCode(deflators);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(192);
+    buf.append("SimulatedValueProfile{");
+    buf.append("currency").append('=').append(currency).append(',').append(' ');
+    buf.append("dates").append('=').append(dates).append(',').append(' ');
+    buf.append("discountFactors").append('=').append(discountFactors).append(',').append(' ');
+    buf.append("values").append('=').append(values).append(',').append(' ');
+    buf.append("deflators").append('=').append(JodaBeanUtils.toString(deflators));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  ///CLOVER:ON
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -160,6 +160,11 @@ public final class ZeroRateDiscountFactors
     return dayCount.relativeYearFraction(valuationDate, date);
   }
 
+  @Override
+  public double relativeYearFraction(long epochDay) {
+    return dayCount.relativeYearFraction(valuationDate.toEpochDay(), epochDay);
+  }
+
   @Override
   public double discountFactor(double yearFraction) {
     // convert zero rate to discount factor
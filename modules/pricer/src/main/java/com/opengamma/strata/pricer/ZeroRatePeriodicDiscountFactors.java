@@ -172,6 +172,11 @@ public final class ZeroRatePeriodicDiscountFactors
     return dayCount.relativeYearFraction(valuationDate, date);
   }
 
+  @Override
+  public double relativeYearFraction(long epochDay) {
+    return dayCount.relativeYearFraction(valuationDate.toEpochDay(), epochDay);
+  }
+
   @Override
   public double discountFactor(double relativeYearFraction) {
     // convert zero rate periodically compounded to discount factor
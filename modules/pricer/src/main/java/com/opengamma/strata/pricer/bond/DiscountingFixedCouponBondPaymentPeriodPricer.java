@@ -15,8 +15,10 @@ import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.CompoundedRateType;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.product.bond.FixedCouponBondPaymentPeriod;
+import com.opengamma.strata.product.bond.FixedCouponBondPaymentPeriodArray;
 
 /**
  * Pricer implementation for bond payment periods based on a fixed coupon.
@@ -60,6 +62,32 @@ public class DiscountingFixedCouponBondPaymentPeriodPricer {
     return period.getFixedRate() * period.getNotional() * period.getYearFraction() * df;
   }
 
+  /**
+   * Calculates the present value of the fixed coupon payment periods in the compact view.
+   * <p>
+   * The amount is expressed in the currency of the periods.
+   * This returns the sum of the values of the periods with discounting, where the payment date
+   * is on or after the valuation date, as per {@link #presentValue(FixedCouponBondPaymentPeriod,
+   * IssuerCurveDiscountFactors)}. The dates are handled as epoch-days.
+   * 
+   * @param periods  the periods to price
+   * @param discountFactors  the discount factor provider
+   * @return the present value of the periods
+   */
+  public double presentValue(FixedCouponBondPaymentPeriodArray periods, IssuerCurveDiscountFactors discountFactors) {
+    DiscountFactors underlying = discountFactors.getDiscountFactors();
+    long valuationDate = underlying.getValuationDate().toEpochDay();
+    double total = 0d;
+    for (int i = 0; i < periods.size(); i++) {
+      int paymentDate = periods.getPaymentDate(i);
+      if (paymentDate >= valuationDate) {
+        double df = underlying.discountFactor(underlying.relativeYearFraction(paymentDate));
+        total += periods.getFixedRate(i) * periods.getNotional(i) * periods.getYearFraction(i) * df;
+      }
+    }
+    return total;
+  }
+
   /**
    * Calculates the present value of a single fixed coupon payment period with z-spread.
    * <p>
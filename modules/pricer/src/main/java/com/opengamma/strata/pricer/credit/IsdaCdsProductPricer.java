@@ -23,6 +23,7 @@ import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.math.impl.util.Epsilon;
 import com.opengamma.strata.pricer.common.PriceType;
 import com.opengamma.strata.product.credit.CreditCouponPaymentPeriod;
+import com.opengamma.strata.product.credit.CreditCouponPaymentPeriodArray;
 import com.opengamma.strata.product.credit.ResolvedCds;
 
 /**
@@ -347,6 +348,42 @@ public class IsdaCdsProductPricer {
     return riskyAnnuity(cds, rates.getFirst(), rates.getSecond(), referenceDate, stepinDate, effectiveStartDate, priceType);
   }
 
+  /**
+   * Calculates the risky annuity, which is RPV01 per unit notional, using the compact view of the coupons.
+   * <p>
+   * This is equivalent to {@link #riskyAnnuity(ResolvedCds, CreditRatesProvider, LocalDate, PriceType, ReferenceData)},
+   * with the coupon payment periods taken from the compact view, handling the dates as epoch-days.
+   * The view must have been created from the product, see {@link CreditCouponPaymentPeriodArray#of(ResolvedCds)}.
+   * 
+   * @param cds  the product
+   * @param periods  the compact view of the coupon payment periods of the product
+   * @param ratesProvider  the rates provider
+   * @param referenceDate  the reference date
+   * @param priceType  the price type
+   * @param refData  the reference data
+   * @return the risky annuity
+   */
+  public double riskyAnnuity(
+      ResolvedCds cds,
+      CreditCouponPaymentPeriodArray periods,
+      CreditRatesProvider ratesProvider,
+      LocalDate referenceDate,
+      PriceType priceType,
+      ReferenceData refData) {
+
+    ArgChecker.isTrue(
+        periods.size() == cds.getPaymentPeriods().size() && periods.getCurrency().equals(cds.getCurrency()),
+        "Periods must match the product");
+    if (isExpired(cds, ratesProvider)) {
+      return 0d;
+    }
+    LocalDate stepinDate = cds.getStepinDateOffset().adjust(ratesProvider.getValuationDate(), refData);
+    LocalDate effectiveStartDate = cds.calculateEffectiveStartDate(stepinDate);
+    Pair<CreditDiscountFactors, LegalEntitySurvivalProbabilities> rates = reduceDiscountFactors(cds, ratesProvider);
+    return riskyAnnuity(
+        cds, periods, rates.getFirst(), rates.getSecond(), referenceDate, stepinDate, effectiveStartDate, priceType);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the risky PV01 of the CDS product. 
@@ -564,6 +601,65 @@ public class IsdaCdsProductPricer {
     return pv;
   }
 
+  // computes risky annuity, using the compact view of the coupons
+  double riskyAnnuity(
+      ResolvedCds cds,
+      CreditCouponPaymentPeriodArray periods,
+      CreditDiscountFactors discountFactors,
+      LegalEntitySurvivalProbabilities survivalProbabilities,
+      LocalDate referenceDate,
+      LocalDate stepinDate,
+      LocalDate effectiveStartDate,
+      PriceType priceType) {
+
+    CreditDiscountFactors survival = survivalProbabilities.getSurvivalProbabilities();
+    long stepin = stepinDate.toEpochDay();
+    double pv = 0d;
+    for (int i = 0; i < periods.size(); i++) {
+      if (stepin < periods.getEndDate(i)) {
+        double q = survival.discountFactor(survival.relativeYearFraction(periods.getEffectiveEndDate(i)));
+        double p = discountFactors.discountFactor(discountFactors.relativeYearFraction(periods.getPaymentDate(i)));
+        pv += periods.getYearFraction(i) * p * q;
+      }
+    }
+
+    if (cds.getPaymentOnDefault().isAccruedInterest()) {
+      // This is needed so that the code is consistent with ISDA C when the Markit `fix' is used. 
+      LocalDate start = periods.size() == 1 ? effectiveStartDate : cds.getAccrualStartDate();
+      DoubleArray integrationSchedule = DoublesScheduleGenerator.getIntegrationsPoints(
+          discountFactors.relativeYearFraction(start),
+          discountFactors.relativeYearFraction(cds.getProtectionEndDate()),
+          discountFactors.getParameterKeys(),
+          survivalProbabilities.getParameterKeys());
+      long effectiveStart = effectiveStartDate.toEpochDay();
+      for (int i = 0; i < periods.size(); i++) {
+        long couponStart = Math.max(periods.getEffectiveStartDate(i), effectiveStart);
+        if (couponStart < periods.getEffectiveEndDate(i)) {
+          double yearFractionCurve =
+              discountFactors.getDayCount().relativeYearFraction(periods.getStartDate(i), periods.getEndDate(i));
+          pv += singlePeriodAccrualOnDefault(
+              discountFactors.relativeYearFraction(couponStart),
+              discountFactors.relativeYearFraction(periods.getEffectiveEndDate(i)),
+              discountFactors.relativeYearFraction(periods.getEffectiveStartDate(i)),
+              periods.getYearFraction(i),
+              yearFractionCurve,
+              integrationSchedule,
+              discountFactors,
+              survivalProbabilities);
+        }
+      }
+    }
+    // roll to the cash settle date
+    double df = discountFactors.discountFactor(referenceDate);
+    pv /= df;
+
+    if (priceType.isCleanPrice()) {
+      pv -= cds.accruedYearFraction(stepinDate);
+    }
+
+    return pv;
+  }
+
   // computes accrual-on-default pv per unit notional for a single payment period
   private double singlePeriodAccrualOnDefault(
       CreditCouponPaymentPeriod coupon,
@@ -577,16 +673,38 @@ public class IsdaCdsProductPricer {
     if (!start.isBefore(coupon.getEffectiveEndDate())) {
       return 0d; // this coupon has already expired 
     }
+    double yearFractionCurve =
+        discountFactors.getDayCount().relativeYearFraction(coupon.getStartDate(), coupon.getEndDate());
+    return singlePeriodAccrualOnDefault(
+        discountFactors.relativeYearFraction(start),
+        discountFactors.relativeYearFraction(coupon.getEffectiveEndDate()),
+        discountFactors.relativeYearFraction(coupon.getEffectiveStartDate()),
+        coupon.getYearFraction(),
+        yearFractionCurve,
+        integrationSchedule,
+        discountFactors,
+        survivalProbabilities);
+  }
 
-    DoubleArray knots = DoublesScheduleGenerator.truncateSetInclusive(discountFactors.relativeYearFraction(start),
-        discountFactors.relativeYearFraction(coupon.getEffectiveEndDate()), integrationSchedule);
+  // computes accrual-on-default pv per unit notional for a single unexpired payment period
+  // the start, end and effective start of the period are expressed as relative year fractions
+  private double singlePeriodAccrualOnDefault(
+      double start,
+      double end,
+      double effStart,
+      double yearFraction,
+      double yearFractionCurve,
+      DoubleArray integrationSchedule,
+      CreditDiscountFactors discountFactors,
+      LegalEntitySurvivalProbabilities survivalProbabilities) {
+
+    DoubleArray knots = DoublesScheduleGenerator.truncateSetInclusive(start, end, integrationSchedule);
 
     double t0Knot = knots.get(0);
     double ht0 = survivalProbabilities.zeroRate(t0Knot) * t0Knot;
     double rt0 = discountFactors.zeroRate(t0Knot) * t0Knot;
     double b0 = Math.exp(-rt0 - ht0);
 
-    double effStart = discountFactors.relativeYearFraction(coupon.getEffectiveStartDate());
     double t0 = t0Knot - effStart + omega;
     double pv = 0d;
     final int nItems = knots.size();
@@ -625,9 +743,7 @@ public class IsdaCdsProductPricer {
       b0 = b1;
     }
 
-    double yearFractionCurve =
-        discountFactors.getDayCount().relativeYearFraction(coupon.getStartDate(), coupon.getEndDate());
-    return coupon.getYearFraction() * pv / yearFractionCurve;
+    return yearFraction * pv / yearFractionCurve;
   }
 
   //-------------------------------------------------------------------------
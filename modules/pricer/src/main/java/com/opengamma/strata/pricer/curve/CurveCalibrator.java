@@ -32,6 +32,7 @@ import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.math.impl.linearalgebra.DecompositionFactory;
 import com.opengamma.strata.math.impl.matrix.CommonsMatrixAlgebra;
 import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
 import com.opengamma.strata.math.impl.rootfinding.newton.BroydenVectorRootFinder;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.product.ResolvedTrade;
@@ -63,6 +64,10 @@ public final class CurveCalibrator {
    * The matrix algebra used for matrix inversion.
    */
   private static final MatrixAlgebra MATRIX_ALGEBRA = new CommonsMatrixAlgebra();
+  /**
+   * The matrix algebra used for matrix multiplication.
+   */
+  private static final MatrixAlgebra OG_ALGEBRA = new OGMatrixAlgebra();
 
   /**
    * The root finder used for curve calibration.
@@ -410,8 +415,8 @@ public final class CurveCalibrator {
     for (int i = 0; i < nbTrades; i++) {
       System.arraycopy(res.rowArray(i), 0, nonDirect[i], 0, totalParamsPrevious);
     }
-    DoubleMatrix pDpPreviousMatrix = (DoubleMatrix) MATRIX_ALGEBRA.scale(
-        MATRIX_ALGEBRA.multiply(pDmCurrentMatrix, DoubleMatrix.copyOf(nonDirect)), -1d);
+    DoubleMatrix pDpPreviousMatrix = (DoubleMatrix) OG_ALGEBRA.scale(
+        OG_ALGEBRA.multiply(pDmCurrentMatrix, DoubleMatrix.ofUnsafe(nonDirect)), -1d);
     // all curves: order and size
     int[] startIndexBefore = new int[orderPrevious.size()];
     for (int i = 1; i < orderPrevious.size(); i++) {
@@ -439,8 +444,8 @@ public final class CurveCalibrator {
         startIndexInner += paramCountInner;
       }
     }
-    DoubleMatrix transitionMatrix = DoubleMatrix.copyOf(transition);
-    return (DoubleMatrix) MATRIX_ALGEBRA.multiply(pDpPreviousMatrix, transitionMatrix);
+    DoubleMatrix transitionMatrix = DoubleMatrix.ofUnsafe(transition);
+    return (DoubleMatrix) OG_ALGEBRA.multiply(pDpPreviousMatrix, transitionMatrix);
   }
 
   //-------------------------------------------------------------------------
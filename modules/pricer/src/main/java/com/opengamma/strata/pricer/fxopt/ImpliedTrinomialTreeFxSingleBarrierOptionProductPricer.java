@@ -5,11 +5,20 @@
  */
 package com.opengamma.strata.pricer.fxopt;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.IntStream;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.math.DoubleMath;
 import com.opengamma.strata.basics.currency.Currency;
@@ -19,11 +28,13 @@ import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.impl.tree.ConstantContinuousSingleBarrierKnockoutFunction;
 import com.opengamma.strata.pricer.impl.tree.EuropeanVanillaOptionFunction;
+import com.opengamma.strata.pricer.impl.tree.OptionFunction;
 import com.opengamma.strata.pricer.impl.tree.TrinomialTree;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -39,6 +50,12 @@ import com.opengamma.strata.product.option.SimpleConstantContinuousBarrier;
  * <p>
  * All of the computation is be based on the counter currency of the underlying FX transaction.
  * For example, price, PV and risk measures of the product will be expressed in USD for an option on EUR/USD.
+ * <p>
+ * The calibrated trees are cached, keyed by the identity of the rates provider and volatilities,
+ * the currency pair and the time to expiry. Thus the tree is calibrated once for all the options
+ * and measures priced against the same market data instances. The rates provider and volatilities
+ * must therefore be immutable, which is the case for the standard implementations.
+ * Weak keys ensure the cache does not prevent the market data from being garbage collected.
  */
 public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
 
@@ -50,10 +67,18 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
    * Small parameter.
    */
   private static final double SMALL = 1.0e-12;
+  /**
+   * Shift used in the finite difference computation of the sensitivities.
+   */
+  private static final double SHIFT = 1.0e-5;
   /**
    * Default number of time steps.
    */
   private static final int NUM_STEPS_DEFAULT = 51;
+  /**
+   * Maximum number of calibrated trees held for one rates provider and volatilities.
+   */
+  private static final int MAX_TREES = 100;
 
   /**
    * Default implementation.
@@ -65,6 +90,13 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
    * Number of time steps.
    */
   private final ImpliedTrinomialTreeFxOptionCalibrator calibrator;
+  /**
+   * The calibrated trees, keyed by the identity of the rates provider, then of the volatilities,
+   * then by currency pair and time to expiry.
+   */
+  private final Cache<RatesProvider,
+      Cache<BlackFxOptionVolatilities, Cache<Pair<CurrencyPair, Double>, RecombiningTrinomialTreeData>>> trees =
+          CacheBuilder.newBuilder().weakKeys().build();
 
   /**
    * Pricer with the default number of time steps.
@@ -103,6 +135,7 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
    * <p>
    * The trinomial tree is first calibrated to Black volatilities, 
    * then the price is computed based on the calibrated tree.
+   * The calibrated tree is reused if available for the same market data.
    * 
    * @param option  the option product
    * @param ratesProvider  the rates provider
@@ -114,8 +147,7 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
       RatesProvider ratesProvider,
       BlackFxOptionVolatilities volatilities) {
 
-    RecombiningTrinomialTreeData treeData =
-        calibrator.calibrateTrinomialTree(option.getUnderlyingOption(), ratesProvider, volatilities);
+    RecombiningTrinomialTreeData treeData = calibratedTree(option, ratesProvider, volatilities);
     return price(option, ratesProvider, volatilities, treeData);
   }
 
@@ -154,6 +186,7 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
    * <p>
    * The trinomial tree is first calibrated to Black volatilities, 
    * then the price is computed based on the calibrated tree.
+   * The calibrated tree is reused if available for the same market data.
    * 
    * @param option  the option product
    * @param ratesProvider  the rates provider
@@ -165,8 +198,7 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
       RatesProvider ratesProvider,
       BlackFxOptionVolatilities volatilities) {
 
-    RecombiningTrinomialTreeData treeData =
-        calibrator.calibrateTrinomialTree(option.getUnderlyingOption(), ratesProvider, volatilities);
+    RecombiningTrinomialTreeData treeData = calibratedTree(option, ratesProvider, volatilities);
     return presentValue(option, ratesProvider, volatilities, treeData);
   }
 
@@ -264,8 +296,7 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
       RatesProvider ratesProvider,
       BlackFxOptionVolatilities volatilities) {
 
-    RecombiningTrinomialTreeData baseTreeData =
-        calibrator.calibrateTrinomialTree(option.getUnderlyingOption(), ratesProvider, volatilities);
+    RecombiningTrinomialTreeData baseTreeData = calibratedTree(option, ratesProvider, volatilities);
     return presentValueSensitivityRates(option, ratesProvider, volatilities, baseTreeData);
   }
 
@@ -276,6 +307,7 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
    * the underlying curve parameters.
    * <p>
    * The sensitivity is computed by bump and re-price.
+   * The trees calibrated to the bumped curves are not cached.
    * 
    * @param option  the option product
    * @param ratesProvider  the rates provider
@@ -291,7 +323,6 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
 
     ArgChecker.isTrue(baseTreeData.getNumberOfSteps() == calibrator.getNumberOfSteps(),
         "the number of steps mismatch between pricer and trinomial tree data");
-    double shift = 1.0e-5;
     CurrencyAmount pvBase = presentValue(option, ratesProvider, volatilities, baseTreeData);
     ResolvedFxVanillaOption underlyingOption = option.getUnderlyingOption();
     ResolvedFxSingle underlyingFx = underlyingOption.getUnderlying();
@@ -305,12 +336,14 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
         Curve curve = entry.getValue();
         int nParams = curve.getParameterCount();
         DoubleArray sensitivity = DoubleArray.of(nParams, i -> {
-          Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
+          Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + SHIFT);
           Map<Currency, Curve> mapBumped = new HashMap<>(baseCurves);
           mapBumped.put(entry.getKey(), dscBumped);
           ImmutableRatesProvider providerDscBumped = immRatesProvider.toBuilder().discountCurves(mapBumped).build();
-          double pvBumped = presentValue(option, providerDscBumped, volatilities).getAmount();
-          return (pvBumped - pvBase.getAmount()) / shift;
+          RecombiningTrinomialTreeData treeDataBumped =
+              calibrator.calibrateTrinomialTree(underlyingOption, providerDscBumped, volatilities);
+          double pvBumped = presentValue(option, providerDscBumped, volatilities, treeDataBumped).getAmount();
+          return (pvBumped - pvBase.getAmount()) / SHIFT;
         });
         result = result.combinedWith(curve.createParameterSensitivity(pvBase.getCurrency(), sensitivity));
       }
@@ -318,12 +351,141 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
     return result;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present values of several FX barrier option products.
+   * <p>
+   * The present value of each product is the value on the valuation date.
+   * It is expressed in the counter currency.
+   * <p>
+   * The options are grouped by currency pair and expiry. The trinomial tree is calibrated once for each group,
+   * or reused if available for the same market data, then all the options of the group are priced
+   * in a single backward sweep over the calibrated tree.
+   * The results are the same as those of {@link #presentValue(ResolvedFxSingleBarrierOption, RatesProvider,
+   * BlackFxOptionVolatilities)} for each option.
+   * 
+   * @param options  the option products
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the present values of the products, in the order of the products
+   */
+  public List<CurrencyAmount> presentValue(
+      List<ResolvedFxSingleBarrierOption> options,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    double[] prices = prices(options, ratesProvider, volatilities, true);
+    ImmutableList.Builder<CurrencyAmount> builder = ImmutableList.builder();
+    for (int k = 0; k < options.size(); ++k) {
+      ResolvedFxVanillaOption underlyingOption = options.get(k).getUnderlyingOption();
+      double pv = signedNotional(underlyingOption) * prices[k];
+      builder.add(CurrencyAmount.of(underlyingOption.getCounterCurrency(), pv));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Calculates the present value sensitivities of several FX barrier option products.
+   * <p>
+   * The present value sensitivity of each product is the sensitivity of {@link #presentValue} to
+   * the underlying curve parameters.
+   * <p>
+   * The sensitivity is computed by bump and re-price. For each bumped curve parameter,
+   * the trinomial tree is calibrated once for each currency pair and expiry of the affected options,
+   * then all the options of the group are priced in a single backward sweep over the calibrated tree.
+   * The trees calibrated to the bumped curves are not cached.
+   * The results are the same as those of {@link #presentValueSensitivityRates(ResolvedFxSingleBarrierOption,
+   * RatesProvider, BlackFxOptionVolatilities)} for each option.
+   * 
+   * @param options  the option products
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the present value sensitivities of the products, in the order of the products
+   */
+  public List<CurrencyParameterSensitivities> presentValueSensitivityRates(
+      List<ResolvedFxSingleBarrierOption> options,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    int nOptions = options.size();
+    List<CurrencyAmount> pvBase = presentValue(options, ratesProvider, volatilities);
+    ImmutableRatesProvider immRatesProvider = ratesProvider.toImmutableRatesProvider();
+    ImmutableMap<Currency, Curve> baseCurves = immRatesProvider.getDiscountCurves();
+    CurrencyParameterSensitivities[] result = new CurrencyParameterSensitivities[nOptions];
+    Arrays.fill(result, CurrencyParameterSensitivities.empty());
+
+    for (Entry<Currency, Curve> entry : baseCurves.entrySet()) {
+      List<Integer> affected = IntStream.range(0, nOptions)
+          .filter(k -> options.get(k).getUnderlyingOption().getUnderlying().getCurrencyPair().contains(entry.getKey()))
+          .boxed()
+          .collect(toImmutableList());
+      if (affected.isEmpty()) {
+        continue;
+      }
+      List<ResolvedFxSingleBarrierOption> affectedOptions =
+          affected.stream().map(options::get).collect(toImmutableList());
+      Curve curve = entry.getValue();
+      int nParams = curve.getParameterCount();
+      double[][] sensitivity = new double[affected.size()][nParams];
+      for (int i = 0; i < nParams; ++i) {
+        Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + SHIFT);
+        Map<Currency, Curve> mapBumped = new HashMap<>(baseCurves);
+        mapBumped.put(entry.getKey(), dscBumped);
+        ImmutableRatesProvider providerDscBumped = immRatesProvider.toBuilder().discountCurves(mapBumped).build();
+        double[] pricesBumped = prices(affectedOptions, providerDscBumped, volatilities, false);
+        for (int k = 0; k < affected.size(); ++k) {
+          double pvBumped = signedNotional(affectedOptions.get(k).getUnderlyingOption()) * pricesBumped[k];
+          sensitivity[k][i] = (pvBumped - pvBase.get(affected.get(k)).getAmount()) / SHIFT;
+        }
+      }
+      for (int k = 0; k < affected.size(); ++k) {
+        int index = affected.get(k);
+        result[index] = result[index].combinedWith(
+            curve.createParameterSensitivity(pvBase.get(index).getCurrency(), DoubleArray.ofUnsafe(sensitivity[k])));
+      }
+    }
+    return ImmutableList.copyOf(result);
+  }
+
+  // prices the options, calibrating one tree for each currency pair and time to expiry of the options
+  // the trees are only cached for the market data of the caller, not for the bumped market data
+  private double[] prices(
+      List<ResolvedFxSingleBarrierOption> options,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities,
+      boolean cached) {
+
+    Map<Pair<CurrencyPair, Double>, List<Integer>> groups = new LinkedHashMap<>();
+    for (int k = 0; k < options.size(); ++k) {
+      ResolvedFxVanillaOption underlyingOption = options.get(k).getUnderlyingOption();
+      Pair<CurrencyPair, Double> key = Pair.of(
+          underlyingOption.getUnderlying().getCurrencyPair(), volatilities.relativeTime(underlyingOption.getExpiry()));
+      groups.computeIfAbsent(key, g -> new ArrayList<>()).add(k);
+    }
+    double[] prices = new double[options.size()];
+    for (Entry<Pair<CurrencyPair, Double>, List<Integer>> group : groups.entrySet()) {
+      CurrencyPair currencyPair = group.getKey().getFirst();
+      double timeToExpiry = group.getKey().getSecond();
+      RecombiningTrinomialTreeData treeData = cached ?
+          calibratedTree(timeToExpiry, currencyPair, ratesProvider, volatilities) :
+          calibrator.calibrateTrinomialTree(timeToExpiry, currencyPair, ratesProvider, volatilities);
+      List<Integer> indices = group.getValue();
+      List<ResolvedFxSingleBarrierOption> groupOptions = indices.stream().map(options::get).collect(toImmutableList());
+      List<ValueDerivatives> groupPrices = priceDerivatives(groupOptions, ratesProvider, volatilities, treeData);
+      for (int k = 0; k < indices.size(); ++k) {
+        prices[indices.get(k)] = groupPrices.get(k).getValue();
+      }
+    }
+    return prices;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the currency exposure of the FX barrier option product.
    * <p>
    * The trinomial tree is first calibrated to Black volatilities, 
    * then the price is computed based on the calibrated tree.
+   * The calibrated tree is reused if available for the same market data.
    * 
    * @param option  the option product
    * @param ratesProvider  the rates provider
@@ -335,8 +497,7 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
       RatesProvider ratesProvider,
       BlackFxOptionVolatilities volatilities) {
 
-    RecombiningTrinomialTreeData treeData =
-        calibrator.calibrateTrinomialTree(option.getUnderlyingOption(), ratesProvider, volatilities);
+    RecombiningTrinomialTreeData treeData = calibratedTree(option, ratesProvider, volatilities);
     return currencyExposure(option, ratesProvider, volatilities, treeData);
   }
 
@@ -370,6 +531,41 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
     return MultiCurrencyAmount.of(domestic, foreign);
   }
 
+  //-------------------------------------------------------------------------
+  // the calibrated tree for the expiry and currency pair of the option
+  private RecombiningTrinomialTreeData calibratedTree(
+      ResolvedFxSingleBarrierOption option,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    ResolvedFxVanillaOption underlyingOption = option.getUnderlyingOption();
+    return calibratedTree(
+        volatilities.relativeTime(underlyingOption.getExpiry()),
+        underlyingOption.getUnderlying().getCurrencyPair(),
+        ratesProvider,
+        volatilities);
+  }
+
+  // the calibrated tree, looked up by identity of the market data, calibrating and caching it if absent
+  private RecombiningTrinomialTreeData calibratedTree(
+      double timeToExpiry,
+      CurrencyPair currencyPair,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    Cache<Pair<CurrencyPair, Double>, RecombiningTrinomialTreeData> cache = trees.asMap()
+        .computeIfAbsent(ratesProvider, r -> CacheBuilder.newBuilder().weakKeys().build())
+        .asMap()
+        .computeIfAbsent(volatilities, v -> CacheBuilder.newBuilder().maximumSize(MAX_TREES).build());
+    Pair<CurrencyPair, Double> key = Pair.of(currencyPair, timeToExpiry);
+    RecombiningTrinomialTreeData treeData = cache.getIfPresent(key);
+    if (treeData == null) {
+      treeData = calibrator.calibrateTrinomialTree(timeToExpiry, currencyPair, ratesProvider, volatilities);
+      cache.put(key, treeData);
+    }
+    return treeData;
+  }
+
   //-------------------------------------------------------------------------
   private ValueDerivatives priceDerivatives(
       ResolvedFxSingleBarrierOption option,
@@ -377,61 +573,96 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
       BlackFxOptionVolatilities volatilities,
       RecombiningTrinomialTreeData data) {
 
-    validate(option, ratesProvider, volatilities);
-    validateData(option, ratesProvider, volatilities, data);
+    return priceDerivatives(ImmutableList.of(option), ratesProvider, volatilities, data).get(0);
+  }
+
+  // prices the options sharing the tree in a single backward sweep
+  // the vanilla options used by the in-out parity are priced once if shared by several knock-in options
+  private List<ValueDerivatives> priceDerivatives(
+      List<ResolvedFxSingleBarrierOption> options,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities,
+      RecombiningTrinomialTreeData data) {
+
+    int nOptions = options.size();
     int nSteps = data.getNumberOfSteps();
-    ResolvedFxVanillaOption underlyingOption = option.getUnderlyingOption();
     double timeToExpiry = data.getTime(nSteps);
-    ResolvedFxSingle underlyingFx = underlyingOption.getUnderlying();
-    Currency ccyBase = underlyingFx.getCounterCurrencyPayment().getCurrency();
-    Currency ccyCounter = underlyingFx.getCounterCurrencyPayment().getCurrency();
-    DiscountFactors baseDiscountFactors = ratesProvider.discountFactors(ccyBase);
-    DiscountFactors counterDiscountFactors = ratesProvider.discountFactors(ccyCounter);
-    double rebateAtExpiry = 0d; // used to price knock-in option
-    double rebateAtExpiryDerivative = 0d; // used to price knock-in option
-    double notional = Math.abs(underlyingFx.getBaseCurrencyPayment().getAmount());
-    double[] rebateArray = new double[nSteps + 1];
-    SimpleConstantContinuousBarrier barrier = (SimpleConstantContinuousBarrier) option.getBarrier();
-    if (option.getRebate().isPresent()) {
-      CurrencyAmount rebateCurrencyAmount = option.getRebate().get();
-      double rebatePerUnit = rebateCurrencyAmount.getAmount() / notional;
-      boolean isCounter = rebateCurrencyAmount.getCurrency().equals(ccyCounter);
-      double rebate = isCounter ? rebatePerUnit : rebatePerUnit * barrier.getBarrierLevel();
-      if (barrier.getKnockType().isKnockIn()) { // use in-out parity
-        double dfCounterAtExpiry = counterDiscountFactors.discountFactor(timeToExpiry);
-        double dfBaseAtExpiry = baseDiscountFactors.discountFactor(timeToExpiry);
-        for (int i = 0; i < nSteps + 1; ++i) {
-          rebateArray[i] = isCounter ?
-              rebate * dfCounterAtExpiry / counterDiscountFactors.discountFactor(data.getTime(i)) :
-              rebate * dfBaseAtExpiry / baseDiscountFactors.discountFactor(data.getTime(i));
-        }
-        if (isCounter) {
-          rebateAtExpiry = rebatePerUnit * dfCounterAtExpiry;
+    Map<OptionFunction, Integer> functions = new LinkedHashMap<>();
+    int[] barrierIndex = new int[nOptions];
+    int[] vanillaIndex = new int[nOptions];
+    double[] rebateAtExpiry = new double[nOptions]; // used to price knock-in option
+    double[] rebateAtExpiryDerivative = new double[nOptions]; // used to price knock-in option
+    for (int k = 0; k < nOptions; ++k) {
+      ResolvedFxSingleBarrierOption option = options.get(k);
+      validate(option, ratesProvider, volatilities);
+      validateData(option, ratesProvider, volatilities, data);
+      ResolvedFxVanillaOption underlyingOption = option.getUnderlyingOption();
+      ResolvedFxSingle underlyingFx = underlyingOption.getUnderlying();
+      Currency ccyBase = underlyingFx.getCounterCurrencyPayment().getCurrency();
+      Currency ccyCounter = underlyingFx.getCounterCurrencyPayment().getCurrency();
+      DiscountFactors baseDiscountFactors = ratesProvider.discountFactors(ccyBase);
+      DiscountFactors counterDiscountFactors = ratesProvider.discountFactors(ccyCounter);
+      double notional = Math.abs(underlyingFx.getBaseCurrencyPayment().getAmount());
+      double[] rebateArray = new double[nSteps + 1];
+      SimpleConstantContinuousBarrier barrier = (SimpleConstantContinuousBarrier) option.getBarrier();
+      if (option.getRebate().isPresent()) {
+        CurrencyAmount rebateCurrencyAmount = option.getRebate().get();
+        double rebatePerUnit = rebateCurrencyAmount.getAmount() / notional;
+        boolean isCounter = rebateCurrencyAmount.getCurrency().equals(ccyCounter);
+        double rebate = isCounter ? rebatePerUnit : rebatePerUnit * barrier.getBarrierLevel();
+        if (barrier.getKnockType().isKnockIn()) { // use in-out parity
+          double dfCounterAtExpiry = counterDiscountFactors.discountFactor(timeToExpiry);
+          double dfBaseAtExpiry = baseDiscountFactors.discountFactor(timeToExpiry);
+          for (int i = 0; i < nSteps + 1; ++i) {
+            rebateArray[i] = isCounter ?
+                rebate * dfCounterAtExpiry / counterDiscountFactors.discountFactor(data.getTime(i)) :
+                rebate * dfBaseAtExpiry / baseDiscountFactors.discountFactor(data.getTime(i));
+          }
+          if (isCounter) {
+            rebateAtExpiry[k] = rebatePerUnit * dfCounterAtExpiry;
+          } else {
+            rebateAtExpiry[k] = rebatePerUnit * data.getSpot() * dfBaseAtExpiry;
+            rebateAtExpiryDerivative[k] = rebatePerUnit * dfBaseAtExpiry;
+          }
         } else {
-          rebateAtExpiry = rebatePerUnit * data.getSpot() * dfBaseAtExpiry;
-          rebateAtExpiryDerivative = rebatePerUnit * dfBaseAtExpiry;
+          Arrays.fill(rebateArray, rebate);
         }
-      } else {
-        Arrays.fill(rebateArray, rebate);
+      }
+      OptionFunction barrierFunction = ConstantContinuousSingleBarrierKnockoutFunction.of(
+          underlyingOption.getStrike(),
+          timeToExpiry,
+          underlyingOption.getPutCall(),
+          nSteps,
+          barrier.getBarrierType(),
+          barrier.getBarrierLevel(),
+          DoubleArray.ofUnsafe(rebateArray));
+      barrierIndex[k] = functionIndex(functions, barrierFunction);
+      vanillaIndex[k] = -1;
+      if (barrier.getKnockType().isKnockIn()) {  // use in-out parity
+        EuropeanVanillaOptionFunction vanillaFunction = EuropeanVanillaOptionFunction.of(
+            underlyingOption.getStrike(), timeToExpiry, underlyingOption.getPutCall(), nSteps);
+        vanillaIndex[k] = functionIndex(functions, vanillaFunction);
       }
     }
-    ConstantContinuousSingleBarrierKnockoutFunction barrierFunction = ConstantContinuousSingleBarrierKnockoutFunction.of(
-        underlyingOption.getStrike(),
-        timeToExpiry,
-        underlyingOption.getPutCall(),
-        nSteps,
-        barrier.getBarrierType(),
-        barrier.getBarrierLevel(),
-        DoubleArray.ofUnsafe(rebateArray));
-    ValueDerivatives barrierPrice = TREE.optionPriceAdjoint(barrierFunction, data);
-    if (barrier.getKnockType().isKnockIn()) {  // use in-out parity
-      EuropeanVanillaOptionFunction vanillaFunction = EuropeanVanillaOptionFunction.of(
-          underlyingOption.getStrike(), timeToExpiry, underlyingOption.getPutCall(), nSteps);
-      ValueDerivatives vanillaPrice = TREE.optionPriceAdjoint(vanillaFunction, data);
-      return ValueDerivatives.of(vanillaPrice.getValue() + rebateAtExpiry - barrierPrice.getValue(),
-          DoubleArray.of(vanillaPrice.getDerivative(0) + rebateAtExpiryDerivative - barrierPrice.getDerivative(0)));
+    List<ValueDerivatives> prices = TREE.optionPriceAdjoint(ImmutableList.copyOf(functions.keySet()), data);
+    ImmutableList.Builder<ValueDerivatives> builder = ImmutableList.builder();
+    for (int k = 0; k < nOptions; ++k) {
+      ValueDerivatives barrierPrice = prices.get(barrierIndex[k]);
+      if (vanillaIndex[k] < 0) {
+        builder.add(barrierPrice);
+      } else {
+        ValueDerivatives vanillaPrice = prices.get(vanillaIndex[k]);
+        double price = vanillaPrice.getValue() + rebateAtExpiry[k] - barrierPrice.getValue();
+        double delta = vanillaPrice.getDerivative(0) + rebateAtExpiryDerivative[k] - barrierPrice.getDerivative(0);
+        builder.add(ValueDerivatives.of(price, DoubleArray.of(delta)));
+      }
     }
-    return barrierPrice;
+    return builder.build();
+  }
+
+  // the index of the function in the map, adding it if absent
+  private static int functionIndex(Map<OptionFunction, Integer> functions, OptionFunction function) {
+    return functions.computeIfAbsent(function, f -> functions.size());
   }
 
   //-------------------------------------------------------------------------
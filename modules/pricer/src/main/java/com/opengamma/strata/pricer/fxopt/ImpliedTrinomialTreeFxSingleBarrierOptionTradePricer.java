@@ -5,8 +5,12 @@
  */
 package com.opengamma.strata.pricer.fxopt;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.time.LocalDate;
+import java.util.List;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.currency.Payment;
@@ -114,6 +118,71 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionTradePricer {
     return sensProduct.combinedWith(sensPremium);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present values of several FX barrier option trades.
+   * <p>
+   * The present value of each trade is the value on the valuation date.
+   * <p>
+   * The options are priced together, calibrating the trinomial tree once for each currency pair and expiry.
+   * The results are the same as those of {@link #presentValue(ResolvedFxSingleBarrierOptionTrade, RatesProvider,
+   * BlackFxOptionVolatilities)} for each trade.
+   * 
+   * @param trades  the option trades
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the present values of the trades, in the order of the trades
+   */
+  public List<MultiCurrencyAmount> presentValue(
+      List<ResolvedFxSingleBarrierOptionTrade> trades,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    List<ResolvedFxSingleBarrierOption> products =
+        trades.stream().map(ResolvedFxSingleBarrierOptionTrade::getProduct).collect(toImmutableList());
+    List<CurrencyAmount> pvProducts = productPricer.presentValue(products, ratesProvider, volatilities);
+    ImmutableList.Builder<MultiCurrencyAmount> builder = ImmutableList.builder();
+    for (int k = 0; k < trades.size(); ++k) {
+      CurrencyAmount pvPremium = paymentPricer.presentValue(trades.get(k).getPremium(), ratesProvider);
+      builder.add(MultiCurrencyAmount.of(pvProducts.get(k), pvPremium));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Calculates the present value sensitivities of several FX barrier option trades.
+   * <p>
+   * The present value sensitivity of each trade is the sensitivity of the present value to
+   * the underlying curves.
+   * <p>
+   * The sensitivity is computed by bump and re-price, pricing the options together for each bumped curve parameter.
+   * The results are the same as those of {@link #presentValueSensitivityRates(ResolvedFxSingleBarrierOptionTrade,
+   * RatesProvider, BlackFxOptionVolatilities)} for each trade.
+   * 
+   * @param trades  the option trades
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the present value curve sensitivities of the trades, in the order of the trades
+   */
+  public List<CurrencyParameterSensitivities> presentValueSensitivityRates(
+      List<ResolvedFxSingleBarrierOptionTrade> trades,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    List<ResolvedFxSingleBarrierOption> products =
+        trades.stream().map(ResolvedFxSingleBarrierOptionTrade::getProduct).collect(toImmutableList());
+    List<CurrencyParameterSensitivities> sensProducts =
+        productPricer.presentValueSensitivityRates(products, ratesProvider, volatilities);
+    ImmutableList.Builder<CurrencyParameterSensitivities> builder = ImmutableList.builder();
+    for (int k = 0; k < trades.size(); ++k) {
+      PointSensitivityBuilder pvcsPremium =
+          paymentPricer.presentValueSensitivity(trades.get(k).getPremium(), ratesProvider);
+      CurrencyParameterSensitivities sensPremium = ratesProvider.parameterSensitivity(pvcsPremium.build());
+      builder.add(sensProducts.get(k).combinedWith(sensPremium));
+    }
+    return builder.build();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the currency exposure of the FX barrier option trade.
@@ -15,8 +15,7 @@ import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.math.impl.rootfinding.NewtonRaphsonSingleRootFinder;
-import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
-import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistributionKernel;
 
 /**
  * The primary repository for Black formulas, including the price, common greeks and implied volatility.
@@ -30,7 +29,6 @@ public final class BlackFormulaRepository {
 
   private static final Logger log = LoggerFactory.getLogger(BlackFormulaRepository.class);
 
-  private static final ProbabilityDistribution<Double> NORMAL = new NormalDistribution(0, 1);
   private static final double LARGE = 1e13;
   private static final double SMALL = 1e-13;
   /** The comparison value used to determine near-zero. */
@@ -94,8 +92,8 @@ public final class BlackFormulaRepository {
       d2 = d1 - sigmaRootT;
     }
 
-    double nF = NORMAL.getCDF(sign * d1);
-    double nS = NORMAL.getCDF(sign * d2);
+    double nF = NormalDistributionKernel.cdf(sign * d1);
+    double nS = NormalDistributionKernel.cdf(sign * d2);
     double first = nF == 0d ? 0d : forward * nF;
     double second = nS == 0d ? 0d : strike * nS;
 
@@ -164,8 +162,8 @@ public final class BlackFormulaRepository {
       d1 = d2 + sigmaRootT;
     }
 
-    double nF = NORMAL.getCDF(sign * d1);
-    double nS = NORMAL.getCDF(sign * d2);
+    double nF = NormalDistributionKernel.cdf(sign * d1);
+    double nS = NormalDistributionKernel.cdf(sign * d2);
     double first = nF == 0d ? 0d : forward * nF;
     double second = nS == 0d ? 0d : strike * nS;
     double res = sign * (first - second);
@@ -178,7 +176,7 @@ public final class BlackFormulaRepository {
     double forwardBar = nF * firstBar;
     double strikeBar = nS * secondBar;
     double nFBar = forward * firstBar;
-    double d1Bar = sign * NORMAL.getPDF(sign * d1) * nFBar;
+    double d1Bar = sign * NormalDistributionKernel.pdf(sign * d1) * nFBar;
     // Implementation Note: d2Bar = 0; no need to implement it.
     // Methodology Note: d2Bar is optimal exercise boundary. The derivative at the optimal point is 0.
     double sigmaRootTBar = d1Bar;
@@ -235,8 +233,8 @@ public final class BlackFormulaRepository {
     } else {
       volPeriod = lognormalVol * sqrttheta;
       kappa = Math.log(forward / strike) / volPeriod - 0.5 * volPeriod;
-      d1 = NORMAL.getCDF(omega * (kappa + volPeriod));
-      d2 = NORMAL.getCDF(omega * kappa);
+      d1 = NormalDistributionKernel.cdf(omega * (kappa + volPeriod));
+      d2 = NormalDistributionKernel.cdf(omega * kappa);
       p = discountFactor * omega * (forward * d1 - strike * d2);
     }
     // Implementation Note: Backward sweep.
@@ -250,7 +248,7 @@ public final class BlackFormulaRepository {
       strikeBar = (x > 0 ? -discountFactor * omega : 0.0);
     } else {
       d1Bar = discountFactor * omega * forward * pBar;
-      density1 = NORMAL.getPDF(omega * (kappa + volPeriod));
+      density1 = NormalDistributionKernel.pdf(omega * (kappa + volPeriod));
       // Implementation Note: kappa_bar = 0; no need to implement it.
       // Methodology Note: kappa_bar is optimal exercise boundary. The
       // derivative at the optimal point is 0.
@@ -267,7 +265,7 @@ public final class BlackFormulaRepository {
     }
     // Backward sweep: second derivative
     double d2Bar = -discountFactor * omega * strike;
-    double density2 = NORMAL.getPDF(omega * kappa);
+    double density2 = NormalDistributionKernel.pdf(omega * kappa);
     double d1Kappa = omega * density1;
     double d1KappaKappa = -(kappa + volPeriod) * d1Kappa;
     double d2Kappa = omega * density2;
@@ -305,6 +303,156 @@ public final class BlackFormulaRepository {
     return Pair.of(ValueDerivatives.of(p, bsD), bsD2);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the forward price of a number of options.
+   * <p>
+   * The result is the same as calling {@link #price(double, double, double, double, boolean)} for each option.
+   * The calculation is a simple loop over the primitive arrays that allocates no objects, allowing the JIT
+   * compiler to inline and optimize the whole calculation. Options with extreme inputs, such as a near-zero
+   * volatility or an at-the-money strike, are priced using the single option method.
+   * <p>
+   * The output array may be the same as one of the input arrays.
+   * 
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param lognormalVols  the log-normal volatility of each option
+   * @param isCall  true for calls, false for puts
+   * @param prices  the array to populate with the forward price of each option
+   * @throws IllegalArgumentException if the arrays have different lengths or an input is negative or NaN
+   */
+  public static void price(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] lognormalVols,
+      boolean isCall,
+      double[] prices) {
+
+    int size = validate(forwards, strikes, timesToExpiry, lognormalVols);
+    ArgChecker.isTrue(prices.length == size, "Output array must have length {}", size);
+    int sign = isCall ? 1 : -1;
+    for (int i = 0; i < size; i++) {
+      double forward = forwards[i];
+      double strike = strikes[i];
+      double timeToExpiry = timesToExpiry[i];
+      double lognormalVol = lognormalVols[i];
+      double sigmaRootT = lognormalVol * Math.sqrt(timeToExpiry);
+      if (isRegular(forward, strike, sigmaRootT)) {
+        double d1 = Math.log(forward / strike) / sigmaRootT + 0.5 * sigmaRootT;
+        double d2 = d1 - sigmaRootT;
+        double nF = NormalDistributionKernel.cdf(sign * d1);
+        double nS = NormalDistributionKernel.cdf(sign * d2);
+        double first = nF == 0d ? 0d : forward * nF;
+        double second = nS == 0d ? 0d : strike * nS;
+        prices[i] = Math.max(0., sign * (first - second));
+      } else {
+        prices[i] = price(forward, strike, timeToExpiry, lognormalVol, isCall);
+      }
+    }
+  }
+
+  /**
+   * Computes the price without numeraire and its derivatives for a number of options.
+   * <p>
+   * The result is the same as calling {@link #priceAdjoint(double, double, double, double, boolean)} for each option.
+   * The calculation is a simple loop over the primitive arrays that allocates no objects, allowing the JIT
+   * compiler to inline and optimize the whole calculation. Options with extreme inputs, such as a near-zero
+   * volatility or an at-the-money strike, are priced using the single option method.
+   * <p>
+   * The derivatives array has four rows, each with one element for each option.
+   * The rows are in the following order:
+   * <ul>
+   * <li>[0] derivative with respect to the forward
+   * <li>[1] derivative with respect to the strike
+   * <li>[2] derivative with respect to the time to expiry
+   * <li>[3] derivative with respect to the volatility
+   * </ul>
+   * 
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param lognormalVols  the log-normal volatility of each option
+   * @param isCall  true for calls, false for puts
+   * @param prices  the array to populate with the forward price of each option
+   * @param derivatives  the array to populate with the derivatives of each option, with four rows
+   * @throws IllegalArgumentException if the arrays have different lengths or an input is negative or NaN
+   */
+  public static void priceAdjoint(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] lognormalVols,
+      boolean isCall,
+      double[] prices,
+      double[][] derivatives) {
+
+    int size = validate(forwards, strikes, timesToExpiry, lognormalVols);
+    ArgChecker.isTrue(prices.length == size, "Output array must have length {}", size);
+    ArgChecker.isTrue(derivatives.length == 4, "Derivatives array must have 4 rows");
+    double[] forwardBars = derivatives[0];
+    double[] strikeBars = derivatives[1];
+    double[] timeToExpiryBars = derivatives[2];
+    double[] lognormalVolBars = derivatives[3];
+    ArgChecker.isTrue(
+        forwardBars.length == size && strikeBars.length == size &&
+            timeToExpiryBars.length == size && lognormalVolBars.length == size,
+        "Derivatives array rows must have length {}", size);
+    int sign = isCall ? 1 : -1;
+    for (int i = 0; i < size; i++) {
+      double forward = forwards[i];
+      double strike = strikes[i];
+      double timeToExpiry = timesToExpiry[i];
+      double lognormalVol = lognormalVols[i];
+      double rootT = Math.sqrt(timeToExpiry);
+      double sigmaRootT = lognormalVol * rootT;
+      if (isRegular(forward, strike, sigmaRootT)) {
+        double d2 = Math.log(forward / strike) / sigmaRootT - 0.5 * sigmaRootT;
+        double d1 = d2 + sigmaRootT;
+        double nF = NormalDistributionKernel.cdf(sign * d1);
+        double nS = NormalDistributionKernel.cdf(sign * d2);
+        double first = nF == 0d ? 0d : forward * nF;
+        double second = nS == 0d ? 0d : strike * nS;
+        prices[i] = Math.max(0d, sign * (first - second));
+        // backward sweep, as in the single option method
+        double d1Bar = NormalDistributionKernel.pdf(sign * d1) * forward;
+        forwardBars[i] = sign * nF;
+        strikeBars[i] = -sign * nS;
+        timeToExpiryBars[i] = 0.5 / rootT * lognormalVol * d1Bar;
+        lognormalVolBars[i] = rootT * d1Bar;
+      } else {
+        ValueDerivatives result = priceAdjoint(forward, strike, timeToExpiry, lognormalVol, isCall);
+        prices[i] = result.getValue();
+        forwardBars[i] = result.getDerivative(0);
+        strikeBars[i] = result.getDerivative(1);
+        timeToExpiryBars[i] = result.getDerivative(2);
+        lognormalVolBars[i] = result.getDerivative(3);
+      }
+    }
+  }
+
+  // validates the inputs of the array-based methods, returning the number of options
+  private static int validate(double[] forwards, double[] strikes, double[] timesToExpiry, double[] lognormalVols) {
+    int size = forwards.length;
+    ArgChecker.isTrue(
+        strikes.length == size && timesToExpiry.length == size && lognormalVols.length == size,
+        "Input arrays must have the same length");
+    for (int i = 0; i < size; i++) {
+      ArgChecker.isTrue(forwards[i] >= 0d, "negative/NaN forward; have {}", forwards[i]);
+      ArgChecker.isTrue(strikes[i] >= 0d, "negative/NaN strike; have {}", strikes[i]);
+      ArgChecker.isTrue(timesToExpiry[i] >= 0d, "negative/NaN timeToExpiry; have {}", timesToExpiry[i]);
+      ArgChecker.isTrue(lognormalVols[i] >= 0d, "negative/NaN lognormalVol; have {}", lognormalVols[i]);
+    }
+    return size;
+  }
+
+  // checks if the inputs avoid all the special cases of the single option methods
+  private static boolean isRegular(double forward, double strike, double sigmaRootT) {
+    return sigmaRootT >= SMALL && sigmaRootT <= LARGE &&
+        Math.abs(forward - strike) >= SMALL && !(forward > LARGE && strike > LARGE);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Computes the forward driftless delta.
@@ -356,7 +504,7 @@ public final class BlackFormulaRepository {
       d1 = Math.log(forward / strike) / sigmaRootT + 0.5 * sigmaRootT;
     }
 
-    return sign * NORMAL.getCDF(sign * d1);
+    return sign * NormalDistributionKernel.cdf(sign * d1);
   }
 
   //-------------------------------------------------------------------------
@@ -384,7 +532,7 @@ public final class BlackFormulaRepository {
     ArgChecker.isTrue(lognormalVol >= 0d, "negative/NaN lognormalVol; have {}", lognormalVol);
 
     int sign = isCall ? 1 : -1;
-    double d1 = sign * NORMAL.getInverseCDF(sign * forwardDelta);
+    double d1 = sign * NormalDistributionKernel.inverseCdf(sign * forwardDelta);
 
     double sigmaSqT = lognormalVol * lognormalVol * timeToExpiry;
     if (Double.isNaN(sigmaSqT)) {
@@ -448,7 +596,7 @@ public final class BlackFormulaRepository {
       d2 = Math.log(forward / strike) / sigmaRootT - 0.5 * sigmaRootT;
     }
 
-    return -sign * NORMAL.getCDF(sign * d2);
+    return -sign * NormalDistributionKernel.cdf(sign * d2);
   }
 
   //-------------------------------------------------------------------------
@@ -505,7 +653,7 @@ public final class BlackFormulaRepository {
       d = Math.log(forward / strike) / sigmaRootT;
     }
 
-    return sign * NORMAL.getCDF(sign * d);
+    return sign * NormalDistributionKernel.cdf(sign * d);
   }
 
   //-------------------------------------------------------------------------
@@ -546,7 +694,7 @@ public final class BlackFormulaRepository {
         return 0d;
       }
       log.info("(log 1d)/0d ambiguous");
-      return bFwd ? NORMAL.getPDF(0d) : NORMAL.getPDF(0d) / forward / sigmaRootT;
+      return bFwd ? NormalDistributionKernel.pdf(0d) : NormalDistributionKernel.pdf(0d) / forward / sigmaRootT;
     }
     if (Math.abs(forward - strike) < SMALL | (bFwd && bStr)) {
       d1 = 0.5 * sigmaRootT;
@@ -554,7 +702,7 @@ public final class BlackFormulaRepository {
       d1 = Math.log(forward / strike) / sigmaRootT + 0.5 * sigmaRootT;
     }
 
-    double nVal = NORMAL.getPDF(d1);
+    double nVal = NormalDistributionKernel.pdf(d1);
     return nVal == 0d ? 0d : nVal / forward / sigmaRootT;
   }
 
@@ -592,7 +740,7 @@ public final class BlackFormulaRepository {
         return 0d;
       }
       log.info("(log 1d)/0d ambiguous");
-      return bStr ? NORMAL.getPDF(0d) : NORMAL.getPDF(0d) / strike / sigmaRootT;
+      return bStr ? NormalDistributionKernel.pdf(0d) : NormalDistributionKernel.pdf(0d) / strike / sigmaRootT;
     }
     if (Math.abs(forward - strike) < SMALL | (bFwd && bStr)) {
       d2 = -0.5 * sigmaRootT;
@@ -600,7 +748,7 @@ public final class BlackFormulaRepository {
       d2 = Math.log(forward / strike) / sigmaRootT - 0.5 * sigmaRootT;
     }
 
-    double nVal = NORMAL.getPDF(d2);
+    double nVal = NormalDistributionKernel.pdf(d2);
     return nVal == 0d ? 0d : nVal / strike / sigmaRootT;
   }
 
@@ -642,7 +790,7 @@ public final class BlackFormulaRepository {
         return 0d;
       }
       log.info("(log 1d)/0d ambiguous");
-      return bFwd ? -NORMAL.getPDF(0d) : -NORMAL.getPDF(0d) / forward / sigmaRootT;
+      return bFwd ? -NormalDistributionKernel.pdf(0d) : -NormalDistributionKernel.pdf(0d) / forward / sigmaRootT;
     }
     if (Math.abs(forward - strike) < SMALL | (bFwd && bStr)) {
       d2 = -0.5 * sigmaRootT;
@@ -650,7 +798,7 @@ public final class BlackFormulaRepository {
       d2 = Math.log(forward / strike) / sigmaRootT - 0.5 * sigmaRootT;
     }
 
-    double nVal = NORMAL.getPDF(d2);
+    double nVal = NormalDistributionKernel.pdf(d2);
     return nVal == 0d ? 0d : -nVal / forward / sigmaRootT;
   }
 
@@ -729,8 +877,8 @@ public final class BlackFormulaRepository {
           d1 = Math.log(forward / strike) / sigmaRootT + 0.5 * sigmaRootT;
           d2 = d1 - sigmaRootT;
         }
-        double nF = NORMAL.getCDF(sign * d1);
-        double nS = NORMAL.getCDF(sign * d2);
+        double nF = NormalDistributionKernel.cdf(sign * d1);
+        double nS = NormalDistributionKernel.cdf(sign * d2);
         double first = nF == 0d ? 0d : forward * nF;
         double second = ((nS == 0d) | (Math.exp(-interestRate * timeToExpiry) == 0d)) ? 0d : strike *
             Math.exp(-interestRate * timeToExpiry) * nS;
@@ -814,7 +962,7 @@ public final class BlackFormulaRepository {
         } else {
           d2 = Math.log(forward / strike) / sigmaRootT - 0.5 * sigmaRootT;
         }
-        double nS = NORMAL.getCDF(sign * d2);
+        double nS = NormalDistributionKernel.cdf(sign * d2);
         priceLike = (nS == 0d) ? 0d : -sign * strike * nS;
       }
     }
@@ -860,11 +1008,14 @@ public final class BlackFormulaRepository {
       }
       log.info("log(1)/0 ambiguous");
       if (rootT < SMALL) {
-        return forward < SMALL ? -NORMAL.getPDF(0d) * lognormalVol / 2. : (lognormalVol < SMALL ? -forward *
-            NORMAL.getPDF(0d) / 2. : -forward * NORMAL.getPDF(0d) * lognormalVol / 2. / rootT);
+        return forward < SMALL ? -NormalDistributionKernel.pdf(0d) * lognormalVol / 2. : (lognormalVol < SMALL ?
+            -forward * NormalDistributionKernel.pdf(0d) / 2. :
+            -forward * NormalDistributionKernel.pdf(0d) * lognormalVol / 2. / rootT);
       }
       if (lognormalVol < SMALL) {
-        return bFwd ? -NORMAL.getPDF(0d) / 2. / rootT : -forward * NORMAL.getPDF(0d) * lognormalVol / 2. / rootT;
+        return bFwd ?
+            -NormalDistributionKernel.pdf(0d) / 2. / rootT :
+            -forward * NormalDistributionKernel.pdf(0d) * lognormalVol / 2. / rootT;
       }
     }
     if (Math.abs(forward - strike) < SMALL | (bFwd && bStr)) {
@@ -873,7 +1024,7 @@ public final class BlackFormulaRepository {
       d1 = Math.log(forward / strike) / sigmaRootT + 0.5 * sigmaRootT;
     }
 
-    double nVal = NORMAL.getPDF(d1);
+    double nVal = NormalDistributionKernel.pdf(d1);
     return nVal == 0d ? 0d : -forward * nVal * lognormalVol / 2. / rootT;
   }
 
@@ -915,7 +1066,7 @@ public final class BlackFormulaRepository {
         return 0d;
       }
       log.info("log(1)/0 ambiguous");
-      return (rootT < SMALL && forward > LARGE) ? NORMAL.getPDF(0d) : forward * rootT * NORMAL.getPDF(0d);
+      return (rootT < SMALL && forward > LARGE) ? NormalDistributionKernel.pdf(0d) : forward * rootT * NormalDistributionKernel.pdf(0d);
     }
     if (Math.abs(forward - strike) < SMALL | (bFwd && bStr)) {
       d1 = 0.5 * sigmaRootT;
@@ -923,7 +1074,7 @@ public final class BlackFormulaRepository {
       d1 = Math.log(forward / strike) / sigmaRootT + 0.5 * sigmaRootT;
     }
 
-    double nVal = NORMAL.getPDF(d1);
+    double nVal = NormalDistributionKernel.pdf(d1);
     return nVal == 0d ? 0d : forward * rootT * nVal;
   }
 
@@ -969,7 +1120,7 @@ public final class BlackFormulaRepository {
         return 0d;
       }
       log.info("log(1)/0 ambiguous");
-      return lognormalVol < SMALL ? -NORMAL.getPDF(0d) / lognormalVol : NORMAL.getPDF(0d) * rootT;
+      return lognormalVol < SMALL ? -NormalDistributionKernel.pdf(0d) / lognormalVol : NormalDistributionKernel.pdf(0d) * rootT;
     }
     if (Math.abs(forward - strike) < SMALL | (bFwd && bStr)) {
       d1 = 0.5 * sigmaRootT;
@@ -979,7 +1130,7 @@ public final class BlackFormulaRepository {
       d2 = d1 - sigmaRootT;
     }
 
-    double nVal = NORMAL.getPDF(d1);
+    double nVal = NormalDistributionKernel.pdf(d1);
     return nVal == 0d ? 0d : -nVal * d2 / lognormalVol;
   }
 
@@ -1023,7 +1174,7 @@ public final class BlackFormulaRepository {
         return 0d;
       }
       log.info("log(1)/0 ambiguous");
-      return lognormalVol < SMALL ? -NORMAL.getPDF(0d) / lognormalVol : -NORMAL.getPDF(0d) * rootT;
+      return lognormalVol < SMALL ? -NormalDistributionKernel.pdf(0d) / lognormalVol : -NormalDistributionKernel.pdf(0d) * rootT;
     }
     if (Math.abs(forward - strike) < SMALL | (bFwd && bStr)) {
       d1 = 0.5 * sigmaRootT;
@@ -1033,7 +1184,7 @@ public final class BlackFormulaRepository {
       d2 = d1 - sigmaRootT;
     }
 
-    double nVal = NORMAL.getPDF(d2);
+    double nVal = NormalDistributionKernel.pdf(d2);
     return nVal == 0d ? 0d : nVal * d1 / lognormalVol;
   }
 
@@ -1078,10 +1229,13 @@ public final class BlackFormulaRepository {
       }
       log.info("log(1)/0 ambiguous");
       if (bFwd) {
-        return rootT < SMALL ? NORMAL.getPDF(0d) / lognormalVol : forward * NORMAL.getPDF(0d) * rootT / lognormalVol;
+        return rootT < SMALL ?
+            NormalDistributionKernel.pdf(0d) / lognormalVol :
+            forward * NormalDistributionKernel.pdf(0d) * rootT / lognormalVol;
       }
-      return lognormalVol < SMALL ? forward * NORMAL.getPDF(0d) * rootT / lognormalVol : -forward * NORMAL.getPDF(0d) *
-          timeToExpiry * lognormalVol / 4.;
+      return lognormalVol < SMALL ?
+          forward * NormalDistributionKernel.pdf(0d) * rootT / lognormalVol :
+          -forward * NormalDistributionKernel.pdf(0d) * timeToExpiry * lognormalVol / 4.;
     }
     if (Math.abs(forward - strike) < SMALL | (bFwd && bStr)) {
       d1 = 0.5 * sigmaRootT;
@@ -1091,7 +1245,7 @@ public final class BlackFormulaRepository {
       d2 = d1 - sigmaRootT;
     }
 
-    double nVal = NORMAL.getPDF(d1);
+    double nVal = NormalDistributionKernel.pdf(d1);
     double res = nVal == 0d ? 0d : forward * nVal * rootT * d1 * d2 / lognormalVol;
     return res;
   }
@@ -1225,7 +1379,7 @@ public final class BlackFormulaRepository {
         Math.min(forward, strike));
 
     if (forward == strike) {
-      return NORMAL.getInverseCDF(0.5 * (otmPrice / forward + 1)) * 2 / Math.sqrt(timeToExpiry);
+      return NormalDistributionKernel.inverseCdf(0.5 * (otmPrice / forward + 1)) * 2 / Math.sqrt(timeToExpiry);
     }
 
     boolean isCall = strike >= forward;
@@ -1293,8 +1447,8 @@ public final class BlackFormulaRepository {
     ArgChecker.isTrue(forward > 0, "Forward negative");
     double omega = (isCall ? 1d : -1d);
     double strike = forward *
-        Math.exp(-volatility * Math.sqrt(time) * omega * NORMAL.getInverseCDF(omega * delta) + volatility * volatility *
-            time / 2);
+        Math.exp(-volatility * Math.sqrt(time) * omega * NormalDistributionKernel.inverseCdf(omega * delta) +
+            volatility * volatility * time / 2);
     return strike;
   }
 
@@ -1324,14 +1478,14 @@ public final class BlackFormulaRepository {
     ArgChecker.isTrue(forward > 0, "Forward negative");
     double omega = (isCall ? 1d : -1d);
     double sqrtt = Math.sqrt(time);
-    double n = NORMAL.getInverseCDF(omega * delta);
+    double n = NormalDistributionKernel.inverseCdf(omega * delta);
     double part1 = Math.exp(-volatility * sqrtt * omega * n + volatility * volatility * time / 2);
     double strike = forward * part1;
     // Backward sweep
     double strikeBar = 1d;
     double part1Bar = forward * strikeBar;
     double nBar = part1 * -volatility * Math.sqrt(time) * omega * part1Bar;
-    derivatives[0] = omega / NORMAL.getPDF(n) * nBar;
+    derivatives[0] = omega / NormalDistributionKernel.pdf(n) * nBar;
     derivatives[1] = part1 * strikeBar;
     derivatives[2] = part1 * (-volatility * omega * n * 0.5 / sqrtt + volatility * volatility / 2) * part1Bar;
     derivatives[3] = part1 * (-sqrtt * omega * n + volatility * time) * part1Bar;
@@ -9,8 +9,7 @@ import com.google.common.math.DoubleMath;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
-import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
-import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistributionKernel;
 import com.opengamma.strata.product.option.SimpleConstantContinuousBarrier;
 
 /**
@@ -22,10 +21,6 @@ import com.opengamma.strata.product.option.SimpleConstantContinuousBarrier;
  */
 public class BlackOneTouchAssetPriceFormulaRepository {
 
-  /**
-   * The normal distribution implementation used in the pricing.
-   */
-  private static final ProbabilityDistribution<Double> NORMAL = new NormalDistribution(0, 1);
   /**
    * Small parameter.
    */
@@ -198,7 +193,8 @@ public class BlackOneTouchAssetPriceFormulaRepository {
       double h,
       double mu,
       double eta) {
-    return s * df1 * (NORMAL.getCDF(eta * x) - Math.pow(h / s, 2d * (mu + 1d)) * NORMAL.getCDF(eta * y));
+    return s * df1 * (NormalDistributionKernel.cdf(eta * x) -
+        Math.pow(h / s, 2d * (mu + 1d)) * NormalDistributionKernel.cdf(eta * y));
   }
 
   private double getF(
@@ -211,8 +207,8 @@ public class BlackOneTouchAssetPriceFormulaRepository {
       double eta,
       double barrier) {
 
-    return barrier * (Math.pow(h / s, mu + lambda) * NORMAL.getCDF(eta * z) +
-        Math.pow(h / s, mu - lambda) * NORMAL.getCDF(eta * (z - 2d * lambda * lognormalVolT)));
+    return barrier * (Math.pow(h / s, mu + lambda) * NormalDistributionKernel.cdf(eta * z) +
+        Math.pow(h / s, mu - lambda) * NormalDistributionKernel.cdf(eta * (z - 2d * lambda * lognormalVolT)));
   }
 
   //-------------------------------------------------------------------------
@@ -229,10 +225,10 @@ public class BlackOneTouchAssetPriceFormulaRepository {
       double[] firstDerivatives,
       double[] secondDerivatives) {
 
-    double n1 = NORMAL.getCDF(eta * x);
-    double n2 = NORMAL.getCDF(eta * y);
-    double n1df = NORMAL.getPDF(x);
-    double n2df = NORMAL.getPDF(y);
+    double n1 = NormalDistributionKernel.cdf(eta * x);
+    double n2 = NormalDistributionKernel.cdf(eta * y);
+    double n1df = NormalDistributionKernel.pdf(x);
+    double n2df = NormalDistributionKernel.pdf(y);
     double hsMu = Math.pow(h / s, 2d * (mu + 1d));
     double e = s * df1 * (n1 - hsMu * n2);
     firstDerivatives[0] = df1 * n1 - df1 * hsMu * n2 + 2d * (mu + 1d) * df1 * hsMu * n2; // s
@@ -263,14 +259,14 @@ public class BlackOneTouchAssetPriceFormulaRepository {
       double[] firstDerivatives,
       double[] secondDerivatives) {
 
-    double n1 = NORMAL.getCDF(eta * z);
-    double n2 = NORMAL.getCDF(eta * (z - 2 * lambda * lognormalVolT));
+    double n1 = NormalDistributionKernel.cdf(eta * z);
+    double n2 = NormalDistributionKernel.cdf(eta * (z - 2 * lambda * lognormalVolT));
     double hsMuPLa = Math.pow(h / s, mu + lambda);
     double hsMuMLa = Math.pow(h / s, mu - lambda);
     double f = barrier * (hsMuPLa * n1 + hsMuMLa * n2);
     double fBar = 1.0;
-    double n1df = NORMAL.getPDF(eta * z);
-    double n2df = NORMAL.getPDF(eta * (z - 2 * lambda * lognormalVolT));
+    double n1df = NormalDistributionKernel.pdf(eta * z);
+    double n2df = NormalDistributionKernel.pdf(eta * (z - 2 * lambda * lognormalVolT));
     double hsMuPLaBar = n1 * fBar;
     double hsMuMLaBar = n2 * fBar;
     double n2Bar = hsMuMLa * fBar;
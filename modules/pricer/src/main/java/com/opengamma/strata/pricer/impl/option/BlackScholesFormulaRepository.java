@@ -6,8 +6,7 @@
 package com.opengamma.strata.pricer.impl.option;
 
 import com.opengamma.strata.collect.ArgChecker;
-import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
-import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistributionKernel;
 
 /**
  * The primary repository for Black-Scholes formulas, including the price and greeks.
@@ -18,7 +17,6 @@ import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistrib
  */
 public final class BlackScholesFormulaRepository {
 
-  private static final ProbabilityDistribution<Double> NORMAL = new NormalDistribution(0, 1);
   private static final double SMALL = 1e-13;
   private static final double LARGE = 1e13;
 
@@ -116,10 +114,49 @@ public final class BlackScholesFormulaRepository {
       d1 = Math.log(spot / strike) / sigmaRootT + scnd + 0.5 * sigmaRootT;
       d2 = d1 - sigmaRootT;
     }
-    double res = sign * discount * (rescaledSpot * NORMAL.getCDF(sign * d1) - strike * NORMAL.getCDF(sign * d2));
+    double res = sign * discount *
+        (rescaledSpot * NormalDistributionKernel.cdf(sign * d1) - strike * NormalDistributionKernel.cdf(sign * d2));
     return Double.isNaN(res) ? 0d : Math.max(res, 0d);
   }
 
+  /**
+   * Computes the spot price of a number of options.
+   * <p>
+   * The result is the same as calling
+   * {@link #price(double, double, double, double, double, double, boolean)} for each option.
+   * The output array may be the same as one of the input arrays.
+   * 
+   * @param spots  the spot value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param lognormalVols  the log-normal volatility of each option
+   * @param interestRates  the interest rate of each option
+   * @param costsOfCarry  the cost-of-carry rate of each option
+   * @param isCall  true for calls, false for puts
+   * @param prices  the array to populate with the spot price of each option
+   * @throws IllegalArgumentException if the arrays have different lengths or the inputs are invalid
+   */
+  public static void price(
+      double[] spots,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] lognormalVols,
+      double[] interestRates,
+      double[] costsOfCarry,
+      boolean isCall,
+      double[] prices) {
+
+    int size = spots.length;
+    ArgChecker.isTrue(
+        strikes.length == size && timesToExpiry.length == size && lognormalVols.length == size &&
+            interestRates.length == size && costsOfCarry.length == size && prices.length == size,
+        "Arrays must have the same length");
+    for (int i = 0; i < size; i++) {
+      prices[i] = price(
+          spots[i], strikes[i], timesToExpiry[i], lognormalVols[i], interestRates[i], costsOfCarry[i], isCall);
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Computes the spot delta.
@@ -199,7 +236,7 @@ public final class BlackScholesFormulaRepository {
           Double.isNaN(tmp) ? ((lognormalVol < LARGE && lognormalVol > SMALL) ? sig / lognormalVol : sig * rootT) : tmp;
       d1 = Math.log(spot / strike) / sigmaRootT + scnd + 0.5 * sigmaRootT;
     }
-    double norm = NORMAL.getCDF(sign * d1);
+    double norm = NormalDistributionKernel.cdf(sign * d1);
 
     return norm < SMALL ? 0d : sign * coef * norm;
   }
@@ -250,7 +287,7 @@ public final class BlackScholesFormulaRepository {
     double rescaledSpot = spot * Math.exp(costOfCarry * timeToExpiry);
 
     int sign = isCall ? 1 : -1;
-    double d1 = sign * NORMAL.getInverseCDF(sign * rescaledDelta);
+    double d1 = sign * NormalDistributionKernel.inverseCdf(sign * rescaledDelta);
     return rescaledSpot * Math.exp(-d1 * sigmaRootT + 0.5 * sigmaRootT * sigmaRootT);
   }
 
@@ -329,7 +366,7 @@ public final class BlackScholesFormulaRepository {
           Double.isNaN(tmp) ? ((lognormalVol < LARGE && lognormalVol > SMALL) ? sig / lognormalVol : sig * rootT) : tmp;
       d2 = Math.log(spot / strike) / sigmaRootT + scnd - 0.5 * sigmaRootT;
     }
-    double norm = NORMAL.getCDF(sign * d2);
+    double norm = NormalDistributionKernel.cdf(sign * d2);
 
     return norm < SMALL ? 0d : -sign * discount * norm;
   }
@@ -414,7 +451,7 @@ public final class BlackScholesFormulaRepository {
         d1 = Math.log(spot / strike) / sigmaRootT + scnd + 0.5 * sigmaRootT;
       }
     }
-    double norm = NORMAL.getPDF(d1);
+    double norm = NormalDistributionKernel.pdf(d1);
 
     double res = norm < SMALL ? 0d : coef * norm / spot / sigmaRootT;
     return Double.isNaN(res) ? Double.POSITIVE_INFINITY : res;
@@ -489,7 +526,7 @@ public final class BlackScholesFormulaRepository {
         d2 = Math.log(spot / strike) / sigmaRootT + scnd - 0.5 * sigmaRootT;
       }
     }
-    double norm = NORMAL.getPDF(d2);
+    double norm = NormalDistributionKernel.pdf(d2);
 
     double res = norm < SMALL ? 0d : discount * norm / strike / sigmaRootT;
     return Double.isNaN(res) ? Double.POSITIVE_INFINITY : res;
@@ -562,7 +599,7 @@ public final class BlackScholesFormulaRepository {
         d2 = Math.log(spot / strike) / sigmaRootT + scnd - 0.5 * sigmaRootT;
       }
     }
-    double norm = NORMAL.getPDF(d2);
+    double norm = NormalDistributionKernel.pdf(d2);
 
     double res = norm < SMALL ? 0d : -discount * norm / spot / sigmaRootT;
     return Double.isNaN(res) ? Double.NEGATIVE_INFINITY : res;
@@ -659,11 +696,11 @@ public final class BlackScholesFormulaRepository {
         d2 = d1 - sigmaRootT;
       }
     }
-    double norm = NORMAL.getPDF(d1);
+    double norm = NormalDistributionKernel.pdf(d1);
     double rescaledSpot = Math.exp((costOfCarry - interestRate) * timeToExpiry) * spot;
     double rescaledStrike = discount * strike;
-    double normForSpot = NORMAL.getCDF(sign * d1);
-    double normForStrike = NORMAL.getCDF(sign * d2);
+    double normForSpot = NormalDistributionKernel.cdf(sign * d1);
+    double normForStrike = NormalDistributionKernel.cdf(sign * d2);
     double spotTerm = normForSpot < SMALL ?
         0d :
         (Double.isNaN(rescaledSpot) ? -sign * Math.signum((costOfCarry - interestRate)) * rescaledSpot : -sign *
@@ -767,8 +804,8 @@ public final class BlackScholesFormulaRepository {
     tmp = Double.isNaN(tmp) ? (d2 >= 0d ? 1d : -1.) : tmp;
     double coefPdf = cocMod - 0.5 * tmp;
 
-    double normPdf = NORMAL.getPDF(d1);
-    double normCdf = NORMAL.getCDF(sign * d1);
+    double normPdf = NormalDistributionKernel.pdf(d1);
+    double normCdf = NormalDistributionKernel.cdf(sign * d1);
     double first = normPdf < SMALL ? 0d : (Double.isNaN(coefPdf) ? 0d : normPdf * coefPdf);
     double second = normCdf < SMALL ? 0d : (costOfCarry - interestRate) * normCdf;
     double res = -coeff * (first + sign * second);
@@ -870,8 +907,8 @@ public final class BlackScholesFormulaRepository {
       coefPdf = cocMod - 0.5 * tmp;
     }
 
-    double normPdf = NORMAL.getPDF(d2);
-    double normCdf = NORMAL.getCDF(sign * d2);
+    double normPdf = NormalDistributionKernel.pdf(d2);
+    double normCdf = NormalDistributionKernel.cdf(sign * d2);
     double first = normPdf < SMALL ? 0d : (Double.isNaN(coefPdf) ? 0d : normPdf * coefPdf);
     double second = normCdf < SMALL ? 0d : interestRate * normCdf;
     double res = discount * (first - sign * second);
@@ -955,7 +992,7 @@ public final class BlackScholesFormulaRepository {
         d1 = Math.log(spot / strike) / sigmaRootT + scnd + 0.5 * sigmaRootT;
       }
     }
-    double norm = NORMAL.getPDF(d1);
+    double norm = NormalDistributionKernel.pdf(d1);
 
     double res = norm < SMALL ? 0d : coef * norm * spot * rootT;
     return Double.isNaN(res) ? Double.POSITIVE_INFINITY : res;
@@ -1044,7 +1081,7 @@ public final class BlackScholesFormulaRepository {
       coef = Math.exp(rate * timeToExpiry);
     }
 
-    double norm = NORMAL.getPDF(d1);
+    double norm = NormalDistributionKernel.pdf(d1);
     double tmp = d2 * coef / lognormalVol;
     if (Double.isNaN(tmp)) {
       tmp = coef;
@@ -1126,7 +1163,7 @@ public final class BlackScholesFormulaRepository {
       coef = 1d; //ref value is returned
     }
 
-    double norm = NORMAL.getPDF(d2);
+    double norm = NormalDistributionKernel.pdf(d2);
     double tmp = d1 * coef / lognormalVol;
     if (Double.isNaN(tmp)) {
       tmp = coef;
@@ -1217,7 +1254,7 @@ public final class BlackScholesFormulaRepository {
       coef = Math.exp(rate * timeToExpiry);
     }
 
-    double norm = NORMAL.getPDF(d1);
+    double norm = NormalDistributionKernel.pdf(d1);
     double tmp = d1d2Mod * spot * coef;
     if (Double.isNaN(tmp)) {
       tmp = coef;
@@ -1313,7 +1350,7 @@ public final class BlackScholesFormulaRepository {
       coef = Math.exp(rate * timeToExpiry);
     }
 
-    double norm = NORMAL.getPDF(d1);
+    double norm = NormalDistributionKernel.pdf(d1);
     double tmp = spot * coef * extra;
     if (Double.isNaN(tmp)) {
       tmp = coef;
@@ -1395,7 +1432,7 @@ public final class BlackScholesFormulaRepository {
           Double.isNaN(tmp) ? ((lognormalVol < LARGE && lognormalVol > SMALL) ? sig / lognormalVol : sig * rootT) : tmp;
       d2 = Math.log(spot / strike) / sigmaRootT + scnd - 0.5 * sigmaRootT;
     }
-    double norm = NORMAL.getCDF(sign * d2);
+    double norm = NormalDistributionKernel.cdf(sign * d2);
     double result = norm < SMALL ? 0d : sign * discount * strike * timeToExpiry * norm;
     return Double.isNaN(result) ? sign * discount : result;
   }
@@ -1478,7 +1515,7 @@ public final class BlackScholesFormulaRepository {
           Double.isNaN(tmp) ? ((lognormalVol < LARGE && lognormalVol > SMALL) ? sig / lognormalVol : sig * rootT) : tmp;
       d1 = Math.log(spot / strike) / sigmaRootT + scnd + 0.5 * sigmaRootT;
     }
-    double norm = NORMAL.getCDF(sign * d1);
+    double norm = NormalDistributionKernel.cdf(sign * d1);
 
     double result = norm < SMALL ? 0d : sign * coef * timeToExpiry * spot * norm;
     return Double.isNaN(result) ? sign * coef : result;
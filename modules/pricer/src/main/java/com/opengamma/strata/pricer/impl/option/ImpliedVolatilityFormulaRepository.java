@@ -0,0 +1,392 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistributionKernel;
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Fast implied volatility formulas for the Black and normal (Bachelier) models.
+ * <p>
+ * Unlike {@link BlackFormulaRepository#impliedVolatility(double, double, double, double, boolean)} and
+ * {@link NormalFormulaRepository#impliedVolatility(double, double, double, double, double, double, PutCall)},
+ * these formulas need no initial guess, no bracketing and no root finder.
+ * <p>
+ * The price is first converted to the normalized price of the out-of-the-money option.
+ * An initial guess is then obtained from an explicit approximation of the inverse of the normalized price,
+ * following the approach of Jaeckel, "By Implication", Wilmott (2006).
+ * This is refined by third order Householder iterations, using a logarithmic objective function
+ * in the regions where the price is close to its lower or upper bound.
+ * The guess is typically within a few percent of the solution, thus two or three iterations reach
+ * a relative accuracy close to machine precision. At most four iterations are made.
+ * <p>
+ * The accuracy is reduced for options that are so far out-of-the-money that the price is many orders
+ * of magnitude smaller than its intrinsic scale, because the normalized price is then computed
+ * as the difference of two close values.
+ * <p>
+ * All prices are <b>forward</b> prices, i.e. (spot price)/numeraire.
+ */
+public final class ImpliedVolatilityFormulaRepository {
+
+  /**
+   * The maximum number of Householder iterations.
+   */
+  private static final int MAX_ITERATIONS = 4;
+  /**
+   * The relative tolerance on the total volatility, below which the iterations stop.
+   */
+  private static final double TOLERANCE = 1e-14;
+  /**
+   * The density of the standard normal distribution at zero.
+   */
+  private static final double INV_SQRT_2PI = 1d / Math.sqrt(2d * Math.PI);
+  /**
+   * The square root of three.
+   */
+  private static final double ROOT3 = Math.sqrt(3d);
+  /**
+   * The normalized Bachelier price at which the initial guess switches to the asymptotic form.
+   * This is the value at one standard deviation.
+   */
+  private static final double NORMAL_TAIL_LIMIT =
+      NormalDistributionKernel.pdf(1d) - NormalDistributionKernel.cdf(-1d);
+
+  // restricted constructor
+  private ImpliedVolatilityFormulaRepository() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the log-normal (Black) implied volatility.
+   * <p>
+   * A price equal to the intrinsic value returns zero.
+   *
+   * @param price  the forward price, which is the market price divided by the numeraire
+   * @param forward  the forward value of the underlying
+   * @param strike  the strike
+   * @param timeToExpiry  the time to expiry
+   * @param isCall  true for call, false for put
+   * @return the log-normal (Black) implied volatility
+   * @throws IllegalArgumentException if the inputs are invalid or the price is outside the arbitrage bounds
+   */
+  public static double blackImpliedVolatility(
+      double price,
+      double forward,
+      double strike,
+      double timeToExpiry,
+      boolean isCall) {
+
+    ArgChecker.isTrue(forward > 0d, "negative/NaN forward; have {}", forward);
+    ArgChecker.isTrue(strike > 0d, "negative/NaN strike; have {}", strike);
+    ArgChecker.isTrue(timeToExpiry > 0d, "negative/NaN timeToExpiry; have {}", timeToExpiry);
+    ArgChecker.isFalse(Double.isInfinite(forward), "forward is Infinity");
+    ArgChecker.isFalse(Double.isInfinite(strike), "strike is Infinity");
+
+    double intrinsic = Math.max(0d, (isCall ? 1d : -1d) * (forward - strike));
+    double otmPrice = price - intrinsic;
+    ArgChecker.isTrue(otmPrice >= 0d, "Price of {} is less than intrinsic value", price);
+    double upperBound = Math.min(forward, strike);
+    ArgChecker.isTrue(otmPrice < upperBound, "Price of {} exceeds upper bound", price);
+    if (otmPrice == 0d) {
+      return 0d;
+    }
+    double rootFK = Math.sqrt(forward * strike);
+    // the out-of-the-money option is a call with x <= 0, or a put, which has the same normalized price at -x
+    double x = -Math.abs(Math.log(forward / strike));
+    double totalVol = blackNormalizedTotalVolatility(otmPrice / rootFK, x);
+    return totalVol / Math.sqrt(timeToExpiry);
+  }
+
+  /**
+   * Computes the log-normal (Black) implied volatility of a number of options.
+   * <p>
+   * The result is the same as calling {@link #blackImpliedVolatility(double, double, double, double, boolean)}
+   * for each option. No objects are allocated.
+   * The output array may be the same as one of the input arrays.
+   *
+   * @param prices  the forward price of each option
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param isCall  true for calls, false for puts
+   * @param volatilities  the array to populate with the implied volatility of each option
+   * @throws IllegalArgumentException if the arrays have different lengths, the inputs are invalid
+   *  or a price is outside the arbitrage bounds
+   */
+  public static void blackImpliedVolatility(
+      double[] prices,
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      boolean isCall,
+      double[] volatilities) {
+
+    int size = prices.length;
+    ArgChecker.isTrue(
+        forwards.length == size && strikes.length == size && timesToExpiry.length == size &&
+            volatilities.length == size,
+        "Arrays must have the same length");
+    for (int i = 0; i < size; i++) {
+      volatilities[i] = blackImpliedVolatility(prices[i], forwards[i], strikes[i], timesToExpiry[i], isCall);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the normal (Bachelier) implied volatility.
+   * <p>
+   * A price equal to the intrinsic value returns zero.
+   *
+   * @param price  the forward price, which is the market price divided by the numeraire
+   * @param forward  the forward value of the underlying
+   * @param strike  the strike
+   * @param timeToExpiry  the time to expiry
+   * @param putCall  whether it is put or call
+   * @return the normal (Bachelier) implied volatility
+   * @throws IllegalArgumentException if the inputs are invalid or the price is less than the intrinsic value
+   */
+  public static double normalImpliedVolatility(
+      double price,
+      double forward,
+      double strike,
+      double timeToExpiry,
+      PutCall putCall) {
+
+    ArgChecker.isFalse(Double.isNaN(forward) || Double.isInfinite(forward), "forward must be finite");
+    ArgChecker.isFalse(Double.isNaN(strike) || Double.isInfinite(strike), "strike must be finite");
+    ArgChecker.isTrue(timeToExpiry > 0d, "negative/NaN timeToExpiry; have {}", timeToExpiry);
+    ArgChecker.isFalse(Double.isInfinite(price), "price is Infinity");
+
+    double intrinsic = Math.max(0d, (putCall.isCall() ? 1d : -1d) * (forward - strike));
+    double otmPrice = price - intrinsic;
+    ArgChecker.isTrue(otmPrice >= 0d, "Price of {} is less than intrinsic value", price);
+    if (otmPrice == 0d) {
+      return 0d;
+    }
+    double moneyness = Math.abs(forward - strike);
+    if (moneyness == 0d) {
+      // at-the-money, the price is linear in the volatility
+      return otmPrice / INV_SQRT_2PI / Math.sqrt(timeToExpiry);
+    }
+    double z = normalNormalizedMoneyness(otmPrice / moneyness);
+    return moneyness / z / Math.sqrt(timeToExpiry);
+  }
+
+  /**
+   * Computes the normal (Bachelier) implied volatility of a number of options.
+   * <p>
+   * The result is the same as calling {@link #normalImpliedVolatility(double, double, double, double, PutCall)}
+   * for each option. No objects are allocated.
+   * The output array may be the same as one of the input arrays.
+   *
+   * @param prices  the forward price of each option
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param putCall  whether the options are puts or calls
+   * @param volatilities  the array to populate with the implied volatility of each option
+   * @throws IllegalArgumentException if the arrays have different lengths, the inputs are invalid
+   *  or a price is less than the intrinsic value
+   */
+  public static void normalImpliedVolatility(
+      double[] prices,
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      PutCall putCall,
+      double[] volatilities) {
+
+    int size = prices.length;
+    ArgChecker.isTrue(
+        forwards.length == size && strikes.length == size && timesToExpiry.length == size &&
+            volatilities.length == size,
+        "Arrays must have the same length");
+    for (int i = 0; i < size; i++) {
+      volatilities[i] = normalImpliedVolatility(prices[i], forwards[i], strikes[i], timesToExpiry[i], putCall);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Converts log-normal (Black) volatilities to normal (Bachelier) volatilities.
+   * <p>
+   * Each conversion is exact, by pricing the out-of-the-money option in the Black model
+   * and computing the normal implied volatility of that price.
+   * The output array may be the same as one of the input arrays.
+   *
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param blackVolatilities  the log-normal volatility of each option
+   * @param normalVolatilities  the array to populate with the normal volatility of each option
+   * @throws IllegalArgumentException if the arrays have different lengths or the inputs are invalid
+   */
+  public static void normalVolatilitiesFromBlack(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] blackVolatilities,
+      double[] normalVolatilities) {
+
+    int size = forwards.length;
+    ArgChecker.isTrue(
+        strikes.length == size && timesToExpiry.length == size && blackVolatilities.length == size &&
+            normalVolatilities.length == size,
+        "Arrays must have the same length");
+    for (int i = 0; i < size; i++) {
+      boolean isCall = strikes[i] >= forwards[i];
+      double price =
+          BlackFormulaRepository.price(forwards[i], strikes[i], timesToExpiry[i], blackVolatilities[i], isCall);
+      PutCall putCall = isCall ? PutCall.CALL : PutCall.PUT;
+      normalVolatilities[i] = normalImpliedVolatility(price, forwards[i], strikes[i], timesToExpiry[i], putCall);
+    }
+  }
+
+  /**
+   * Converts normal (Bachelier) volatilities to log-normal (Black) volatilities.
+   * <p>
+   * Each conversion is exact, by pricing the out-of-the-money option in the normal model
+   * and computing the Black implied volatility of that price.
+   * The output array may be the same as one of the input arrays.
+   *
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param normalVolatilities  the normal volatility of each option
+   * @param blackVolatilities  the array to populate with the log-normal volatility of each option
+   * @throws IllegalArgumentException if the arrays have different lengths, the inputs are invalid
+   *  or a normal price has no equivalent in the Black model
+   */
+  public static void blackVolatilitiesFromNormal(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] normalVolatilities,
+      double[] blackVolatilities) {
+
+    int size = forwards.length;
+    ArgChecker.isTrue(
+        strikes.length == size && timesToExpiry.length == size && normalVolatilities.length == size &&
+            blackVolatilities.length == size,
+        "Arrays must have the same length");
+    for (int i = 0; i < size; i++) {
+      PutCall putCall = strikes[i] >= forwards[i] ? PutCall.CALL : PutCall.PUT;
+      double price =
+          NormalFormulaRepository.price(forwards[i], strikes[i], timesToExpiry[i], normalVolatilities[i], putCall);
+      blackVolatilities[i] =
+          blackImpliedVolatility(price, forwards[i], strikes[i], timesToExpiry[i], putCall.isCall());
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // finds the total volatility, s = sigma * sqrt(T), of the normalized out-of-the-money call
+  // the normalized price is b(x, s) = exp(x/2) N(x/s + s/2) - exp(-x/2) N(x/s - s/2), with x = ln(F/K) <= 0
+  // b increases from 0 to exp(x/2), with an inflection point at sc = sqrt(2|x|)
+  private static double blackNormalizedTotalVolatility(double beta, double x) {
+    double bMax = Math.exp(x / 2d);
+    double sc = Math.sqrt(-2d * x);
+    double bc = x == 0d ? 0d : blackNormalizedPrice(x, sc);
+    // the tangent at the inflection point is below b for s < sc and above b for s > sc
+    double vc = INV_SQRT_2PI * bMax;
+    double sl = sc - bc / vc;
+    double bl = sl > 0d ? blackNormalizedPrice(x, sl) : 0d;
+    double su = sc + (bMax - bc) / vc;
+    double bu = blackNormalizedPrice(x, su);
+    double s;
+    if (beta < bl) {
+      // lower region, interpolating the asymptotic form b ~ N(-|x| / (sqrt(3) s))^3
+      double nl = NormalDistributionKernel.cdf(x / (ROOT3 * sl));
+      double z = NormalDistributionKernel.inverseCdf(nl * Math.cbrt(beta / bl));
+      s = x / (ROOT3 * z);
+    } else if (beta <= bu) {
+      // central region, using the tangent at the inflection point
+      s = sc + (beta - bc) / vc;
+    } else {
+      // upper region, interpolating the asymptotic form bMax - b ~ N(-s/2)
+      double nu = NormalDistributionKernel.cdf(-su / 2d);
+      s = -2d * NormalDistributionKernel.inverseCdf(nu * (bMax - beta) / (bMax - bu));
+    }
+    boolean lower = beta < bc;
+    // the objective is ln(b) in the lower region and ln(bMax - b) in the upper region
+    double target = lower ? Math.log(beta) : Math.log(bMax - beta);
+    for (int i = 0; i < MAX_ITERATIONS; i++) {
+      double d1 = x / s + s / 2d;
+      double d2 = x / s - s / 2d;
+      double value;
+      double sign;
+      if (lower) {
+        value = bMax * NormalDistributionKernel.cdf(d1) - NormalDistributionKernel.cdf(d2) / bMax;
+        sign = 1d;
+      } else {
+        value = bMax * NormalDistributionKernel.cdf(-d1) + NormalDistributionKernel.cdf(d2) / bMax;
+        sign = -1d;
+      }
+      // derivatives of b with respect to s, relative to the first derivative
+      double vega = INV_SQRT_2PI * Math.exp(-0.5 * (x * x / (s * s) + s * s / 4d));
+      double h2 = x * x / (s * s * s) - s / 4d;
+      double h3 = h2 * h2 - 3d * x * x / (s * s * s * s) - 0.25;
+      double previous = s;
+      s = householder(s, Math.log(value) - target, sign * vega / value, h2, h3);
+      if (Math.abs(s - previous) <= TOLERANCE * s) {
+        break;
+      }
+    }
+    return s;
+  }
+
+  // computes the normalized price of an out-of-the-money call
+  private static double blackNormalizedPrice(double x, double s) {
+    double bMax = Math.exp(x / 2d);
+    return bMax * NormalDistributionKernel.cdf(x / s + s / 2d) - NormalDistributionKernel.cdf(x / s - s / 2d) / bMax;
+  }
+
+  //-------------------------------------------------------------------------
+  // finds the normalized moneyness, z = |F - K| / (sigma * sqrt(T)), of the out-of-the-money option
+  // the price divided by |F - K| is h(z) = pdf(z) / z - N(-z), which decreases from infinity to zero
+  private static double normalNormalizedMoneyness(double eta) {
+    double z;
+    if (eta > NORMAL_TAIL_LIMIT) {
+      // close to the money, h(z) ~ 1 / (sqrt(2 pi) z) - 1/2
+      z = INV_SQRT_2PI / (eta + 0.5);
+    } else {
+      // far from the money, h(z) < pdf(z), thus solving pdf(z) = eta gives an upper bound
+      z = Math.sqrt(-2d * Math.log(eta / INV_SQRT_2PI));
+    }
+    // the objective is ln(h)
+    double target = Math.log(eta);
+    for (int i = 0; i < MAX_ITERATIONS; i++) {
+      double pdf = NormalDistributionKernel.pdf(z);
+      double value = pdf / z - NormalDistributionKernel.cdf(-z);
+      // derivatives of h with respect to z, relative to the first derivative
+      double z2 = z * z;
+      double derivative = -pdf / z2;
+      double h2 = -(z2 + 2d) / z;
+      double h3 = z2 + 3d + 6d / z2;
+      double previous = z;
+      z = householder(z, Math.log(value) - target, derivative / value, h2, h3);
+      if (Math.abs(z - previous) <= TOLERANCE * z) {
+        break;
+      }
+    }
+    return z;
+  }
+
+  //-------------------------------------------------------------------------
+  // performs a third order Householder step on the objective g = ln(f) - ln(target)
+  // g1 = f'/f is the first derivative of g, h2 = f''/f' and h3 = f'''/f' are the relative derivatives of f
+  // the step is never allowed to more than halve the value, which must remain positive
+  private static double householder(double value, double g, double g1, double h2, double h3) {
+    // relative derivatives of g, from those of f
+    double gh2 = h2 - g1;
+    double gh3 = h3 - 3d * g1 * h2 + 2d * g1 * g1;
+    double nu = -g / g1;
+    double step = nu * (1d + 0.5 * gh2 * nu) / (1d + nu * (gh2 + gh3 * nu / 6d));
+    double next = value + step;
+    return next > 0.5 * value ? next : 0.5 * value;
+  }
+
+}
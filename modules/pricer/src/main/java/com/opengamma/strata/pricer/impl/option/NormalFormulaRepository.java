@@ -13,8 +13,7 @@ import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.math.impl.rootfinding.BisectionSingleRootFinder;
 import com.opengamma.strata.math.impl.rootfinding.BracketRoot;
-import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
-import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistributionKernel;
 import com.opengamma.strata.product.common.PutCall;
 
 /**
@@ -22,10 +21,6 @@ import com.opengamma.strata.product.common.PutCall;
  */
 public final class NormalFormulaRepository {
 
-  /**
-   * The normal distribution implementation.
-   */
-  private static final ProbabilityDistribution<Double> DISTRIBUTION = new NormalDistribution(0, 1);
   /**
    * The comparison value used to determine near-zero.
    */
@@ -67,8 +62,8 @@ public final class NormalFormulaRepository {
       return (x > 0 ? x : 0d);
     }
     double arg = sign * (forward - strike) / sigmaRootT;
-    double cdf = DISTRIBUTION.getCDF(arg);
-    double pdf = DISTRIBUTION.getPDF(arg);
+    double cdf = NormalDistributionKernel.cdf(arg);
+    double pdf = NormalDistributionKernel.pdf(arg);
     return sign * (forward - strike) * cdf + sigmaRootT * pdf;
   }
 
@@ -112,8 +107,8 @@ public final class NormalFormulaRepository {
       price = (x > 0 ? numeraire * x : 0d);
     } else {
       arg = sign * (forward - strike) / sigmaRootT;
-      cdf = NormalFormulaRepository.DISTRIBUTION.getCDF(arg);
-      pdf = NormalFormulaRepository.DISTRIBUTION.getPDF(arg);
+      cdf = NormalDistributionKernel.cdf(arg);
+      pdf = NormalDistributionKernel.pdf(arg);
       price = numeraire * (sign * (forward - strike) * cdf + sigmaRootT * pdf);
     }
     // Implementation Note: Backward sweep.
@@ -138,6 +133,126 @@ public final class NormalFormulaRepository {
     return ValueDerivatives.of(price, DoubleArray.of(forwardDerivative, volatilityDerivative, strikeDerivative));
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the forward price of a number of options.
+   * <p>
+   * The result is the same as calling {@link #price(double, double, double, double, PutCall)} for each option.
+   * The calculation is a simple loop over the primitive arrays that allocates no objects, allowing the JIT
+   * compiler to inline and optimize the whole calculation.
+   * <p>
+   * Note that the 'numeraire' is a simple multiplier and is the responsibility of the caller.
+   * The output array may be the same as one of the input arrays.
+   * 
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param normalVols  the normal volatility of each option
+   * @param putCall  whether the options are puts or calls
+   * @param prices  the array to populate with the forward price of each option
+   * @throws IllegalArgumentException if the arrays have different lengths
+   */
+  public static void price(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] normalVols,
+      PutCall putCall,
+      double[] prices) {
+
+    int size = forwards.length;
+    ArgChecker.isTrue(
+        strikes.length == size && timesToExpiry.length == size && normalVols.length == size && prices.length == size,
+        "Arrays must have the same length");
+    int sign = putCall.isCall() ? 1 : -1;
+    for (int i = 0; i < size; i++) {
+      double sigmaRootT = normalVols[i] * Math.sqrt(timesToExpiry[i]);
+      double intrinsic = sign * (forwards[i] - strikes[i]);
+      if (sigmaRootT < NEAR_ZERO) {
+        prices[i] = (intrinsic > 0 ? intrinsic : 0d);
+      } else {
+        double arg = intrinsic / sigmaRootT;
+        prices[i] = intrinsic * NormalDistributionKernel.cdf(arg) + sigmaRootT * NormalDistributionKernel.pdf(arg);
+      }
+    }
+  }
+
+  /**
+   * Computes the price and first order derivatives of a number of options.
+   * <p>
+   * The result is the same as calling {@link #priceAdjoint(double, double, double, double, double, PutCall)}
+   * for each option. The calculation is a simple loop over the primitive arrays that allocates no objects,
+   * allowing the JIT compiler to inline and optimize the whole calculation.
+   * <p>
+   * The derivatives array has three rows, each with one element for each option.
+   * The rows are in the following order:
+   * <ul>
+   * <li>[0] derivative with respect to the forward
+   * <li>[1] derivative with respect to the volatility
+   * <li>[2] derivative with respect to the strike
+   * </ul>
+   * 
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param normalVols  the normal volatility of each option
+   * @param numeraires  the numeraire of each option
+   * @param putCall  whether the options are puts or calls
+   * @param prices  the array to populate with the price of each option
+   * @param derivatives  the array to populate with the derivatives of each option, with three rows
+   * @throws IllegalArgumentException if the arrays have different lengths
+   */
+  public static void priceAdjoint(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] normalVols,
+      double[] numeraires,
+      PutCall putCall,
+      double[] prices,
+      double[][] derivatives) {
+
+    int size = forwards.length;
+    ArgChecker.isTrue(
+        strikes.length == size && timesToExpiry.length == size && normalVols.length == size &&
+            numeraires.length == size && prices.length == size,
+        "Arrays must have the same length");
+    ArgChecker.isTrue(derivatives.length == 3, "Derivatives array must have 3 rows");
+    double[] forwardDerivatives = derivatives[0];
+    double[] volatilityDerivatives = derivatives[1];
+    double[] strikeDerivatives = derivatives[2];
+    ArgChecker.isTrue(
+        forwardDerivatives.length == size && volatilityDerivatives.length == size && strikeDerivatives.length == size,
+        "Derivatives array rows must have length {}", size);
+    int sign = putCall.isCall() ? 1 : -1;
+    for (int i = 0; i < size; i++) {
+      double numeraire = numeraires[i];
+      double rootT = Math.sqrt(timesToExpiry[i]);
+      double sigmaRootT = normalVols[i] * rootT;
+      double x = sign * (forwards[i] - strikes[i]);
+      if (sigmaRootT < NEAR_ZERO) {
+        prices[i] = (x > 0 ? numeraire * x : 0d);
+        double forwardDerivative = sign * (x > 0 ? numeraire : 0d);
+        forwardDerivatives[i] = forwardDerivative;
+        strikeDerivatives[i] = -forwardDerivative;
+        volatilityDerivatives[i] = 0d;
+      } else {
+        double arg = x / sigmaRootT;
+        double cdf = NormalDistributionKernel.cdf(arg);
+        double pdf = NormalDistributionKernel.pdf(arg);
+        prices[i] = numeraire * (x * cdf + sigmaRootT * pdf);
+        // backward sweep, as in the single option method
+        double cdfBar = numeraire * x;
+        double pdfBar = numeraire * sigmaRootT;
+        double argBar = pdf * cdfBar - pdf * arg * pdfBar;
+        double forwardDerivative = numeraire * sign * cdf + sign / sigmaRootT * argBar;
+        forwardDerivatives[i] = forwardDerivative;
+        strikeDerivatives[i] = -forwardDerivative;
+        volatilityDerivatives[i] = rootT * (-arg / sigmaRootT * argBar + numeraire * pdf);
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Computes the delta.
@@ -163,7 +278,7 @@ public final class NormalFormulaRepository {
       return x > 0 ? sign : 0d;
     }
     double arg = sign * (forward - strike) / sigmaRootT;
-    double cdf = DISTRIBUTION.getCDF(arg);
+    double cdf = NormalDistributionKernel.cdf(arg);
     return sign * cdf;
   }
 
@@ -189,7 +304,7 @@ public final class NormalFormulaRepository {
       return Math.abs(x) > NEAR_ZERO ? 0d : 1d / Math.sqrt(2d * Math.PI) / sigmaRootT;
     }
     double arg = (forward - strike) / sigmaRootT;
-    double pdf = DISTRIBUTION.getPDF(arg);
+    double pdf = NormalDistributionKernel.pdf(arg);
     return pdf / sigmaRootT;
   }
 
@@ -216,7 +331,7 @@ public final class NormalFormulaRepository {
       return Math.abs(x) > NEAR_ZERO ? 0d : -0.5 * normalVol / rootT / Math.sqrt(2d * Math.PI);
     }
     double arg = (forward - strike) / sigmaRootT;
-    double pdf = DISTRIBUTION.getPDF(arg);
+    double pdf = NormalDistributionKernel.pdf(arg);
     return -0.5 * pdf * normalVol / rootT;
   }
 
@@ -243,7 +358,7 @@ public final class NormalFormulaRepository {
       return Math.abs(x) > NEAR_ZERO ? 0d : rootT / Math.sqrt(2d * Math.PI);
     }
     double arg = (forward - strike) / sigmaRootT;
-    double pdf = DISTRIBUTION.getPDF(arg);
+    double pdf = NormalDistributionKernel.pdf(arg);
     return pdf * rootT;
   }
 
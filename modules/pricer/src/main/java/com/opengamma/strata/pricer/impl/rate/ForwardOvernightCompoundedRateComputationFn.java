@@ -6,6 +6,7 @@
 package com.opengamma.strata.pricer.impl.rate;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.OptionalDouble;
 
 import com.opengamma.strata.basics.date.DayCount;
@@ -124,32 +125,55 @@ public class ForwardOvernightCompoundedRateComputationFn
     }
 
     // Composition - publication strictly before valuation date: try accessing fixing time-series
+    // the fixing dates are determined first, then the fixings are obtained in bulk from the time-series
     private double pastCompositionFactor() {
-      double compositionFactor = 1.0d;
+      LocalDate valuationDate = rates.getValuationDate();
+      int maxFixings = (int) Math.max(lastFixingNonCutoff.toEpochDay() - firstFixing.toEpochDay() + 1, 0);
+      LocalDate[] fixingDates = new LocalDate[maxFixings];
+      double[] accrualFactors = new double[maxFixings];
+      int fixingCount = 0;
       LocalDate currentFixing = firstFixing;
       LocalDate currentPublication = computation.calculatePublicationFromFixing(currentFixing);
       while ((currentFixing.isBefore(lastFixingNonCutoff)) && // fixing in the non-cutoff period
-          rates.getValuationDate().isAfter(currentPublication)) { // publication before valuation
+          valuationDate.isAfter(currentPublication)) { // publication before valuation
         LocalDate effectiveDate = computation.calculateEffectiveFromFixing(currentFixing);
         LocalDate maturityDate = computation.calculateMaturityFromEffective(effectiveDate);
-        double accrualFactor = dayCount.yearFraction(effectiveDate, maturityDate);
-        compositionFactor *= 1.0d + accrualFactor * checkedFixing(currentFixing, indexFixingDateSeries, computation.getIndex());
+        fixingDates[fixingCount] = currentFixing;
+        accrualFactors[fixingCount] = dayCount.yearFraction(effectiveDate, maturityDate);
+        fixingCount++;
         currentFixing = computation.getFixingCalendar().next(currentFixing);
         currentPublication = computation.calculatePublicationFromFixing(currentFixing);
       }
-      if (currentFixing.equals(lastFixingNonCutoff) && // fixing is on the last non-cutoff date, cutoff period known
-          rates.getValuationDate().isAfter(currentPublication)) { // publication before valuation
-        double rate = checkedFixing(currentFixing, indexFixingDateSeries, computation.getIndex());
+      boolean cutoffFixed = currentFixing.equals(lastFixingNonCutoff) && // fixing is on the last non-cutoff date
+          valuationDate.isAfter(currentPublication); // publication before valuation
+      if (cutoffFixed) {
         LocalDate effectiveDate = computation.calculateEffectiveFromFixing(currentFixing);
         LocalDate maturityDate = computation.calculateMaturityFromEffective(effectiveDate);
-        double accrualFactor = dayCount.yearFraction(effectiveDate, maturityDate);
-        compositionFactor *= 1.0d + accrualFactor * rate;
+        fixingDates[fixingCount] = currentFixing;
+        accrualFactors[fixingCount] = dayCount.yearFraction(effectiveDate, maturityDate);
+        fixingCount++;
+        currentFixing = computation.getFixingCalendar().next(currentFixing);
+      }
+      nextFixing = currentFixing;
+      if (fixingCount == 0) {
+        return 1.0d;
+      }
+      // obtain the fixings in a single pass and compound them
+      LocalDate[] requestedDates = fixingCount == maxFixings ? fixingDates : Arrays.copyOf(fixingDates, fixingCount);
+      double[] fixedRates = new double[fixingCount];
+      if (indexFixingDateSeries.getInto(requestedDates, fixedRates) < fixingCount) {
+        throw missingFixing(requestedDates, fixedRates, computation.getIndex());
+      }
+      double compositionFactor = 1.0d;
+      for (int i = 0; i < fixingCount; i++) {
+        compositionFactor *= 1.0d + accrualFactors[i] * fixedRates[i];
+      }
+      if (cutoffFixed) {
+        double rate = fixedRates[fixingCount - 1];
         for (int i = 0; i < cutoffOffset - 1; i++) {
           compositionFactor *= 1.0d + accrualFactorCutoff[i] * rate;
         }
-        currentFixing = computation.getFixingCalendar().next(currentFixing);
       }
-      nextFixing = currentFixing;
       return compositionFactor;
     }
 
@@ -261,15 +285,18 @@ public class ForwardOvernightCompoundedRateComputationFn
       return combinedPointSensitivity;
     }
 
-    // Check that the fixing is present. Throws an exception if not and return the rate as double.
-    private static double checkedFixing(
-        LocalDate currentFixingTs,
-        LocalDateDoubleTimeSeries indexFixingDateSeries,
+    // Create the exception for the first fixing that is not present.
+    private static PricingException missingFixing(
+        LocalDate[] fixingDates,
+        double[] fixedRates,
         OvernightIndex index) {
 
-      OptionalDouble fixedRate = indexFixingDateSeries.get(currentFixingTs);
-      return fixedRate.orElseThrow(() -> new PricingException(
-          "Could not get fixing value of index " + index.getName() + " for date " + currentFixingTs));
+      int i = 0;
+      while (i < fixingDates.length - 1 && !Double.isNaN(fixedRates[i])) {
+        i++;
+      }
+      return new PricingException(
+          "Could not get fixing value of index " + index.getName() + " for date " + fixingDates[i]);
     }
   }
 
@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate.model;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * A batch of paths of the Hull-White one factor model, simulated by {@link HullWhiteMonteCarloSimulator}.
+ * <p>
+ * The paths are expressed in the forward measure associated to the numeraire, the zero-coupon bond maturing
+ * at the last simulation time $T_N$. The state $X(t)$ is a Gaussian martingale with variance $V(t)$.
+ * With $h(u) = (e^{-a u} - e^{-a T_N}) / a$, or $h(u) = T_N - u$ if the mean reversion is zero, the price at time $t$ of the zero-coupon bond maturing at $u$ is
+ * $$
+ * P(t,u) = \frac{P(0,u)}{P(0,t)} \exp\left((h(u) - h(t)) X(t) - \frac{1}{2}(h(u)^2 - h(t)^2) V(t)\right)
+ * $$
+ * The <i>deflated</i> value of an amount at time $t$ is the amount multiplied by the deflator
+ * $D(t) = P(0,T_N) / P(t,T_N)$, such that the present value is the expected deflated value.
+ * <p>
+ * The forward rates are computed with a deterministic multiplicative spread between the forward and the
+ * discount curves, as in the cash flow equivalent of the swaps.
+ * <p>
+ * The methods populate arrays with one value per path, each array of size at least the number of paths.
+ * The paths of the batch are contiguous in memory for each time, thus the loops over the paths are simple.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class HullWhiteMonteCarloPaths {
+
+  /**
+   * The mean reversion.
+   */
+  private final double meanReversion;
+  /**
+   * The simulation times.
+   */
+  private final double[] times;
+  /**
+   * The variance of the state at each time.
+   */
+  private final double[] variances;
+  /**
+   * The state, by time then by path.
+   */
+  private final double[][] states;
+  /**
+   * The last simulation time $T_N$, the maturity of the numeraire.
+   */
+  private final double numeraireTime;
+
+  /**
+   * Creates an instance.
+   *
+   * @param meanReversion  the mean reversion
+   * @param times  the simulation times
+   * @param variances  the variance of the state at each time
+   * @param states  the state, by time then by path
+   */
+  HullWhiteMonteCarloPaths(double meanReversion, double[] times, double[] variances, double[][] states) {
+    this.meanReversion = meanReversion;
+    this.times = times;
+    this.variances = variances;
+    this.states = states;
+    this.numeraireTime = times[times.length - 1];
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of paths in the batch.
+   *
+   * @return the number of paths
+   */
+  public int getPathCount() {
+    return states[0].length;
+  }
+
+  /**
+   * Gets the simulation times.
+   *
+   * @return the times
+   */
+  public DoubleArray getTimes() {
+    return DoubleArray.copyOf(times);
+  }
+
+  /**
+   * Gets the state of the paths at a simulation time.
+   *
+   * @param timeIndex  the index of the simulation time
+   * @return the state of each path
+   */
+  public DoubleArray getStates(int timeIndex) {
+    return DoubleArray.copyOf(states[timeIndex]);
+  }
+
+  /**
+   * Gets the variance of the state at a simulation time.
+   *
+   * @param timeIndex  the index of the simulation time
+   * @return the variance
+   */
+  public double getStateVariance(int timeIndex) {
+    return variances[timeIndex];
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the deflated discount factors at a simulation time.
+   * <p>
+   * This is the deflated value at the simulation time of the zero-coupon bond maturing at the maturity time,
+   * a martingale whose expectation is the discount factor at the valuation date.
+   * With the maturity at the simulation time, this is the deflator.
+   *
+   * @param timeIndex  the index of the simulation time
+   * @param maturityTime  the maturity time of the bond
+   * @param discountFactor  the discount factor at the valuation date for the maturity
+   * @param result  the array to populate with the deflated discount factors
+   */
+  public void deflatedDiscountFactors(int timeIndex, double maturityTime, double discountFactor, double[] result) {
+    double h = bondFactor(maturityTime);
+    exponential(timeIndex, h, -0.5d * h * h * variances[timeIndex], discountFactor, result);
+  }
+
+  /**
+   * Computes the discount factors at a simulation time.
+   *
+   * @param timeIndex  the index of the simulation time
+   * @param maturityTime  the maturity time of the bond
+   * @param forwardDiscountFactor  the forward discount factor at the valuation date, between the simulation
+   *   time and the maturity time
+   * @param result  the array to populate with the discount factors
+   */
+  public void discountFactors(int timeIndex, double maturityTime, double forwardDiscountFactor, double[] result) {
+    double hTime = bondFactor(times[timeIndex]);
+    double hMaturity = bondFactor(maturityTime);
+    exponential(
+        timeIndex,
+        hMaturity - hTime,
+        -0.5d * (hMaturity * hMaturity - hTime * hTime) * variances[timeIndex],
+        forwardDiscountFactor,
+        result);
+  }
+
+  /**
+   * Computes the simply compounded forward rates at a simulation time.
+   * <p>
+   * This applies to Ibor rates and to overnight compounded rates over a period starting after the simulation time.
+   * The ratio between the forward rate and the discount curve is constant.
+   *
+   * @param timeIndex  the index of the simulation time
+   * @param startTime  the start time of the period
+   * @param endTime  the end time of the period
+   * @param yearFraction  the year fraction of the period
+   * @param forwardRate  the forward rate at the valuation date
+   * @param result  the array to populate with the forward rates
+   */
+  public void forwardRates(
+      int timeIndex,
+      double startTime,
+      double endTime,
+      double yearFraction,
+      double forwardRate,
+      double[] result) {
+
+    double hStart = bondFactor(startTime);
+    double hEnd = bondFactor(endTime);
+    exponential(
+        timeIndex,
+        hStart - hEnd,
+        -0.5d * (hStart * hStart - hEnd * hEnd) * variances[timeIndex],
+        1d + yearFraction * forwardRate,
+        result);
+    int nbPaths = states[timeIndex].length;
+    for (int i = 0; i < nbPaths; i++) {
+      result[i] = (result[i] - 1d) / yearFraction;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // the factor h(u) of the bond maturing at u, which tends to T_N - u as the mean reversion tends to zero
+  private double bondFactor(double time) {
+    double tau = numeraireTime - time;
+    if (meanReversion == 0d) {
+      return tau;
+    }
+    return -Math.exp(-meanReversion * time) * Math.expm1(-meanReversion * tau) / meanReversion;
+  }
+
+  // computes scale * exp(slope * X + intercept) for each path
+  private void exponential(int timeIndex, double slope, double intercept, double scale, double[] result) {
+    double[] state = states[timeIndex];
+    for (int i = 0; i < state.length; i++) {
+      result[i] = scale * Math.exp(slope * state[i] + intercept);
+    }
+  }
+
+}
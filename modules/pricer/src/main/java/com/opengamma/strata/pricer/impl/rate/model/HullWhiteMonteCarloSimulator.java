@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate.model;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.impl.random.BrownianBridge;
+import com.opengamma.strata.math.impl.random.SobolSequence;
+import com.opengamma.strata.math.impl.random.SplittableNormalRandomNumberGenerator;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+
+/**
+ * Monte Carlo simulator for the Hull-White one factor model with piecewise constant volatility.
+ * <p>
+ * The paths are simulated in the forward measure associated to the zero-coupon bond maturing at the last time
+ * of the simulation. In this measure, the state $X(t) = \int_0^t \sigma(s) e^{a s} dW(s)$ is a Gaussian martingale
+ * and all the bond prices are explicit functions of it, see {@link HullWhiteMonteCarloPaths}.
+ * The state is simulated exactly on the times, thus there is no discretization error.
+ * <p>
+ * The paths are generated by batches of at most {@value #BATCH_SIZE} paths, which are processed in parallel
+ * in the fork-join common pool. Each batch has its own stream of numbers: either a generator split in order
+ * from a seeded {@link SplittableNormalRandomNumberGenerator}, or a block of consecutive points of a
+ * {@link SobolSequence}, with a {@link BrownianBridge} construction of the paths. The paths, and the results
+ * computed from them, thus do not depend on the number of threads.
+ * <p>
+ * The mean reversion may be zero, in which case the model is the Ho-Lee model.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class HullWhiteMonteCarloSimulator {
+
+  /**
+   * The maximum number of paths in a batch.
+   */
+  public static final int BATCH_SIZE = 1024;
+
+  /**
+   * The number of paths.
+   */
+  private final int pathCount;
+  /**
+   * The seed of the pseudo-random numbers, not used for the Sobol sequence.
+   */
+  private final long seed;
+  /**
+   * Whether the Sobol sequence is used.
+   */
+  private final boolean sobol;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a simulator using pseudo-random numbers.
+   *
+   * @param pathCount  the number of paths
+   * @param seed  the seed of the pseudo-random numbers
+   * @return the simulator
+   */
+  public static HullWhiteMonteCarloSimulator ofPseudoRandom(int pathCount, long seed) {
+    return new HullWhiteMonteCarloSimulator(pathCount, seed, false);
+  }
+
+  /**
+   * Obtains a simulator using the Sobol low-discrepancy sequence.
+   * <p>
+   * The dimension of the sequence is the number of simulation times, which is limited to 1000.
+   * The paths are built using a Brownian bridge, thus the first dimensions of the sequence, which have the best
+   * uniformity, determine most of the variance of the paths.
+   * The bridge only spans the times at which the variance of the state increases. The state at the other times,
+   * such as time zero or times in a period of zero volatility, is the state at the previous time, and they do not
+   * use a dimension of the sequence.
+   *
+   * @param pathCount  the number of paths
+   * @return the simulator
+   */
+  public static HullWhiteMonteCarloSimulator ofSobol(int pathCount) {
+    return new HullWhiteMonteCarloSimulator(pathCount, 0L, true);
+  }
+
+  // restricted constructor
+  private HullWhiteMonteCarloSimulator(int pathCount, long seed, boolean sobol) {
+    ArgChecker.notNegativeOrZero(pathCount, "pathCount");
+    this.pathCount = pathCount;
+    this.seed = seed;
+    this.sobol = sobol;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of paths.
+   *
+   * @return the number of paths
+   */
+  public int getPathCount() {
+    return pathCount;
+  }
+
+  /**
+   * Simulates the paths.
+   * <p>
+   * The batches of paths are returned in order.
+   *
+   * @param parameters  the Hull-White model parameters
+   * @param times  the simulation times, non-negative and strictly increasing
+   * @return the batches of paths
+   */
+  public List<HullWhiteMonteCarloPaths> simulate(HullWhiteOneFactorPiecewiseConstantParameters parameters, DoubleArray times) {
+    return simulate(parameters, times, Function.identity());
+  }
+
+  /**
+   * Simulates the paths and applies a function to each batch of paths.
+   * <p>
+   * The batches are simulated and processed in parallel, without keeping all the paths in memory.
+   * The results of the function are returned in the order of the batches.
+   *
+   * @param <T>  the type of the result of the function
+   * @param parameters  the Hull-White model parameters
+   * @param times  the simulation times, non-negative and strictly increasing
+   * @param batchFunction  the function to apply to each batch of paths
+   * @return the results of the function for each batch
+   */
+  public <T> List<T> simulate(
+      HullWhiteOneFactorPiecewiseConstantParameters parameters,
+      DoubleArray times,
+      Function<HullWhiteMonteCarloPaths, T> batchFunction) {
+
+    ArgChecker.notNull(parameters, "parameters");
+    ArgChecker.notNull(times, "times");
+    ArgChecker.notNull(batchFunction, "batchFunction");
+    int nbTimes = times.size();
+    ArgChecker.isTrue(nbTimes > 0, "times must not be empty");
+    double[] t = times.toArray();
+    ArgChecker.isTrue(t[0] >= 0d, "times must not be negative");
+    for (int i = 1; i < nbTimes; i++) {
+      ArgChecker.isTrue(t[i] > t[i - 1], "times must be strictly increasing");
+    }
+    double[] variances = new double[nbTimes];
+    for (int i = 0; i < nbTimes; i++) {
+      variances[i] = stateVariance(parameters, t[i]);
+    }
+    // the bridge is built over the times where the variance increases, such as all times except zero
+    // the state is unchanged at the other times, as the volatility is zero since the previous time
+    int[] bridgeIndices = IntStream.range(0, nbTimes)
+        .filter(i -> variances[i] > (i == 0 ? 0d : variances[i - 1]))
+        .toArray();
+    int nbBridgeTimes = bridgeIndices.length;
+    double[] bridgeVariances = new double[nbBridgeTimes];
+    for (int i = 0; i < nbBridgeTimes; i++) {
+      bridgeVariances[i] = variances[bridgeIndices[i]];
+    }
+    boolean bridged = sobol && nbBridgeTimes > 0;
+    BrownianBridge bridge = bridged ? BrownianBridge.of(DoubleArray.ofUnsafe(bridgeVariances)) : null;
+    SobolSequence sequence = bridged ? SobolSequence.of(nbBridgeTimes) : null;
+    int nbBatches = (pathCount + BATCH_SIZE - 1) / BATCH_SIZE;
+    List<SplittableNormalRandomNumberGenerator> generators =
+        sobol ? ImmutableList.of() : SplittableNormalRandomNumberGenerator.of(seed).split(nbBatches);
+    return IntStream.range(0, nbBatches)
+        .parallel()
+        .mapToObj(batch -> {
+          int start = batch * BATCH_SIZE;
+          int size = Math.min(BATCH_SIZE, pathCount - start);
+          double[][] states = new double[nbTimes][size];
+          if (sobol && !bridged) {
+            // the state is zero at all times
+            return batchFunction.apply(
+                new HullWhiteMonteCarloPaths(parameters.getMeanReversion(), t, variances, states));
+          }
+          double[] normals = new double[nbTimes];
+          double[] path = new double[nbTimes];
+          SobolSequence batchSequence = bridged ? sequence.startingAt(start) : null;
+          for (int i = 0; i < size; i++) {
+            if (bridged) {
+              batchSequence.nextNormal(normals);
+              bridge.path(normals, path);
+              double state = 0d;
+              for (int k = 0, b = 0; k < nbTimes; k++) {
+                if (b < nbBridgeTimes && bridgeIndices[b] == k) {
+                  state = path[b++];
+                }
+                states[k][i] = state;
+              }
+            } else {
+              generators.get(batch).fill(normals);
+              double state = 0d;
+              for (int k = 0; k < nbTimes; k++) {
+                state += Math.sqrt(variances[k] - (k == 0 ? 0d : variances[k - 1])) * normals[k];
+                states[k][i] = state;
+              }
+            }
+          }
+          return batchFunction.apply(
+              new HullWhiteMonteCarloPaths(parameters.getMeanReversion(), t, variances, states));
+        })
+        .collect(Collectors.toList());
+  }
+
+  //-------------------------------------------------------------------------
+  // the variance of the state, the integral of sigma^2(s) exp(2 a s) from 0 to the time
+  private static double stateVariance(HullWhiteOneFactorPiecewiseConstantParameters parameters, double time) {
+    double a = parameters.getMeanReversion();
+    DoubleArray volatility = parameters.getVolatility();
+    DoubleArray volatilityTime = parameters.getVolatilityTime();
+    double variance = 0d;
+    for (int i = 0; i < volatility.size() && volatilityTime.get(i) < time; i++) {
+      double start = volatilityTime.get(i);
+      double end = Math.min(time, volatilityTime.get(i + 1));
+      double sigma = volatility.get(i);
+      // the integral of exp(2 a s) from start to end, which is the length of the interval when a is zero
+      double integral = a == 0d ?
+          end - start :
+          Math.exp(2d * a * start) * Math.expm1(2d * a * (end - start)) / (2d * a);
+      variance += sigma * sigma * integral;
+    }
+    return variance;
+  }
+
+}
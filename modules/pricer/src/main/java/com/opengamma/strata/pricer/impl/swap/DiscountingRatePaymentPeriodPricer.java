@@ -28,6 +28,7 @@ import com.opengamma.strata.product.swap.CompoundingMethod;
 import com.opengamma.strata.product.swap.FxReset;
 import com.opengamma.strata.product.swap.RateAccrualPeriod;
 import com.opengamma.strata.product.swap.RatePaymentPeriod;
+import com.opengamma.strata.product.swap.RatePaymentPeriodArray;
 
 /**
  * Pricer implementation for swap payment periods based on a rate.
@@ -75,6 +76,44 @@ public class DiscountingRatePaymentPeriodPricer
     return accrualWithNotional(period, notional, provider);
   }
 
+  /**
+   * Calculates the present value of the payment periods in the compact view.
+   * <p>
+   * The amount is expressed in the currency of the periods.
+   * This returns the sum of the values of the periods with discounting, where the payment date
+   * is on or after the valuation date, as per {@link #presentValue(RatePaymentPeriod, RatesProvider)}.
+   * The dates are handled as epoch-days, with dates only created when calling the rate computation function.
+   * 
+   * @param periods  the periods to price
+   * @param provider  the rates provider
+   * @return the present value of the periods
+   */
+  public double presentValue(RatePaymentPeriodArray periods, RatesProvider provider) {
+    DiscountFactors discountFactors = provider.discountFactors(periods.getCurrency());
+    long valuationDate = provider.getValuationDate().toEpochDay();
+    double total = 0d;
+    for (int i = 0; i < periods.size(); i++) {
+      int paymentDate = periods.getPaymentDate(i);
+      if (paymentDate >= valuationDate) {
+        double df = discountFactors.discountFactor(discountFactors.relativeYearFraction(paymentDate));
+        total += forecastValue(periods, i, provider) * df;
+      }
+    }
+    return total;
+  }
+
+  // the forecast value of a single period in the compact view
+  private double forecastValue(RatePaymentPeriodArray periods, int index, RatesProvider provider) {
+    double rawRate = rateComputationFn.rate(
+        periods.getRateComputation(index),
+        LocalDate.ofEpochDay(periods.getStartDate(index)),
+        LocalDate.ofEpochDay(periods.getEndDate(index)),
+        provider);
+    double treatedRate = rawRate * periods.getGearing(index) + periods.getSpread(index);
+    double unitAccrual = periods.getNegativeRateMethod(index).adjust(treatedRate * periods.getYearFraction(index));
+    return unitAccrual * periods.getNotional(index);
+  }
+
   @Override
   public double pvbp(RatePaymentPeriod paymentPeriod, RatesProvider provider) {
     ArgChecker.isTrue(!paymentPeriod.getFxReset().isPresent(), "FX reset is not supported");
@@ -25,6 +25,7 @@ import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.product.common.PutCall;
 
 /**
@@ -85,6 +86,24 @@ public final class EuropeanVanillaOptionFunction
     return DoubleArray.ofUnsafe(values);
   }
 
+  @Override
+  public void getNextOptionValues(
+      double discountFactor,
+      DoubleMatrix transitionProbability,
+      DoubleArray stateValue,
+      double[] value,
+      double[] result,
+      int i) {
+
+    int nNodes = 2 * i + 1;
+    double[][] probability = transitionProbability.toArrayUnsafe();
+    for (int j = 0; j < nNodes; ++j) {
+      double[] probabilityAtNode = probability[j];
+      result[j] = discountFactor * (probabilityAtNode[2] * value[j + 2] +
+          probabilityAtNode[1] * value[j + 1] + probabilityAtNode[0] * value[j]);
+    }
+  }
+
   //------------------------- AUTOGENERATED START -------------------------
   ///CLOVER:OFF
   /**
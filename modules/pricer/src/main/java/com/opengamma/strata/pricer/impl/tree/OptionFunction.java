@@ -131,4 +131,34 @@ public interface OptionFunction {
         transitionProbability.get(j, 1) * value.get(j + 1) + transitionProbability.get(j, 0) * value.get(j)));
   }
 
+  /**
+   * Computes the option values in the intermediate nodes, writing them into the specified array.
+   * <p>
+   * This is equivalent to {@link #getNextOptionValues(double, DoubleMatrix, DoubleArray, DoubleArray, int)}
+   * and is used by {@link TrinomialTree} for backward induction with two preallocated arrays.
+   * The first (2*i+3) elements of {@code value} are read and the first (2*i+1) elements of {@code result}
+   * are overwritten. The two arrays must be distinct.
+   * <p>
+   * The default implementation delegates to the method returning {@code DoubleArray} and copies the result.
+   * An option overriding that method should also override this one to avoid the allocation.
+   *
+   * @param discountFactor  the discount factor between the two layers
+   * @param transitionProbability  the transition probability
+   * @param stateValue  the state value
+   * @param value  the option values in the (i+1)-th layer
+   * @param result  the array to which the option values in the i-th layer are written
+   * @param i  the step number for which the next option values are computed
+   */
+  public default void getNextOptionValues(
+      double discountFactor,
+      DoubleMatrix transitionProbability,
+      DoubleArray stateValue,
+      double[] value,
+      double[] result,
+      int i) {
+
+    DoubleArray layerValue = DoubleArray.copyOf(value, 0, 2 * i + 3);
+    getNextOptionValues(discountFactor, transitionProbability, stateValue, layerValue, i).copyInto(result, 0);
+  }
+
 }
@@ -97,36 +97,48 @@ abstract class SingleBarrierKnockoutFunction implements OptionFunction {
       DoubleArray values,
       int i) {
 
+    double[] res = new double[2 * i + 1];
+    getNextOptionValues(discountFactor, transitionProbability, stateValue, values.toArrayUnsafe(), res, i);
+    return DoubleArray.ofUnsafe(res);
+  }
+
+  @Override
+  public void getNextOptionValues(
+      double discountFactor,
+      DoubleMatrix transitionProbability,
+      DoubleArray stateValue,
+      double[] values,
+      double[] res,
+      int i) {
+
     int nNodes = 2 * i + 1;
-    double[] res = new double[nNodes];
+    double[][] probability = transitionProbability.toArrayUnsafe();
+    double[] state = stateValue.toArrayUnsafe();
     double barrierLevel = getBarrierLevel(i);
     double rebate = getRebate(i);
     boolean isDown = getBarrierType().isDown();
     for (int j = 0; j < nNodes; ++j) {
-      if ((isDown && stateValue.get(j) <= barrierLevel) ||
-          (!isDown && stateValue.get(j) >= barrierLevel)) {
+      if ((isDown && state[j] <= barrierLevel) ||
+          (!isDown && state[j] >= barrierLevel)) {
         res[j] = rebate;
       } else {
-        double upProb = transitionProbability.get(j, 2);
-        double middleProb = transitionProbability.get(j, 1);
-        double downProb = transitionProbability.get(j, 0);
-        res[j] = discountFactor *
-            (upProb * values.get(j + 2) + middleProb * values.get(j + 1) + downProb * values.get(j));
+        double[] probabilityAtNode = probability[j];
+        res[j] = discountFactor * (probabilityAtNode[2] * values[j + 2] +
+            probabilityAtNode[1] * values[j + 1] + probabilityAtNode[0] * values[j]);
       }
     }
     // modification if barrier lies between two consecutive nodes 
     int index = getLowerBoundIndex(stateValue, barrierLevel);
     if (index > -1 && index < nNodes - 1) {
-      double bd = barrierLevel - stateValue.get(index);
-      double ub = stateValue.get(index + 1) - barrierLevel;
-      double ud = stateValue.get(index + 1) - stateValue.get(index);
+      double bd = barrierLevel - state[index];
+      double ub = state[index + 1] - barrierLevel;
+      double ud = state[index + 1] - state[index];
       if (isDown) {
         res[index + 1] = 0.5 * res[index + 1] + 0.5 * (bd * rebate + ub * res[index + 1]) / ud;
       } else {
         res[index] = 0.5 * res[index] + 0.5 * (ub * rebate + bd * res[index]) / ud;
       }
     }
-    return DoubleArray.ofUnsafe(res);
   }
 
   //-------------------------------------------------------------------------
@@ -5,9 +5,13 @@
  */
 package com.opengamma.strata.pricer.impl.tree;
 
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.pricer.fxopt.RecombiningTrinomialTreeData;
 
 /**
@@ -17,6 +21,8 @@ import com.opengamma.strata.pricer.fxopt.RecombiningTrinomialTreeData;
  * and the option to price is specified by {@code OptionFunction}. 
  * <p>
  * Option pricing with non-uniform tree is realised by specifying {@code RecombiningTrinomialTreeData}.
+ * The backward induction on such a tree uses two preallocated arrays per option, and several options
+ * on the same tree can be priced in a single sweep.
  */
 public class TrinomialTree {
 
@@ -76,14 +82,24 @@ public class TrinomialTree {
       OptionFunction function,
       RecombiningTrinomialTreeData data) {
 
-    int nSteps = data.getNumberOfSteps();
-    ArgChecker.isTrue(nSteps == function.getNumberOfSteps(), "mismatch in number of steps");
-    DoubleArray values = function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps));
-    for (int i = nSteps - 1; i > -1; --i) {
-      values = function.getNextOptionValues(
-          data.getDiscountFactorAtLayer(i), data.getProbabilityAtLayer(i), data.getStateValueAtLayer(i), values, i);
-    }
-    return values.get(0);
+    return optionPrice(ImmutableList.of(function), data).get(0);
+  }
+
+  /**
+   * Price several options under the specified trinomial tree gird.
+   * <p>
+   * The options are priced in a single backward sweep over the tree.
+   * 
+   * @param functions  the options
+   * @param data  the trinomial tree data
+   * @return the option prices, in the order of the options
+   */
+  public DoubleArray optionPrice(
+      List<? extends OptionFunction> functions,
+      RecombiningTrinomialTreeData data) {
+
+    double[][] values = backwardInduction(functions, data, null);
+    return DoubleArray.of(values.length, k -> values[k][0]);
   }
 
   /**
@@ -100,21 +116,74 @@ public class TrinomialTree {
       OptionFunction function,
       RecombiningTrinomialTreeData data) {
 
+    return optionPriceAdjoint(ImmutableList.of(function), data).get(0);
+  }
+
+  /**
+   * Compute option prices and deltas of several options under the specified trinomial tree gird.
+   * <p>
+   * The options are priced in a single backward sweep over the tree.
+   * The delta is the first derivative of the price with respect to spot, and approximated by the data embedded in 
+   * the trinomial tree.
+   * 
+   * @param functions  the options
+   * @param data  the trinomial tree data
+   * @return the option prices and spot deltas, in the order of the options
+   */
+  public List<ValueDerivatives> optionPriceAdjoint(
+      List<? extends OptionFunction> functions,
+      RecombiningTrinomialTreeData data) {
+
+    double[] delta = new double[functions.size()];
+    double[][] values = backwardInduction(functions, data, delta);
+    ImmutableList.Builder<ValueDerivatives> builder = ImmutableList.builder();
+    for (int k = 0; k < values.length; ++k) {
+      builder.add(ValueDerivatives.of(values[k][0], DoubleArray.of(delta[k])));
+    }
+    return builder.build();
+  }
+
+  //-------------------------------------------------------------------------
+  // backward induction of the options from expiry to the root of the tree, the layers being processed one by one
+  // each option uses two arrays of the size of the final layer, swapped at each step
+  // the delta at layer 1 is computed if the delta array is not null
+  private double[][] backwardInduction(
+      List<? extends OptionFunction> functions,
+      RecombiningTrinomialTreeData data,
+      double[] delta) {
+
     int nSteps = data.getNumberOfSteps();
-    ArgChecker.isTrue(nSteps == function.getNumberOfSteps(), "mismatch in number of steps");
-    DoubleArray values = function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps));
-    double delta = 0d;
+    int nOptions = functions.size();
+    int nNodes = 2 * nSteps + 1;
+    double[][] values = new double[nOptions][nNodes];
+    double[][] buffers = new double[nOptions][nNodes];
+    DoubleArray stateValueAtExpiry = data.getStateValueAtLayer(nSteps);
+    for (int k = 0; k < nOptions; ++k) {
+      OptionFunction function = functions.get(k);
+      ArgChecker.isTrue(nSteps == function.getNumberOfSteps(), "mismatch in number of steps");
+      function.getPayoffAtExpiryTrinomial(stateValueAtExpiry).copyInto(values[k], 0);
+    }
     for (int i = nSteps - 1; i > -1; --i) {
-      values = function.getNextOptionValues(
-          data.getDiscountFactorAtLayer(i), data.getProbabilityAtLayer(i), data.getStateValueAtLayer(i), values, i);
-      if (i == 1) {
-        DoubleArray stateValue = data.getStateValueAtLayer(1);
-        double d1 = (values.get(2) - values.get(1)) / (stateValue.get(2) - stateValue.get(1));
-        double d2 = (values.get(1) - values.get(0)) / (stateValue.get(1) - stateValue.get(0));
-        delta = 0.5 * (d1 + d2);
+      double discountFactor = data.getDiscountFactorAtLayer(i);
+      DoubleMatrix probability = data.getProbabilityAtLayer(i);
+      DoubleArray stateValue = data.getStateValueAtLayer(i);
+      for (int k = 0; k < nOptions; ++k) {
+        functions.get(k).getNextOptionValues(discountFactor, probability, stateValue, values[k], buffers[k], i);
+        double[] next = buffers[k];
+        buffers[k] = values[k];
+        values[k] = next;
+      }
+      if (i == 1 && delta != null) {
+        double[] state = stateValue.toArrayUnsafe();
+        for (int k = 0; k < nOptions; ++k) {
+          double[] value = values[k];
+          double d1 = (value[2] - value[1]) / (state[2] - state[1]);
+          double d2 = (value[1] - value[0]) / (state[1] - state[0]);
+          delta[k] = 0.5 * (d1 + d2);
+        }
       }
     }
-    return ValueDerivatives.of(values.get(0), DoubleArray.of(delta));
+    return values;
   }
 
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.market.param.ParameterPerturbation;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.EpochDayDoubleCache;
+
+/**
+ * Ibor index rates that memoise the forward rate lookups of an underlying instance.
+ * <p>
+ * This decorates another {@link IborIndexRates}, caching the rate of each fixing date that is queried.
+ * This is useful when many trades are priced against the same instance and observe the same fixing dates.
+ * <p>
+ * The rate is cached by fixing date, thus the observations must be derived from the fixing date,
+ * as is the case for observations created by {@link IborIndexObservation#of}.
+ * Fixing dates from the valuation date up to the cache size in days are cached.
+ * Perturbed instances, created by {@code withParameter} or {@code withPerturbation},
+ * are not cached.
+ */
+public final class CachingIborIndexRates
+    implements IborIndexRates {
+
+  /**
+   * The underlying rates.
+   */
+  private final IborIndexRates underlying;
+  /**
+   * The cache of rates.
+   */
+  private final EpochDayDoubleCache rates;
+  /**
+   * The cache of rates ignoring fixings.
+   */
+  private final EpochDayDoubleCache ratesIgnoringFixings;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that caches the lookups of the underlying rates.
+   * <p>
+   * If the underlying instance is already caching, it is returned unaltered.
+   *
+   * @param underlying  the underlying rates
+   * @param cacheSize  the number of days from the valuation date to cache
+   * @return the caching rates
+   */
+  public static IborIndexRates of(IborIndexRates underlying, int cacheSize) {
+    if (underlying instanceof CachingIborIndexRates) {
+      return underlying;
+    }
+    return new CachingIborIndexRates(underlying, cacheSize);
+  }
+
+  // restricted constructor
+  private CachingIborIndexRates(IborIndexRates underlying, int cacheSize) {
+    this.underlying = ArgChecker.notNull(underlying, "underlying");
+    this.rates = EpochDayDoubleCache.of(underlying.getValuationDate(), cacheSize);
+    this.ratesIgnoringFixings = EpochDayDoubleCache.of(underlying.getValuationDate(), cacheSize);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the underlying rates.
+   *
+   * @return the underlying rates
+   */
+  public IborIndexRates getUnderlying() {
+    return underlying;
+  }
+
+  @Override
+  public IborIndex getIndex() {
+    return underlying.getIndex();
+  }
+
+  @Override
+  public LocalDate getValuationDate() {
+    return underlying.getValuationDate();
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries getFixings() {
+    return underlying.getFixings();
+  }
+
+  @Override
+  public <T> Optional<T> findData(MarketDataName<T> name) {
+    return underlying.findData(name);
+  }
+
+  @Override
+  public int getParameterCount() {
+    return underlying.getParameterCount();
+  }
+
+  @Override
+  public double getParameter(int parameterIndex) {
+    return underlying.getParameter(parameterIndex);
+  }
+
+  @Override
+  public ParameterMetadata getParameterMetadata(int parameterIndex) {
+    return underlying.getParameterMetadata(parameterIndex);
+  }
+
+  @Override
+  public IborIndexRates withParameter(int parameterIndex, double newValue) {
+    return underlying.withParameter(parameterIndex, newValue);
+  }
+
+  @Override
+  public IborIndexRates withPerturbation(ParameterPerturbation perturbation) {
+    return underlying.withPerturbation(perturbation);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double rate(IborIndexObservation observation) {
+    return rates.get(observation.getFixingDate(), epochDay -> underlying.rate(observation));
+  }
+
+  @Override
+  public double rateIgnoringFixings(IborIndexObservation observation) {
+    return ratesIgnoringFixings.get(
+        observation.getFixingDate(), epochDay -> underlying.rateIgnoringFixings(observation));
+  }
+
+  @Override
+  public PointSensitivityBuilder ratePointSensitivity(IborIndexObservation observation) {
+    return underlying.ratePointSensitivity(observation);
+  }
+
+  @Override
+  public PointSensitivityBuilder rateIgnoringFixingsPointSensitivity(IborIndexObservation observation) {
+    return underlying.rateIgnoringFixingsPointSensitivity(observation);
+  }
+
+  @Override
+  public CurrencyParameterSensitivities parameterSensitivity(IborRateSensitivity pointSensitivity) {
+    return underlying.parameterSensitivity(pointSensitivity);
+  }
+
+  @Override
+  public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
+    return underlying.createParameterSensitivity(currency, sensitivities);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "CachingIborIndexRates[" + underlying + "]";
+  }
+
+}
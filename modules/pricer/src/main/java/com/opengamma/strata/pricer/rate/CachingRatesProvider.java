@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyPair;
+import com.opengamma.strata.basics.index.FxIndex;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.basics.index.OvernightIndex;
+import com.opengamma.strata.basics.index.PriceIndex;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.pricer.CachingDiscountFactors;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.fx.FxForwardRates;
+import com.opengamma.strata.pricer.fx.FxIndexRates;
+
+/**
+ * A rates provider that memoises the date-based lookups of an underlying provider.
+ * <p>
+ * This decorates another {@link RatesProvider}. The discount factors and Ibor index rates
+ * are obtained once from the underlying provider and wrapped in {@link CachingDiscountFactors}
+ * and {@link CachingIborIndexRates}. Each of these caches the results by date,
+ * for dates from the valuation date up to the cache size in days.
+ * <p>
+ * This is useful when many trades are priced against the same provider,
+ * as standard trades tend to share payment and fixing dates.
+ */
+public final class CachingRatesProvider
+    implements RatesProvider {
+
+  /**
+   * The default number of days to cache, approximately 60 years.
+   */
+  public static final int DEFAULT_CACHE_SIZE = 60 * 366;
+
+  /**
+   * The underlying provider.
+   */
+  private final RatesProvider underlying;
+  /**
+   * The number of days from the valuation date to cache.
+   */
+  private final int cacheSize;
+  /**
+   * The discount factors, keyed by currency.
+   */
+  private final ConcurrentHashMap<Currency, DiscountFactors> discountFactors = new ConcurrentHashMap<>();
+  /**
+   * The Ibor index rates, keyed by index.
+   */
+  private final ConcurrentHashMap<IborIndex, IborIndexRates> iborIndexRates = new ConcurrentHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that caches the lookups of the underlying provider, using the default cache size.
+   *
+   * @param underlying  the underlying provider
+   * @return the caching provider
+   */
+  public static CachingRatesProvider of(RatesProvider underlying) {
+    return of(underlying, DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Obtains an instance that caches the lookups of the underlying provider.
+   *
+   * @param underlying  the underlying provider
+   * @param cacheSize  the number of days from the valuation date to cache
+   * @return the caching provider
+   */
+  public static CachingRatesProvider of(RatesProvider underlying, int cacheSize) {
+    return new CachingRatesProvider(underlying, cacheSize);
+  }
+
+  // restricted constructor
+  private CachingRatesProvider(RatesProvider underlying, int cacheSize) {
+    this.underlying = ArgChecker.notNull(underlying, "underlying");
+    this.cacheSize = ArgChecker.notNegative(cacheSize, "cacheSize");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the underlying provider.
+   *
+   * @return the underlying provider
+   */
+  public RatesProvider getUnderlying() {
+    return underlying;
+  }
+
+  /**
+   * Gets the number of days from the valuation date that are cached.
+   *
+   * @return the cache size
+   */
+  public int getCacheSize() {
+    return cacheSize;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDate getValuationDate() {
+    return underlying.getValuationDate();
+  }
+
+  @Override
+  public Set<Currency> getDiscountCurrencies() {
+    return underlying.getDiscountCurrencies();
+  }
+
+  @Override
+  public Set<IborIndex> getIborIndices() {
+    return underlying.getIborIndices();
+  }
+
+  @Override
+  public Set<OvernightIndex> getOvernightIndices() {
+    return underlying.getOvernightIndices();
+  }
+
+  @Override
+  public Set<PriceIndex> getPriceIndices() {
+    return underlying.getPriceIndices();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public <T> T data(MarketDataId<T> id) {
+    return underlying.data(id);
+  }
+
+  @Override
+  public <T> Optional<T> findData(MarketDataName<T> name) {
+    return underlying.findData(name);
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries timeSeries(Index index) {
+    return underlying.timeSeries(index);
+  }
+
+  @Override
+  public double fxRate(Currency baseCurrency, Currency counterCurrency) {
+    return underlying.fxRate(baseCurrency, counterCurrency);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public DiscountFactors discountFactors(Currency currency) {
+    DiscountFactors cached = discountFactors.get(currency);
+    if (cached != null) {
+      return cached;
+    }
+    return discountFactors.computeIfAbsent(
+        currency, ccy -> CachingDiscountFactors.of(underlying.discountFactors(ccy), cacheSize));
+  }
+
+  @Override
+  public IborIndexRates iborIndexRates(IborIndex index) {
+    IborIndexRates cached = iborIndexRates.get(index);
+    if (cached != null) {
+      return cached;
+    }
+    return iborIndexRates.computeIfAbsent(
+        index, idx -> CachingIborIndexRates.of(underlying.iborIndexRates(idx), cacheSize));
+  }
+
+  @Override
+  public FxIndexRates fxIndexRates(FxIndex index) {
+    return underlying.fxIndexRates(index);
+  }
+
+  @Override
+  public FxForwardRates fxForwardRates(CurrencyPair currencyPair) {
+    return underlying.fxForwardRates(currencyPair);
+  }
+
+  @Override
+  public OvernightIndexRates overnightIndexRates(OvernightIndex index) {
+    return underlying.overnightIndexRates(index);
+  }
+
+  @Override
+  public PriceIndexValues priceIndexValues(PriceIndex index) {
+    return underlying.priceIndexValues(index);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public ImmutableRatesProvider toImmutableRatesProvider() {
+    return underlying.toImmutableRatesProvider();
+  }
+
+  @Override
+  public String toString() {
+    return "CachingRatesProvider[" + underlying + "]";
+  }
+
+}
@@ -8,6 +8,8 @@ package com.opengamma.strata.pricer.sensitivity;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.function.Function;
@@ -55,6 +57,14 @@ public final class CurveGammaCalculator {
    * The first order finite difference calculator.
    */
   private final VectorFieldFirstOrderDifferentiator fd;
+  /**
+   * The finite difference type.
+   */
+  private final FiniteDifferenceType fdType;
+  /**
+   * The shift applied to the curve parameters.
+   */
+  private final double shift;
 
   //-------------------------------------------------------------------------
   /**
@@ -96,6 +106,8 @@ public final class CurveGammaCalculator {
    */
   private CurveGammaCalculator(FiniteDifferenceType fdType, double shift) {
     this.fd = new VectorFieldFirstOrderDifferentiator(fdType, shift);
+    this.fdType = fdType;
+    this.shift = shift;
   }
 
   //-------------------------------------------------------------------------
@@ -200,6 +212,258 @@ public final class CurveGammaCalculator {
     return result;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes intra-curve cross gamma for a portfolio of sensitivity functions.
+   * <p>
+   * This computes the same values as {@link #calculateCrossGammaIntraCurve(RatesProvider, Function)}
+   * for each function in the list. Each bumped rates provider is created once and shared by all functions,
+   * which are evaluated in parallel against it.
+   * <p>
+   * The sensitivity functions must be thread-safe.
+   *
+   * @param ratesProvider  the rates provider
+   * @param sensitivitiesFns  the sensitivity functions, typically one per trade
+   * @return the cross gamma, one for each sensitivity function, in the same order
+   */
+  public List<CrossGammaParameterSensitivities> calculateCrossGammaIntraCurve(
+      RatesProvider ratesProvider,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns) {
+
+    return calculateCrossGamma(ratesProvider.toImmutableRatesProvider(), sensitivitiesFns, false);
+  }
+
+  /**
+   * Computes cross-curve gamma for a portfolio of sensitivity functions.
+   * <p>
+   * This computes the same values as {@link #calculateCrossGammaCrossCurve(RatesProvider, Function)}
+   * for each function in the list. Each bumped rates provider is created once and shared by all functions,
+   * which are evaluated in parallel against it.
+   * <p>
+   * The sensitivity functions must be thread-safe.
+   *
+   * @param ratesProvider  the rates provider
+   * @param sensitivitiesFns  the sensitivity functions, typically one per trade
+   * @return the cross gamma, one for each sensitivity function, in the same order
+   */
+  public List<CrossGammaParameterSensitivities> calculateCrossGammaCrossCurve(
+      RatesProvider ratesProvider,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns) {
+
+    return calculateCrossGamma(ratesProvider.toImmutableRatesProvider(), sensitivitiesFns, true);
+  }
+
+  /**
+   * Computes intra-curve cross gamma of the netted portfolio.
+   * <p>
+   * The sensitivities of all the functions are summed before the finite difference is applied.
+   * The result is the cross gamma of the portfolio as a whole.
+   * <p>
+   * The sensitivity functions must be thread-safe.
+   *
+   * @param ratesProvider  the rates provider
+   * @param sensitivitiesFns  the sensitivity functions, typically one per trade
+   * @return the cross gamma of the netted portfolio
+   */
+  public CrossGammaParameterSensitivities calculateCrossGammaIntraCurveNetted(
+      RatesProvider ratesProvider,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns) {
+
+    return calculateCrossGammaIntraCurve(ratesProvider, nettedFunction(sensitivitiesFns));
+  }
+
+  /**
+   * Computes cross-curve gamma of the netted portfolio.
+   * <p>
+   * The sensitivities of all the functions are summed before the finite difference is applied.
+   * The result is the cross gamma of the portfolio as a whole.
+   * <p>
+   * The sensitivity functions must be thread-safe.
+   *
+   * @param ratesProvider  the rates provider
+   * @param sensitivitiesFns  the sensitivity functions, typically one per trade
+   * @return the cross gamma of the netted portfolio
+   */
+  public CrossGammaParameterSensitivities calculateCrossGammaCrossCurveNetted(
+      RatesProvider ratesProvider,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns) {
+
+    return calculateCrossGammaCrossCurve(ratesProvider, nettedFunction(sensitivitiesFns));
+  }
+
+  // sums the sensitivities of all the functions, evaluating them in parallel
+  private static Function<ImmutableRatesProvider, CurrencyParameterSensitivities> nettedFunction(
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns) {
+
+    return provider -> applyAll(sensitivitiesFns, IntStream.range(0, sensitivitiesFns.size()).toArray(), provider)
+        .stream()
+        .reduce(CurrencyParameterSensitivities.empty(), CurrencyParameterSensitivities::combinedWith);
+  }
+
+  // evaluates the selected functions in parallel, returning the results in the same order
+  private static List<CurrencyParameterSensitivities> applyAll(
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns,
+      int[] selected,
+      ImmutableRatesProvider provider) {
+
+    return Arrays.stream(selected)
+        .parallel()
+        .mapToObj(i -> sensitivitiesFns.get(i).apply(provider))
+        .collect(toImmutableList());
+  }
+
+  // computes the cross gamma for each function, bumping each curve parameter once for all functions
+  private List<CrossGammaParameterSensitivities> calculateCrossGamma(
+      ImmutableRatesProvider immProv,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns,
+      boolean crossCurve) {
+
+    ArgChecker.noNulls(sensitivitiesFns, "sensitivitiesFns");
+    int nbFns = sensitivitiesFns.size();
+    List<CurrencyParameterSensitivities> baseDeltas =
+        applyAll(sensitivitiesFns, IntStream.range(0, nbFns).toArray(), immProv);
+    // the curves to bump, in the same order as the single function methods
+    List<BumpableCurve> curves = new ArrayList<>();
+    for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
+      Currency currency = entry.getKey();
+      curves.add(new BumpableCurve(
+          entry.getValue(), currency, c -> immProv.toBuilder().discountCurve(currency, c).build()));
+    }
+    for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
+      Index index = entry.getKey();
+      if (index instanceof RateIndex || index instanceof PriceIndex) {
+        curves.add(new BumpableCurve(
+            entry.getValue(), getCurrency(index), c -> immProv.toBuilder().indexCurve(index, c).build()));
+      }
+    }
+    // one block per function, and for cross-curve, per base delta
+    List<List<CrossGammaParameterSensitivities>> blocks = new ArrayList<>(nbFns);
+    for (int k = 0; k < nbFns; k++) {
+      int blockCount = crossCurve ? baseDeltas.get(k).size() : 1;
+      blocks.add(new ArrayList<>(Collections.nCopies(blockCount, CrossGammaParameterSensitivities.empty())));
+    }
+    for (BumpableCurve curve : curves) {
+      int[] selected = IntStream.range(0, nbFns)
+          .filter(k -> baseDeltas.get(k).findSensitivity(curve.curve.getName(), curve.currency).isPresent())
+          .toArray();
+      if (selected.length == 0) {
+        continue;
+      }
+      NodalCurve nodalCurve = getNodalCurve(curve.curve);
+      List<List<CurrencyParameterSensitivities>> bumped = bumpedSensitivities(
+          nodalCurve, curve.ratesProviderFn, sensitivitiesFns, selected, baseDeltas);
+      List<ParameterMetadata> metadata = IntStream.range(0, nodalCurve.getParameterCount())
+          .mapToObj(i -> nodalCurve.getParameterMetadata(i))
+          .collect(toImmutableList());
+      for (int s = 0; s < selected.length; s++) {
+        int k = selected[s];
+        List<CurrencyParameterSensitivities> bumpedSingle = bumped.get(s);
+        if (crossCurve) {
+          List<CurrencyParameterSensitivity> baseDelta = baseDeltas.get(k).getSensitivities();
+          for (int d = 0; d < baseDelta.size(); d++) {
+            CurrencyParameterSensitivity baseDeltaSingle = baseDelta.get(d);
+            DoubleMatrix sensi = differentiate(
+                bumpedSingle, baseDeltaSingle.getSensitivity(),
+                p -> p.getSensitivity(baseDeltaSingle.getMarketDataName(), baseDeltaSingle.getCurrency()));
+            CrossGammaParameterSensitivity gammaSingle = CrossGammaParameterSensitivity.of(
+                baseDeltaSingle.getMarketDataName(),
+                baseDeltaSingle.getParameterMetadata(),
+                nodalCurve.getName(),
+                metadata,
+                baseDeltaSingle.getCurrency(),
+                sensi);
+            blocks.get(k).set(d, blocks.get(k).get(d).combinedWith(gammaSingle));
+          }
+        } else {
+          DoubleMatrix sensi = differentiate(
+              bumpedSingle,
+              baseDeltas.get(k).getSensitivity(nodalCurve.getName(), curve.currency).getSensitivity(),
+              p -> p.getSensitivity(nodalCurve.getName(), curve.currency));
+          CrossGammaParameterSensitivity gammaSingle =
+              CrossGammaParameterSensitivity.of(nodalCurve.getName(), metadata, curve.currency, sensi);
+          blocks.get(k).set(0, blocks.get(k).get(0).combinedWith(gammaSingle));
+        }
+      }
+    }
+    // assemble the result for each function
+    List<CrossGammaParameterSensitivities> result = new ArrayList<>(nbFns);
+    for (int k = 0; k < nbFns; k++) {
+      if (crossCurve) {
+        CrossGammaParameterSensitivities gamma = CrossGammaParameterSensitivities.empty();
+        List<CurrencyParameterSensitivity> baseDelta = baseDeltas.get(k).getSensitivities();
+        for (int d = 0; d < baseDelta.size(); d++) {
+          gamma = gamma.combinedWith(combineSensitivities(baseDelta.get(d), blocks.get(k).get(d)));
+        }
+        result.add(gamma);
+      } else {
+        result.add(blocks.get(k).get(0));
+      }
+    }
+    return result;
+  }
+
+  // computes the sensitivities of the selected functions for each bumped parameter of the curve
+  // the result is indexed by selected function, then by finite difference evaluation
+  private List<List<CurrencyParameterSensitivities>> bumpedSensitivities(
+      NodalCurve nodalCurve,
+      Function<Curve, ImmutableRatesProvider> ratesProviderFn,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns,
+      int[] selected,
+      List<CurrencyParameterSensitivities> baseDeltas) {
+
+    DoubleArray x = nodalCurve.getYValues();
+    List<List<CurrencyParameterSensitivities>> bumped = new ArrayList<>(selected.length);
+    for (int s = 0; s < selected.length; s++) {
+      bumped.add(new ArrayList<>());
+    }
+    for (int j = 0; j < x.size(); j++) {
+      double xj = x.get(j);
+      for (double bump : bumps()) {
+        List<CurrencyParameterSensitivities> evaluated = bump == 0d ?
+            Arrays.stream(selected).mapToObj(baseDeltas::get).collect(toImmutableList()) :
+            applyAll(sensitivitiesFns, selected, ratesProviderFn.apply(nodalCurve.withYValues(x.with(j, xj + bump))));
+        for (int s = 0; s < selected.length; s++) {
+          bumped.get(s).add(evaluated.get(s));
+        }
+      }
+    }
+    return bumped;
+  }
+
+  // the bumps applied to each parameter, a zero bump refers to the base sensitivities
+  private double[] bumps() {
+    switch (fdType) {
+      case FORWARD:
+        return new double[] {shift, 0d};
+      case BACKWARD:
+        return new double[] {0d, -shift};
+      case CENTRAL:
+        return new double[] {shift, -shift};
+      default:
+        throw new IllegalArgumentException("Can only handle forward, backward and central differencing");
+    }
+  }
+
+  // applies the finite difference formula to the bumped sensitivities
+  private DoubleMatrix differentiate(
+      List<CurrencyParameterSensitivities> bumped,
+      DoubleArray base,
+      Function<CurrencyParameterSensitivities, CurrencyParameterSensitivity> extractFn) {
+
+    double eps = fdType == FiniteDifferenceType.CENTRAL ? 2d * shift : shift;
+    int n = bumped.size() / 2;
+    int m = base.size();
+    double[][] res = new double[m][n];
+    for (int j = 0; j < n; j++) {
+      DoubleArray up = extractFn.apply(bumped.get(2 * j)).getSensitivity();
+      DoubleArray down = extractFn.apply(bumped.get(2 * j + 1)).getSensitivity();
+      for (int i = 0; i < m; i++) {
+        res[i][j] = (up.get(i) - down.get(i)) / eps;
+      }
+    }
+    return DoubleMatrix.ofUnsafe(res);
+  }
+
   //-------------------------------------------------------------------------
   private NodalCurve getNodalCurve(Curve curve) {
     ArgChecker.isTrue(curve instanceof NodalCurve, "underlying curve must be NodalCurve");
@@ -337,4 +601,20 @@ public final class CurveGammaCalculator {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Inner class holding a curve and the means to create a rates provider with the curve replaced.
+   */
+  static class BumpableCurve {
+    private final Curve curve;
+    private final Currency currency;
+    private final Function<Curve, ImmutableRatesProvider> ratesProviderFn;
+
+    BumpableCurve(Curve curve, Currency currency, Function<Curve, ImmutableRatesProvider> ratesProviderFn) {
+      this.curve = curve;
+      this.currency = currency;
+      this.ratesProviderFn = ratesProviderFn;
+    }
+  }
+
 }
@@ -0,0 +1,676 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.SimulatedValueProfile;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteMonteCarloPaths;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteMonteCarloSimulator;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParametersProvider;
+import com.opengamma.strata.pricer.rate.RateComputationFn;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.rate.FixedRateComputation;
+import com.opengamma.strata.product.rate.IborRateComputation;
+import com.opengamma.strata.product.rate.OvernightCompoundedRateComputation;
+import com.opengamma.strata.product.rate.RateComputation;
+import com.opengamma.strata.product.swap.KnownAmountSwapPaymentPeriod;
+import com.opengamma.strata.product.swap.NegativeRateMethod;
+import com.opengamma.strata.product.swap.NotionalExchange;
+import com.opengamma.strata.product.swap.RateAccrualPeriod;
+import com.opengamma.strata.product.swap.RatePaymentPeriod;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.SwapPaymentEvent;
+import com.opengamma.strata.product.swap.SwapPaymentPeriod;
+
+/**
+ * Pricer for swaps by Monte Carlo simulation of the Hull-White one factor model with piecewise constant volatility.
+ * <p>
+ * This computes the values of a swap, or of a netting set of swaps, at future dates along simulated paths.
+ * The values are used to compute exposure profiles, which the analytic pricers cannot produce.
+ * <p>
+ * The swaps are first converted to a plan of cash flows, each cash flow being either a known amount
+ * or an amount based on a floating rate. The floating rates are computed with a deterministic multiplicative
+ * spread between the forward and the discount curves, as in {@code CashFlowEquivalentCalculator}.
+ * Before its fixing date, the value of a floating cash flow is a combination of two zero-coupon bonds.
+ * From its fixing date, the value is based on the rate fixed on the path, thus the fixing dates
+ * are added to the simulation times. The cash flows of the netting set are aggregated by date,
+ * thus the cost of the valuation depends on the number of distinct dates rather than on the number of trades.
+ * <p>
+ * The overnight compounded rates are treated as if fixed at the start of their accrual period,
+ * which preserves the expected values but not the dispersion of the values during the accrual period.
+ * <p>
+ * The present value and its sensitivity to the curves can also be computed on the paths, with the floating rates
+ * fixed on the paths at their fixing dates. The deflated value of a path is linear in the discount factors
+ * of the payment dates, thus the sensitivities are computed pathwise from the same paths.
+ * <p>
+ * The supported payment periods are {@link KnownAmountSwapPaymentPeriod} and {@link RatePaymentPeriod}
+ * with a single accrual period, without FX reset, negative rates allowed, and a fixed, Ibor or overnight
+ * compounded rate. The supported payment events are {@link NotionalExchange}.
+ */
+public class HullWhiteMonteCarloSwapProductPricer {
+
+  /**
+   * Default implementation, with 10,000 pseudo-random paths.
+   */
+  public static final HullWhiteMonteCarloSwapProductPricer DEFAULT =
+      new HullWhiteMonteCarloSwapProductPricer(HullWhiteMonteCarloSimulator.ofPseudoRandom(10_000, 0L));
+  /**
+   * The rate computation function, used for the rates at the valuation date.
+   */
+  private static final RateComputationFn<RateComputation> RATE_COMPUTATION_FN = RateComputationFn.standard();
+
+  /**
+   * The Monte Carlo simulator.
+   */
+  private final HullWhiteMonteCarloSimulator simulator;
+
+  /**
+   * Creates an instance.
+   *
+   * @param simulator  the Monte Carlo simulator
+   */
+  public HullWhiteMonteCarloSwapProductPricer(HullWhiteMonteCarloSimulator simulator) {
+    this.simulator = ArgChecker.notNull(simulator, "simulator");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the simulated values of the swap at the specified dates.
+   * <p>
+   * A payment on one of the dates is included in the value at that date.
+   *
+   * @param swap  the product
+   * @param ratesProvider  the rates provider
+   * @param hwProvider  the Hull-White model parameter provider
+   * @param dates  the dates, not before the valuation date and strictly increasing
+   * @return the simulated values
+   */
+  public SimulatedValueProfile presentValueProfile(
+      ResolvedSwap swap,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider,
+      List<LocalDate> dates) {
+
+    return presentValueProfile(ImmutableList.of(swap), ratesProvider, hwProvider, dates);
+  }
+
+  /**
+   * Calculates the simulated values of a netting set of swaps at the specified dates.
+   * <p>
+   * The swaps must all be in the same single currency.
+   * A payment on one of the dates is included in the value at that date.
+   *
+   * @param swaps  the products of the netting set
+   * @param ratesProvider  the rates provider
+   * @param hwProvider  the Hull-White model parameter provider
+   * @param dates  the dates, not before the valuation date and strictly increasing
+   * @return the simulated values
+   */
+  public SimulatedValueProfile presentValueProfile(
+      List<ResolvedSwap> swaps,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider,
+      List<LocalDate> dates) {
+
+    ArgChecker.notEmpty(swaps, "swaps");
+    ArgChecker.notEmpty(dates, "dates");
+    LocalDate valuationDate = ratesProvider.getValuationDate();
+    ArgChecker.isTrue(hwProvider.getValuationDateTime().toLocalDate().equals(valuationDate),
+        "Hull-White model data and rate data should be for the same date");
+    ArgChecker.isFalse(dates.get(0).isBefore(valuationDate), "dates must not be before the valuation date");
+    for (int i = 1; i < dates.size(); i++) {
+      ArgChecker.isTrue(dates.get(i).isAfter(dates.get(i - 1)), "dates must be strictly increasing");
+    }
+    Currency currency = swaps.get(0).getLegs().get(0).getCurrency();
+    List<CashFlow> cashFlows = cashFlows(swaps, currency, ratesProvider);
+    Plan plan = new Plan(cashFlows, currency, ratesProvider, hwProvider, dates);
+    List<double[][][]> batches = simulator.simulate(
+        hwProvider.getParameters(), DoubleArray.ofUnsafe(plan.times), plan::values);
+    // the batches are concatenated by path
+    int nbDates = dates.size();
+    double[][] values = new double[nbDates][simulator.getPathCount()];
+    double[][] deflators = new double[nbDates][simulator.getPathCount()];
+    int start = 0;
+    for (double[][][] batch : batches) {
+      int size = batch[0][0].length;
+      for (int i = 0; i < nbDates; i++) {
+        System.arraycopy(batch[0][i], 0, values[i], start, size);
+        System.arraycopy(batch[1][i], 0, deflators[i], start, size);
+      }
+      start += size;
+    }
+    return SimulatedValueProfile.of(
+        currency, dates, DoubleArray.ofUnsafe(plan.dateDiscountFactors), DoubleMatrix.ofUnsafe(values),
+        DoubleMatrix.ofUnsafe(deflators));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of the swap on the simulated paths.
+   * <p>
+   * The floating rates are fixed on the paths at their fixing dates, and each cash flow is valued
+   * with the deflated discount factor of its payment date. The present value converges to the one
+   * of {@link DiscountingSwapProductPricer}.
+   * <p>
+   * The result is expressed using the currency of the swap.
+   *
+   * @param swap  the product
+   * @param ratesProvider  the rates provider
+   * @param hwProvider  the Hull-White model parameter provider
+   * @return the present value
+   */
+  public CurrencyAmount presentValue(
+      ResolvedSwap swap,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    Currency currency = swap.getLegs().get(0).getCurrency();
+    List<CashFlow> cashFlows = cashFlows(ImmutableList.of(swap), currency, ratesProvider);
+    double[][] derivatives = simulateCashFlows(cashFlows, currency, ratesProvider, hwProvider);
+    double pv = 0d;
+    for (int i = 0; i < cashFlows.size(); i++) {
+      pv += derivatives[0][i] * ratesProvider.discountFactor(currency, cashFlows.get(i).paymentDate);
+    }
+    return CurrencyAmount.of(currency, pv);
+  }
+
+  /**
+   * Calculates the present value sensitivity of the swap to the rate curves, pathwise.
+   * <p>
+   * The deflated value of a path is linear in the discount factor of each payment date, with the amount
+   * of the cash flow on the path multiplied by the deflated bond as derivative. The derivative of a floating
+   * amount fixed on the path with respect to the forward rate at the valuation date is also computed on the path.
+   * The same paths are used as for {@link #presentValue(ResolvedSwap, RatesProvider,
+   * HullWhiteOneFactorPiecewiseConstantParametersProvider) presentValue}.
+   *
+   * @param swap  the product
+   * @param ratesProvider  the rates provider
+   * @param hwProvider  the Hull-White model parameter provider
+   * @return the point sensitivity to the rate curves
+   */
+  public PointSensitivityBuilder presentValueSensitivityRates(
+      ResolvedSwap swap,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    Currency currency = swap.getLegs().get(0).getCurrency();
+    List<CashFlow> cashFlows = cashFlows(ImmutableList.of(swap), currency, ratesProvider);
+    double[][] derivatives = simulateCashFlows(cashFlows, currency, ratesProvider, hwProvider);
+    DiscountFactors discountFactors = ratesProvider.discountFactors(currency);
+    PointSensitivityBuilder point = PointSensitivityBuilder.none();
+    for (int i = 0; i < cashFlows.size(); i++) {
+      CashFlow cashFlow = cashFlows.get(i);
+      point = point.combinedWith(
+          discountFactors.zeroRatePointSensitivity(cashFlow.paymentDate).multipliedBy(derivatives[0][i]));
+      if (cashFlow.accrualPeriod != null) {
+        RateAccrualPeriod accrualPeriod = cashFlow.accrualPeriod;
+        point = point.combinedWith(RATE_COMPUTATION_FN.rateSensitivity(
+            accrualPeriod.getRateComputation(), accrualPeriod.getStartDate(), accrualPeriod.getEndDate(), ratesProvider)
+            .multipliedBy(derivatives[1][i]));
+      }
+    }
+    return point;
+  }
+
+  //-------------------------------------------------------------------------
+  // simulates the cash flows, returning the expected derivatives of the deflated value of each cash flow
+  // with respect to the discount factor of the payment date and to the forward rate at the valuation date
+  private double[][] simulateCashFlows(
+      List<CashFlow> cashFlows,
+      Currency currency,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    ArgChecker.isTrue(hwProvider.getValuationDateTime().toLocalDate().equals(ratesProvider.getValuationDate()),
+        "Hull-White model data and rate data should be for the same date");
+    int nbCashFlows = cashFlows.size();
+    double[][] derivatives = new double[2][nbCashFlows];
+    // the simulation times are the fixing times, the other cash flows are deterministic
+    TreeSet<Double> timeSet = new TreeSet<>();
+    for (int i = 0; i < nbCashFlows; i++) {
+      CashFlow cashFlow = cashFlows.get(i);
+      if (cashFlow.isFloating()) {
+        timeSet.add(hwProvider.relativeTime(cashFlow.fixingDate));
+      } else {
+        double discountFactor = ratesProvider.discountFactor(currency, cashFlow.paymentDate);
+        derivatives[0][i] = cashFlow.amount;
+        derivatives[1][i] = cashFlow.rateFactor * discountFactor;
+      }
+    }
+    if (timeSet.isEmpty()) {
+      return derivatives;
+    }
+    double[] times = timeSet.stream().mapToDouble(Double::doubleValue).toArray();
+    List<FloatingCashFlow> floating = new ArrayList<>();
+    for (int i = 0; i < nbCashFlows; i++) {
+      CashFlow cashFlow = cashFlows.get(i);
+      if (cashFlow.isFloating()) {
+        floating.add(new FloatingCashFlow(
+            i,
+            Arrays.binarySearch(times, hwProvider.relativeTime(cashFlow.fixingDate)),
+            hwProvider.relativeTime(cashFlow.startDate),
+            hwProvider.relativeTime(cashFlow.paymentDate),
+            ratesProvider.discountFactor(currency, cashFlow.paymentDate),
+            cashFlow));
+      }
+    }
+    List<double[][]> batches = simulator.simulate(
+        hwProvider.getParameters(), DoubleArray.ofUnsafe(times), paths -> simulateFloating(paths, floating));
+    int nbPaths = simulator.getPathCount();
+    for (double[][] batch : batches) {
+      for (int k = 0; k < floating.size(); k++) {
+        int index = floating.get(k).index;
+        derivatives[0][index] += batch[0][k] / nbPaths;
+        derivatives[1][index] += batch[1][k] / nbPaths;
+      }
+    }
+    return derivatives;
+  }
+
+  // the sums over a batch of paths of the derivatives of the deflated values of the floating cash flows
+  private static double[][] simulateFloating(HullWhiteMonteCarloPaths paths, List<FloatingCashFlow> floating) {
+    int nbPaths = paths.getPathCount();
+    double[][] sums = new double[2][floating.size()];
+    double[] rates = new double[nbPaths];
+    double[] bonds = new double[nbPaths];
+    for (int k = 0; k < floating.size(); k++) {
+      FloatingCashFlow flow = floating.get(k);
+      CashFlow cashFlow = flow.cashFlow;
+      double yearFraction = cashFlow.fixingYearFraction;
+      paths.forwardRates(flow.timeIndex, flow.startTime, flow.paymentTime, yearFraction, cashFlow.rate, rates);
+      paths.deflatedDiscountFactors(flow.timeIndex, flow.paymentTime, 1d, bonds);
+      double forwardFactor = 1d + yearFraction * cashFlow.rate;
+      for (int j = 0; j < nbPaths; j++) {
+        // the value is linear in the discount factor, the fixed rate depends on the forward rate through
+        // the factor (1 + delta * L) / (1 + delta * F)
+        sums[0][k] += (cashFlow.amount + cashFlow.floatingFactor * rates[j]) * bonds[j];
+        sums[1][k] += cashFlow.floatingFactor * (1d + yearFraction * rates[j]) / forwardFactor * bonds[j] *
+            flow.discountFactor;
+      }
+    }
+    return sums;
+  }
+
+  //-------------------------------------------------------------------------
+  // the cash flows of the swaps, which must all be in the same single currency
+  private static List<CashFlow> cashFlows(List<ResolvedSwap> swaps, Currency currency, RatesProvider ratesProvider) {
+    LocalDate valuationDate = ratesProvider.getValuationDate();
+    List<CashFlow> cashFlows = new ArrayList<>();
+    for (ResolvedSwap swap : swaps) {
+      ArgChecker.isFalse(swap.isCrossCurrency(), "swap should be single currency");
+      ArgChecker.isTrue(swap.getLegs().get(0).getCurrency().equals(currency), "swaps should have the same currency");
+      for (ResolvedSwapLeg leg : swap.getLegs()) {
+        for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+          addCashFlow(period, ratesProvider, cashFlows);
+        }
+        for (SwapPaymentEvent event : leg.getPaymentEvents()) {
+          ArgChecker.isTrue(event instanceof NotionalExchange, "payment event should be NotionalExchange");
+          addCashFlow(event.getPaymentDate(), ((NotionalExchange) event).getPaymentAmount().getAmount(), valuationDate,
+              cashFlows);
+        }
+      }
+    }
+    return cashFlows;
+  }
+
+  // adds the cash flow of a payment period
+  private static void addCashFlow(SwapPaymentPeriod period, RatesProvider ratesProvider, List<CashFlow> cashFlows) {
+    LocalDate valuationDate = ratesProvider.getValuationDate();
+    if (period instanceof KnownAmountSwapPaymentPeriod) {
+      KnownAmountSwapPaymentPeriod knownAmount = (KnownAmountSwapPaymentPeriod) period;
+      addCashFlow(period.getPaymentDate(), knownAmount.getPayment().getAmount(), valuationDate, cashFlows);
+      return;
+    }
+    ArgChecker.isTrue(period instanceof RatePaymentPeriod, "payment period should be RatePaymentPeriod");
+    RatePaymentPeriod ratePeriod = (RatePaymentPeriod) period;
+    ArgChecker.isFalse(ratePeriod.getFxReset().isPresent(), "payment period should not have FX reset");
+    ArgChecker.isTrue(ratePeriod.getAccrualPeriods().size() == 1, "rate payment should not be compounding");
+    if (ratePeriod.getPaymentDate().isBefore(valuationDate)) {
+      return;
+    }
+    RateAccrualPeriod accrualPeriod = ratePeriod.getAccrualPeriods().get(0);
+    ArgChecker.isTrue(accrualPeriod.getNegativeRateMethod() == NegativeRateMethod.ALLOW_NEGATIVE,
+        "negative rates should be allowed");
+    double factor = ratePeriod.getNotional() * accrualPeriod.getYearFraction();
+    RateComputation computation = accrualPeriod.getRateComputation();
+    double rate = RATE_COMPUTATION_FN.rate(
+        computation, accrualPeriod.getStartDate(), accrualPeriod.getEndDate(), ratesProvider);
+    double gearing = accrualPeriod.getGearing();
+    double spread = accrualPeriod.getSpread();
+    LocalDate fixingDate;
+    LocalDate startDate;
+    double fixingYearFraction;
+    if (computation instanceof FixedRateComputation) {
+      cashFlows.add(new CashFlow(ratePeriod.getPaymentDate(), factor * (gearing * rate + spread), accrualPeriod, factor));
+      return;
+    } else if (computation instanceof IborRateComputation) {
+      IborRateComputation ibor = (IborRateComputation) computation;
+      fixingDate = ibor.getFixingDate();
+      startDate = ibor.getEffectiveDate();
+      fixingYearFraction = ibor.getYearFraction();
+    } else if (computation instanceof OvernightCompoundedRateComputation) {
+      OvernightCompoundedRateComputation overnight = (OvernightCompoundedRateComputation) computation;
+      fixingDate = overnight.getStartDate();
+      startDate = overnight.getStartDate();
+      fixingYearFraction = overnight.getIndex().getDayCount().yearFraction(startDate, overnight.getEndDate());
+    } else {
+      throw new IllegalArgumentException("Unsupported rate computation: " + computation.getClass().getSimpleName());
+    }
+    if (!fixingDate.isAfter(valuationDate)) {
+      cashFlows.add(new CashFlow(ratePeriod.getPaymentDate(), factor * (gearing * rate + spread), accrualPeriod, factor));
+    } else {
+      cashFlows.add(new CashFlow(
+          ratePeriod.getPaymentDate(),
+          factor * spread,
+          factor * gearing,
+          fixingDate,
+          startDate,
+          fixingYearFraction,
+          rate,
+          accrualPeriod));
+    }
+  }
+
+  // adds a known amount
+  private static void addCashFlow(LocalDate paymentDate, double amount, LocalDate valuationDate, List<CashFlow> cashFlows) {
+    if (!paymentDate.isBefore(valuationDate)) {
+      cashFlows.add(new CashFlow(paymentDate, amount));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A cash flow, with a known amount and an optional amount based on a floating rate not yet fixed.
+   * <p>
+   * The accrual period, if any, is used for the sensitivity to the rate at the valuation date.
+   */
+  private static final class CashFlow {
+    private final LocalDate paymentDate;
+    private final double amount;
+    private final double floatingFactor;
+    private final LocalDate fixingDate;
+    private final LocalDate startDate;
+    private final double fixingYearFraction;
+    private final double rate;
+    private final RateAccrualPeriod accrualPeriod;
+    // the derivative of the known amount with respect to the rate at the valuation date
+    private final double rateFactor;
+
+    private CashFlow(LocalDate paymentDate, double amount) {
+      this(paymentDate, amount, 0d, null, null, 1d, 0d, null, 0d);
+    }
+
+    private CashFlow(LocalDate paymentDate, double amount, RateAccrualPeriod accrualPeriod, double factor) {
+      this(paymentDate, amount, 0d, null, null, 1d, 0d, accrualPeriod, factor * accrualPeriod.getGearing());
+    }
+
+    private CashFlow(
+        LocalDate paymentDate,
+        double amount,
+        double floatingFactor,
+        LocalDate fixingDate,
+        LocalDate startDate,
+        double fixingYearFraction,
+        double rate,
+        RateAccrualPeriod accrualPeriod) {
+
+      this(paymentDate, amount, floatingFactor, fixingDate, startDate, fixingYearFraction, rate, accrualPeriod, 0d);
+    }
+
+    private CashFlow(
+        LocalDate paymentDate,
+        double amount,
+        double floatingFactor,
+        LocalDate fixingDate,
+        LocalDate startDate,
+        double fixingYearFraction,
+        double rate,
+        RateAccrualPeriod accrualPeriod,
+        double rateFactor) {
+
+      this.paymentDate = paymentDate;
+      this.amount = amount;
+      this.floatingFactor = floatingFactor;
+      this.fixingDate = fixingDate;
+      this.startDate = startDate;
+      this.fixingYearFraction = fixingYearFraction;
+      this.rate = rate;
+      this.accrualPeriod = accrualPeriod;
+      this.rateFactor = rateFactor;
+    }
+
+    private boolean isFloating() {
+      return floatingFactor != 0d;
+    }
+  }
+
+  /**
+   * A floating cash flow valued on the paths, with its rate fixed at a simulation time.
+   */
+  private static final class FloatingCashFlow {
+    private final int index;
+    private final int timeIndex;
+    private final double startTime;
+    private final double paymentTime;
+    private final double discountFactor;
+    private final CashFlow cashFlow;
+
+    private FloatingCashFlow(
+        int index,
+        int timeIndex,
+        double startTime,
+        double paymentTime,
+        double discountFactor,
+        CashFlow cashFlow) {
+
+      this.index = index;
+      this.timeIndex = timeIndex;
+      this.startTime = startTime;
+      this.paymentTime = paymentTime;
+      this.discountFactor = discountFactor;
+      this.cashFlow = cashFlow;
+    }
+  }
+
+  /**
+   * A floating rate fixed on the paths, at a simulation time.
+   */
+  private static final class Fixing {
+    private final int paymentNode;
+    private final double floatingFactor;
+    private final double startTime;
+    private final double paymentTime;
+    private final double fixingYearFraction;
+    private final double rate;
+
+    private Fixing(
+        int paymentNode,
+        double floatingFactor,
+        double startTime,
+        double paymentTime,
+        double fixingYearFraction,
+        double rate) {
+
+      this.paymentNode = paymentNode;
+      this.floatingFactor = floatingFactor;
+      this.startTime = startTime;
+      this.paymentTime = paymentTime;
+      this.fixingYearFraction = fixingYearFraction;
+      this.rate = rate;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The valuation plan of the cash flows, independent of the paths.
+   * <p>
+   * The deflated value of the cash flows at a date is the sum over the nodes, the distinct payment and start dates,
+   * of a coefficient multiplied by the deflated discount factor of the node.
+   * The coefficient is deterministic, except for the amounts of the cash flows fixed on the path.
+   */
+  private static final class Plan {
+    // the simulation times, the dates and the fixing dates
+    private final double[] times;
+    // the index of the simulation time of each date
+    private final int[] dateIndices;
+    private final double[] dateDiscountFactors;
+    // the nodes
+    private final double[] nodeTimes;
+    private final double[] nodeDiscountFactors;
+    // the first node not before each date
+    private final int[] firstNodes;
+    // the deterministic coefficients, by date then by node
+    private final double[][] coefficients;
+    // the floating rates fixed at each simulation time
+    private final List<List<Fixing>> fixings;
+
+    private Plan(
+        List<CashFlow> cashFlows,
+        Currency currency,
+        RatesProvider ratesProvider,
+        HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider,
+        List<LocalDate> dates) {
+
+      int nbDates = dates.size();
+      LocalDate lastDate = dates.get(nbDates - 1);
+      // simulation times, the fixings after the last date are not simulated
+      TreeMap<Double, LocalDate> timeMap = new TreeMap<>();
+      for (LocalDate date : dates) {
+        timeMap.put(hwProvider.relativeTime(date), date);
+      }
+      for (CashFlow cashFlow : cashFlows) {
+        if (cashFlow.isFloating() && !cashFlow.fixingDate.isAfter(lastDate)) {
+          timeMap.putIfAbsent(hwProvider.relativeTime(cashFlow.fixingDate), cashFlow.fixingDate);
+        }
+      }
+      times = timeMap.keySet().stream().mapToDouble(Double::doubleValue).toArray();
+      dateIndices = new int[nbDates];
+      dateDiscountFactors = new double[nbDates];
+      for (int i = 0; i < nbDates; i++) {
+        dateIndices[i] = Arrays.binarySearch(times, hwProvider.relativeTime(dates.get(i)));
+        dateDiscountFactors[i] = ratesProvider.discountFactor(currency, dates.get(i));
+      }
+      // nodes
+      TreeSet<LocalDate> nodeSet = new TreeSet<>();
+      for (CashFlow cashFlow : cashFlows) {
+        nodeSet.add(cashFlow.paymentDate);
+        if (cashFlow.isFloating()) {
+          nodeSet.add(cashFlow.startDate);
+        }
+      }
+      List<LocalDate> nodes = new ArrayList<>(nodeSet);
+      int nbNodes = nodes.size();
+      nodeTimes = new double[nbNodes];
+      nodeDiscountFactors = new double[nbNodes];
+      for (int i = 0; i < nbNodes; i++) {
+        nodeTimes[i] = hwProvider.relativeTime(nodes.get(i));
+        nodeDiscountFactors[i] = ratesProvider.discountFactor(currency, nodes.get(i));
+      }
+      firstNodes = new int[nbDates];
+      for (int i = 0; i < nbDates; i++) {
+        int index = Collections.binarySearch(nodes, dates.get(i));
+        firstNodes[i] = index >= 0 ? index : -index - 1;
+      }
+      // coefficients and fixings
+      coefficients = new double[nbDates][nbNodes];
+      fixings = new ArrayList<>();
+      for (int i = 0; i < times.length; i++) {
+        fixings.add(new ArrayList<>());
+      }
+      for (CashFlow cashFlow : cashFlows) {
+        int paymentNode = Collections.binarySearch(nodes, cashFlow.paymentDate);
+        int fixingIndex = -1;
+        if (cashFlow.isFloating() && !cashFlow.fixingDate.isAfter(lastDate)) {
+          fixingIndex = Arrays.binarySearch(times, hwProvider.relativeTime(cashFlow.fixingDate));
+          fixings.get(fixingIndex).add(new Fixing(
+              paymentNode,
+              cashFlow.floatingFactor,
+              hwProvider.relativeTime(cashFlow.startDate),
+              nodeTimes[paymentNode],
+              cashFlow.fixingYearFraction,
+              cashFlow.rate));
+        }
+        for (int i = 0; i < nbDates; i++) {
+          if (cashFlow.paymentDate.isBefore(dates.get(i))) {
+            continue;
+          }
+          coefficients[i][paymentNode] += cashFlow.amount;
+          if (cashFlow.isFloating() && (fixingIndex < 0 || fixingIndex > dateIndices[i])) {
+            // not fixed at the date, the value is a combination of the bonds at the start and payment dates
+            int startNode = Collections.binarySearch(nodes, cashFlow.startDate);
+            double beta = (1d + cashFlow.fixingYearFraction * cashFlow.rate) *
+                nodeDiscountFactors[paymentNode] / nodeDiscountFactors[startNode];
+            coefficients[i][startNode] += cashFlow.floatingFactor * beta / cashFlow.fixingYearFraction;
+            coefficients[i][paymentNode] -= cashFlow.floatingFactor / cashFlow.fixingYearFraction;
+          }
+        }
+      }
+    }
+
+    // computes the values and deflators at the dates for a batch of paths
+    private double[][][] values(HullWhiteMonteCarloPaths paths) {
+      int nbPaths = paths.getPathCount();
+      int nbDates = dateIndices.length;
+      int nbNodes = nodeTimes.length;
+      double[][] values = new double[nbDates][nbPaths];
+      double[][] deflators = new double[nbDates][nbPaths];
+      // the amounts fixed on the paths, by payment node
+      double[][] fixedAmounts = new double[nbNodes][];
+      double[] buffer = new double[nbPaths];
+      int dateIndex = 0;
+      for (int t = 0; t < times.length; t++) {
+        for (Fixing fixing : fixings.get(t)) {
+          paths.forwardRates(t, fixing.startTime, fixing.paymentTime, fixing.fixingYearFraction, fixing.rate, buffer);
+          if (fixedAmounts[fixing.paymentNode] == null) {
+            fixedAmounts[fixing.paymentNode] = new double[nbPaths];
+          }
+          double[] amounts = fixedAmounts[fixing.paymentNode];
+          for (int j = 0; j < nbPaths; j++) {
+            amounts[j] += fixing.floatingFactor * buffer[j];
+          }
+        }
+        while (dateIndex < nbDates && dateIndices[dateIndex] == t) {
+          double[] value = values[dateIndex];
+          double[] coefficient = coefficients[dateIndex];
+          for (int n = firstNodes[dateIndex]; n < nbNodes; n++) {
+            double[] amounts = fixedAmounts[n];
+            if (coefficient[n] == 0d && amounts == null) {
+              continue;
+            }
+            paths.deflatedDiscountFactors(t, nodeTimes[n], nodeDiscountFactors[n], buffer);
+            for (int j = 0; j < nbPaths; j++) {
+              value[j] += (amounts == null ? coefficient[n] : coefficient[n] + amounts[j]) * buffer[j];
+            }
+          }
+          double[] deflator = deflators[dateIndex];
+          paths.deflatedDiscountFactors(t, times[t], dateDiscountFactors[dateIndex], deflator);
+          for (int j = 0; j < nbPaths; j++) {
+            value[j] /= deflator[j];
+          }
+          dateIndex++;
+        }
+      }
+      return new double[][][] {values, deflators};
+    }
+  }
+
+}
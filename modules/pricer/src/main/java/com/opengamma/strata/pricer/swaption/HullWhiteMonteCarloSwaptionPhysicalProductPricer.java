@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swaption;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.Payment;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountingPaymentPricer;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteMonteCarloPaths;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteMonteCarloSimulator;
+import com.opengamma.strata.pricer.impl.rate.swap.CashFlowEquivalentCalculator;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParametersProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.common.SettlementType;
+import com.opengamma.strata.product.swap.NotionalExchange;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swaption.ResolvedSwaption;
+
+/**
+ * Pricer for swaption with physical settlement by Monte Carlo simulation of the Hull-White one factor model
+ * with piecewise constant volatility.
+ * <p>
+ * The underlying swap is represented by its cash flow equivalent, as in {@link HullWhiteSwaptionPhysicalProductPricer},
+ * and its value at expiry is computed on each path. The present value converges to the one of the explicit formula.
+ * <p>
+ * The sensitivities to the curves are computed pathwise: the derivative of the payoff of a path with respect
+ * to the discounted cash flows is the indicator of exercise multiplied by the deflated bond of each cash flow.
+ * The same paths are used for the present value and the sensitivity.
+ */
+public class HullWhiteMonteCarloSwaptionPhysicalProductPricer {
+
+  /**
+   * Default implementation, with 16,383 paths of the Sobol sequence.
+   */
+  public static final HullWhiteMonteCarloSwaptionPhysicalProductPricer DEFAULT =
+      new HullWhiteMonteCarloSwaptionPhysicalProductPricer(
+          DiscountingPaymentPricer.DEFAULT, HullWhiteMonteCarloSimulator.ofSobol(16_383));
+
+  /**
+   * Pricer for {@link Payment}.
+   */
+  private final DiscountingPaymentPricer paymentPricer;
+  /**
+   * The Monte Carlo simulator.
+   */
+  private final HullWhiteMonteCarloSimulator simulator;
+
+  /**
+   * Creates an instance.
+   *
+   * @param paymentPricer  the pricer for {@link Payment}
+   * @param simulator  the Monte Carlo simulator
+   */
+  public HullWhiteMonteCarloSwaptionPhysicalProductPricer(
+      DiscountingPaymentPricer paymentPricer,
+      HullWhiteMonteCarloSimulator simulator) {
+
+    this.paymentPricer = ArgChecker.notNull(paymentPricer, "paymentPricer");
+    this.simulator = ArgChecker.notNull(simulator, "simulator");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of the swaption product.
+   * <p>
+   * The result is expressed using the currency of the swaption.
+   *
+   * @param swaption  the product
+   * @param ratesProvider  the rates provider
+   * @param hwProvider  the Hull-White model parameter provider
+   * @return the present value
+   */
+  public CurrencyAmount presentValue(
+      ResolvedSwaption swaption,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    validate(swaption, ratesProvider, hwProvider);
+    ResolvedSwap swap = swaption.getUnderlying();
+    Currency currency = swap.getLegs().get(0).getCurrency();
+    LocalDate expiryDate = swaption.getExpiryDate();
+    if (expiryDate.isBefore(ratesProvider.getValuationDate())) { // Option has expired already
+      return CurrencyAmount.of(currency, 0d);
+    }
+    List<Payment> payments = CashFlowEquivalentCalculator.cashFlowEquivalentSwap(swap, ratesProvider)
+        .getPaymentEvents().stream()
+        .map(event -> ((NotionalExchange) event).getPayment())
+        .collect(toImmutableList());
+    double[] sums = simulate(payments, expiryDate, ratesProvider, hwProvider);
+    double pv = sums[0] / simulator.getPathCount();
+    return CurrencyAmount.of(currency, pv * (swaption.getLongShort().isLong() ? 1d : -1d));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value sensitivity of the swaption product.
+   * <p>
+   * The present value sensitivity of the product is the sensitivity of the present value to
+   * the underlying curves.
+   *
+   * @param swaption  the product
+   * @param ratesProvider  the rates provider
+   * @param hwProvider  the Hull-White model parameter provider
+   * @return the point sensitivity to the rate curves
+   */
+  public PointSensitivityBuilder presentValueSensitivityRates(
+      ResolvedSwaption swaption,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    validate(swaption, ratesProvider, hwProvider);
+    ResolvedSwap swap = swaption.getUnderlying();
+    LocalDate expiryDate = swaption.getExpiryDate();
+    if (expiryDate.isBefore(ratesProvider.getValuationDate())) { // Option has expired already
+      return PointSensitivityBuilder.none();
+    }
+    ImmutableMap<Payment, PointSensitivityBuilder> cashFlowEquivSensi =
+        CashFlowEquivalentCalculator.cashFlowEquivalentAndSensitivitySwap(swap, ratesProvider);
+    ImmutableList<Payment> list = cashFlowEquivSensi.keySet().asList();
+    ImmutableList<PointSensitivityBuilder> listSensi = cashFlowEquivSensi.values().asList();
+    double[] sums = simulate(list, expiryDate, ratesProvider, hwProvider);
+    PointSensitivityBuilder point = PointSensitivityBuilder.none();
+    for (int loopcf = 0; loopcf < list.size(); loopcf++) {
+      Payment payment = list.get(loopcf);
+      double weight = sums[loopcf + 1] / simulator.getPathCount();
+      point = point.combinedWith(paymentPricer.presentValueSensitivity(payment, ratesProvider).multipliedBy(weight));
+      if (!listSensi.get(loopcf).equals(PointSensitivityBuilder.none())) {
+        point = point.combinedWith(listSensi.get(loopcf)
+            .multipliedBy(weight * ratesProvider.discountFactor(payment.getCurrency(), payment.getDate())));
+      }
+    }
+    return swaption.getLongShort().isLong() ? point : point.multipliedBy(-1d);
+  }
+
+  //-------------------------------------------------------------------------
+  // simulates the payoff, returns the sum of the payoffs and the sums of the derivatives to the discounted cash flows
+  private double[] simulate(
+      List<Payment> payments,
+      LocalDate expiryDate,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    int nPayments = payments.size();
+    double[] discountedCashFlow = new double[nPayments];
+    double[] paymentTime = new double[nPayments];
+    for (int loopcf = 0; loopcf < nPayments; loopcf++) {
+      Payment payment = payments.get(loopcf);
+      discountedCashFlow[loopcf] = paymentPricer.presentValueAmount(payment, ratesProvider);
+      paymentTime[loopcf] = hwProvider.relativeTime(payment.getDate());
+    }
+    double expiryTime = hwProvider.relativeTime(expiryDate);
+    List<double[]> batches = simulator.simulate(
+        hwProvider.getParameters(),
+        DoubleArray.of(expiryTime),
+        paths -> simulateBatch(paths, discountedCashFlow, paymentTime));
+    double[] sums = new double[nPayments + 1];
+    for (double[] batch : batches) {
+      for (int i = 0; i <= nPayments; i++) {
+        sums[i] += batch[i];
+      }
+    }
+    return sums;
+  }
+
+  // the payoffs and derivatives for a batch of paths
+  private static double[] simulateBatch(HullWhiteMonteCarloPaths paths, double[] discountedCashFlow, double[] paymentTime) {
+    int nPayments = discountedCashFlow.length;
+    int nbPaths = paths.getPathCount();
+    // the deflated bonds at expiry, by cash flow then by path
+    double[][] bonds = new double[nPayments][nbPaths];
+    double[] swapValue = new double[nbPaths];
+    for (int loopcf = 0; loopcf < nPayments; loopcf++) {
+      double[] bond = bonds[loopcf];
+      paths.deflatedDiscountFactors(0, paymentTime[loopcf], 1d, bond);
+      for (int j = 0; j < nbPaths; j++) {
+        swapValue[j] += discountedCashFlow[loopcf] * bond[j];
+      }
+    }
+    double[] sums = new double[nPayments + 1];
+    for (int j = 0; j < nbPaths; j++) {
+      if (swapValue[j] > 0d) {
+        sums[0] += swapValue[j];
+        for (int loopcf = 0; loopcf < nPayments; loopcf++) {
+          sums[loopcf + 1] += bonds[loopcf][j];
+        }
+      }
+    }
+    return sums;
+  }
+
+  //-------------------------------------------------------------------------
+  // validate that the rates and volatilities providers are coherent
+  private void validate(ResolvedSwaption swaption, RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+    ArgChecker.isTrue(hwProvider.getValuationDateTime().toLocalDate().equals(ratesProvider.getValuationDate()),
+        "Hull-White model data and rate data should be for the same date");
+    ArgChecker.isFalse(swaption.getUnderlying().isCrossCurrency(), "underlying swap should be single currency");
+    ArgChecker.isTrue(swaption.getSwaptionSettlement().getSettlementType().equals(SettlementType.PHYSICAL),
+        "swaption should be physical settlement");
+  }
+
+}
@@ -12,6 +12,9 @@ import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import com.opengamma.strata.basics.ReferenceData;
@@ -188,78 +191,169 @@ public final class SabrSwaptionCalibrator {
       Surface shiftSurface,
       boolean stopOnMathException) {
 
-    SwaptionVolatilitiesName name = definition.getName();
+    List<List<SmileResult>> results = new ArrayList<>();
+    for (Tenor tenor : data.getTenors()) {
+      results.add(calibrateTenor(definition, calibrationDateTime, data, ratesProvider,
+          betaSurface, shiftSurface, stopOnMathException, tenor, false));
+    }
+    return volatilities(definition, calibrationDateTime, betaSurface, shiftSurface, results);
+  }
+
+  /**
+   * Calibrate SABR parameters to a set of raw swaption data, calibrating the smiles in parallel.
+   * <p>
+   * The SABR parameters are calibrated with fixed beta and fixed shift surfaces.
+   * The raw data can be (shifted) log-normal volatilities, normal volatilities or option prices
+   * <p>
+   * The smiles of each tenor are calibrated as a separate task using the executor.
+   * Within a tenor, the expiries are calibrated in order, each starting from the solution of the previous expiry.
+   * The first expiry of each tenor is calibrated using the standard starting points, as in
+   * {@link #calibrateWithFixedBetaAndShift(SabrSwaptionDefinition, ZonedDateTime, TenorRawOptionData,
+   * RatesProvider, Surface, Surface, boolean)}. The standard starting points are also used for any expiry whose
+   * warm started calibration fails or does not fit the smile within the data error on average,
+   * in which case the result with the lower chi-square is used.
+   * As each task only depends on its own data, the result does not depend on the executor or the order in which
+   * the tasks complete. The parameters match those of the sequential calibration within the calibration tolerance.
+   * <p>
+   * If more than one tenor throws a MathException, the exception of the first tenor is thrown.
+   * 
+   * @param definition  the definition of the calibration to be performed
+   * @param calibrationDateTime  the data and time of the calibration
+   * @param data  the map of raw option data, keyed by tenor
+   * @param ratesProvider  the rate provider used to compute the swap forward rates
+   * @param betaSurface  the beta surface
+   * @param shiftSurface  the shift surface
+   * @param stopOnMathException  flag indicating if the calibration should stop on math exceptions or skip the 
+   *   expiries/tenors which throw MathException
+   * @param executor  the executor used to calibrate the smiles of each tenor
+   * @return the SABR volatility object
+   */
+  public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShift(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    List<CompletableFuture<List<SmileResult>>> futures = new ArrayList<>();
+    for (Tenor tenor : data.getTenors()) {
+      futures.add(CompletableFuture.supplyAsync(() -> calibrateTenor(definition, calibrationDateTime, data, ratesProvider,
+          betaSurface, shiftSurface, stopOnMathException, tenor, true), executor));
+    }
+    List<List<SmileResult>> results = new ArrayList<>();
+    for (CompletableFuture<List<SmileResult>> future : futures) {
+      try {
+        results.add(future.join());
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) ex.getCause();
+        }
+        if (ex.getCause() instanceof Error) {
+          throw (Error) ex.getCause();
+        }
+        throw ex;
+      }
+    }
+    return volatilities(definition, calibrationDateTime, betaSurface, shiftSurface, results);
+  }
+
+  // calibrates the smiles of a single tenor, optionally starting each from the solution of the previous expiry
+  private List<SmileResult> calibrateTenor(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException,
+      Tenor tenor,
+      boolean warmStart) {
+
     FixedIborSwapConvention convention = definition.getConvention();
     DayCount dayCount = definition.getDayCount();
-    SurfaceInterpolator interpolator = definition.getInterpolator();
-
     BitSet fixed = new BitSet();
     fixed.set(1); // Beta fixed
     BusinessDayAdjustment bda = convention.getFloatingLeg().getStartDateBusinessDayAdjustment();
     LocalDate calibrationDate = calibrationDateTime.toLocalDate();
+    List<SmileResult> results = new ArrayList<>();
+    RawOptionData tenorData = data.getData(tenor);
+    double timeTenor = tenor.getPeriod().getYears() + tenor.getPeriod().getMonths() / 12;
+    List<Period> expiries = tenorData.getExpiries();
+    int nbExpiries = expiries.size();
+    SabrFormulaData previous = null;
+    for (int loopexpiry = 0; loopexpiry < nbExpiries; loopexpiry++) {
+      Pair<DoubleArray, DoubleArray> availableSmile = tenorData.availableSmileAtExpiry(expiries.get(loopexpiry));
+      if (availableSmile.getFirst().size() == 0) { // If not data is available, no calibration possible
+        continue;
+      }
+      LocalDate exerciseDate = expirationDate(bda, calibrationDate, expiries.get(loopexpiry));
+      LocalDate effectiveDate = convention.calculateSpotDateFromTradeDate(exerciseDate, refData);
+      double timeToExpiry = dayCount.relativeYearFraction(calibrationDate, exerciseDate);
+      double beta = betaSurface.zValue(timeToExpiry, timeTenor);
+      double shift = shiftSurface.zValue(timeToExpiry, timeTenor);
+      LocalDate endDate = effectiveDate.plus(tenor);
+      SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
+      double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
+      try {
+        Pair<SabrFormulaData, DoubleMatrix> calibrationResult =
+            calibration(forward, shift, beta, fixed, bda, calibrationDateTime, dayCount,
+                availableSmile.getFirst(), availableSmile.getSecond(), expiries.get(loopexpiry), tenorData,
+                warmStart ? previous : null);
+        previous = calibrationResult.getFirst();
+        ParameterMetadata parameterMetadata = SwaptionSurfaceExpiryTenorParameterMetadata.of(
+            timeToExpiry,
+            timeTenor,
+            expiries.get(loopexpiry).toString() + "x" + tenor.toString());
+        results.add(new SmileResult(
+            timeToExpiry, timeTenor, parameterMetadata, calibrationResult.getFirst(), calibrationResult.getSecond()));
+      } catch (MathException e) {
+        if (stopOnMathException) {
+          String message = Messages.format("{} at expiry {} and tenor {}", e.getMessage(),
+              expiries.get(loopexpiry), tenor);
+          throw new MathException(message, e);
+        }
+      }
+    }
+    return results;
+  }
+
+  // creates the volatilities from the calibrated smiles
+  private SabrParametersSwaptionVolatilities volatilities(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      Surface betaSurface,
+      Surface shiftSurface,
+      List<List<SmileResult>> results) {
+
+    SwaptionVolatilitiesName name = definition.getName();
+    FixedIborSwapConvention convention = definition.getConvention();
+    DayCount dayCount = definition.getDayCount();
+    SurfaceInterpolator interpolator = definition.getInterpolator();
     // Sorted maps to obtain the surfaces nodes in standard order
     TreeMap<Double, TreeMap<Double, ParameterMetadata>> parameterMetadataTmp = new TreeMap<>();
     TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityAlphaTmp = new TreeMap<>(); // Sensitivity to the calibrating data
     TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityRhoTmp = new TreeMap<>();
     TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityNuTmp = new TreeMap<>();
     TreeMap<Double, TreeMap<Double, SabrFormulaData>> sabrPointTmp = new TreeMap<>();
-    for (Tenor tenor : data.getTenors()) {
-      RawOptionData tenorData = data.getData(tenor);
-      double timeTenor = tenor.getPeriod().getYears() + tenor.getPeriod().getMonths() / 12;
-      List<Period> expiries = tenorData.getExpiries();
-      int nbExpiries = expiries.size();
-      for (int loopexpiry = 0; loopexpiry < nbExpiries; loopexpiry++) {
-        Pair<DoubleArray, DoubleArray> availableSmile = tenorData.availableSmileAtExpiry(expiries.get(loopexpiry));
-        if (availableSmile.getFirst().size() == 0) { // If not data is available, no calibration possible
-          continue;
-        }
-        LocalDate exerciseDate = expirationDate(bda, calibrationDate, expiries.get(loopexpiry));
-        LocalDate effectiveDate = convention.calculateSpotDateFromTradeDate(exerciseDate, refData);
-        double timeToExpiry = dayCount.relativeYearFraction(calibrationDate, exerciseDate);
-        double beta = betaSurface.zValue(timeToExpiry, timeTenor);
-        double shift = shiftSurface.zValue(timeToExpiry, timeTenor);
-        LocalDate endDate = effectiveDate.plus(tenor);
-        SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
-        double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
-        SabrFormulaData sabrPoint = null;
-        DoubleMatrix inverseJacobian = null;
-        boolean error = false;
-        try {
-          Pair<SabrFormulaData, DoubleMatrix> calibrationResult =
-              calibration(forward, shift, beta, fixed, bda, calibrationDateTime, dayCount,
-                  availableSmile.getFirst(), availableSmile.getSecond(), expiries.get(loopexpiry), tenorData);
-          sabrPoint = calibrationResult.getFirst();
-          inverseJacobian = calibrationResult.getSecond();
-        } catch (MathException e) {
-          error = true;
-          if (stopOnMathException) {
-            String message = Messages.format("{} at expiry {} and tenor {}", e.getMessage(),
-                expiries.get(loopexpiry), tenor);
-            throw new MathException(message, e);
-          }
-        }
-        if (!error) {
-          if (!parameterMetadataTmp.containsKey(timeToExpiry)) {
-            parameterMetadataTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityAlphaTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityRhoTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityNuTmp.put(timeToExpiry, new TreeMap<>());
-            sabrPointTmp.put(timeToExpiry, new TreeMap<>());
-          }
-          TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
-          TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
-          parameterMetadataExpiryMap.put(timeTenor, SwaptionSurfaceExpiryTenorParameterMetadata.of(
-              timeToExpiry,
-              timeTenor,
-              expiries.get(loopexpiry).toString() + "x" + tenor.toString()));
-          dataSensitivityAlphaExpiryMap.put(timeTenor, inverseJacobian.row(0));
-          dataSensitivityRhoExpiryMap.put(timeTenor, inverseJacobian.row(2));
-          dataSensitivityNuExpiryMap.put(timeTenor, inverseJacobian.row(3));
-          sabrPointExpiryMap.put(timeTenor, sabrPoint);
+    for (List<SmileResult> tenorResults : results) {
+      for (SmileResult result : tenorResults) {
+        double timeToExpiry = result.timeToExpiry;
+        if (!parameterMetadataTmp.containsKey(timeToExpiry)) {
+          parameterMetadataTmp.put(timeToExpiry, new TreeMap<>());
+          dataSensitivityAlphaTmp.put(timeToExpiry, new TreeMap<>());
+          dataSensitivityRhoTmp.put(timeToExpiry, new TreeMap<>());
+          dataSensitivityNuTmp.put(timeToExpiry, new TreeMap<>());
+          sabrPointTmp.put(timeToExpiry, new TreeMap<>());
         }
+        parameterMetadataTmp.get(timeToExpiry).put(result.timeTenor, result.parameterMetadata);
+        dataSensitivityAlphaTmp.get(timeToExpiry).put(result.timeTenor, result.inverseJacobian.row(0));
+        dataSensitivityRhoTmp.get(timeToExpiry).put(result.timeTenor, result.inverseJacobian.row(2));
+        dataSensitivityNuTmp.get(timeToExpiry).put(result.timeTenor, result.inverseJacobian.row(3));
+        sabrPointTmp.get(timeToExpiry).put(result.timeTenor, result.sabrPoint);
       }
     }
     DoubleArray timeToExpiryArray = DoubleArray.EMPTY;
@@ -317,9 +411,63 @@ public final class SabrSwaptionCalibrator {
         .dataSensitivityNu(dataSensitivityNu).build();
   }
 
-  // The main part of the calibration. The calibration is done 4 times with different starting points: low and high
-  // volatilities and high and low vol of vol. The best result (in term of chi^2) is returned.
+  // The main part of the calibration. If present, the calibration starts from the warm start parameters.
+  // If there is no warm start, or if it fails or fits the data poorly, the standard starting points are used.
   private Pair<SabrFormulaData, DoubleMatrix> calibration(
+      double forward,
+      double shift,
+      double beta,
+      BitSet fixed,
+      BusinessDayAdjustment bda,
+      ZonedDateTime calibrationDateTime,
+      DayCount dayCount,
+      DoubleArray strike,
+      DoubleArray data,
+      Period expiry,
+      RawOptionData rawData,
+      SabrFormulaData warmStart) {
+
+    Pair<LeastSquareResultsWithTransform, DoubleArray> warmResult = null;
+    if (warmStart != null) {
+      DoubleArray startParameters = DoubleArray.of(warmStart.getAlpha(), beta, warmStart.getRho(), warmStart.getNu());
+      try {
+        warmResult = calibrationLs(bda, calibrationDateTime, dayCount,
+            expiry, forward, strike, data, rawData, startParameters, fixed, shift);
+      } catch (MathException e) {
+        // fall back to the standard starting points
+      }
+    }
+    // the warm start is accepted if it fits the smile within the data error on average
+    // otherwise the standard starting points are also tried, and the best result is used
+    Pair<LeastSquareResultsWithTransform, DoubleArray> sabrCalibrationResult = warmResult;
+    if (warmResult == null || warmResult.getFirst().getChiSq() > strike.size()) {
+      Pair<LeastSquareResultsWithTransform, DoubleArray> coldResult = calibrationBestOfFour(
+          forward, shift, beta, fixed, bda, calibrationDateTime, dayCount, strike, data, expiry, rawData);
+      if (warmResult == null ||
+          (coldResult != null && coldResult.getFirst().getChiSq() <= warmResult.getFirst().getChiSq())) {
+        sabrCalibrationResult = coldResult;
+      }
+    }
+    SabrFormulaData sabrParameters =
+        SabrFormulaData.of(sabrCalibrationResult.getFirst().getModelParameters().toArrayUnsafe());
+    DoubleMatrix parameterSensitivityToBlackShifted =
+        sabrCalibrationResult.getFirst().getModelParameterSensitivityToData();
+    DoubleArray blackVolSensitivitytoRawData = sabrCalibrationResult.getSecond();
+    // Multiply the sensitivity to the intermediary (shifted) log-normal vol by its sensitivity to the raw data
+    double[][] parameterSensitivityToDataArray = new double[4][blackVolSensitivitytoRawData.size()];
+    for (int loopsabr = 0; loopsabr < 4; loopsabr++) {
+      for (int loopdata = 0; loopdata < blackVolSensitivitytoRawData.size(); loopdata++) {
+        parameterSensitivityToDataArray[loopsabr][loopdata] =
+            parameterSensitivityToBlackShifted.get(loopsabr, loopdata) * blackVolSensitivitytoRawData.get(loopdata);
+      }
+    }
+    DoubleMatrix parameterSensitivityToData = DoubleMatrix.ofUnsafe(parameterSensitivityToDataArray);
+    return Pair.of(sabrParameters, parameterSensitivityToData);
+  }
+
+  // The calibration is done 4 times with different starting points: low and high volatilities and
+  // high and low vol of vol. The best result (in term of chi^2) is returned.
+  private Pair<LeastSquareResultsWithTransform, DoubleArray> calibrationBestOfFour(
       double forward,
       double shift,
       double beta,
@@ -348,47 +496,46 @@ public final class SabrSwaptionCalibrator {
     Pair<LeastSquareResultsWithTransform, DoubleArray> sabrCalibrationResult = null;
     for (int i = 0; i < 4; i++) { // Try different starting points and take the best
       DoubleArray startParameters = DoubleArray.of(alphaStart[i], beta, rhoStart, nuStart[i]);
-      Pair<LeastSquareResultsWithTransform, DoubleArray> r = null;
-      if (rawData.getDataType().equals(ValueType.NORMAL_VOLATILITY)) {
-        r = calibrateLsShiftedFromNormalVolatilities(bda, calibrationDateTime, dayCount,
-            expiry, forward, strike, rawData.getStrikeType(),
-            data, startParameters, fixed, shift);
-      } else {
-        if (rawData.getDataType().equals(ValueType.PRICE)) {
-          r = calibrateLsShiftedFromPrices(bda, calibrationDateTime, dayCount,
-              expiry, forward, strike, rawData.getStrikeType(),
-              data, startParameters, fixed, shift);
-        } else {
-          if (rawData.getDataType().equals(ValueType.BLACK_VOLATILITY)) {
-            r = calibrateLsShiftedFromBlackVolatilities(bda, calibrationDateTime, dayCount,
-                expiry, forward, strike, rawData.getStrikeType(),
-                data, rawData.getShift().orElse(0d), startParameters, fixed, shift);
-          } else {
-            throw new IllegalArgumentException("Data type not supported");
-          }
-        }
-      }
+      Pair<LeastSquareResultsWithTransform, DoubleArray> r = calibrationLs(bda, calibrationDateTime, dayCount,
+          expiry, forward, strike, data, rawData, startParameters, fixed, shift);
       if (r.getFirst().getChiSq() < chi2) { // Keep best calibration
         sabrCalibrationResult = r;
         chi2 = r.getFirst().getChiSq();
       }
     }
-    @SuppressWarnings("null")
-    SabrFormulaData sabrParameters =
-        SabrFormulaData.of(sabrCalibrationResult.getFirst().getModelParameters().toArrayUnsafe());
-    DoubleMatrix parameterSensitivityToBlackShifted =
-        sabrCalibrationResult.getFirst().getModelParameterSensitivityToData();
-    DoubleArray blackVolSensitivitytoRawData = sabrCalibrationResult.getSecond();
-    // Multiply the sensitivity to the intermediary (shifted) log-normal vol by its sensitivity to the raw data
-    double[][] parameterSensitivityToDataArray = new double[4][blackVolSensitivitytoRawData.size()];
-    for (int loopsabr = 0; loopsabr < 4; loopsabr++) {
-      for (int loopdata = 0; loopdata < blackVolSensitivitytoRawData.size(); loopdata++) {
-        parameterSensitivityToDataArray[loopsabr][loopdata] =
-            parameterSensitivityToBlackShifted.get(loopsabr, loopdata) * blackVolSensitivitytoRawData.get(loopdata);
-      }
+    return sabrCalibrationResult;
+  }
+
+  // calibrates from a single starting point, using the data type of the raw data
+  private Pair<LeastSquareResultsWithTransform, DoubleArray> calibrationLs(
+      BusinessDayAdjustment bda,
+      ZonedDateTime calibrationDateTime,
+      DayCount dayCount,
+      Period expiry,
+      double forward,
+      DoubleArray strike,
+      DoubleArray data,
+      RawOptionData rawData,
+      DoubleArray startParameters,
+      BitSet fixed,
+      double shift) {
+
+    if (rawData.getDataType().equals(ValueType.NORMAL_VOLATILITY)) {
+      return calibrateLsShiftedFromNormalVolatilities(bda, calibrationDateTime, dayCount,
+          expiry, forward, strike, rawData.getStrikeType(),
+          data, startParameters, fixed, shift);
     }
-    DoubleMatrix parameterSensitivityToData = DoubleMatrix.ofUnsafe(parameterSensitivityToDataArray);
-    return Pair.of(sabrParameters, parameterSensitivityToData);
+    if (rawData.getDataType().equals(ValueType.PRICE)) {
+      return calibrateLsShiftedFromPrices(bda, calibrationDateTime, dayCount,
+          expiry, forward, strike, rawData.getStrikeType(),
+          data, startParameters, fixed, shift);
+    }
+    if (rawData.getDataType().equals(ValueType.BLACK_VOLATILITY)) {
+      return calibrateLsShiftedFromBlackVolatilities(bda, calibrationDateTime, dayCount,
+          expiry, forward, strike, rawData.getStrikeType(),
+          data, rawData.getShift().orElse(0d), startParameters, fixed, shift);
+    }
+    throw new IllegalArgumentException("Data type not supported");
   }
 
   //-------------------------------------------------------------------------
@@ -899,4 +1046,31 @@ public final class SabrSwaptionCalibrator {
     return bda.adjust(calibrationDate.plus(expiry), refData);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * The result of calibrating a single smile.
+   */
+  private static final class SmileResult {
+
+    private final double timeToExpiry;
+    private final double timeTenor;
+    private final ParameterMetadata parameterMetadata;
+    private final SabrFormulaData sabrPoint;
+    private final DoubleMatrix inverseJacobian;
+
+    private SmileResult(
+        double timeToExpiry,
+        double timeTenor,
+        ParameterMetadata parameterMetadata,
+        SabrFormulaData sabrPoint,
+        DoubleMatrix inverseJacobian) {
+
+      this.timeToExpiry = timeToExpiry;
+      this.timeTenor = timeTenor;
+      this.parameterMetadata = parameterMetadata;
+      this.sabrPoint = sabrPoint;
+      this.inverseJacobian = inverseJacobian;
+    }
+  }
+
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.pricer.CompoundedRateType.CONTINUOUS;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.CurveMetadata;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+
+/**
+ * Test {@link CachingDiscountFactors}.
+ */
+@Test
+public class CachingDiscountFactorsTest {
+
+  private static final LocalDate DATE_VAL = date(2015, 6, 4);
+  private static final LocalDate DATE_AFTER = date(2015, 7, 30);
+  private static final LocalDate DATE_FAR = date(2045, 7, 30);
+
+  private static final CurveName NAME = CurveName.of("TestCurve");
+  private static final CurveMetadata METADATA = Curves.zeroRates(NAME, ACT_365F);
+  private static final InterpolatedNodalCurve CURVE = InterpolatedNodalCurve.of(
+      METADATA, DoubleArray.of(0, 10), DoubleArray.of(0.01, 0.02), CurveInterpolators.LINEAR);
+  private static final DiscountFactors BASE = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    DiscountFactors test = CachingDiscountFactors.of(BASE, 365);
+    assertEquals(((CachingDiscountFactors) test).getUnderlying(), BASE);
+    assertEquals(test.getCurrency(), GBP);
+    assertEquals(test.getValuationDate(), DATE_VAL);
+    assertEquals(test.getParameterCount(), BASE.getParameterCount());
+    assertEquals(test.getParameter(0), BASE.getParameter(0));
+    assertEquals(test.getParameterMetadata(0), BASE.getParameterMetadata(0));
+    assertEquals(test.withParameter(0, 1d), BASE.withParameter(0, 1d));
+    assertEquals(test.withPerturbation((i, v, m) -> v + 1d), BASE.withPerturbation((i, v, m) -> v + 1d));
+    assertEquals(test.findData(NAME), Optional.of(CURVE));
+    assertSame(CachingDiscountFactors.of(test, 365), test);
+  }
+
+  public void test_values() {
+    DiscountFactors test = CachingDiscountFactors.of(BASE, 365);
+    for (LocalDate date : new LocalDate[] {DATE_VAL, DATE_AFTER, DATE_FAR}) {
+      for (int i = 0; i < 2; i++) {
+        double yearFraction = BASE.relativeYearFraction(date);
+        assertEquals(test.relativeYearFraction(date), yearFraction);
+        assertEquals(test.discountFactor(date), BASE.discountFactor(date));
+        assertEquals(test.discountFactor(yearFraction), BASE.discountFactor(yearFraction));
+        assertEquals(test.discountFactorTimeDerivative(yearFraction), BASE.discountFactorTimeDerivative(yearFraction));
+        assertEquals(test.zeroRate(date), BASE.zeroRate(date));
+        assertEquals(test.discountFactorWithSpread(date, 0.01, CONTINUOUS, 0),
+            BASE.discountFactorWithSpread(date, 0.01, CONTINUOUS, 0));
+        assertEquals(test.zeroRatePointSensitivity(date), BASE.zeroRatePointSensitivity(date));
+        assertEquals(test.zeroRatePointSensitivity(date, USD), BASE.zeroRatePointSensitivity(date, USD));
+      }
+    }
+  }
+
+  public void test_sensitivity() {
+    DiscountFactors test = CachingDiscountFactors.of(BASE, 365);
+    ZeroRateSensitivity point = test.zeroRatePointSensitivity(DATE_AFTER);
+    assertEquals(test.parameterSensitivity(point), BASE.parameterSensitivity(point));
+    DoubleArray sensitivities = DoubleArray.of(1d, 2d);
+    assertEquals(test.createParameterSensitivity(USD, sensitivities), BASE.createParameterSensitivity(USD, sensitivities));
+  }
+
+}
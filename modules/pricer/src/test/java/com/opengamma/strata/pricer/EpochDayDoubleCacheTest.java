@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test {@link EpochDayDoubleCache}.
+ */
+@Test
+public class EpochDayDoubleCacheTest {
+
+  private static final LocalDate START = date(2015, 6, 4);
+
+  public void test_get_cached() {
+    EpochDayDoubleCache test = EpochDayDoubleCache.of(START, 10);
+    AtomicInteger count = new AtomicInteger();
+    assertEquals(test.size(), 10);
+    assertEquals(test.get(START.plusDays(3), d -> count.incrementAndGet() + 0.5d), 1.5d);
+    assertEquals(test.get(START.plusDays(3), d -> count.incrementAndGet() + 0.5d), 1.5d);
+    assertEquals(test.get(START.plusDays(9).toEpochDay(), d -> count.incrementAndGet() + 0.5d), 2.5d);
+    assertEquals(test.get(START.plusDays(9).toEpochDay(), d -> count.incrementAndGet() + 0.5d), 2.5d);
+    assertEquals(count.get(), 2);
+  }
+
+  public void test_get_nan() {
+    EpochDayDoubleCache test = EpochDayDoubleCache.of(START, 10);
+    AtomicInteger count = new AtomicInteger();
+    assertEquals(test.get(START, d -> count.incrementAndGet() > 0 ? Double.NaN : 0d), Double.NaN);
+    assertEquals(test.get(START, d -> count.incrementAndGet() > 0 ? Double.NaN : 0d), Double.NaN);
+    assertEquals(count.get(), 1);
+  }
+
+  public void test_get_outsideWindow() {
+    EpochDayDoubleCache test = EpochDayDoubleCache.of(START, 10);
+    AtomicInteger count = new AtomicInteger();
+    assertEquals(test.get(START.minusDays(1), d -> count.incrementAndGet()), 1d);
+    assertEquals(test.get(START.minusDays(1), d -> count.incrementAndGet()), 2d);
+    assertEquals(test.get(START.plusDays(10), d -> count.incrementAndGet()), 3d);
+    assertEquals(test.get(START.plusDays(10), d -> count.incrementAndGet()), 4d);
+  }
+
+  public void test_get_concurrent() {
+    EpochDayDoubleCache test = EpochDayDoubleCache.of(START, 100);
+    double[] results = IntStream.range(0, 10_000)
+        .parallel()
+        .mapToDouble(i -> test.get(START.toEpochDay() + (i % 200), d -> d * 2d))
+        .toArray();
+    for (int i = 0; i < results.length; i++) {
+      assertEquals(results[i], (START.toEpochDay() + (i % 200)) * 2d);
+    }
+  }
+
+  public void test_of_negativeSize() {
+    assertThrowsIllegalArg(() -> EpochDayDoubleCache.of(START, -1));
+  }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Test {@link SimulatedValueProfile}.
+ */
+@Test
+public class SimulatedValueProfileTest {
+
+  private static final List<LocalDate> DATES = ImmutableList.of(LocalDate.of(2017, 1, 3), LocalDate.of(2018, 1, 3));
+  private static final DoubleArray DISCOUNT_FACTORS = DoubleArray.of(1d, 0.9);
+  private static final DoubleMatrix VALUES = DoubleMatrix.copyOf(new double[][] {
+      {10d, 10d, 10d, 10d},
+      {-20d, 30d, 10d, -5d}});
+  private static final DoubleMatrix DEFLATORS = DoubleMatrix.copyOf(new double[][] {
+      {1d, 1d, 1d, 1d},
+      {0.8, 0.9, 1.0, 0.9}});
+  private static final double TOL = 1e-12;
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    SimulatedValueProfile test = SimulatedValueProfile.of(EUR, DATES, DISCOUNT_FACTORS, VALUES, DEFLATORS);
+    assertEquals(test.getCurrency(), EUR);
+    assertEquals(test.getDates(), DATES);
+    assertEquals(test.getDiscountFactors(), DISCOUNT_FACTORS);
+    assertEquals(test.getValues(), VALUES);
+    assertEquals(test.getDeflators(), DEFLATORS);
+    assertEquals(test.getPathCount(), 4);
+  }
+
+  public void test_of_invalid() {
+    assertThrowsIllegalArg(() -> SimulatedValueProfile.of(EUR, DATES, DoubleArray.of(1d), VALUES, DEFLATORS));
+    assertThrowsIllegalArg(() -> SimulatedValueProfile.of(EUR, DATES.subList(0, 1), DISCOUNT_FACTORS, VALUES, DEFLATORS));
+    assertThrowsIllegalArg(() -> SimulatedValueProfile.of(
+        EUR, DATES, DISCOUNT_FACTORS, VALUES, DoubleMatrix.filled(2, 3)));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_expectedPositiveExposure() {
+    SimulatedValueProfile test = SimulatedValueProfile.of(EUR, DATES, DISCOUNT_FACTORS, VALUES, DEFLATORS);
+    DoubleArray computed = test.expectedPositiveExposure();
+    assertEquals(computed.get(0), 10d, TOL);
+    assertEquals(computed.get(1), (0.9 * 30d + 1.0 * 10d) / (4 * 0.9), TOL);
+  }
+
+  public void test_potentialFutureExposure() {
+    SimulatedValueProfile test = SimulatedValueProfile.of(EUR, DATES, DISCOUNT_FACTORS, VALUES, DEFLATORS);
+    // sorted values -20, -5, 10, 30 with weights 0.8, 0.9, 1.0, 0.9 out of 3.6, floored at zero
+    assertEquals(test.potentialFutureExposure(0.2), DoubleArray.of(10d, 0d));
+    assertEquals(test.potentialFutureExposure(0.5), DoubleArray.of(10d, 10d));
+    assertEquals(test.potentialFutureExposure(0.95), DoubleArray.of(10d, 30d));
+    assertThrowsIllegalArg(() -> test.potentialFutureExposure(0d));
+    assertThrowsIllegalArg(() -> test.potentialFutureExposure(1d));
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    SimulatedValueProfile test = SimulatedValueProfile.of(EUR, DATES, DISCOUNT_FACTORS, VALUES, DEFLATORS);
+    coverImmutableBean(test);
+    SimulatedValueProfile test2 = SimulatedValueProfile.of(
+        USD, DATES.subList(0, 1), DoubleArray.of(1d), DoubleMatrix.filled(1, 2), DoubleMatrix.filled(1, 2, 1d));
+    coverBeanEquals(test, test2);
+  }
+
+  public void test_serialization() {
+    SimulatedValueProfile test = SimulatedValueProfile.of(EUR, DATES, DISCOUNT_FACTORS, VALUES, DEFLATORS);
+    assertSerialization(test);
+  }
+
+}
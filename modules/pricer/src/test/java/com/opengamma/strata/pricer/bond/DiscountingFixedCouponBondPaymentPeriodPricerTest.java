@@ -17,6 +17,7 @@ import java.time.LocalDate;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.curve.CurveMetadata;
 import com.opengamma.strata.market.curve.CurveName;
@@ -31,6 +32,7 @@ import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateDiscountFactors;
 import com.opengamma.strata.product.bond.FixedCouponBondPaymentPeriod;
+import com.opengamma.strata.product.bond.FixedCouponBondPaymentPeriodArray;
 
 /**
  * Test {@link DiscountingFixedCouponBondPaymentPeriodPricer}.
@@ -85,6 +87,21 @@ public class DiscountingFixedCouponBondPaymentPeriodPricerTest {
     assertEquals(computed, expected);
   }
 
+  public void test_presentValue_array() {
+    FixedCouponBondPaymentPeriod period2 = PAYMENT_PERIOD.toBuilder()
+        .startDate(END_ADJUSTED)
+        .unadjustedStartDate(END)
+        .endDate(LocalDate.of(2016, 2, 2))
+        .unadjustedEndDate(LocalDate.of(2016, 2, 2))
+        .build();
+    FixedCouponBondPaymentPeriodArray periods =
+        FixedCouponBondPaymentPeriodArray.of(USD, ImmutableList.of(PAYMENT_PERIOD, period2));
+    double expected = PRICER.presentValue(PAYMENT_PERIOD, ISSUER_CURVE) + PRICER.presentValue(period2, ISSUER_CURVE);
+    assertEquals(PRICER.presentValue(periods, ISSUER_CURVE), expected, NOTIONAL * TOL);
+    // past payments are excluded
+    assertEquals(PRICER.presentValue(periods, ISSUER_CURVE_AFTER), PRICER.presentValue(period2, ISSUER_CURVE_AFTER));
+  }
+
   public void test_presentValueWithSpread() {
     double computed = PRICER.presentValueWithSpread(
         PAYMENT_PERIOD, ISSUER_CURVE, Z_SPREAD, PERIODIC, PERIOD_PER_YEAR);
@@ -23,6 +23,7 @@ import java.util.List;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
@@ -49,6 +50,7 @@ import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.common.PriceType;
 import com.opengamma.strata.pricer.sensitivity.RatesFiniteDifferenceSensitivityCalculator;
 import com.opengamma.strata.product.credit.Cds;
+import com.opengamma.strata.product.credit.CreditCouponPaymentPeriodArray;
 import com.opengamma.strata.product.credit.PaymentOnDefault;
 import com.opengamma.strata.product.credit.ProtectionStartOfDay;
 import com.opengamma.strata.product.credit.ResolvedCds;
@@ -647,6 +649,32 @@ public class IsdaCdsProductPricerTest {
     assertEquals(resNsBtw, 10.367538779382677, TOL);
   }
 
+  public void test_riskyAnnuity_array() {
+    List<ResolvedCds> products = ImmutableList.of(
+        PRODUCT_NEXTDAY, PRODUCT_BEFORE, PRODUCT_AFTER, PRODUCT_NS_TODAY, PRODUCT_NS_STEPIN, PRODUCT_NS_BTW);
+    List<CreditRatesProvider> providers = ImmutableList.of(
+        RATES_PROVIDER,
+        createCreditRatesProvider(LocalDate.of(2014, 3, 21)),
+        createCreditRatesProvider(LocalDate.of(2024, 9, 19)),
+        createCreditRatesProvider(LocalDate.of(2024, 9, 20)));
+    for (IsdaCdsProductPricer pricer : ImmutableList.of(PRICER, PRICER_FIX, PRICER_CORRECT)) {
+      for (ResolvedCds product : products) {
+        CreditCouponPaymentPeriodArray periods = CreditCouponPaymentPeriodArray.of(product);
+        for (CreditRatesProvider provider : providers) {
+          LocalDate settlementDate = product.getSettlementDateOffset().adjust(provider.getValuationDate(), REF_DATA);
+          for (PriceType priceType : PriceType.values()) {
+            double expected = pricer.riskyAnnuity(product, provider, settlementDate, priceType, REF_DATA);
+            double computed = pricer.riskyAnnuity(product, periods, provider, settlementDate, priceType, REF_DATA);
+            assertEquals(computed, expected, TOL);
+          }
+        }
+      }
+    }
+    CreditCouponPaymentPeriodArray other = CreditCouponPaymentPeriodArray.of(PRODUCT_NS_BTW);
+    assertThrowsIllegalArg(() -> PRICER.riskyAnnuity(
+        PRODUCT_BEFORE, other, RATES_PROVIDER, RATES_PROVIDER.getValuationDate(), DIRTY, REF_DATA));
+  }
+
   public void truncationRegressionTest() {
     CreditRatesProvider ratesAccEndDate = createCreditRatesProvider(LocalDate.of(2014, 3, 22));
     double resAccEndDate = PRICER.riskyAnnuity(PRODUCT_BEFORE, ratesAccEndDate,
@@ -173,6 +173,13 @@ public class IsdaCompliantZeroRateDiscountFactorsTest {
   }
 
   //-------------------------------------------------------------------------
+  public void test_relativeYearFraction() {
+    IsdaCreditDiscountFactors test = IsdaCreditDiscountFactors.of(USD, VALUATION, CURVE);
+    double expected = ACT_365F.relativeYearFraction(VALUATION, DATE_AFTER);
+    assertEquals(test.relativeYearFraction(DATE_AFTER), expected);
+    assertEquals(test.relativeYearFraction(DATE_AFTER.toEpochDay()), expected);
+  }
+
   public void test_discountFactor() {
     IsdaCreditDiscountFactors test = IsdaCreditDiscountFactors.of(USD, VALUATION, CURVE);
     double relativeYearFraction = ACT_365F.relativeYearFraction(VALUATION, DATE_AFTER);
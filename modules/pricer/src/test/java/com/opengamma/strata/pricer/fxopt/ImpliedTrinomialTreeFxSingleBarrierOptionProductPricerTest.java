@@ -14,9 +14,11 @@ import static org.testng.Assert.assertTrue;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.currency.Payment;
@@ -314,6 +316,57 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricerTest {
     assertTrue(computed.equalWithTolerance(expected, 1.0e-13));
   }
 
+  //-------------------------------------------------------------------------
+  public void test_severalOptions() {
+    ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer pricer =
+        new ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(21);
+    ResolvedFxVanillaOption callShort = CALL.toBuilder().expiry(EXPIRY_DATETIME.minusMonths(9)).build();
+    List<ResolvedFxSingleBarrierOption> options = ImmutableList.of(
+        CALL_DKO,
+        CALL_UKI_C,
+        ResolvedFxSingleBarrierOption.of(CALL, BARRIER_UKI),
+        ResolvedFxSingleBarrierOption.of(PUT, BARRIER_DKO, REBATE_BASE),
+        ResolvedFxSingleBarrierOption.of(callShort, BARRIER_DKO),
+        ResolvedFxSingleBarrierOption.of(callShort, BARRIER_UKI, REBATE));
+    List<CurrencyAmount> pvs = pricer.presentValue(options, RATE_PROVIDER, VOLS);
+    List<CurrencyParameterSensitivities> sensitivities =
+        pricer.presentValueSensitivityRates(options, RATE_PROVIDER, VOLS);
+    assertEquals(pvs.size(), options.size());
+    assertEquals(sensitivities.size(), options.size());
+    for (int i = 0; i < options.size(); ++i) {
+      ResolvedFxSingleBarrierOption option = options.get(i);
+      assertEquals(pvs.get(i), pricer.presentValue(option, RATE_PROVIDER, VOLS));
+      CurrencyParameterSensitivities expected = pricer.presentValueSensitivityRates(option, RATE_PROVIDER, VOLS);
+      assertTrue(sensitivities.get(i).equalWithTolerance(expected, 1.0e-13));
+    }
+    assertEquals(pricer.presentValue(ImmutableList.of(), RATE_PROVIDER, VOLS), ImmutableList.of());
+    assertThrowsIllegalArg(() -> pricer.presentValue(ImmutableList.of(CALL_DKO), RATE_PROVIDER_AFTER, VOLS_AFTER));
+  }
+
+  public void test_calibratedTreeCache() {
+    ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer pricer =
+        new ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(21);
+    RecombiningTrinomialTreeData data =
+        pricer.getCalibrator().calibrateTrinomialTree(CALL_DKO.getUnderlyingOption(), RATE_PROVIDER, VOLS);
+    RecombiningTrinomialTreeData dataFlat =
+        pricer.getCalibrator().calibrateTrinomialTree(CALL_DKO.getUnderlyingOption(), RATE_PROVIDER_FLAT, VOLS_FLAT);
+    CurrencyAmount pv = pricer.presentValue(CALL_DKO, RATE_PROVIDER, VOLS);
+    assertEquals(pv, pricer.presentValue(CALL_DKO, RATE_PROVIDER, VOLS, data));
+    assertEquals(pricer.presentValue(CALL_DKO, RATE_PROVIDER, VOLS), pv);
+    assertEquals(pricer.presentValue(ImmutableList.of(CALL_DKO), RATE_PROVIDER, VOLS), ImmutableList.of(pv));
+    // other market data is not priced with the cached tree
+    CurrencyAmount pvFlat = pricer.presentValue(CALL_DKO, RATE_PROVIDER_FLAT, VOLS);
+    assertEquals(pvFlat, pricer.presentValue(CALL_DKO, RATE_PROVIDER_FLAT, VOLS,
+        pricer.getCalibrator().calibrateTrinomialTree(CALL_DKO.getUnderlyingOption(), RATE_PROVIDER_FLAT, VOLS)));
+    assertEquals(pricer.presentValue(CALL_DKO, RATE_PROVIDER_FLAT, VOLS_FLAT),
+        pricer.presentValue(CALL_DKO, RATE_PROVIDER_FLAT, VOLS_FLAT, dataFlat));
+    assertTrue(Math.abs(pvFlat.getAmount() - pv.getAmount()) > 1d);
+    // equal market data in a different instance
+    ImmutableRatesProvider copy = RATE_PROVIDER.toBuilder().build();
+    assertEquals(pricer.currencyExposure(CALL_UKI_C, copy, VOLS),
+        pricer.currencyExposure(CALL_UKI_C, RATE_PROVIDER, VOLS, data));
+  }
+
   //-------------------------------------------------------------------------
   public void test_withData() {
     ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer pricer =
@@ -363,6 +416,31 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricerTest {
     }
   }
 
+  public void test_tradePricer_severalTrades() {
+    ImpliedTrinomialTreeFxSingleBarrierOptionTradePricer tradePricer = new ImpliedTrinomialTreeFxSingleBarrierOptionTradePricer(
+        new ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(21), DiscountingPaymentPricer.DEFAULT);
+    List<ResolvedFxSingleBarrierOptionTrade> trades = ImmutableList.of(
+        ResolvedFxSingleBarrierOptionTrade.builder()
+            .product(CALL_DKO)
+            .premium(Payment.of(EUR, -1_000_000d, PAY_DATE))
+            .build(),
+        ResolvedFxSingleBarrierOptionTrade.builder()
+            .product(CALL_UKI_C)
+            .premium(Payment.of(EUR, -2_000_000d, PAY_DATE))
+            .build());
+    List<MultiCurrencyAmount> pvs = tradePricer.presentValue(trades, RATE_PROVIDER, VOLS);
+    List<CurrencyParameterSensitivities> sensitivities =
+        tradePricer.presentValueSensitivityRates(trades, RATE_PROVIDER, VOLS);
+    assertEquals(pvs.size(), trades.size());
+    assertEquals(sensitivities.size(), trades.size());
+    for (int i = 0; i < trades.size(); ++i) {
+      ResolvedFxSingleBarrierOptionTrade trade = trades.get(i);
+      assertEquals(pvs.get(i), tradePricer.presentValue(trade, RATE_PROVIDER, VOLS));
+      CurrencyParameterSensitivities expected = tradePricer.presentValueSensitivityRates(trade, RATE_PROVIDER, VOLS);
+      assertTrue(sensitivities.get(i).equalWithTolerance(expected, 1.0e-13));
+    }
+  }
+
   //-------------------------------------------------------------------------
   private void assertEqualsRelative(double computed, double expected, double relTol) {
     assertEquals(computed, expected, Math.max(1d, Math.abs(expected)) * relTol);
@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.model;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteMonteCarloPaths;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteMonteCarloSimulator;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteOneFactorPiecewiseConstantInterestRateModel;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+
+/**
+ * Test {@link HullWhiteMonteCarloSimulator} and {@link HullWhiteMonteCarloPaths}.
+ */
+@Test
+public class HullWhiteMonteCarloSimulatorTest {
+
+  private static final double MEAN_REVERSION = 0.01;
+  private static final DoubleArray VOLATILITY = DoubleArray.of(0.01, 0.011, 0.012, 0.013, 0.014);
+  private static final DoubleArray VOLATILITY_TIME = DoubleArray.of(0.5, 1.0, 2.0, 5.0);
+  private static final HullWhiteOneFactorPiecewiseConstantParameters MODEL_PARAMETERS =
+      HullWhiteOneFactorPiecewiseConstantParameters.of(MEAN_REVERSION, VOLATILITY, VOLATILITY_TIME);
+  private static final HullWhiteOneFactorPiecewiseConstantInterestRateModel MODEL =
+      HullWhiteOneFactorPiecewiseConstantInterestRateModel.DEFAULT;
+  private static final DoubleArray TIMES = DoubleArray.of(0.25, 0.75, 1.5, 3.0, 7.0);
+  private static final HullWhiteMonteCarloSimulator SOBOL = HullWhiteMonteCarloSimulator.ofSobol(4095);
+  private static final HullWhiteMonteCarloSimulator PSEUDO = HullWhiteMonteCarloSimulator.ofPseudoRandom(3000, 1L);
+  private static final double TOL = 1e-12;
+
+  //-------------------------------------------------------------------------
+  public void test_batches() {
+    List<HullWhiteMonteCarloPaths> batches = PSEUDO.simulate(MODEL_PARAMETERS, TIMES);
+    assertEquals(PSEUDO.getPathCount(), 3000);
+    assertEquals(batches.size(), 3);
+    assertEquals(batches.get(0).getPathCount(), HullWhiteMonteCarloSimulator.BATCH_SIZE);
+    assertEquals(batches.get(2).getPathCount(), 3000 - 2 * HullWhiteMonteCarloSimulator.BATCH_SIZE);
+    assertEquals(batches.get(0).getTimes(), TIMES);
+    // the batches only depend on the seed and the order
+    List<HullWhiteMonteCarloPaths> other =
+        HullWhiteMonteCarloSimulator.ofPseudoRandom(1500, 1L).simulate(MODEL_PARAMETERS, TIMES);
+    for (int i = 0; i < TIMES.size(); i++) {
+      assertEquals(other.get(0).getStates(i), batches.get(0).getStates(i));
+    }
+  }
+
+  public void test_variance() {
+    // the variance of the state is consistent with the bond volatility of the explicit formulas
+    for (HullWhiteMonteCarloSimulator simulator : new HullWhiteMonteCarloSimulator[] {SOBOL, PSEUDO}) {
+      List<HullWhiteMonteCarloPaths> batches = simulator.simulate(MODEL_PARAMETERS, TIMES);
+      for (int i = 0; i < TIMES.size(); i++) {
+        double time = TIMES.get(i);
+        double maturity = time + 2d;
+        double alpha = MODEL.alpha(MODEL_PARAMETERS, 0d, time, time, maturity);
+        double bondFactor = (Math.exp(-MEAN_REVERSION * time) - Math.exp(-MEAN_REVERSION * maturity)) / MEAN_REVERSION;
+        double variance = batches.get(0).getStateVariance(i);
+        assertEquals(variance * bondFactor * bondFactor, alpha * alpha, TOL);
+        double sum = 0d;
+        double sumSquare = 0d;
+        for (HullWhiteMonteCarloPaths paths : batches) {
+          for (double state : paths.getStates(i).toArrayUnsafe()) {
+            sum += state;
+            sumSquare += state * state;
+          }
+        }
+        int nbPaths = simulator.getPathCount();
+        assertEquals(sum / nbPaths, 0d, 5d * Math.sqrt(variance / nbPaths));
+        assertEquals(sumSquare / nbPaths, variance, 5d * variance * Math.sqrt(2d / nbPaths));
+      }
+    }
+  }
+
+  public void test_martingale() {
+    // the expected deflated discount factor is the discount factor
+    double[] maturities = {1d, 3.5, 8d, 12d};
+    double rate = 0.02;
+    List<HullWhiteMonteCarloPaths> batches = SOBOL.simulate(MODEL_PARAMETERS, TIMES);
+    for (int i = 0; i < TIMES.size(); i++) {
+      for (double maturity : maturities) {
+        double discountFactor = Math.exp(-rate * maturity);
+        double sum = 0d;
+        for (HullWhiteMonteCarloPaths paths : batches) {
+          double[] result = new double[paths.getPathCount()];
+          paths.deflatedDiscountFactors(i, maturity, discountFactor, result);
+          for (double value : result) {
+            sum += value;
+          }
+        }
+        assertEquals(sum / SOBOL.getPathCount(), discountFactor, 1e-4);
+      }
+    }
+  }
+
+  public void test_discountFactorsAndForwards() {
+    HullWhiteMonteCarloPaths paths = PSEUDO.simulate(MODEL_PARAMETERS, TIMES).get(0);
+    int nbPaths = paths.getPathCount();
+    double[] deflators = new double[nbPaths];
+    double[] deflated = new double[nbPaths];
+    double[] discountFactors = new double[nbPaths];
+    double[] start = new double[nbPaths];
+    double[] forwards = new double[nbPaths];
+    double rate = 0.02;
+    int index = 2;
+    double time = TIMES.get(index);
+    double startTime = 4d;
+    double endTime = 4.5;
+    double yearFraction = 0.51;
+    paths.deflatedDiscountFactors(index, time, Math.exp(-rate * time), deflators);
+    paths.deflatedDiscountFactors(index, endTime, Math.exp(-rate * endTime), deflated);
+    paths.discountFactors(index, endTime, Math.exp(-rate * (endTime - time)), discountFactors);
+    paths.discountFactors(index, startTime, Math.exp(-rate * (startTime - time)), start);
+    double forward = (Math.exp(rate * (endTime - startTime)) - 1d) / yearFraction;
+    paths.forwardRates(index, startTime, endTime, yearFraction, forward, forwards);
+    for (int j = 0; j < nbPaths; j++) {
+      assertEquals(deflators[j] * discountFactors[j], deflated[j], TOL);
+      assertEquals(1d + yearFraction * forwards[j], start[j] / discountFactors[j], TOL);
+    }
+    paths.discountFactors(index, time, 1d, discountFactors);
+    for (int j = 0; j < nbPaths; j++) {
+      assertEquals(discountFactors[j], 1d, TOL);
+    }
+  }
+
+  public void test_zeroTime() {
+    HullWhiteMonteCarloPaths paths = SOBOL.simulate(MODEL_PARAMETERS, DoubleArray.of(0d, 1d)).get(0);
+    assertEquals(paths.getStates(0), DoubleArray.filled(paths.getPathCount()));
+    double[] forwards = new double[paths.getPathCount()];
+    paths.forwardRates(0, 1d, 2d, 1d, 0.02, forwards);
+    for (double forward : forwards) {
+      assertEquals(forward, 0.02, TOL);
+    }
+  }
+
+  public void test_zeroTime_bridge() {
+    // the bridge spans the positive times, thus the paths are those without time zero
+    DoubleArray times = DoubleArray.of(0d).concat(TIMES);
+    List<HullWhiteMonteCarloPaths> withZero = SOBOL.simulate(MODEL_PARAMETERS, times);
+    List<HullWhiteMonteCarloPaths> withoutZero = SOBOL.simulate(MODEL_PARAMETERS, TIMES);
+    for (int b = 0; b < withZero.size(); b++) {
+      assertEquals(withZero.get(b).getStates(0), DoubleArray.filled(withZero.get(b).getPathCount()));
+      for (int i = 0; i < TIMES.size(); i++) {
+        assertEquals(withZero.get(b).getStates(i + 1), withoutZero.get(b).getStates(i));
+      }
+    }
+  }
+
+  public void test_zeroVolatility() {
+    // the state is unchanged over a period of zero volatility
+    HullWhiteOneFactorPiecewiseConstantParameters parameters = HullWhiteOneFactorPiecewiseConstantParameters.of(
+        MEAN_REVERSION, DoubleArray.of(0.01, 0d, 0.012), DoubleArray.of(0.5, 1.0));
+    DoubleArray times = DoubleArray.of(0.25, 0.5, 0.75, 1.5);
+    for (HullWhiteMonteCarloSimulator simulator : new HullWhiteMonteCarloSimulator[] {SOBOL, PSEUDO}) {
+      List<HullWhiteMonteCarloPaths> batches = simulator.simulate(parameters, times);
+      for (HullWhiteMonteCarloPaths paths : batches) {
+        assertEquals(paths.getStateVariance(2), paths.getStateVariance(1));
+        assertEquals(paths.getStates(2), paths.getStates(1));
+      }
+      double variance = batches.get(0).getStateVariance(3);
+      double sumSquare = 0d;
+      for (HullWhiteMonteCarloPaths paths : batches) {
+        for (double state : paths.getStates(3).toArrayUnsafe()) {
+          sumSquare += state * state;
+        }
+      }
+      int nbPaths = simulator.getPathCount();
+      assertEquals(sumSquare / nbPaths, variance, 5d * variance * Math.sqrt(2d / nbPaths));
+    }
+    // no volatility at all
+    HullWhiteOneFactorPiecewiseConstantParameters zero =
+        HullWhiteOneFactorPiecewiseConstantParameters.of(MEAN_REVERSION, DoubleArray.of(0d), DoubleArray.of());
+    HullWhiteMonteCarloPaths paths = SOBOL.simulate(zero, times).get(0);
+    assertEquals(paths.getStates(3), DoubleArray.filled(paths.getPathCount()));
+  }
+
+  public void test_zeroMeanReversion() {
+    // the limit as the mean reversion tends to zero
+    HullWhiteOneFactorPiecewiseConstantParameters zero =
+        HullWhiteOneFactorPiecewiseConstantParameters.of(0d, VOLATILITY, VOLATILITY_TIME);
+    HullWhiteOneFactorPiecewiseConstantParameters small =
+        HullWhiteOneFactorPiecewiseConstantParameters.of(1e-9, VOLATILITY, VOLATILITY_TIME);
+    HullWhiteMonteCarloPaths pathsZero = PSEUDO.simulate(zero, TIMES).get(0);
+    HullWhiteMonteCarloPaths pathsSmall = PSEUDO.simulate(small, TIMES).get(0);
+    int nbPaths = pathsZero.getPathCount();
+    double[] resultZero = new double[nbPaths];
+    double[] resultSmall = new double[nbPaths];
+    for (int i = 0; i < TIMES.size(); i++) {
+      assertEquals(pathsZero.getStateVariance(i), pathsSmall.getStateVariance(i), 1e-10);
+      pathsZero.deflatedDiscountFactors(i, 10d, 0.8, resultZero);
+      pathsSmall.deflatedDiscountFactors(i, 10d, 0.8, resultSmall);
+      for (int j = 0; j < nbPaths; j++) {
+        assertEquals(resultZero[j], resultSmall[j], 1e-7);
+      }
+    }
+  }
+
+  public void test_apply() {
+    List<Integer> counts = SOBOL.simulate(MODEL_PARAMETERS, TIMES, HullWhiteMonteCarloPaths::getPathCount);
+    assertEquals(counts.stream().mapToInt(Integer::intValue).sum(), 4095);
+  }
+
+  public void test_invalid() {
+    assertThrowsIllegalArg(() -> HullWhiteMonteCarloSimulator.ofSobol(0));
+    assertThrowsIllegalArg(() -> HullWhiteMonteCarloSimulator.ofPseudoRandom(-1, 0L));
+    assertThrowsIllegalArg(() -> SOBOL.simulate(MODEL_PARAMETERS, DoubleArray.EMPTY));
+    assertThrowsIllegalArg(() -> SOBOL.simulate(MODEL_PARAMETERS, DoubleArray.of(-1d, 1d)));
+    assertThrowsIllegalArg(() -> SOBOL.simulate(MODEL_PARAMETERS, DoubleArray.of(2d, 1d)));
+  }
+
+}
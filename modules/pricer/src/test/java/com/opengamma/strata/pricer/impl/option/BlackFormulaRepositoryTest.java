@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.pricer.impl.option;
 
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.product.common.PutCall.CALL;
 import static com.opengamma.strata.product.common.PutCall.PUT;
 import static org.testng.Assert.assertEquals;
@@ -8845,4 +8846,59 @@ public class BlackFormulaRepositoryTest {
     assertEquals(bsD2[1][2], bsD2[2][1], TOLERANCE_1, "AD Second order: 2nd - str-vol");
   }
 
+
+  //-------------------------------------------------------------------------
+  // includes at-the-money, zero volatility, zero time, zero strike and large values
+  private static final double[] ARRAY_FORWARDS = {104d, 104d, 104d, 104d, 0.025, 104d, 104d, 104d, 1e14, 104d, 104d};
+  private static final double[] ARRAY_STRIKES = {85d, 104d, 120d, 250d, 0.04, 90d, 110d, 0d, 2e14, 1e14, 95d};
+  private static final double[] ARRAY_TIMES = {4.5, 4.5, 0.5, 10d, 10d, 0d, 1d, 1d, 1d, 2d, 1e30};
+  private static final double[] ARRAY_VOLS = {0.2, 0.3, 0.15, 0.8, 0.25, 0.2, 0d, 0.3, 0.2, 0.5, 0.3};
+
+  public void test_price_array() {
+    for (boolean isCall : new boolean[] {true, false}) {
+      double[] prices = new double[ARRAY_FORWARDS.length];
+      BlackFormulaRepository.price(ARRAY_FORWARDS, ARRAY_STRIKES, ARRAY_TIMES, ARRAY_VOLS, isCall, prices);
+      for (int i = 0; i < ARRAY_FORWARDS.length; i++) {
+        double expected =
+            BlackFormulaRepository.price(ARRAY_FORWARDS[i], ARRAY_STRIKES[i], ARRAY_TIMES[i], ARRAY_VOLS[i], isCall);
+        assertEquals(prices[i], expected, 0d);
+      }
+    }
+  }
+
+  public void test_priceAdjoint_array() {
+    for (boolean isCall : new boolean[] {true, false}) {
+      double[] prices = new double[ARRAY_FORWARDS.length];
+      double[][] derivatives = new double[4][ARRAY_FORWARDS.length];
+      BlackFormulaRepository.priceAdjoint(
+          ARRAY_FORWARDS, ARRAY_STRIKES, ARRAY_TIMES, ARRAY_VOLS, isCall, prices, derivatives);
+      for (int i = 0; i < ARRAY_FORWARDS.length; i++) {
+        ValueDerivatives expected = BlackFormulaRepository.priceAdjoint(
+            ARRAY_FORWARDS[i], ARRAY_STRIKES[i], ARRAY_TIMES[i], ARRAY_VOLS[i], isCall);
+        assertEquals(prices[i], expected.getValue(), 0d);
+        for (int j = 0; j < 4; j++) {
+          assertEquals(derivatives[j][i], expected.getDerivative(j), 0d);
+        }
+      }
+    }
+  }
+
+  public void test_price_array_invalid() {
+    double[] prices = new double[2];
+    double[] valid = {1d, 2d};
+    double[] negative = {1d, -2d};
+    assertThrowsIllegalArg(() -> BlackFormulaRepository.price(valid, valid, valid, valid, true, new double[1]));
+    assertThrowsIllegalArg(() -> BlackFormulaRepository.price(valid, new double[1], valid, valid, true, prices));
+    assertThrowsIllegalArg(() -> BlackFormulaRepository.price(negative, valid, valid, valid, true, prices));
+    assertThrowsIllegalArg(() -> BlackFormulaRepository.price(valid, negative, valid, valid, true, prices));
+    assertThrowsIllegalArg(() -> BlackFormulaRepository.price(valid, valid, negative, valid, true, prices));
+    assertThrowsIllegalArg(() -> BlackFormulaRepository.price(valid, valid, valid, negative, true, prices));
+    assertThrowsIllegalArg(() -> BlackFormulaRepository.priceAdjoint(
+        valid, valid, valid, valid, true, prices, new double[3][2]));
+    assertThrowsIllegalArg(() -> BlackFormulaRepository.priceAdjoint(
+        valid, valid, valid, valid, true, prices, new double[4][1]));
+    assertThrowsIllegalArg(() -> BlackFormulaRepository.priceAdjoint(
+        valid, valid, valid, new double[] {1d, Double.NaN}, true, prices, new double[4][2]));
+  }
+
 }
@@ -5782,4 +5782,36 @@ public class BlackScholesFormulaRepositoryTest {
         SPOT, STRIKES_INPUT[1], TIME_TO_EXPIRY, VOLS[1], INTEREST_RATES[1], NAN, true);
   }
 
+  //-------------------------------------------------------------------------
+  public void test_price_array() {
+    int size = STRIKES_INPUT_EX.length;
+    double[] spots = new double[size];
+    double[] times = new double[size];
+    double[] vols = new double[size];
+    double[] rates = new double[size];
+    double[] carries = new double[size];
+    for (int i = 0; i < size; i++) {
+      spots[i] = SPOT_EX[i % SPOT_EX.length];
+      times[i] = TIME_TO_EXPIRY_EX[i % TIME_TO_EXPIRY_EX.length];
+      vols[i] = VOLS_EX[i % VOLS_EX.length];
+      rates[i] = INTEREST_RATES_EX[i % INTEREST_RATES_EX.length];
+      carries[i] = COST_OF_CARRY_EX[i % COST_OF_CARRY_EX.length];
+    }
+    for (boolean isCall : new boolean[] {true, false}) {
+      double[] prices = new double[size];
+      BlackScholesFormulaRepository.price(spots, STRIKES_INPUT_EX, times, vols, rates, carries, isCall, prices);
+      for (int i = 0; i < size; i++) {
+        double expected = BlackScholesFormulaRepository.price(
+            spots[i], STRIKES_INPUT_EX[i], times[i], vols[i], rates[i], carries[i], isCall);
+        assertEquals(prices[i], expected, 0d);
+      }
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void test_price_array_wrongLength() {
+    double[] values = {1d, 2d};
+    BlackScholesFormulaRepository.price(values, values, values, values, values, new double[1], true, new double[2]);
+  }
+
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Test {@link ImpliedVolatilityFormulaRepository}.
+ */
+@Test
+public class ImpliedVolatilityFormulaRepositoryTest {
+
+  private static final double FORWARD = 1.2d;
+  private static final double[] STRIKES = {0.01, 0.3, 0.8, 1.1, 1.19, 1.1999, 1.2, 1.2001, 1.21, 1.3, 2d, 5d, 100d};
+  private static final double[] TIMES = {0.1, 1d, 5d, 30d};
+  private static final double[] BLACK_VOLS = {0.001, 0.01, 0.05, 0.2, 0.5, 1d, 3d};
+  private static final double NORMAL_FORWARD = 0.02d;
+  private static final double[] NORMAL_STRIKES = {-0.05, -0.01, 0d, 0.01, 0.019, 0.01999, 0.02, 0.02001, 0.03, 0.1};
+  private static final double[] NORMAL_VOLS = {0.0001, 0.001, 0.005, 0.01, 0.05, 1d};
+  private static final double TOL = 1e-12;
+  private static final double TOL_GRID = 1e-10;
+
+  //-------------------------------------------------------------------------
+  public void test_blackImpliedVolatility_outOfTheMoney() {
+    for (double strike : STRIKES) {
+      boolean isCall = strike >= FORWARD;
+      for (double time : TIMES) {
+        for (double vol : BLACK_VOLS) {
+          double price = BlackFormulaRepository.price(FORWARD, strike, time, vol, isCall);
+          if (price < 1e-250 || price > 0.999 * Math.min(FORWARD, strike)) {
+            // the price does not determine the volatility in double precision
+            continue;
+          }
+          double computed = ImpliedVolatilityFormulaRepository.blackImpliedVolatility(price, FORWARD, strike, time, isCall);
+          assertEquals(computed, vol, vol * TOL_GRID);
+        }
+      }
+    }
+  }
+
+  public void test_blackImpliedVolatility_inTheMoney() {
+    double strike = 1.1d;
+    double time = 2d;
+    for (double vol : new double[] {0.1, 0.2, 0.5}) {
+      double call = BlackFormulaRepository.price(FORWARD, strike, time, vol, true);
+      double put = BlackFormulaRepository.price(FORWARD, strike, time, vol, false);
+      assertEquals(ImpliedVolatilityFormulaRepository.blackImpliedVolatility(call, FORWARD, strike, time, true), vol, 1e-10);
+      assertEquals(ImpliedVolatilityFormulaRepository.blackImpliedVolatility(put, FORWARD, strike, time, false), vol, 1e-10);
+    }
+  }
+
+  public void test_blackImpliedVolatility_compareExisting() {
+    for (double strike : new double[] {0.8, 1.1, 1.2, 1.3, 2d}) {
+      double price = BlackFormulaRepository.price(FORWARD, strike, 3d, 0.35, true);
+      double expected = BlackFormulaRepository.impliedVolatility(price, FORWARD, strike, 3d, true);
+      double computed = ImpliedVolatilityFormulaRepository.blackImpliedVolatility(price, FORWARD, strike, 3d, true);
+      assertEquals(computed, expected, 1e-8);
+    }
+  }
+
+  public void test_blackImpliedVolatility_intrinsic() {
+    assertEquals(ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0d, FORWARD, 1.5d, 1d, true), 0d);
+    assertEquals(ImpliedVolatilityFormulaRepository.blackImpliedVolatility(FORWARD - 1d, FORWARD, 1d, 1d, true), 0d);
+  }
+
+  public void test_blackImpliedVolatility_invalid() {
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(-0.1, FORWARD, 1.5d, 1d, true));
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0.1, FORWARD, 1d, 1d, true));
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(1.2, FORWARD, 1.5d, 1d, true));
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0.1, -1d, 1.5d, 1d, true));
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0.1, FORWARD, 0d, 1d, true));
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0.1, FORWARD, 1.5d, 0d, true));
+  }
+
+  public void test_blackImpliedVolatility_array() {
+    int size = STRIKES.length;
+    double[] prices = new double[size];
+    double[] forwards = new double[size];
+    double[] times = new double[size];
+    for (int i = 0; i < size; i++) {
+      forwards[i] = FORWARD;
+      times[i] = TIMES[i % TIMES.length];
+      prices[i] = BlackFormulaRepository.price(FORWARD, STRIKES[i], times[i], 0.3, true);
+    }
+    double[] vols = new double[size];
+    ImpliedVolatilityFormulaRepository.blackImpliedVolatility(prices, forwards, STRIKES, times, true, vols);
+    for (int i = 0; i < size; i++) {
+      double expected =
+          ImpliedVolatilityFormulaRepository.blackImpliedVolatility(prices[i], FORWARD, STRIKES[i], times[i], true);
+      assertEquals(vols[i], expected, 0d);
+    }
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(
+        prices, forwards, STRIKES, times, true, new double[1]));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_normalImpliedVolatility_outOfTheMoney() {
+    for (double strike : NORMAL_STRIKES) {
+      PutCall putCall = strike >= NORMAL_FORWARD ? PutCall.CALL : PutCall.PUT;
+      for (double time : TIMES) {
+        for (double vol : NORMAL_VOLS) {
+          double price = NormalFormulaRepository.price(NORMAL_FORWARD, strike, time, vol, putCall);
+          if (price < 1e-250) {
+            // the price does not determine the volatility in double precision
+            continue;
+          }
+          double computed =
+              ImpliedVolatilityFormulaRepository.normalImpliedVolatility(price, NORMAL_FORWARD, strike, time, putCall);
+          assertEquals(computed, vol, vol * TOL_GRID);
+        }
+      }
+    }
+  }
+
+  public void test_normalImpliedVolatility_inTheMoney() {
+    double strike = 0.015;
+    double time = 2d;
+    for (double vol : new double[] {0.005, 0.01, 0.02}) {
+      for (PutCall putCall : PutCall.values()) {
+        double price = NormalFormulaRepository.price(NORMAL_FORWARD, strike, time, vol, putCall);
+        double computed =
+            ImpliedVolatilityFormulaRepository.normalImpliedVolatility(price, NORMAL_FORWARD, strike, time, putCall);
+        assertEquals(computed, vol, 1e-12);
+      }
+    }
+  }
+
+  public void test_normalImpliedVolatility_compareExisting() {
+    for (double strike : new double[] {0d, 0.01, 0.02, 0.03, 0.05}) {
+      double price = NormalFormulaRepository.price(NORMAL_FORWARD, strike, 3d, 0.008, PutCall.CALL);
+      double expected =
+          NormalFormulaRepository.impliedVolatility(price, NORMAL_FORWARD, strike, 3d, 0.01, 1d, PutCall.CALL);
+      double computed =
+          ImpliedVolatilityFormulaRepository.normalImpliedVolatility(price, NORMAL_FORWARD, strike, 3d, PutCall.CALL);
+      assertEquals(computed, expected, 1e-12);
+    }
+  }
+
+  public void test_normalImpliedVolatility_intrinsic() {
+    assertEquals(ImpliedVolatilityFormulaRepository.normalImpliedVolatility(0d, 0.02, 0.03, 1d, PutCall.CALL), 0d);
+    assertEquals(ImpliedVolatilityFormulaRepository.normalImpliedVolatility(0.03 - 0.02, 0.02, 0.03, 1d, PutCall.PUT), 0d);
+  }
+
+  public void test_normalImpliedVolatility_invalid() {
+    assertThrowsIllegalArg(
+        () -> ImpliedVolatilityFormulaRepository.normalImpliedVolatility(-0.01, 0.02, 0.03, 1d, PutCall.CALL));
+    assertThrowsIllegalArg(
+        () -> ImpliedVolatilityFormulaRepository.normalImpliedVolatility(0.005, 0.02, 0.03, 1d, PutCall.PUT));
+    assertThrowsIllegalArg(
+        () -> ImpliedVolatilityFormulaRepository.normalImpliedVolatility(0.01, 0.02, 0.03, 0d, PutCall.CALL));
+    assertThrowsIllegalArg(
+        () -> ImpliedVolatilityFormulaRepository.normalImpliedVolatility(0.01, Double.NaN, 0.03, 1d, PutCall.CALL));
+  }
+
+  public void test_normalImpliedVolatility_array() {
+    int size = NORMAL_STRIKES.length;
+    double[] prices = new double[size];
+    double[] forwards = new double[size];
+    double[] times = new double[size];
+    for (int i = 0; i < size; i++) {
+      forwards[i] = NORMAL_FORWARD;
+      times[i] = TIMES[i % TIMES.length];
+      prices[i] = NormalFormulaRepository.price(NORMAL_FORWARD, NORMAL_STRIKES[i], times[i], 0.01, PutCall.PUT);
+    }
+    double[] vols = new double[size];
+    ImpliedVolatilityFormulaRepository.normalImpliedVolatility(prices, forwards, NORMAL_STRIKES, times, PutCall.PUT, vols);
+    for (int i = 0; i < size; i++) {
+      double expected = ImpliedVolatilityFormulaRepository.normalImpliedVolatility(
+          prices[i], NORMAL_FORWARD, NORMAL_STRIKES[i], times[i], PutCall.PUT);
+      assertEquals(vols[i], expected, 0d);
+    }
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.normalImpliedVolatility(
+        prices, forwards, new double[1], times, PutCall.PUT, vols));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_volatilityConversion() {
+    double[] strikes = {0.005, 0.01, 0.02, 0.03, 0.06};
+    double[] forwards = {0.02, 0.02, 0.02, 0.02, 0.02};
+    double[] times = {0.5, 1d, 2d, 5d, 10d};
+    double[] blackVols = {0.6, 0.45, 0.3, 0.35, 0.4};
+    double[] normalVols = new double[5];
+    ImpliedVolatilityFormulaRepository.normalVolatilitiesFromBlack(forwards, strikes, times, blackVols, normalVols);
+    for (int i = 0; i < 5; i++) {
+      boolean isCall = strikes[i] >= forwards[i];
+      double blackPrice = BlackFormulaRepository.price(forwards[i], strikes[i], times[i], blackVols[i], isCall);
+      double normalPrice = NormalFormulaRepository.price(
+          forwards[i], strikes[i], times[i], normalVols[i], isCall ? PutCall.CALL : PutCall.PUT);
+      assertEquals(normalPrice, blackPrice, blackPrice * TOL);
+    }
+    double[] roundTrip = new double[5];
+    ImpliedVolatilityFormulaRepository.blackVolatilitiesFromNormal(forwards, strikes, times, normalVols, roundTrip);
+    for (int i = 0; i < 5; i++) {
+      assertEquals(roundTrip[i], blackVols[i], blackVols[i] * TOL);
+    }
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.normalVolatilitiesFromBlack(
+        forwards, strikes, times, blackVols, new double[1]));
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackVolatilitiesFromNormal(
+        forwards, strikes, new double[1], normalVols, roundTrip));
+  }
+
+}
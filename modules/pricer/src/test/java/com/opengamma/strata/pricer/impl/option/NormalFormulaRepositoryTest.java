@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Test {@link NormalFormulaRepository}.
+ */
+@Test
+public class NormalFormulaRepositoryTest {
+
+  // includes at-the-money, zero volatility and zero time to expiry
+  private static final double[] FORWARDS = {0.02, 0.02, 0.02, 0.02, 0.02, 0.02, 0.02, 0.02, 100d};
+  private static final double[] STRIKES = {0.01, 0.015, 0.02, 0.025, 0.04, 0.01, 0.03, -0.01, 95d};
+  private static final double[] TIMES = {1d, 2.5d, 5d, 0.25d, 10d, 1d, 0d, 3d, 4.5d};
+  private static final double[] VOLS = {0.01, 0.005, 0.008, 0.012, 0.01, 0d, 0.01, 0.009, 20d};
+  private static final double[] NUMERAIRES = {0.95, 0.9, 0.85, 1d, 0.7, 0.95, 1d, 0.9, 0.8};
+
+  //-------------------------------------------------------------------------
+  public void test_price_array() {
+    for (PutCall putCall : PutCall.values()) {
+      double[] prices = new double[FORWARDS.length];
+      NormalFormulaRepository.price(FORWARDS, STRIKES, TIMES, VOLS, putCall, prices);
+      for (int i = 0; i < FORWARDS.length; i++) {
+        double expected = NormalFormulaRepository.price(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], putCall);
+        assertEquals(prices[i], expected, 0d);
+      }
+    }
+  }
+
+  public void test_priceAdjoint_array() {
+    for (PutCall putCall : PutCall.values()) {
+      double[] prices = new double[FORWARDS.length];
+      double[][] derivatives = new double[3][FORWARDS.length];
+      NormalFormulaRepository.priceAdjoint(FORWARDS, STRIKES, TIMES, VOLS, NUMERAIRES, putCall, prices, derivatives);
+      for (int i = 0; i < FORWARDS.length; i++) {
+        ValueDerivatives expected =
+            NormalFormulaRepository.priceAdjoint(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], NUMERAIRES[i], putCall);
+        assertEquals(prices[i], expected.getValue(), 0d);
+        for (int j = 0; j < 3; j++) {
+          assertEquals(derivatives[j][i], expected.getDerivative(j), 0d);
+        }
+      }
+    }
+  }
+
+  public void test_price_array_invalid() {
+    double[] prices = new double[FORWARDS.length];
+    assertThrowsIllegalArg(() -> NormalFormulaRepository.price(FORWARDS, STRIKES, TIMES, VOLS, PutCall.CALL, new double[1]));
+    assertThrowsIllegalArg(() -> NormalFormulaRepository.price(FORWARDS, new double[1], TIMES, VOLS, PutCall.CALL, prices));
+    assertThrowsIllegalArg(() -> NormalFormulaRepository.priceAdjoint(
+        FORWARDS, STRIKES, TIMES, VOLS, NUMERAIRES, PutCall.CALL, prices, new double[2][FORWARDS.length]));
+    assertThrowsIllegalArg(() -> NormalFormulaRepository.priceAdjoint(
+        FORWARDS, STRIKES, TIMES, VOLS, NUMERAIRES, PutCall.CALL, prices, new double[3][1]));
+    assertThrowsIllegalArg(() -> NormalFormulaRepository.priceAdjoint(
+        FORWARDS, STRIKES, TIMES, VOLS, new double[1], PutCall.CALL, prices, new double[3][FORWARDS.length]));
+  }
+
+}
@@ -58,6 +58,7 @@ import com.opengamma.strata.pricer.rate.RateComputationFn;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.rate.SimpleRatesProvider;
 import com.opengamma.strata.pricer.sensitivity.RatesFiniteDifferenceSensitivityCalculator;
+import com.opengamma.strata.product.common.PayReceive;
 import com.opengamma.strata.product.rate.FixedRateComputation;
 import com.opengamma.strata.product.rate.IborRateComputation;
 import com.opengamma.strata.product.rate.RateComputation;
@@ -66,6 +67,9 @@ import com.opengamma.strata.product.swap.FxReset;
 import com.opengamma.strata.product.swap.NegativeRateMethod;
 import com.opengamma.strata.product.swap.RateAccrualPeriod;
 import com.opengamma.strata.product.swap.RatePaymentPeriod;
+import com.opengamma.strata.product.swap.RatePaymentPeriodArray;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.SwapLegType;
 
 /**
  * Test {@link DiscountingRatePaymentPeriodPricer}
@@ -208,6 +212,22 @@ public class DiscountingRatePaymentPeriodPricerTest {
     assertEquals(pvComputed, pvExpected, TOLERANCE_PV);
   }
 
+  public void test_presentValue_array() {
+    RatePaymentPeriod pastPeriod = PAYMENT_PERIOD_1.toBuilder().paymentDate(VAL_DATE.minusDays(1)).build();
+    ResolvedSwapLeg leg = ResolvedSwapLeg.builder()
+        .type(SwapLegType.FIXED)
+        .payReceive(PayReceive.RECEIVE)
+        .paymentPeriods(PAYMENT_PERIOD_1, PAYMENT_PERIOD_1_GS, PAYMENT_PERIOD_1_NEG, pastPeriod)
+        .build();
+    RatePaymentPeriodArray periods = RatePaymentPeriodArray.of(leg);
+    DiscountingRatePaymentPeriodPricer pricer = DiscountingRatePaymentPeriodPricer.DEFAULT;
+    double pvExpected = pricer.presentValue(PAYMENT_PERIOD_1, MULTI_GBP_USD) +
+        pricer.presentValue(PAYMENT_PERIOD_1_GS, MULTI_GBP_USD) +
+        pricer.presentValue(PAYMENT_PERIOD_1_NEG, MULTI_GBP_USD);
+    double pvComputed = pricer.presentValue(periods, MULTI_GBP_USD);
+    assertEquals(pvComputed, pvExpected, TOLERANCE_PV);
+  }
+
   //-------------------------------------------------------------------------
   public void test_forecastValue_single() {
     SimpleRatesProvider prov = createProvider(VAL_DATE);
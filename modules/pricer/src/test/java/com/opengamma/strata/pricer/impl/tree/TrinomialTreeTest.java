@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.pricer.impl.tree;
 
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static org.testng.Assert.assertEquals;
 
 import java.util.ArrayList;
@@ -18,6 +19,7 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.pricer.fxopt.RecombiningTrinomialTreeData;
 import com.opengamma.strata.product.common.PutCall;
+import com.opengamma.strata.product.option.BarrierType;
 
 /**
  * Test {@link TrinomialTree}.
@@ -82,4 +84,82 @@ public class TrinomialTreeTest {
     }
   }
 
+  /**
+   * Test pricing of several options in one sweep against pricing of each option.
+   */
+  public void test_severalOptions() {
+    int nSteps = 45;
+    double dt = TIME / nSteps;
+    double interest = 0.02;
+    double vol = 0.2;
+    LatticeSpecification lattice = new CoxRossRubinsteinLatticeSpecification();
+    double[] params = lattice.getParametersTrinomial(vol, interest, dt).toArray();
+    DoubleArray time = DoubleArray.of(nSteps + 1, i -> dt * i);
+    DoubleArray df = DoubleArray.of(nSteps, i -> Math.exp(-interest * dt));
+    double[][] stateValue = new double[nSteps + 1][];
+    stateValue[0] = new double[] {SPOT };
+    List<DoubleMatrix> prob = new ArrayList<DoubleMatrix>();
+    double[] probs = new double[] {params[5], params[4], params[3] };
+    for (int i = 0; i < nSteps; ++i) {
+      int index = i;
+      stateValue[i + 1] = DoubleArray.of(2 * i + 3,
+          j -> SPOT * Math.pow(params[2], index + 1 - j) * Math.pow(params[1], j)).toArray();
+      double[][] probMatrix = new double[2 * i + 1][];
+      Arrays.fill(probMatrix, probs);
+      prob.add(DoubleMatrix.ofUnsafe(probMatrix));
+    }
+    RecombiningTrinomialTreeData treeData =
+        RecombiningTrinomialTreeData.of(DoubleMatrix.ofUnsafe(stateValue), prob, df, time);
+    OptionFunction vanilla = EuropeanVanillaOptionFunction.of(STRIKES[1], TIME, PutCall.CALL, nSteps);
+    // option relying on the default implementation of the array based backward induction
+    OptionFunction vanillaDefault = new OptionFunction() {
+      @Override
+      public double getTimeToExpiry() {
+        return vanilla.getTimeToExpiry();
+      }
+
+      @Override
+      public int getNumberOfSteps() {
+        return vanilla.getNumberOfSteps();
+      }
+
+      @Override
+      public DoubleArray getPayoffAtExpiryTrinomial(DoubleArray stateValue) {
+        return vanilla.getPayoffAtExpiryTrinomial(stateValue);
+      }
+    };
+    List<OptionFunction> functions = new ArrayList<>();
+    functions.add(vanilla);
+    functions.add(vanillaDefault);
+    functions.add(EuropeanVanillaOptionFunction.of(STRIKES[4], TIME, PutCall.PUT, nSteps));
+    functions.add(ConstantContinuousSingleBarrierKnockoutFunction.of(
+        STRIKES[2], TIME, PutCall.CALL, nSteps, BarrierType.UP, 130d, DoubleArray.filled(nSteps + 1, 1d)));
+    functions.add(ConstantContinuousSingleBarrierKnockoutFunction.of(
+        STRIKES[2], TIME, PutCall.PUT, nSteps, BarrierType.DOWN, 90d, DoubleArray.filled(nSteps + 1)));
+    DoubleArray prices = TRINOMIAL_TREE.optionPrice(functions, treeData);
+    List<ValueDerivatives> pricesAdjoint = TRINOMIAL_TREE.optionPriceAdjoint(functions, treeData);
+    assertEquals(prices.size(), functions.size());
+    assertEquals(pricesAdjoint.size(), functions.size());
+    for (int k = 0; k < functions.size(); ++k) {
+      OptionFunction function = functions.get(k);
+      assertEquals(prices.get(k), TRINOMIAL_TREE.optionPrice(function, treeData));
+      assertEquals(pricesAdjoint.get(k), TRINOMIAL_TREE.optionPriceAdjoint(function, treeData));
+      assertEquals(pricesAdjoint.get(k).getValue(), prices.get(k));
+      // backward induction without the preallocated arrays
+      DoubleArray values = function.getPayoffAtExpiryTrinomial(treeData.getStateValueAtLayer(nSteps));
+      for (int i = nSteps - 1; i > -1; --i) {
+        values = function.getNextOptionValues(treeData.getDiscountFactorAtLayer(i), treeData.getProbabilityAtLayer(i),
+            treeData.getStateValueAtLayer(i), values, i);
+      }
+      assertEquals(prices.get(k), values.get(0));
+    }
+    assertEquals(pricesAdjoint.get(1), pricesAdjoint.get(0));
+    assertEquals(
+        prices.get(0),
+        TRINOMIAL_TREE.optionPrice(functions.get(0), lattice, SPOT, vol, interest, 0d));
+    assertEquals(TRINOMIAL_TREE.optionPrice(new ArrayList<OptionFunction>(), treeData), DoubleArray.EMPTY);
+    OptionFunction wrongSteps = EuropeanVanillaOptionFunction.of(STRIKES[1], TIME, PutCall.CALL, nSteps + 1);
+    assertThrowsIllegalArg(() -> TRINOMIAL_TREE.optionPrice(wrongSteps, treeData));
+  }
+
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_ACT_ISDA;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+
+/**
+ * Test {@link CachingIborIndexRates}.
+ */
+@Test
+public class CachingIborIndexRatesTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate DATE_VAL = date(2015, 6, 4);
+  private static final LocalDate DATE_BEFORE = date(2015, 6, 3);
+  private static final LocalDate DATE_AFTER = date(2015, 7, 30);
+
+  private static final CurveName NAME = CurveName.of("TestCurve");
+  private static final InterpolatedNodalCurve CURVE = InterpolatedNodalCurve.of(
+      Curves.zeroRates(NAME, ACT_ACT_ISDA), DoubleArray.of(0, 10), DoubleArray.of(0.01, 0.02), CurveInterpolators.LINEAR);
+  private static final LocalDateDoubleTimeSeries SERIES = LocalDateDoubleTimeSeries.builder()
+      .put(DATE_BEFORE, 0.013d)
+      .put(DATE_VAL, 0.014d)
+      .build();
+  private static final IborIndexRates BASE = IborIndexRates.of(GBP_LIBOR_3M, DATE_VAL, CURVE, SERIES);
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    IborIndexRates test = CachingIborIndexRates.of(BASE, 365);
+    assertEquals(((CachingIborIndexRates) test).getUnderlying(), BASE);
+    assertEquals(test.getIndex(), GBP_LIBOR_3M);
+    assertEquals(test.getValuationDate(), DATE_VAL);
+    assertEquals(test.getFixings(), SERIES);
+    assertEquals(test.getParameterCount(), BASE.getParameterCount());
+    assertEquals(test.getParameter(0), BASE.getParameter(0));
+    assertEquals(test.getParameterMetadata(0), BASE.getParameterMetadata(0));
+    assertEquals(test.withParameter(0, 1d), BASE.withParameter(0, 1d));
+    assertEquals(test.withPerturbation((i, v, m) -> v + 1d), BASE.withPerturbation((i, v, m) -> v + 1d));
+    assertEquals(test.findData(NAME), Optional.of(CURVE));
+    assertSame(CachingIborIndexRates.of(test, 365), test);
+  }
+
+  public void test_rates() {
+    IborIndexRates test = CachingIborIndexRates.of(BASE, 365);
+    for (LocalDate date : new LocalDate[] {DATE_BEFORE, DATE_VAL, DATE_AFTER}) {
+      IborIndexObservation obs = IborIndexObservation.of(GBP_LIBOR_3M, date, REF_DATA);
+      for (int i = 0; i < 2; i++) {
+        assertEquals(test.rate(obs), BASE.rate(obs));
+        assertEquals(test.rateIgnoringFixings(obs), BASE.rateIgnoringFixings(obs));
+        assertEquals(test.ratePointSensitivity(obs), BASE.ratePointSensitivity(obs));
+        assertEquals(test.rateIgnoringFixingsPointSensitivity(obs), BASE.rateIgnoringFixingsPointSensitivity(obs));
+      }
+    }
+  }
+
+  public void test_sensitivity() {
+    IborIndexRates test = CachingIborIndexRates.of(BASE, 365);
+    IborIndexObservation obs = IborIndexObservation.of(GBP_LIBOR_3M, DATE_AFTER, REF_DATA);
+    PointSensitivities point = test.ratePointSensitivity(obs).build();
+    IborRateSensitivity sensi = (IborRateSensitivity) point.getSensitivities().get(0);
+    assertEquals(test.parameterSensitivity(sensi), BASE.parameterSensitivity(sensi));
+    DoubleArray sensitivities = DoubleArray.of(1d, 2d);
+    assertEquals(test.createParameterSensitivity(GBP, sensitivities), BASE.createParameterSensitivity(GBP, sensitivities));
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.time.LocalDate;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.CurrencyPair;
+import com.opengamma.strata.basics.index.FxIndices;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.pricer.CachingDiscountFactors;
+import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+
+/**
+ * Test {@link CachingRatesProvider}.
+ */
+@Test
+public class CachingRatesProviderTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final ImmutableRatesProvider BASE = RatesProviderDataSets.MULTI_GBP_USD;
+  private static final ResolvedSwap SWAP = FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M
+      .toTrade(RatesProviderDataSets.VAL_DATE_2014_01_22, LocalDate.of(2014, 3, 10), LocalDate.of(2021, 3, 10),
+          BuySell.BUY, 1.0e6, 0.005)
+      .getProduct()
+      .resolve(REF_DATA);
+  private static final DiscountingSwapProductPricer PRICER = DiscountingSwapProductPricer.DEFAULT;
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    CachingRatesProvider test = CachingRatesProvider.of(BASE);
+    assertEquals(test.getUnderlying(), BASE);
+    assertEquals(test.getCacheSize(), CachingRatesProvider.DEFAULT_CACHE_SIZE);
+    assertEquals(test.getValuationDate(), BASE.getValuationDate());
+    assertEquals(test.getDiscountCurrencies(), BASE.getDiscountCurrencies());
+    assertEquals(test.getIborIndices(), BASE.getIborIndices());
+    assertEquals(test.getOvernightIndices(), BASE.getOvernightIndices());
+    assertEquals(test.getPriceIndices(), BASE.getPriceIndices());
+    assertEquals(test.timeSeries(USD_LIBOR_3M), BASE.timeSeries(USD_LIBOR_3M));
+    assertEquals(test.fxRate(GBP, USD), BASE.fxRate(GBP, USD));
+    assertEquals(test.fxForwardRates(CurrencyPair.of(GBP, USD)), BASE.fxForwardRates(CurrencyPair.of(GBP, USD)));
+    assertEquals(test.fxIndexRates(FxIndices.GBP_USD_WM), BASE.fxIndexRates(FxIndices.GBP_USD_WM));
+    assertEquals(test.toImmutableRatesProvider(), BASE);
+  }
+
+  public void test_lookupsShared() {
+    CachingRatesProvider test = CachingRatesProvider.of(BASE, 365);
+    assertTrue(test.discountFactors(USD) instanceof CachingDiscountFactors);
+    assertSame(test.discountFactors(USD), test.discountFactors(USD));
+    assertTrue(test.iborIndexRates(USD_LIBOR_3M) instanceof CachingIborIndexRates);
+    assertSame(test.iborIndexRates(USD_LIBOR_3M), test.iborIndexRates(USD_LIBOR_3M));
+  }
+
+  public void test_pricing() {
+    CachingRatesProvider test = CachingRatesProvider.of(BASE);
+    for (int i = 0; i < 2; i++) {
+      CurrencyAmount pvComputed = PRICER.presentValue(SWAP, USD, test);
+      CurrencyAmount pvExpected = PRICER.presentValue(SWAP, USD, BASE);
+      assertEquals(pvComputed.getAmount(), pvExpected.getAmount(), 1e-8);
+      CurrencyParameterSensitivities sensiComputed =
+          test.parameterSensitivity(PRICER.presentValueSensitivity(SWAP, test).build());
+      CurrencyParameterSensitivities sensiExpected =
+          BASE.parameterSensitivity(PRICER.presentValueSensitivity(SWAP, BASE).build());
+      assertTrue(sensiComputed.equalWithTolerance(sensiExpected, 1e-8));
+    }
+  }
+
+}
@@ -12,6 +12,7 @@ import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -20,6 +21,7 @@ import java.util.function.Function;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
@@ -274,6 +276,62 @@ public class CurveGammaCalculatorCrossGammaTest {
     assertTrue(computed.equalWithTolerance(computedFromCross, TOL));
   }
 
+  //-------------------------------------------------------------------------
+  public void portfolio_matchesSingle() {
+    List<Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> fns =
+        ImmutableList.of(this::sensiFn, this::sensiModFn, swapSensiFn(0.005), swapSensiFn(0.02));
+    for (CurveGammaCalculator calculator : new CurveGammaCalculator[] {FORWARD, CENTRAL, BACKWARD}) {
+      List<CrossGammaParameterSensitivities> intra =
+          calculator.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, fns);
+      List<CrossGammaParameterSensitivities> cross =
+          calculator.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD, fns);
+      assertEquals(intra.size(), fns.size());
+      assertEquals(cross.size(), fns.size());
+      for (int i = 0; i < fns.size(); i++) {
+        CrossGammaParameterSensitivities intraExpected =
+            calculator.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, fns.get(i));
+        assertTrue(intra.get(i).equalWithTolerance(intraExpected, TOL));
+        CrossGammaParameterSensitivities crossExpected =
+            calculator.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD, fns.get(i));
+        assertTrue(cross.get(i).equalWithTolerance(crossExpected, TOL));
+      }
+    }
+  }
+
+  public void portfolio_netted() {
+    List<Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> fns =
+        ImmutableList.of(swapSensiFn(0.005), swapSensiFn(0.02), this::sensiModFn);
+    Function<ImmutableRatesProvider, CurrencyParameterSensitivities> summedFn =
+        p -> fns.get(0).apply(p).combinedWith(fns.get(1).apply(p)).combinedWith(fns.get(2).apply(p));
+    CrossGammaParameterSensitivities intraComputed =
+        CENTRAL.calculateCrossGammaIntraCurveNetted(RatesProviderDataSets.MULTI_CPI_USD, fns);
+    CrossGammaParameterSensitivities intraExpected =
+        CENTRAL.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, summedFn);
+    assertTrue(intraComputed.equalWithTolerance(intraExpected, TOL * 1.0e6));
+    CrossGammaParameterSensitivities crossComputed =
+        CENTRAL.calculateCrossGammaCrossCurveNetted(RatesProviderDataSets.MULTI_CPI_USD, fns);
+    CrossGammaParameterSensitivities crossExpected =
+        CENTRAL.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD, summedFn);
+    assertTrue(crossComputed.equalWithTolerance(crossExpected, TOL * 1.0e6));
+  }
+
+  public void portfolio_empty() {
+    List<Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> fns = ImmutableList.of();
+    assertEquals(CENTRAL.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, fns).size(), 0);
+    assertEquals(CENTRAL.calculateCrossGammaIntraCurveNetted(
+        RatesProviderDataSets.MULTI_CPI_USD, fns), CrossGammaParameterSensitivities.empty());
+  }
+
+  private Function<ImmutableRatesProvider, CurrencyParameterSensitivities> swapSensiFn(double fixedRate) {
+    ResolvedSwap swap = FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M
+        .toTrade(RatesProviderDataSets.VAL_DATE_2014_01_22, LocalDate.of(2014, 3, 10), LocalDate.of(2021, 3, 10),
+            BuySell.BUY, 1.0e6, fixedRate)
+        .getProduct()
+        .resolve(REF_DATA);
+    DiscountingSwapProductPricer pricer = DiscountingSwapProductPricer.DEFAULT;
+    return p -> p.parameterSensitivity(pricer.presentValueSensitivity(swap, p).build());
+  }
+
   //-------------------------------------------------------------------------
   private CurrencyParameterSensitivities sensiFn(ImmutableRatesProvider provider) {
     CurrencyParameterSensitivities sensi = CurrencyParameterSensitivities.empty();
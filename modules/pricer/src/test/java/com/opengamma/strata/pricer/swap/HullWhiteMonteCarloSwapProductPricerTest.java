@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swap;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.index.OvernightIndices.EUR_EONIA;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.product.common.BuySell.BUY;
+import static com.opengamma.strata.product.common.BuySell.SELL;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.SimulatedValueProfile;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteMonteCarloSimulator;
+import com.opengamma.strata.pricer.index.HullWhiteIborFutureDataSet;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParametersProvider;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.sensitivity.RatesFiniteDifferenceSensitivityCalculator;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.SwapPaymentEvent;
+import com.opengamma.strata.product.swap.SwapPaymentPeriod;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+import com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions;
+
+/**
+ * Test {@link HullWhiteMonteCarloSwapProductPricer}.
+ */
+@Test
+public class HullWhiteMonteCarloSwapProductPricerTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VALUATION = LocalDate.of(2011, 7, 7);
+  private static final HullWhiteOneFactorPiecewiseConstantParametersProvider HW_PROVIDER =
+      HullWhiteIborFutureDataSet.createHullWhiteProvider(VALUATION);
+  private static final ImmutableRatesProvider RATES_PROVIDER_IBOR =
+      HullWhiteIborFutureDataSet.createRatesProvider(VALUATION);
+  private static final ImmutableRatesProvider RATES_PROVIDER = RATES_PROVIDER_IBOR.toBuilder()
+      .overnightIndexCurve(EUR_EONIA, RATES_PROVIDER_IBOR.getDiscountCurves().get(EUR))
+      .build();
+  private static final double NOTIONAL = 100_000_000d;
+  private static final ResolvedSwap SWAP_IBOR = FixedIborSwapConventions.EUR_FIXED_1Y_EURIBOR_6M
+      .createTrade(VALUATION, Tenor.TENOR_5Y, BUY, NOTIONAL, 0.016, REF_DATA)
+      .getProduct().resolve(REF_DATA);
+  private static final ResolvedSwap SWAP_IBOR_SELL = FixedIborSwapConventions.EUR_FIXED_1Y_EURIBOR_6M
+      .createTrade(VALUATION, Tenor.TENOR_5Y, SELL, NOTIONAL, 0.016, REF_DATA)
+      .getProduct().resolve(REF_DATA);
+  private static final ResolvedSwap SWAP_OIS = FixedOvernightSwapConventions.EUR_FIXED_1Y_EONIA_OIS
+      .createTrade(VALUATION, Tenor.TENOR_3Y, SELL, NOTIONAL, 0.015, REF_DATA)
+      .getProduct().resolve(REF_DATA);
+  private static final List<LocalDate> DATES = ImmutableList.of(
+      VALUATION, VALUATION.plusMonths(3), VALUATION.plusYears(1), VALUATION.plusMonths(21), VALUATION.plusYears(4));
+  private static final HullWhiteMonteCarloSwapProductPricer PRICER =
+      new HullWhiteMonteCarloSwapProductPricer(HullWhiteMonteCarloSimulator.ofSobol(4095));
+  private static final DiscountingSwapProductPricer SWAP_PRICER = DiscountingSwapProductPricer.DEFAULT;
+  private static final SwapPaymentPeriodPricer<SwapPaymentPeriod> PERIOD_PRICER = SwapPaymentPeriodPricer.standard();
+  private static final SwapPaymentEventPricer<SwapPaymentEvent> EVENT_PRICER = SwapPaymentEventPricer.standard();
+  private static final double TOL = 1e-10;
+  private static final double FD_EPS = 1e-6;
+  private static final RatesFiniteDifferenceSensitivityCalculator FD_CAL =
+      new RatesFiniteDifferenceSensitivityCalculator(FD_EPS);
+
+  //-------------------------------------------------------------------------
+  public void test_valuationDate() {
+    // at the valuation date the value is the present value on all the paths
+    for (ResolvedSwap swap : new ResolvedSwap[] {SWAP_IBOR, SWAP_OIS}) {
+      SimulatedValueProfile profile = PRICER.presentValueProfile(swap, RATES_PROVIDER, HW_PROVIDER, DATES);
+      assertEquals(profile.getPathCount(), 4095);
+      assertEquals(profile.getDates(), DATES);
+      assertEquals(profile.getDiscountFactors().get(0), 1d, TOL);
+      double pv = SWAP_PRICER.presentValue(swap, RATES_PROVIDER).getAmount(EUR).getAmount();
+      for (double value : profile.getValues().rowArray(0)) {
+        assertEquals(value, pv, NOTIONAL * TOL);
+      }
+    }
+  }
+
+  public void test_expectedDeflatedValue() {
+    // the expected deflated value is the present value of the cash flows paid from the date
+    for (ResolvedSwap swap : new ResolvedSwap[] {SWAP_IBOR, SWAP_OIS}) {
+      SimulatedValueProfile profile = PRICER.presentValueProfile(swap, RATES_PROVIDER, HW_PROVIDER, DATES);
+      for (int i = 0; i < DATES.size(); i++) {
+        LocalDate date = DATES.get(i);
+        double expected = 0d;
+        for (ResolvedSwapLeg leg : swap.getLegs()) {
+          for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+            if (!period.getPaymentDate().isBefore(date)) {
+              expected += PERIOD_PRICER.presentValue(period, RATES_PROVIDER);
+            }
+          }
+          for (SwapPaymentEvent event : leg.getPaymentEvents()) {
+            if (!event.getPaymentDate().isBefore(date)) {
+              expected += EVENT_PRICER.presentValue(event, RATES_PROVIDER);
+            }
+          }
+        }
+        double[] values = profile.getValues().rowArray(i);
+        double[] deflators = profile.getDeflators().rowArray(i);
+        double sum = 0d;
+        double sumDeflators = 0d;
+        for (int j = 0; j < values.length; j++) {
+          sum += values[j] * deflators[j];
+          sumDeflators += deflators[j];
+        }
+        assertEquals(sum / values.length, expected, NOTIONAL * 1e-5);
+        assertEquals(sumDeflators / values.length, profile.getDiscountFactors().get(i), 1e-5);
+      }
+    }
+  }
+
+  public void test_nettingSet() {
+    // offsetting swaps
+    SimulatedValueProfile profile = PRICER.presentValueProfile(
+        ImmutableList.of(SWAP_IBOR, SWAP_IBOR_SELL), RATES_PROVIDER, HW_PROVIDER, DATES);
+    for (int i = 0; i < DATES.size(); i++) {
+      for (double value : profile.getValues().rowArray(i)) {
+        assertEquals(value, 0d, NOTIONAL * TOL);
+      }
+    }
+    assertEquals(profile.expectedPositiveExposure(), DoubleArray.filled(DATES.size()));
+  }
+
+  public void test_exposure() {
+    SimulatedValueProfile profile = PRICER.presentValueProfile(SWAP_IBOR, RATES_PROVIDER, HW_PROVIDER, DATES);
+    DoubleArray epe = profile.expectedPositiveExposure();
+    DoubleArray pfe = profile.potentialFutureExposure(0.95);
+    DoubleArray pfeLow = profile.potentialFutureExposure(0.05);
+    for (int i = 1; i < DATES.size(); i++) {
+      assertTrue(epe.get(i) > 0d);
+      assertTrue(pfe.get(i) > epe.get(i));
+      assertTrue(pfeLow.get(i) < pfe.get(i));
+    }
+    // no uncertainty at the valuation date
+    assertEquals(pfe.get(0), pfeLow.get(0), NOTIONAL * TOL);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_presentValue() {
+    // the present value converges to the one of the discounting pricer
+    for (ResolvedSwap swap : new ResolvedSwap[] {SWAP_IBOR, SWAP_OIS}) {
+      CurrencyAmount computed = PRICER.presentValue(swap, RATES_PROVIDER, HW_PROVIDER);
+      CurrencyAmount expected = SWAP_PRICER.presentValue(swap, RATES_PROVIDER).getAmount(EUR);
+      assertEquals(computed.getCurrency(), EUR);
+      assertEquals(computed.getAmount(), expected.getAmount(), NOTIONAL * 2e-5);
+    }
+  }
+
+  public void test_presentValueSensitivityRates() {
+    for (ResolvedSwap swap : new ResolvedSwap[] {SWAP_IBOR, SWAP_OIS}) {
+      PointSensitivityBuilder point = PRICER.presentValueSensitivityRates(swap, RATES_PROVIDER, HW_PROVIDER);
+      CurrencyParameterSensitivities computed = RATES_PROVIDER.parameterSensitivity(point.build());
+      // the pathwise sensitivity is the derivative of the simulated present value on the same paths
+      CurrencyParameterSensitivities expectedFd = FD_CAL.sensitivity(
+          RATES_PROVIDER, p -> PRICER.presentValue(swap, p, HW_PROVIDER));
+      assertTrue(computed.equalWithTolerance(expectedFd, NOTIONAL * FD_EPS * 10d));
+      // it converges to the sensitivity of the discounting pricer
+      CurrencyParameterSensitivities expected = RATES_PROVIDER.parameterSensitivity(
+          SWAP_PRICER.presentValueSensitivity(swap, RATES_PROVIDER).build());
+      assertTrue(computed.equalWithTolerance(expected, NOTIONAL * 1e-3));
+    }
+  }
+
+  public void test_deterministic() {
+    HullWhiteMonteCarloSwapProductPricer pricer =
+        new HullWhiteMonteCarloSwapProductPricer(HullWhiteMonteCarloSimulator.ofPseudoRandom(2000, 3L));
+    assertEquals(
+        pricer.presentValueProfile(SWAP_IBOR, RATES_PROVIDER, HW_PROVIDER, DATES),
+        pricer.presentValueProfile(SWAP_IBOR, RATES_PROVIDER, HW_PROVIDER, DATES));
+  }
+
+  public void test_invalid() {
+    assertThrowsIllegalArg(() -> PRICER.presentValueProfile(
+        SWAP_IBOR, RATES_PROVIDER, HW_PROVIDER, ImmutableList.of(VALUATION.minusDays(1))));
+    assertThrowsIllegalArg(() -> PRICER.presentValueProfile(
+        SWAP_IBOR, RATES_PROVIDER, HW_PROVIDER, ImmutableList.of(VALUATION.plusDays(2), VALUATION.plusDays(1))));
+    assertThrowsIllegalArg(() -> PRICER.presentValueProfile(
+        SWAP_IBOR, RATES_PROVIDER, HullWhiteIborFutureDataSet.createHullWhiteProvider(VALUATION.plusDays(1)), DATES));
+    assertThrowsIllegalArg(() -> PRICER.presentValueProfile(
+        ImmutableList.of(), RATES_PROVIDER, HW_PROVIDER, DATES));
+    assertThrowsIllegalArg(() -> PRICER.presentValue(
+        SWAP_IBOR, RATES_PROVIDER, HullWhiteIborFutureDataSet.createHullWhiteProvider(VALUATION.plusDays(1))));
+  }
+
+}
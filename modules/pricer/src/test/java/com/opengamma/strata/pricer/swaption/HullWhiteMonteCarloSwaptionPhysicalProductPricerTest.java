@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swaption;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.product.common.BuySell.BUY;
+import static com.opengamma.strata.product.common.BuySell.SELL;
+import static com.opengamma.strata.product.common.LongShort.LONG;
+import static com.opengamma.strata.product.common.LongShort.SHORT;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountingPaymentPricer;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteMonteCarloSimulator;
+import com.opengamma.strata.pricer.index.HullWhiteIborFutureDataSet;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParametersProvider;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.common.LongShort;
+import com.opengamma.strata.product.swap.Swap;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+import com.opengamma.strata.product.swaption.CashSwaptionSettlement;
+import com.opengamma.strata.product.swaption.CashSwaptionSettlementMethod;
+import com.opengamma.strata.product.swaption.PhysicalSwaptionSettlement;
+import com.opengamma.strata.product.swaption.ResolvedSwaption;
+import com.opengamma.strata.product.swaption.Swaption;
+import com.opengamma.strata.product.swaption.SwaptionSettlement;
+
+/**
+ * Test {@link HullWhiteMonteCarloSwaptionPhysicalProductPricer}.
+ */
+@Test
+public class HullWhiteMonteCarloSwaptionPhysicalProductPricerTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VALUATION = LocalDate.of(2011, 7, 7);
+  private static final LocalDate EXPIRY = LocalDate.of(2016, 7, 7);
+  private static final double NOTIONAL = 100_000_000d;
+  private static final double RATE = 0.0175;
+  private static final ResolvedSwaption SWAPTION_REC_LONG = swaption(SELL, LONG, PhysicalSwaptionSettlement.DEFAULT);
+  private static final ResolvedSwaption SWAPTION_PAY_SHORT = swaption(BUY, SHORT, PhysicalSwaptionSettlement.DEFAULT);
+  private static final ResolvedSwaption SWAPTION_CASH =
+      swaption(BUY, LONG, CashSwaptionSettlement.of(EXPIRY, CashSwaptionSettlementMethod.PAR_YIELD));
+
+  private static final HullWhiteOneFactorPiecewiseConstantParametersProvider HW_PROVIDER =
+      HullWhiteIborFutureDataSet.createHullWhiteProvider(VALUATION);
+  private static final ImmutableRatesProvider RATES_PROVIDER = HullWhiteIborFutureDataSet.createRatesProvider(VALUATION);
+  private static final HullWhiteMonteCarloSwaptionPhysicalProductPricer PRICER =
+      HullWhiteMonteCarloSwaptionPhysicalProductPricer.DEFAULT;
+  private static final HullWhiteSwaptionPhysicalProductPricer PRICER_EXPLICIT =
+      HullWhiteSwaptionPhysicalProductPricer.DEFAULT;
+  private static final double TOL_MC = 2e-3;
+
+  private static ResolvedSwaption swaption(BuySell buySell, LongShort longShort, SwaptionSettlement settlement) {
+    Swap swap = FixedIborSwapConventions.EUR_FIXED_1Y_EURIBOR_6M
+        .toTrade(EXPIRY, EXPIRY.plusDays(2), EXPIRY.plusDays(2).plusYears(5), buySell, NOTIONAL, RATE)
+        .getProduct();
+    return Swaption.builder()
+        .expiryDate(AdjustableDate.of(EXPIRY))
+        .expiryTime(LocalTime.NOON)
+        .expiryZone(ZoneOffset.UTC)
+        .swaptionSettlement(settlement)
+        .longShort(longShort)
+        .underlying(swap)
+        .build()
+        .resolve(REF_DATA);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_presentValue() {
+    for (ResolvedSwaption swaption : new ResolvedSwaption[] {SWAPTION_REC_LONG, SWAPTION_PAY_SHORT}) {
+      CurrencyAmount computed = PRICER.presentValue(swaption, RATES_PROVIDER, HW_PROVIDER);
+      CurrencyAmount expected = PRICER_EXPLICIT.presentValue(swaption, RATES_PROVIDER, HW_PROVIDER);
+      assertEquals(computed.getCurrency(), EUR);
+      assertEquals(computed.getAmount(), expected.getAmount(), Math.abs(expected.getAmount()) * TOL_MC);
+    }
+  }
+
+  public void test_presentValue_deterministic() {
+    HullWhiteMonteCarloSwaptionPhysicalProductPricer pricer = new HullWhiteMonteCarloSwaptionPhysicalProductPricer(
+        DiscountingPaymentPricer.DEFAULT, HullWhiteMonteCarloSimulator.ofPseudoRandom(5000, 11L));
+    CurrencyAmount first = pricer.presentValue(SWAPTION_REC_LONG, RATES_PROVIDER, HW_PROVIDER);
+    assertEquals(pricer.presentValue(SWAPTION_REC_LONG, RATES_PROVIDER, HW_PROVIDER), first);
+  }
+
+  public void test_presentValue_afterExpiry() {
+    LocalDate date = EXPIRY.plusDays(1);
+    CurrencyAmount computed = PRICER.presentValue(SWAPTION_REC_LONG,
+        HullWhiteIborFutureDataSet.createRatesProvider(date), HullWhiteIborFutureDataSet.createHullWhiteProvider(date));
+    assertEquals(computed, CurrencyAmount.of(EUR, 0d));
+  }
+
+  public void test_presentValueSensitivity() {
+    for (ResolvedSwaption swaption : new ResolvedSwaption[] {SWAPTION_REC_LONG, SWAPTION_PAY_SHORT}) {
+      PointSensitivityBuilder point = PRICER.presentValueSensitivityRates(swaption, RATES_PROVIDER, HW_PROVIDER);
+      CurrencyParameterSensitivities computed = RATES_PROVIDER.parameterSensitivity(point.build());
+      PointSensitivityBuilder pointExplicit =
+          PRICER_EXPLICIT.presentValueSensitivityRates(swaption, RATES_PROVIDER, HW_PROVIDER);
+      CurrencyParameterSensitivities expected = RATES_PROVIDER.parameterSensitivity(pointExplicit.build());
+      assertTrue(computed.equalWithTolerance(expected, NOTIONAL * 1e-3));
+    }
+  }
+
+  public void test_invalid() {
+    assertThrowsIllegalArg(() -> PRICER.presentValue(SWAPTION_CASH, RATES_PROVIDER, HW_PROVIDER));
+    assertThrowsIllegalArg(() -> PRICER.presentValue(
+        SWAPTION_REC_LONG, RATES_PROVIDER, HullWhiteIborFutureDataSet.createHullWhiteProvider(VALUATION.plusDays(1))));
+  }
+
+}
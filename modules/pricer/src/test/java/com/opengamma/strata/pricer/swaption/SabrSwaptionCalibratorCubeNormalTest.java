@@ -19,6 +19,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.testng.annotations.Test;
 
@@ -88,6 +89,7 @@ public class SabrSwaptionCalibratorCubeNormalTest {
       SabrSwaptionDefinition.of(NAME_SABR, EUR_FIXED_1Y_EURIBOR_6M, DAY_COUNT, INTERPOLATOR_2D);
 
   private static final double TOLERANCE_PRICE_CALIBRATION_LS = 5.0E-4; // Calibration Least Square; result not exact
+  private static final double TOLERANCE_PARAMETER_PARALLEL = 1.0E-6;
 
   @Test
   public void normal_cube() {
@@ -102,7 +104,45 @@ public class SabrSwaptionCalibratorCubeNormalTest {
             .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION).surfaceName("Shift").build());
     SabrParametersSwaptionVolatilities calibrated = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
         DEFINITION, CALIBRATION_TIME, DATA_SPARSE, MULTICURVE, betaSurface, shiftSurface);
+    assertCalibrated(calibrated, shift);
+  }
+
+  public void normal_cube_parallel() {
+    Surface betaSurface = ConstantSurface.of("Beta", 0.50)
+        .withMetadata(DefaultSurfaceMetadata.builder()
+            .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION)
+            .zValueType(ValueType.SABR_BETA).surfaceName("Beta").build());
+    double shift = 0.0300;
+    Surface shiftSurface = ConstantSurface.of("Shift", shift)
+        .withMetadata(DefaultSurfaceMetadata.builder()
+            .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION).surfaceName("Shift").build());
+    SabrParametersSwaptionVolatilities calibrated = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+        DEFINITION, CALIBRATION_TIME, DATA_SPARSE, MULTICURVE, betaSurface, shiftSurface, true, ForkJoinPool.commonPool());
+    assertCalibrated(calibrated, shift);
+    // same nodes as the sequential calibration
+    SabrParametersSwaptionVolatilities sequential = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+        DEFINITION, CALIBRATION_TIME, DATA_SPARSE, MULTICURVE, betaSurface, shiftSurface);
+    assertEquals(
+        calibrated.getParameters().getAlphaSurface().getMetadata(),
+        sequential.getParameters().getAlphaSurface().getMetadata());
+    // same parameters as the sequential calibration, within the calibration tolerance
+    assertSurfaceEquals(calibrated.getParameters().getAlphaSurface(), sequential.getParameters().getAlphaSurface());
+    assertSurfaceEquals(calibrated.getParameters().getRhoSurface(), sequential.getParameters().getRhoSurface());
+    assertSurfaceEquals(calibrated.getParameters().getNuSurface(), sequential.getParameters().getNuSurface());
+    // deterministic, whatever the executor
+    SabrParametersSwaptionVolatilities calibratedSingleThread = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+        DEFINITION, CALIBRATION_TIME, DATA_SPARSE, MULTICURVE, betaSurface, shiftSurface, true, Runnable::run);
+    assertEquals(calibratedSingleThread, calibrated);
+  }
+
+  private void assertSurfaceEquals(Surface computed, Surface expected) {
+    assertEquals(computed.getParameterCount(), expected.getParameterCount());
+    for (int i = 0; i < expected.getParameterCount(); i++) {
+      assertEquals(computed.getParameter(i), expected.getParameter(i), TOLERANCE_PARAMETER_PARALLEL);
+    }
+  }
 
+  private void assertCalibrated(SabrParametersSwaptionVolatilities calibrated, double shift) {
     for (int looptenor = 0; looptenor < TENORS.size(); looptenor++) {
       double tenor = TENORS.get(looptenor).get(ChronoUnit.YEARS);
       for (int loopexpiry = 0; loopexpiry < EXPIRIES.size(); loopexpiry++) {
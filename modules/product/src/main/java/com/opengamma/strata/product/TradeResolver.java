@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.product;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.opengamma.strata.basics.ImmutableReferenceData;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.ReferenceDataNotFoundException;
+import com.opengamma.strata.basics.VersionedReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Resolves trades using reference data, caching the resolved form.
+ * <p>
+ * Resolving a trade, such as a swap, involves generating schedules and accrual periods,
+ * which is relatively slow. When the same trade is priced for many measures, or in many
+ * calculation runs, the same resolution is performed repeatedly.
+ * This class caches the {@link ResolvedTrade} for each trade.
+ * <p>
+ * The resolved trade is keyed by the trade, using {@link Object#equals(Object)}.
+ * Since trade equality includes the {@link TradeInfo}, only trades that are equal in every respect,
+ * including the trade identifier, share the same resolved form.
+ * <p>
+ * The resolved trades are held separately for each instance of {@link ImmutableReferenceData},
+ * compared by identity. Reference data that is no longer in use is garbage collected along with
+ * the resolved trades. When passed {@link VersionedReferenceData}, the current snapshot is used,
+ * thus an update to the reference data results in the trades being resolved again.
+ * Any other implementation of {@code ReferenceData} may change without notice, so trades are
+ * resolved directly against it without caching.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class TradeResolver {
+
+  /**
+   * The standard instance, holding resolved trades for as long as memory permits.
+   */
+  private static final TradeResolver STANDARD = new TradeResolver(() -> CacheBuilder.newBuilder().softValues().build());
+
+  /**
+   * The resolved trades, keyed by the identity of the reference data.
+   */
+  private final Cache<ReferenceData, Cache<ResolvableTrade<?>, ResolvedTrade>> cache =
+      CacheBuilder.newBuilder().weakKeys().build();
+  /**
+   * The factory used to create the cache for each instance of reference data.
+   */
+  private final Supplier<Cache<ResolvableTrade<?>, ResolvedTrade>> cacheFactory;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the standard instance.
+   * <p>
+   * This instance is shared, and is used by the standard calculation functions
+   * unless a different instance is specified in the calculation parameters.
+   * Resolved trades are held using soft references, thus are released when memory is low.
+   *
+   * @return the standard trade resolver
+   */
+  public static TradeResolver standard() {
+    return STANDARD;
+  }
+
+  /**
+   * Obtains an instance that holds up to the specified number of resolved trades
+   * for each instance of reference data.
+   * <p>
+   * When the limit is reached, the least recently used resolved trades are evicted.
+   *
+   * @param maximumSize  the maximum number of resolved trades for each instance of reference data
+   * @return the trade resolver
+   */
+  public static TradeResolver of(long maximumSize) {
+    ArgChecker.notNegative(maximumSize, "maximumSize");
+    return new TradeResolver(() -> CacheBuilder.newBuilder().maximumSize(maximumSize).build());
+  }
+
+  // restricted constructor
+  private TradeResolver(Supplier<Cache<ResolvableTrade<?>, ResolvedTrade>> cacheFactory) {
+    this.cacheFactory = cacheFactory;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Resolves the trade using the specified reference data.
+   * <p>
+   * The cached resolved form is returned if available, otherwise the trade is resolved and cached.
+   * If the reference data is neither immutable nor versioned, the trade is resolved without caching.
+   *
+   * @param <T>  the type of the resolved trade
+   * @param trade  the trade to resolve
+   * @param refData  the reference data to use when resolving
+   * @return the resolved trade
+   * @throws ReferenceDataNotFoundException if an identifier cannot be resolved in the reference data
+   * @throws RuntimeException if unable to resolve due to an invalid definition
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends ResolvedTrade> T resolve(ResolvableTrade<T> trade, ReferenceData refData) {
+    ArgChecker.notNull(trade, "trade");
+    ArgChecker.notNull(refData, "refData");
+    ReferenceData data = snapshot(refData);
+    if (!(data instanceof ImmutableReferenceData)) {
+      return trade.resolve(data);
+    }
+    Cache<ResolvableTrade<?>, ResolvedTrade> resolved = cache.asMap().computeIfAbsent(data, r -> cacheFactory.get());
+    try {
+      return (T) resolved.get(trade, () -> trade.resolve(data));
+
+    } catch (ExecutionException | UncheckedExecutionException | ExecutionError ex) {
+      // rethrow the original exception, such as ReferenceDataNotFoundException
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      if (ex.getCause() instanceof Error) {
+        throw (Error) ex.getCause();
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  /**
+   * Resolves a list of trades using the specified reference data.
+   * <p>
+   * The trades are resolved in parallel, with the cached resolved form used where available.
+   * Trades that are equal are only resolved once.
+   *
+   * @param trades  the trades to resolve
+   * @param refData  the reference data to use when resolving
+   * @return the resolved trades, in the same order as the input
+   * @throws ReferenceDataNotFoundException if an identifier cannot be resolved in the reference data
+   * @throws RuntimeException if unable to resolve due to an invalid definition
+   */
+  public ImmutableList<ResolvedTrade> resolveAll(List<? extends ResolvableTrade<?>> trades, ReferenceData refData) {
+    ArgChecker.noNulls(trades, "trades");
+    ArgChecker.notNull(refData, "refData");
+    return trades.parallelStream()
+        .map(trade -> (ResolvedTrade) resolve(trade, refData))
+        .collect(toImmutableList());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Removes all resolved trades from the cache.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Gets the approximate number of resolved trades in the cache for the specified reference data.
+   *
+   * @param refData  the reference data
+   * @return the number of resolved trades
+   */
+  public long size(ReferenceData refData) {
+    Cache<ResolvableTrade<?>, ResolvedTrade> resolved = cache.getIfPresent(snapshot(refData));
+    return resolved != null ? resolved.size() : 0;
+  }
+
+  // obtains the immutable reference data to key the cache on
+  private static ReferenceData snapshot(ReferenceData refData) {
+    if (refData instanceof VersionedReferenceData) {
+      return ((VersionedReferenceData) refData).snapshot();
+    }
+    return refData;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "TradeResolver";
+  }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.product.bond;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A compact view of the periodic payments of a fixed coupon bond.
+ * <p>
+ * This holds the data of a list of {@link FixedCouponBondPaymentPeriod} in primitive arrays,
+ * with each date stored as an {@code int} epoch-day, see {@link LocalDate#toEpochDay()}.
+ * It is intended for pricers that value many periods, where the dates are compared and
+ * converted to year fractions in the inner loop.
+ * <p>
+ * All periods must have the same currency.
+ * <p>
+ * This class is immutable and thread-safe. The arrays are never exposed.
+ */
+public final class FixedCouponBondPaymentPeriodArray {
+
+  /**
+   * The currency of the payments.
+   */
+  private final Currency currency;
+  /**
+   * The adjusted start date of each period, as an epoch-day.
+   */
+  private final int[] startDates;
+  /**
+   * The adjusted end date of each period, as an epoch-day.
+   */
+  private final int[] endDates;
+  /**
+   * The payment date of each period, which is the adjusted end date, as an epoch-day.
+   */
+  private final int[] paymentDates;
+  /**
+   * The detachment date of each period, as an epoch-day.
+   */
+  private final int[] detachmentDates;
+  /**
+   * The notional of each period.
+   */
+  private final double[] notionals;
+  /**
+   * The fixed coupon rate of each period.
+   */
+  private final double[] fixedRates;
+  /**
+   * The year fraction of each period.
+   */
+  private final double[] yearFractions;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the periodic payments of a bond.
+   *
+   * @param bond  the resolved bond
+   * @return the compact view of the periodic payments
+   */
+  public static FixedCouponBondPaymentPeriodArray of(ResolvedFixedCouponBond bond) {
+    return of(bond.getNominalPayment().getCurrency(), bond.getPeriodicPayments());
+  }
+
+  /**
+   * Obtains an instance from a list of periods.
+   *
+   * @param currency  the currency of the periods
+   * @param periods  the periods
+   * @return the compact view of the periods
+   * @throws IllegalArgumentException if a period has a different currency
+   */
+  public static FixedCouponBondPaymentPeriodArray of(Currency currency, List<FixedCouponBondPaymentPeriod> periods) {
+    ArgChecker.notNull(currency, "currency");
+    ArgChecker.noNulls(periods, "periods");
+    return new FixedCouponBondPaymentPeriodArray(currency, periods);
+  }
+
+  // restricted constructor
+  private FixedCouponBondPaymentPeriodArray(Currency currency, List<FixedCouponBondPaymentPeriod> periods) {
+    int size = periods.size();
+    this.currency = currency;
+    this.startDates = new int[size];
+    this.endDates = new int[size];
+    this.paymentDates = new int[size];
+    this.detachmentDates = new int[size];
+    this.notionals = new double[size];
+    this.fixedRates = new double[size];
+    this.yearFractions = new double[size];
+    for (int i = 0; i < size; i++) {
+      FixedCouponBondPaymentPeriod period = periods.get(i);
+      ArgChecker.isTrue(period.getCurrency().equals(currency), "Periods must have currency {}", currency);
+      startDates[i] = Math.toIntExact(period.getStartDate().toEpochDay());
+      endDates[i] = Math.toIntExact(period.getEndDate().toEpochDay());
+      paymentDates[i] = Math.toIntExact(period.getPaymentDate().toEpochDay());
+      detachmentDates[i] = Math.toIntExact(period.getDetachmentDate().toEpochDay());
+      notionals[i] = period.getNotional();
+      fixedRates[i] = period.getFixedRate();
+      yearFractions[i] = period.getYearFraction();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the currency of the payments.
+   *
+   * @return the currency
+   */
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  /**
+   * Gets the number of periods.
+   *
+   * @return the number of periods
+   */
+  public int size() {
+    return paymentDates.length;
+  }
+
+  /**
+   * Gets the adjusted start date of a period, as an epoch-day.
+   *
+   * @param index  the zero-based index of the period
+   * @return the start date, as an epoch-day
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public int getStartDate(int index) {
+    return startDates[index];
+  }
+
+  /**
+   * Gets the adjusted end date of a period, as an epoch-day.
+   *
+   * @param index  the zero-based index of the period
+   * @return the end date, as an epoch-day
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public int getEndDate(int index) {
+    return endDates[index];
+  }
+
+  /**
+   * Gets the payment date of a period, as an epoch-day.
+   *
+   * @param index  the zero-based index of the period
+   * @return the payment date, as an epoch-day
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public int getPaymentDate(int index) {
+    return paymentDates[index];
+  }
+
+  /**
+   * Gets the detachment date of a period, as an epoch-day.
+   *
+   * @param index  the zero-based index of the period
+   * @return the detachment date, as an epoch-day
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public int getDetachmentDate(int index) {
+    return detachmentDates[index];
+  }
+
+  /**
+   * Gets the notional of a period.
+   *
+   * @param index  the zero-based index of the period
+   * @return the notional
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public double getNotional(int index) {
+    return notionals[index];
+  }
+
+  /**
+   * Gets the fixed coupon rate of a period.
+   *
+   * @param index  the zero-based index of the period
+   * @return the fixed rate
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public double getFixedRate(int index) {
+    return fixedRates[index];
+  }
+
+  /**
+   * Gets the year fraction of a period.
+   *
+   * @param index  the zero-based index of the period
+   * @return the year fraction
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public double getYearFraction(int index) {
+    return yearFractions[index];
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "FixedCouponBondPaymentPeriodArray[" + currency + ", size=" + size() + "]";
+  }
+
+}
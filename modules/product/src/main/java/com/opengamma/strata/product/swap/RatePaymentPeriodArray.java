@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.product.swap;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.product.rate.RateComputation;
+
+/**
+ * A compact view of the payment periods of a swap leg.
+ * <p>
+ * This holds the data of a list of {@link RatePaymentPeriod} in primitive arrays,
+ * with each date stored as an {@code int} epoch-day, see {@link LocalDate#toEpochDay()}.
+ * It is intended for pricers that value many periods, where the dates are compared and
+ * converted to year fractions in the inner loop.
+ * <p>
+ * Only payment periods with a single accrual period and no FX reset are supported,
+ * which covers the periods of standard fixed, Ibor and overnight legs.
+ * All periods must have the same currency.
+ * <p>
+ * This class is immutable and thread-safe. The arrays are never exposed.
+ */
+public final class RatePaymentPeriodArray {
+
+  /**
+   * The currency of the payments.
+   */
+  private final Currency currency;
+  /**
+   * The payment date of each period, as an epoch-day.
+   */
+  private final int[] paymentDates;
+  /**
+   * The adjusted start date of each accrual period, as an epoch-day.
+   */
+  private final int[] startDates;
+  /**
+   * The adjusted end date of each accrual period, as an epoch-day.
+   */
+  private final int[] endDates;
+  /**
+   * The notional of each period.
+   */
+  private final double[] notionals;
+  /**
+   * The year fraction of each accrual period.
+   */
+  private final double[] yearFractions;
+  /**
+   * The gearing of each accrual period.
+   */
+  private final double[] gearings;
+  /**
+   * The spread of each accrual period.
+   */
+  private final double[] spreads;
+  /**
+   * The negative rate method of each accrual period.
+   */
+  private final NegativeRateMethod[] negativeRateMethods;
+  /**
+   * The rate computation of each accrual period.
+   */
+  private final RateComputation[] rateComputations;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if the payment periods of the leg are supported by this view.
+   * <p>
+   * This returns true if every payment period is a {@link RatePaymentPeriod}
+   * with a single accrual period and no FX reset.
+   *
+   * @param leg  the resolved swap leg
+   * @return true if supported
+   */
+  public static boolean isSupported(ResolvedSwapLeg leg) {
+    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+      if (!(period instanceof RatePaymentPeriod)) {
+        return false;
+      }
+      RatePaymentPeriod ratePeriod = (RatePaymentPeriod) period;
+      if (ratePeriod.getAccrualPeriods().size() != 1 || ratePeriod.getFxReset().isPresent()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Obtains an instance from the payment periods of a swap leg.
+   * <p>
+   * The payment events of the leg are not included.
+   *
+   * @param leg  the resolved swap leg
+   * @return the compact view of the payment periods
+   * @throws IllegalArgumentException if the payment periods are not supported
+   */
+  public static RatePaymentPeriodArray of(ResolvedSwapLeg leg) {
+    ArgChecker.isTrue(isSupported(leg), "Payment periods must be RatePaymentPeriod with one accrual and no FX reset");
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    List<RatePaymentPeriod> periods = (List) leg.getPaymentPeriods();
+    return new RatePaymentPeriodArray(leg.getCurrency(), periods);
+  }
+
+  // restricted constructor
+  private RatePaymentPeriodArray(Currency currency, List<RatePaymentPeriod> periods) {
+    int size = periods.size();
+    this.currency = currency;
+    this.paymentDates = new int[size];
+    this.startDates = new int[size];
+    this.endDates = new int[size];
+    this.notionals = new double[size];
+    this.yearFractions = new double[size];
+    this.gearings = new double[size];
+    this.spreads = new double[size];
+    this.negativeRateMethods = new NegativeRateMethod[size];
+    this.rateComputations = new RateComputation[size];
+    for (int i = 0; i < size; i++) {
+      RatePaymentPeriod period = periods.get(i);
+      RateAccrualPeriod accrual = period.getAccrualPeriods().get(0);
+      paymentDates[i] = Math.toIntExact(period.getPaymentDate().toEpochDay());
+      startDates[i] = Math.toIntExact(accrual.getStartDate().toEpochDay());
+      endDates[i] = Math.toIntExact(accrual.getEndDate().toEpochDay());
+      notionals[i] = period.getNotional();
+      yearFractions[i] = accrual.getYearFraction();
+      gearings[i] = accrual.getGearing();
+      spreads[i] = accrual.getSpread();
+      negativeRateMethods[i] = accrual.getNegativeRateMethod();
+      rateComputations[i] = accrual.getRateComputation();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the currency of the payments.
+   *
+   * @return the currency
+   */
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  /**
+   * Gets the number of periods.
+   *
+   * @return the number of periods
+   */
+  public int size() {
+    return paymentDates.length;
+  }
+
+  /**
+   * Gets the payment date of a period, as an epoch-day.
+   *
+   * @param index  the zero-based index of the period
+   * @return the payment date, as an epoch-day
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public int getPaymentDate(int index) {
+    return paymentDates[index];
+  }
+
+  /**
+   * Gets the adjusted start date of the accrual period, as an epoch-day.
+   *
+   * @param index  the zero-based index of the period
+   * @return the start date, as an epoch-day
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public int getStartDate(int index) {
+    return startDates[index];
+  }
+
+  /**
+   * Gets the adjusted end date of the accrual period, as an epoch-day.
+   *
+   * @param index  the zero-based index of the period
+   * @return the end date, as an epoch-day
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public int getEndDate(int index) {
+    return endDates[index];
+  }
+
+  /**
+   * Gets the notional of a period.
+   *
+   * @param index  the zero-based index of the period
+   * @return the notional
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public double getNotional(int index) {
+    return notionals[index];
+  }
+
+  /**
+   * Gets the year fraction of the accrual period.
+   *
+   * @param index  the zero-based index of the period
+   * @return the year fraction
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public double getYearFraction(int index) {
+    return yearFractions[index];
+  }
+
+  /**
+   * Gets the gearing of the accrual period.
+   *
+   * @param index  the zero-based index of the period
+   * @return the gearing
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public double getGearing(int index) {
+    return gearings[index];
+  }
+
+  /**
+   * Gets the spread of the accrual period.
+   *
+   * @param index  the zero-based index of the period
+   * @return the spread
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public double getSpread(int index) {
+    return spreads[index];
+  }
+
+  /**
+   * Gets the negative rate method of the accrual period.
+   *
+   * @param index  the zero-based index of the period
+   * @return the negative rate method
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public NegativeRateMethod getNegativeRateMethod(int index) {
+    return negativeRateMethods[index];
+  }
+
+  /**
+   * Gets the rate computation of the accrual period.
+   *
+   * @param index  the zero-based index of the period
+   * @return the rate computation
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public RateComputation getRateComputation(int index) {
+    return rateComputations[index];
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "RatePaymentPeriodArray[" + currency + ", size=" + size() + "]";
+  }
+
+}
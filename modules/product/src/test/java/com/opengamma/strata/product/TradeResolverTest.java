@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.product;
+
+import static com.opengamma.strata.basics.date.Tenor.TENOR_10Y;
+import static com.opengamma.strata.basics.date.Tenor.TENOR_5Y;
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.product.common.BuySell.BUY;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ImmutableReferenceData;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.ReferenceDataNotFoundException;
+import com.opengamma.strata.basics.VersionedReferenceData;
+import com.opengamma.strata.basics.date.HolidayCalendarIds;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+import com.opengamma.strata.product.swap.SwapTrade;
+
+/**
+ * Test {@link TradeResolver}.
+ */
+@Test
+public class TradeResolverTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final SwapTrade TRADE1 =
+      USD_FIXED_6M_LIBOR_3M.createTrade(date(2017, 3, 1), TENOR_5Y, BUY, 1_000_000d, 0.01d, REF_DATA);
+  private static final SwapTrade TRADE2 =
+      USD_FIXED_6M_LIBOR_3M.createTrade(date(2017, 3, 1), TENOR_10Y, BUY, 1_000_000d, 0.02d, REF_DATA);
+
+  //-------------------------------------------------------------------------
+  public void test_resolve() {
+    TradeResolver test = TradeResolver.of(100);
+    ResolvedSwapTrade resolved = test.resolve(TRADE1, REF_DATA);
+    assertEquals(resolved, TRADE1.resolve(REF_DATA));
+    assertEquals(test.size(REF_DATA), 1);
+
+    // an equal trade uses the cached resolved form
+    SwapTrade equalTrade =
+        USD_FIXED_6M_LIBOR_3M.createTrade(date(2017, 3, 1), TENOR_5Y, BUY, 1_000_000d, 0.01d, REF_DATA);
+    assertNotSame(equalTrade, TRADE1);
+    assertSame(test.resolve(equalTrade, REF_DATA), resolved);
+    assertEquals(test.size(REF_DATA), 1);
+
+    // different reference data instances are resolved separately
+    ReferenceData refData2 = ImmutableReferenceData.of(((ImmutableReferenceData) REF_DATA).getValues());
+    assertEquals(test.size(refData2), 0);
+    ResolvedSwapTrade resolved2 = test.resolve(TRADE1, refData2);
+    assertNotSame(resolved2, resolved);
+    assertEquals(resolved2, resolved);
+    assertEquals(test.size(refData2), 1);
+
+    test.invalidateAll();
+    assertEquals(test.size(REF_DATA), 0);
+    assertEquals(test.toString(), "TradeResolver");
+  }
+
+  public void test_resolve_versionedReferenceData() {
+    TradeResolver test = TradeResolver.of(100);
+    VersionedReferenceData refData = VersionedReferenceData.of((ImmutableReferenceData) REF_DATA);
+    ResolvedSwapTrade resolved = test.resolve(TRADE1, refData);
+    assertEquals(resolved, TRADE1.resolve(REF_DATA));
+    assertSame(test.resolve(TRADE1, refData), resolved);
+    assertSame(test.resolve(TRADE1, refData.snapshot()), resolved);
+    assertEquals(test.size(refData), 1);
+
+    // an update to the reference data causes the trade to be resolved again
+    refData.put(HolidayCalendarIds.GBLO, REF_DATA.getValue(HolidayCalendarIds.GBLO));
+    assertEquals(test.size(refData), 0);
+    ResolvedSwapTrade resolved2 = test.resolve(TRADE1, refData);
+    assertNotSame(resolved2, resolved);
+    assertEquals(resolved2, resolved);
+  }
+
+  public void test_resolve_mutableReferenceData() {
+    TradeResolver test = TradeResolver.of(100);
+    ReferenceData refData = REF_DATA::findValue;
+    ResolvedSwapTrade resolved = test.resolve(TRADE1, refData);
+    assertEquals(resolved, TRADE1.resolve(REF_DATA));
+    assertNotSame(test.resolve(TRADE1, refData), resolved);
+    assertEquals(test.size(refData), 0);
+  }
+
+  public void test_resolve_missingReferenceData() {
+    TradeResolver test = TradeResolver.of(100);
+    ReferenceData refData = ReferenceData.empty();
+    assertThrows(() -> test.resolve(TRADE1, refData), ReferenceDataNotFoundException.class);
+    assertEquals(test.size(refData), 0);
+  }
+
+  public void test_resolveAll() {
+    TradeResolver test = TradeResolver.of(100);
+    List<SwapTrade> trades = ImmutableList.of(TRADE1, TRADE2, TRADE1, TRADE2, TRADE1);
+    List<ResolvedTrade> resolved = test.resolveAll(trades, REF_DATA);
+    assertEquals(resolved.size(), 5);
+    assertEquals(resolved.get(0), TRADE1.resolve(REF_DATA));
+    assertEquals(resolved.get(1), TRADE2.resolve(REF_DATA));
+    assertSame(resolved.get(2), resolved.get(0));
+    assertSame(resolved.get(3), resolved.get(1));
+    assertSame(resolved.get(4), resolved.get(0));
+    assertEquals(test.size(REF_DATA), 2);
+  }
+
+  public void test_standard() {
+    assertSame(TradeResolver.standard(), TradeResolver.standard());
+    assertEquals(TradeResolver.standard().resolve(TRADE2, REF_DATA), TRADE2.resolve(REF_DATA));
+  }
+
+}
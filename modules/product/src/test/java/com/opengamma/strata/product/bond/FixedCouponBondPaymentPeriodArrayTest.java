@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.product.bond;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Test {@link FixedCouponBondPaymentPeriodArray}.
+ */
+@Test
+public class FixedCouponBondPaymentPeriodArrayTest {
+
+  public void test_of() {
+    ResolvedFixedCouponBond bond = ResolvedFixedCouponBondTest.sut();
+    FixedCouponBondPaymentPeriodArray test = FixedCouponBondPaymentPeriodArray.of(bond);
+    ImmutableList<FixedCouponBondPaymentPeriod> periods = bond.getPeriodicPayments();
+    assertEquals(test.getCurrency(), bond.getCurrency());
+    assertEquals(test.size(), periods.size());
+    for (int i = 0; i < periods.size(); i++) {
+      FixedCouponBondPaymentPeriod period = periods.get(i);
+      assertEquals(test.getStartDate(i), period.getStartDate().toEpochDay());
+      assertEquals(test.getEndDate(i), period.getEndDate().toEpochDay());
+      assertEquals(test.getPaymentDate(i), period.getPaymentDate().toEpochDay());
+      assertEquals(test.getDetachmentDate(i), period.getDetachmentDate().toEpochDay());
+      assertEquals(test.getNotional(i), period.getNotional());
+      assertEquals(test.getFixedRate(i), period.getFixedRate());
+      assertEquals(test.getYearFraction(i), period.getYearFraction());
+    }
+    assertEquals(test.toString(), "FixedCouponBondPaymentPeriodArray[EUR, size=" + periods.size() + "]");
+  }
+
+  public void test_of_currencyMismatch() {
+    ResolvedFixedCouponBond bond = ResolvedFixedCouponBondTest.sut();
+    assertThrowsIllegalArg(() -> FixedCouponBondPaymentPeriodArray.of(GBP, bond.getPeriodicPayments()));
+  }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.product.credit;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.SAT_SUN;
+import static com.opengamma.strata.basics.schedule.Frequency.P3M;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.product.common.BuySell.BUY;
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+
+/**
+ * Test {@link CreditCouponPaymentPeriodArray}.
+ */
+@Test
+public class CreditCouponPaymentPeriodArrayTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final ResolvedCds CDS = Cds.of(
+      BUY, StandardId.of("OG", "ABC"), USD, 1.0e6, LocalDate.of(2013, 12, 20), LocalDate.of(2018, 9, 20),
+      P3M, SAT_SUN, 0.05).resolve(REF_DATA);
+
+  public void test_of() {
+    CreditCouponPaymentPeriodArray test = CreditCouponPaymentPeriodArray.of(CDS);
+    ImmutableList<CreditCouponPaymentPeriod> periods = CDS.getPaymentPeriods();
+    assertEquals(test.getCurrency(), USD);
+    assertEquals(test.size(), periods.size());
+    for (int i = 0; i < periods.size(); i++) {
+      CreditCouponPaymentPeriod period = periods.get(i);
+      assertEquals(test.getStartDate(i), period.getStartDate().toEpochDay());
+      assertEquals(test.getEndDate(i), period.getEndDate().toEpochDay());
+      assertEquals(test.getEffectiveStartDate(i), period.getEffectiveStartDate().toEpochDay());
+      assertEquals(test.getEffectiveEndDate(i), period.getEffectiveEndDate().toEpochDay());
+      assertEquals(test.getPaymentDate(i), period.getPaymentDate().toEpochDay());
+      assertEquals(test.getNotional(i), period.getNotional());
+      assertEquals(test.getFixedRate(i), period.getFixedRate());
+      assertEquals(test.getYearFraction(i), period.getYearFraction());
+    }
+    assertEquals(test.toString(), "CreditCouponPaymentPeriodArray[USD, size=" + periods.size() + "]");
+  }
+
+  public void test_of_currencyMismatch() {
+    assertThrowsIllegalArg(() -> CreditCouponPaymentPeriodArray.of(GBP, CDS.getPaymentPeriods()));
+  }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.product.swap;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.product.common.PayReceive.RECEIVE;
+import static com.opengamma.strata.product.swap.SwapLegType.IBOR;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.Payment;
+import com.opengamma.strata.basics.schedule.SchedulePeriod;
+import com.opengamma.strata.product.rate.IborRateComputation;
+
+/**
+ * Test {@link RatePaymentPeriodArray}.
+ */
+@Test
+public class RatePaymentPeriodArrayTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final IborRateComputation GBP_LIBOR_3M_2014_06_28 =
+      IborRateComputation.of(GBP_LIBOR_3M, date(2014, 6, 28), REF_DATA);
+  private static final RateAccrualPeriod RAP1 = RateAccrualPeriod.builder()
+      .startDate(date(2014, 6, 30))
+      .endDate(date(2014, 9, 30))
+      .yearFraction(0.25d)
+      .rateComputation(GBP_LIBOR_3M_2014_06_28)
+      .gearing(2d)
+      .spread(0.01d)
+      .negativeRateMethod(NegativeRateMethod.NOT_NEGATIVE)
+      .build();
+  private static final RatePaymentPeriod RPP1 = RatePaymentPeriod.builder()
+      .paymentDate(date(2014, 10, 1))
+      .accrualPeriods(RAP1)
+      .dayCount(ACT_365F)
+      .currency(GBP)
+      .notional(5000d)
+      .build();
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    ResolvedSwapLeg leg = ResolvedSwapLeg.builder()
+        .type(IBOR)
+        .payReceive(RECEIVE)
+        .paymentPeriods(RPP1)
+        .build();
+    assertTrue(RatePaymentPeriodArray.isSupported(leg));
+    RatePaymentPeriodArray test = RatePaymentPeriodArray.of(leg);
+    assertEquals(test.getCurrency(), GBP);
+    assertEquals(test.size(), 1);
+    assertEquals(test.getPaymentDate(0), date(2014, 10, 1).toEpochDay());
+    assertEquals(test.getStartDate(0), date(2014, 6, 30).toEpochDay());
+    assertEquals(test.getEndDate(0), date(2014, 9, 30).toEpochDay());
+    assertEquals(test.getNotional(0), 5000d);
+    assertEquals(test.getYearFraction(0), 0.25d);
+    assertEquals(test.getGearing(0), 2d);
+    assertEquals(test.getSpread(0), 0.01d);
+    assertEquals(test.getNegativeRateMethod(0), NegativeRateMethod.NOT_NEGATIVE);
+    assertEquals(test.getRateComputation(0), GBP_LIBOR_3M_2014_06_28);
+    assertEquals(test.toString(), "RatePaymentPeriodArray[GBP, size=1]");
+  }
+
+  public void test_of_unsupported() {
+    RatePaymentPeriod compounded = RPP1.toBuilder()
+        .accrualPeriods(RAP1, RAP1.toBuilder().startDate(date(2014, 9, 30)).endDate(date(2014, 12, 30)).build())
+        .build();
+    ResolvedSwapLeg compoundedLeg = ResolvedSwapLeg.builder()
+        .type(IBOR)
+        .payReceive(RECEIVE)
+        .paymentPeriods(compounded)
+        .build();
+    assertFalse(RatePaymentPeriodArray.isSupported(compoundedLeg));
+    assertThrowsIllegalArg(() -> RatePaymentPeriodArray.of(compoundedLeg));
+
+    KnownAmountSwapPaymentPeriod knownAmount = KnownAmountSwapPaymentPeriod.of(
+        Payment.of(CurrencyAmount.of(GBP, 1000d), date(2014, 10, 1)),
+        SchedulePeriod.of(date(2014, 6, 30), date(2014, 9, 30)));
+    ResolvedSwapLeg knownAmountLeg = ResolvedSwapLeg.builder()
+        .type(IBOR)
+        .payReceive(RECEIVE)
+        .paymentPeriods(knownAmount)
+        .build();
+    assertFalse(RatePaymentPeriodArray.isSupported(knownAmountLeg));
+  }
+
+}